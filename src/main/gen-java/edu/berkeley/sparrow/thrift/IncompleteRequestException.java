@@ -31,6 +31,7 @@ public class IncompleteRequestException extends Exception implements org.apache.
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("IncompleteRequestException");
 
   private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)1);
+  private static final org.apache.thrift.protocol.TField RETRY_AFTER_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("retryAfterMs", org.apache.thrift.protocol.TType.I64, (short)2);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -39,10 +40,12 @@ public class IncompleteRequestException extends Exception implements org.apache.
   }
 
   public String message; // required
+  public long retryAfterMs; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-    MESSAGE((short)1, "message");
+    MESSAGE((short)1, "message"),
+    RETRY_AFTER_MS((short)2, "retryAfterMs");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -59,6 +62,8 @@ public class IncompleteRequestException extends Exception implements org.apache.
       switch(fieldId) {
         case 1: // MESSAGE
           return MESSAGE;
+        case 2: // RETRY_AFTER_MS
+          return RETRY_AFTER_MS;
         default:
           return null;
       }
@@ -99,11 +104,16 @@ public class IncompleteRequestException extends Exception implements org.apache.
   }
 
   // isset id assignments
+  private static final int __RETRYAFTERMS_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  private _Fields optionals[] = {_Fields.RETRY_AFTER_MS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.RETRY_AFTER_MS, new org.apache.thrift.meta_data.FieldMetaData("retryAfterMs", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(IncompleteRequestException.class, metaDataMap);
   }
@@ -122,9 +132,12 @@ public class IncompleteRequestException extends Exception implements org.apache.
    * Performs a deep copy on <i>other</i>.
    */
   public IncompleteRequestException(IncompleteRequestException other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
     if (other.isSetMessage()) {
       this.message = other.message;
     }
+    this.retryAfterMs = other.retryAfterMs;
   }
 
   public IncompleteRequestException deepCopy() {
@@ -133,6 +146,8 @@ public class IncompleteRequestException extends Exception implements org.apache.
 
   public void clear() {
     this.message = null;
+    setRetryAfterMsIsSet(false);
+    this.retryAfterMs = 0;
   }
 
   public String getMessage() {
@@ -159,6 +174,29 @@ public class IncompleteRequestException extends Exception implements org.apache.
     }
   }
 
+  public long getRetryAfterMs() {
+    return this.retryAfterMs;
+  }
+
+  public IncompleteRequestException setRetryAfterMs(long retryAfterMs) {
+    this.retryAfterMs = retryAfterMs;
+    setRetryAfterMsIsSet(true);
+    return this;
+  }
+
+  public void unsetRetryAfterMs() {
+    __isset_bit_vector.clear(__RETRYAFTERMS_ISSET_ID);
+  }
+
+  /** Returns true if field retryAfterMs is set (has been assigned a value) and false otherwise */
+  public boolean isSetRetryAfterMs() {
+    return __isset_bit_vector.get(__RETRYAFTERMS_ISSET_ID);
+  }
+
+  public void setRetryAfterMsIsSet(boolean value) {
+    __isset_bit_vector.set(__RETRYAFTERMS_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case MESSAGE:
@@ -169,6 +207,14 @@ public class IncompleteRequestException extends Exception implements org.apache.
       }
       break;
 
+    case RETRY_AFTER_MS:
+      if (value == null) {
+        unsetRetryAfterMs();
+      } else {
+        setRetryAfterMs((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -177,6 +223,9 @@ public class IncompleteRequestException extends Exception implements org.apache.
     case MESSAGE:
       return getMessage();
 
+    case RETRY_AFTER_MS:
+      return Long.valueOf(getRetryAfterMs());
+
     }
     throw new IllegalStateException();
   }
@@ -190,6 +239,8 @@ public class IncompleteRequestException extends Exception implements org.apache.
     switch (field) {
     case MESSAGE:
       return isSetMessage();
+    case RETRY_AFTER_MS:
+      return isSetRetryAfterMs();
     }
     throw new IllegalStateException();
   }
@@ -216,6 +267,15 @@ public class IncompleteRequestException extends Exception implements org.apache.
         return false;
     }
 
+    boolean this_present_retryAfterMs = true && this.isSetRetryAfterMs();
+    boolean that_present_retryAfterMs = true && that.isSetRetryAfterMs();
+    if (this_present_retryAfterMs || that_present_retryAfterMs) {
+      if (!(this_present_retryAfterMs && that_present_retryAfterMs))
+        return false;
+      if (this.retryAfterMs != that.retryAfterMs)
+        return false;
+    }
+
     return true;
   }
 
@@ -242,6 +302,16 @@ public class IncompleteRequestException extends Exception implements org.apache.
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetRetryAfterMs()).compareTo(typedOther.isSetRetryAfterMs());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetRetryAfterMs()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.retryAfterMs, typedOther.retryAfterMs);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -269,6 +339,12 @@ public class IncompleteRequestException extends Exception implements org.apache.
       sb.append(this.message);
     }
     first = false;
+    if (isSetRetryAfterMs()) {
+      if (!first) sb.append(", ");
+      sb.append("retryAfterMs:");
+      sb.append(this.retryAfterMs);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -287,6 +363,8 @@ public class IncompleteRequestException extends Exception implements org.apache.
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te.getMessage());
@@ -319,6 +397,14 @@ public class IncompleteRequestException extends Exception implements org.apache.
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 2: // RETRY_AFTER_MS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.retryAfterMs = iprot.readI64();
+              struct.setRetryAfterMsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -339,6 +425,11 @@ public class IncompleteRequestException extends Exception implements org.apache.
         oprot.writeString(struct.message);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetRetryAfterMs()) {
+        oprot.writeFieldBegin(RETRY_AFTER_MS_FIELD_DESC);
+        oprot.writeI64(struct.retryAfterMs);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -360,20 +451,30 @@ public class IncompleteRequestException extends Exception implements org.apache.
       if (struct.isSetMessage()) {
         optionals.set(0);
       }
-      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetRetryAfterMs()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
       if (struct.isSetMessage()) {
         oprot.writeString(struct.message);
       }
+      if (struct.isSetRetryAfterMs()) {
+        oprot.writeI64(struct.retryAfterMs);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, IncompleteRequestException struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(1);
+      BitSet incoming = iprot.readBitSet(2);
       if (incoming.get(0)) {
         struct.message = iprot.readString();
         struct.setMessageIsSet(true);
       }
+      if (incoming.get(1)) {
+        struct.retryAfterMs = iprot.readI64();
+        struct.setRetryAfterMsIsSet(true);
+      }
     }
   }
 
@@ -31,10 +31,20 @@ public class InternalService {
 
   public interface Iface {
 
-    public boolean enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException;
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException;
 
     public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getLoad(String app, String requestId) throws org.apache.thrift.TException;
 
+    public void killTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks) throws org.apache.thrift.TException;
+
+    public int launchTasksOnLease(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException;
+
+    public int launchGangTasks(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException;
+
+    public void releaseGangSlots(String requestId, int slots) throws org.apache.thrift.TException;
+
+    public void cancelRequests(List<String> requestIds) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -43,6 +53,16 @@ public class InternalService {
 
     public void getLoad(String app, String requestId, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getLoad_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void killTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.killTasks_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void launchTasksOnLease(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.launchTasksOnLease_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void launchGangTasks(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.launchGangTasks_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void releaseGangSlots(String requestId, int slots, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.releaseGangSlots_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void cancelRequests(List<String> requestIds, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.cancelRequests_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -65,7 +85,7 @@ public class InternalService {
       super(iprot, oprot);
     }
 
-    public boolean enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException
     {
       send_enqueueTaskReservations(request);
       return recv_enqueueTaskReservations();
@@ -78,7 +98,7 @@ public class InternalService {
       sendBase("enqueueTaskReservations", args);
     }
 
-    public boolean recv_enqueueTaskReservations() throws org.apache.thrift.TException
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse recv_enqueueTaskReservations() throws org.apache.thrift.TException
     {
       enqueueTaskReservations_result result = new enqueueTaskReservations_result();
       receiveBase(result, "enqueueTaskReservations");
@@ -112,6 +132,118 @@ public class InternalService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoad failed: unknown result");
     }
 
+    public void killTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks) throws org.apache.thrift.TException
+    {
+      send_killTasks(tasks);
+      recv_killTasks();
+    }
+
+    public void send_killTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks) throws org.apache.thrift.TException
+    {
+      killTasks_args args = new killTasks_args();
+      args.setTasks(tasks);
+      sendBase("killTasks", args);
+    }
+
+    public void recv_killTasks() throws org.apache.thrift.TException
+    {
+      killTasks_result result = new killTasks_result();
+      receiveBase(result, "killTasks");
+      return;
+    }
+
+    public int launchTasksOnLease(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      send_launchTasksOnLease(leaseId, requestId, user, estimatedResources, tasks);
+      return recv_launchTasksOnLease();
+    }
+
+    public void send_launchTasksOnLease(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      launchTasksOnLease_args args = new launchTasksOnLease_args();
+      args.setLeaseId(leaseId);
+      args.setRequestId(requestId);
+      args.setUser(user);
+      args.setEstimatedResources(estimatedResources);
+      args.setTasks(tasks);
+      sendBase("launchTasksOnLease", args);
+    }
+
+    public int recv_launchTasksOnLease() throws org.apache.thrift.TException
+    {
+      launchTasksOnLease_result result = new launchTasksOnLease_result();
+      receiveBase(result, "launchTasksOnLease");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "launchTasksOnLease failed: unknown result");
+    }
+
+    public int launchGangTasks(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      send_launchGangTasks(requestId, tasks);
+      return recv_launchGangTasks();
+    }
+
+    public void send_launchGangTasks(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      launchGangTasks_args args = new launchGangTasks_args();
+      args.setRequestId(requestId);
+      args.setTasks(tasks);
+      sendBase("launchGangTasks", args);
+    }
+
+    public int recv_launchGangTasks() throws org.apache.thrift.TException
+    {
+      launchGangTasks_result result = new launchGangTasks_result();
+      receiveBase(result, "launchGangTasks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "launchGangTasks failed: unknown result");
+    }
+
+    public void releaseGangSlots(String requestId, int slots) throws org.apache.thrift.TException
+    {
+      send_releaseGangSlots(requestId, slots);
+      recv_releaseGangSlots();
+    }
+
+    public void send_releaseGangSlots(String requestId, int slots) throws org.apache.thrift.TException
+    {
+      releaseGangSlots_args args = new releaseGangSlots_args();
+      args.setRequestId(requestId);
+      args.setSlots(slots);
+      sendBase("releaseGangSlots", args);
+    }
+
+    public void recv_releaseGangSlots() throws org.apache.thrift.TException
+    {
+      releaseGangSlots_result result = new releaseGangSlots_result();
+      receiveBase(result, "releaseGangSlots");
+      return;
+    }
+
+    public void cancelRequests(List<String> requestIds) throws org.apache.thrift.TException
+    {
+      send_cancelRequests(requestIds);
+      recv_cancelRequests();
+    }
+
+    public void send_cancelRequests(List<String> requestIds) throws org.apache.thrift.TException
+    {
+      cancelRequests_args args = new cancelRequests_args();
+      args.setRequestIds(requestIds);
+      sendBase("cancelRequests", args);
+    }
+
+    public void recv_cancelRequests() throws org.apache.thrift.TException
+    {
+      cancelRequests_result result = new cancelRequests_result();
+      receiveBase(result, "cancelRequests");
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -152,7 +284,7 @@ public class InternalService {
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws org.apache.thrift.TException {
+      public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -197,6 +329,184 @@ public class InternalService {
       }
     }
 
+    public void killTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, org.apache.thrift.async.AsyncMethodCallback<killTasks_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      killTasks_call method_call = new killTasks_call(tasks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class killTasks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks;
+      public killTasks_call(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, org.apache.thrift.async.AsyncMethodCallback<killTasks_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tasks = tasks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("killTasks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        killTasks_args args = new killTasks_args();
+        args.setTasks(tasks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_killTasks();
+      }
+    }
+
+    public void launchTasksOnLease(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<launchTasksOnLease_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      launchTasksOnLease_call method_call = new launchTasksOnLease_call(leaseId, requestId, user, estimatedResources, tasks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class launchTasksOnLease_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String leaseId;
+      private String requestId;
+      private edu.berkeley.sparrow.thrift.TUserGroupInfo user;
+      private edu.berkeley.sparrow.thrift.TResourceVector estimatedResources;
+      private List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks;
+      public launchTasksOnLease_call(String leaseId, String requestId, edu.berkeley.sparrow.thrift.TUserGroupInfo user, edu.berkeley.sparrow.thrift.TResourceVector estimatedResources, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<launchTasksOnLease_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.leaseId = leaseId;
+        this.requestId = requestId;
+        this.user = user;
+        this.estimatedResources = estimatedResources;
+        this.tasks = tasks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("launchTasksOnLease", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        launchTasksOnLease_args args = new launchTasksOnLease_args();
+        args.setLeaseId(leaseId);
+        args.setRequestId(requestId);
+        args.setUser(user);
+        args.setEstimatedResources(estimatedResources);
+        args.setTasks(tasks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_launchTasksOnLease();
+      }
+    }
+
+    public void launchGangTasks(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<launchGangTasks_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      launchGangTasks_call method_call = new launchGangTasks_call(requestId, tasks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class launchGangTasks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String requestId;
+      private List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks;
+      public launchGangTasks_call(String requestId, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<launchGangTasks_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requestId = requestId;
+        this.tasks = tasks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("launchGangTasks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        launchGangTasks_args args = new launchGangTasks_args();
+        args.setRequestId(requestId);
+        args.setTasks(tasks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_launchGangTasks();
+      }
+    }
+
+    public void releaseGangSlots(String requestId, int slots, org.apache.thrift.async.AsyncMethodCallback<releaseGangSlots_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      releaseGangSlots_call method_call = new releaseGangSlots_call(requestId, slots, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class releaseGangSlots_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String requestId;
+      private int slots;
+      public releaseGangSlots_call(String requestId, int slots, org.apache.thrift.async.AsyncMethodCallback<releaseGangSlots_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requestId = requestId;
+        this.slots = slots;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("releaseGangSlots", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        releaseGangSlots_args args = new releaseGangSlots_args();
+        args.setRequestId(requestId);
+        args.setSlots(slots);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_releaseGangSlots();
+      }
+    }
+
+    public void cancelRequests(List<String> requestIds, org.apache.thrift.async.AsyncMethodCallback<cancelRequests_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      cancelRequests_call method_call = new cancelRequests_call(requestIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class cancelRequests_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> requestIds;
+      public cancelRequests_call(List<String> requestIds, org.apache.thrift.async.AsyncMethodCallback<cancelRequests_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requestIds = requestIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("cancelRequests", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        cancelRequests_args args = new cancelRequests_args();
+        args.setRequestIds(requestIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_cancelRequests();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -212,6 +522,11 @@ public class InternalService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("enqueueTaskReservations", new enqueueTaskReservations());
       processMap.put("getLoad", new getLoad());
+      processMap.put("killTasks", new killTasks());
+      processMap.put("launchTasksOnLease", new launchTasksOnLease());
+      processMap.put("launchGangTasks", new launchGangTasks());
+      processMap.put("releaseGangSlots", new releaseGangSlots());
+      processMap.put("cancelRequests", new cancelRequests());
       return processMap;
     }
 
@@ -227,7 +542,6 @@ public class InternalService {
       protected enqueueTaskReservations_result getResult(I iface, enqueueTaskReservations_args args) throws org.apache.thrift.TException {
         enqueueTaskReservations_result result = new enqueueTaskReservations_result();
         result.success = iface.enqueueTaskReservations(args.request);
-        result.setSuccessIsSet(true);
         return result;
       }
     }
@@ -248,6 +562,88 @@ public class InternalService {
       }
     }
 
+    private static class killTasks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, killTasks_args> {
+      public killTasks() {
+        super("killTasks");
+      }
+
+      protected killTasks_args getEmptyArgsInstance() {
+        return new killTasks_args();
+      }
+
+      protected killTasks_result getResult(I iface, killTasks_args args) throws org.apache.thrift.TException {
+        killTasks_result result = new killTasks_result();
+        iface.killTasks(args.tasks);
+        return result;
+      }
+    }
+
+    private static class launchTasksOnLease<I extends Iface> extends org.apache.thrift.ProcessFunction<I, launchTasksOnLease_args> {
+      public launchTasksOnLease() {
+        super("launchTasksOnLease");
+      }
+
+      protected launchTasksOnLease_args getEmptyArgsInstance() {
+        return new launchTasksOnLease_args();
+      }
+
+      protected launchTasksOnLease_result getResult(I iface, launchTasksOnLease_args args) throws org.apache.thrift.TException {
+        launchTasksOnLease_result result = new launchTasksOnLease_result();
+        result.success = iface.launchTasksOnLease(args.leaseId, args.requestId, args.user, args.estimatedResources, args.tasks);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    private static class launchGangTasks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, launchGangTasks_args> {
+      public launchGangTasks() {
+        super("launchGangTasks");
+      }
+
+      protected launchGangTasks_args getEmptyArgsInstance() {
+        return new launchGangTasks_args();
+      }
+
+      protected launchGangTasks_result getResult(I iface, launchGangTasks_args args) throws org.apache.thrift.TException {
+        launchGangTasks_result result = new launchGangTasks_result();
+        result.success = iface.launchGangTasks(args.requestId, args.tasks);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    private static class releaseGangSlots<I extends Iface> extends org.apache.thrift.ProcessFunction<I, releaseGangSlots_args> {
+      public releaseGangSlots() {
+        super("releaseGangSlots");
+      }
+
+      protected releaseGangSlots_args getEmptyArgsInstance() {
+        return new releaseGangSlots_args();
+      }
+
+      protected releaseGangSlots_result getResult(I iface, releaseGangSlots_args args) throws org.apache.thrift.TException {
+        releaseGangSlots_result result = new releaseGangSlots_result();
+        iface.releaseGangSlots(args.requestId, args.slots);
+        return result;
+      }
+    }
+
+    private static class cancelRequests<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancelRequests_args> {
+      public cancelRequests() {
+        super("cancelRequests");
+      }
+
+      protected cancelRequests_args getEmptyArgsInstance() {
+        return new cancelRequests_args();
+      }
+
+      protected cancelRequests_result getResult(I iface, cancelRequests_args args) throws org.apache.thrift.TException {
+        cancelRequests_result result = new cancelRequests_result();
+        iface.cancelRequests(args.requestIds);
+        return result;
+      }
+    }
+
   }
 
   public static class enqueueTaskReservations_args implements org.apache.thrift.TBase<enqueueTaskReservations_args, enqueueTaskReservations_args._Fields>, java.io.Serializable, Cloneable   {
@@ -607,7 +1003,7 @@ public class InternalService {
   public static class enqueueTaskReservations_result implements org.apache.thrift.TBase<enqueueTaskReservations_result, enqueueTaskReservations_result._Fields>, java.io.Serializable, Cloneable   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("enqueueTaskReservations_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -615,7 +1011,7 @@ public class InternalService {
       schemes.put(TupleScheme.class, new enqueueTaskReservations_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -676,13 +1072,11 @@ public class InternalService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(enqueueTaskReservations_result.class, metaDataMap);
     }
@@ -691,20 +1085,19 @@ public class InternalService {
     }
 
     public enqueueTaskReservations_result(
-      boolean success)
+      edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public enqueueTaskReservations_result(enqueueTaskReservations_result other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
-      this.success = other.success;
+      if (other.isSetSuccess()) {
+        this.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse(other.success);
+      }
     }
 
     public enqueueTaskReservations_result deepCopy() {
@@ -712,31 +1105,31 @@ public class InternalService {
     }
 
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
     }
 
-    public boolean isSuccess() {
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getSuccess() {
       return this.success;
     }
 
-    public enqueueTaskReservations_result setSuccess(boolean success) {
+    public enqueueTaskReservations_result setSuccess(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -745,7 +1138,7 @@ public class InternalService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse)value);
         }
         break;
 
@@ -755,7 +1148,7 @@ public class InternalService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -787,12 +1180,12 @@ public class InternalService {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -843,7 +1236,11 @@ public class InternalService {
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -888,8 +1285,9 @@ public class InternalService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -910,9 +1308,11 @@ public class InternalService {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        oprot.writeBool(struct.success);
-        oprot.writeFieldEnd();
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -936,7 +1336,7 @@ public class InternalService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          struct.success.write(oprot);
         }
       }
 
@@ -945,7 +1345,8 @@ public class InternalService {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -1717,16 +2118,16 @@ public class InternalService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map16 = iprot.readMapBegin();
-                  struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map16.size);
-                  for (int _i17 = 0; _i17 < _map16.size; ++_i17)
+                  org.apache.thrift.protocol.TMap _map32 = iprot.readMapBegin();
+                  struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map32.size);
+                  for (int _i33 = 0; _i33 < _map32.size; ++_i33)
                   {
-                    String _key18; // required
-                    edu.berkeley.sparrow.thrift.TResourceUsage _val19; // optional
-                    _key18 = iprot.readString();
-                    _val19 = new edu.berkeley.sparrow.thrift.TResourceUsage();
-                    _val19.read(iprot);
-                    struct.success.put(_key18, _val19);
+                    String _key34; // required
+                    edu.berkeley.sparrow.thrift.TResourceUsage _val35; // optional
+                    _key34 = iprot.readString();
+                    _val35 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+                    _val35.read(iprot);
+                    struct.success.put(_key34, _val35);
                   }
                   iprot.readMapEnd();
                 }
@@ -1754,10 +2155,10 @@ public class InternalService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter20 : struct.success.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter36 : struct.success.entrySet())
             {
-              oprot.writeString(_iter20.getKey());
-              _iter20.getValue().write(oprot);
+              oprot.writeString(_iter36.getKey());
+              _iter36.getValue().write(oprot);
             }
             oprot.writeMapEnd();
           }
@@ -1788,10 +2189,10 @@ public class InternalService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter21 : struct.success.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter37 : struct.success.entrySet())
             {
-              oprot.writeString(_iter21.getKey());
-              _iter21.getValue().write(oprot);
+              oprot.writeString(_iter37.getKey());
+              _iter37.getValue().write(oprot);
             }
           }
         }
@@ -1803,16 +2204,16 @@ public class InternalService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TMap _map22 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map22.size);
-            for (int _i23 = 0; _i23 < _map22.size; ++_i23)
+            org.apache.thrift.protocol.TMap _map38 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map38.size);
+            for (int _i39 = 0; _i39 < _map38.size; ++_i39)
             {
-              String _key24; // required
-              edu.berkeley.sparrow.thrift.TResourceUsage _val25; // optional
-              _key24 = iprot.readString();
-              _val25 = new edu.berkeley.sparrow.thrift.TResourceUsage();
-              _val25.read(iprot);
-              struct.success.put(_key24, _val25);
+              String _key40; // required
+              edu.berkeley.sparrow.thrift.TResourceUsage _val41; // optional
+              _key40 = iprot.readString();
+              _val41 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+              _val41.read(iprot);
+              struct.success.put(_key40, _val41);
             }
           }
           struct.setSuccessIsSet(true);
@@ -1822,4 +2223,4011 @@ public class InternalService {
 
   }
 
+  public static class killTasks_args implements org.apache.thrift.TBase<killTasks_args, killTasks_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("killTasks_args");
+
+    private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new killTasks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new killTasks_argsTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TASKS((short)1, "tasks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TASKS
+            return TASKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TASKS, new org.apache.thrift.meta_data.FieldMetaData("tasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TFullTaskId.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(killTasks_args.class, metaDataMap);
+    }
+
+    public killTasks_args() {
+    }
+
+    public killTasks_args(
+      List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks)
+    {
+      this();
+      this.tasks = tasks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public killTasks_args(killTasks_args other) {
+      if (other.isSetTasks()) {
+        List<edu.berkeley.sparrow.thrift.TFullTaskId> __this__tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>();
+        for (edu.berkeley.sparrow.thrift.TFullTaskId other_element : other.tasks) {
+          __this__tasks.add(new edu.berkeley.sparrow.thrift.TFullTaskId(other_element));
+        }
+        this.tasks = __this__tasks;
+      }
+    }
+
+    public killTasks_args deepCopy() {
+      return new killTasks_args(this);
+    }
+
+    public void clear() {
+      this.tasks = null;
+    }
+
+    public int getTasksSize() {
+      return (this.tasks == null) ? 0 : this.tasks.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TFullTaskId> getTasksIterator() {
+      return (this.tasks == null) ? null : this.tasks.iterator();
+    }
+
+    public void addToTasks(edu.berkeley.sparrow.thrift.TFullTaskId elem) {
+      if (this.tasks == null) {
+        this.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>();
+      }
+      this.tasks.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TFullTaskId> getTasks() {
+      return this.tasks;
+    }
+
+    public killTasks_args setTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks) {
+      this.tasks = tasks;
+      return this;
+    }
+
+    public void unsetTasks() {
+      this.tasks = null;
+    }
+
+    /** Returns true if field tasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetTasks() {
+      return this.tasks != null;
+    }
+
+    public void setTasksIsSet(boolean value) {
+      if (!value) {
+        this.tasks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TASKS:
+        if (value == null) {
+          unsetTasks();
+        } else {
+          setTasks((List<edu.berkeley.sparrow.thrift.TFullTaskId>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TASKS:
+        return getTasks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TASKS:
+        return isSetTasks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof killTasks_args)
+        return this.equals((killTasks_args)that);
+      return false;
+    }
+
+    public boolean equals(killTasks_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tasks = true && this.isSetTasks();
+      boolean that_present_tasks = true && that.isSetTasks();
+      if (this_present_tasks || that_present_tasks) {
+        if (!(this_present_tasks && that_present_tasks))
+          return false;
+        if (!this.tasks.equals(that.tasks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(killTasks_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      killTasks_args typedOther = (killTasks_args)other;
+
+      lastComparison = Boolean.valueOf(isSetTasks()).compareTo(typedOther.isSetTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tasks, typedOther.tasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("killTasks_args(");
+      boolean first = true;
+
+      sb.append("tasks:");
+      if (this.tasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tasks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class killTasks_argsStandardSchemeFactory implements SchemeFactory {
+      public killTasks_argsStandardScheme getScheme() {
+        return new killTasks_argsStandardScheme();
+      }
+    }
+
+    private static class killTasks_argsStandardScheme extends StandardScheme<killTasks_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, killTasks_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list42 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list42.size);
+                  for (int _i43 = 0; _i43 < _list42.size; ++_i43)
+                  {
+                    edu.berkeley.sparrow.thrift.TFullTaskId _elem44; // required
+                    _elem44 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+                    _elem44.read(iprot);
+                    struct.tasks.add(_elem44);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, killTasks_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tasks != null) {
+          oprot.writeFieldBegin(TASKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter45 : struct.tasks)
+            {
+              _iter45.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class killTasks_argsTupleSchemeFactory implements SchemeFactory {
+      public killTasks_argsTupleScheme getScheme() {
+        return new killTasks_argsTupleScheme();
+      }
+    }
+
+    private static class killTasks_argsTupleScheme extends TupleScheme<killTasks_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, killTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTasks()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTasks()) {
+          {
+            oprot.writeI32(struct.tasks.size());
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter46 : struct.tasks)
+            {
+              _iter46.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, killTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list47 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list47.size);
+            for (int _i48 = 0; _i48 < _list47.size; ++_i48)
+            {
+              edu.berkeley.sparrow.thrift.TFullTaskId _elem49; // required
+              _elem49 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+              _elem49.read(iprot);
+              struct.tasks.add(_elem49);
+            }
+          }
+          struct.setTasksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class killTasks_result implements org.apache.thrift.TBase<killTasks_result, killTasks_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("killTasks_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new killTasks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new killTasks_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(killTasks_result.class, metaDataMap);
+    }
+
+    public killTasks_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public killTasks_result(killTasks_result other) {
+    }
+
+    public killTasks_result deepCopy() {
+      return new killTasks_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof killTasks_result)
+        return this.equals((killTasks_result)that);
+      return false;
+    }
+
+    public boolean equals(killTasks_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(killTasks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      killTasks_result typedOther = (killTasks_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("killTasks_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class killTasks_resultStandardSchemeFactory implements SchemeFactory {
+      public killTasks_resultStandardScheme getScheme() {
+        return new killTasks_resultStandardScheme();
+      }
+    }
+
+    private static class killTasks_resultStandardScheme extends StandardScheme<killTasks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, killTasks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, killTasks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class killTasks_resultTupleSchemeFactory implements SchemeFactory {
+      public killTasks_resultTupleScheme getScheme() {
+        return new killTasks_resultTupleScheme();
+      }
+    }
+
+    private static class killTasks_resultTupleScheme extends TupleScheme<killTasks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, killTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, killTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class launchTasksOnLease_args implements org.apache.thrift.TBase<launchTasksOnLease_args, launchTasksOnLease_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchTasksOnLease_args");
+
+    private static final org.apache.thrift.protocol.TField LEASE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("leaseId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField ESTIMATED_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("estimatedResources", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new launchTasksOnLease_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new launchTasksOnLease_argsTupleSchemeFactory());
+    }
+
+    public String leaseId; // required
+    public String requestId; // required
+    public edu.berkeley.sparrow.thrift.TUserGroupInfo user; // required
+    public edu.berkeley.sparrow.thrift.TResourceVector estimatedResources; // required
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LEASE_ID((short)1, "leaseId"),
+      REQUEST_ID((short)2, "requestId"),
+      USER((short)3, "user"),
+      ESTIMATED_RESOURCES((short)4, "estimatedResources"),
+      TASKS((short)5, "tasks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LEASE_ID
+            return LEASE_ID;
+          case 2: // REQUEST_ID
+            return REQUEST_ID;
+          case 3: // USER
+            return USER;
+          case 4: // ESTIMATED_RESOURCES
+            return ESTIMATED_RESOURCES;
+          case 5: // TASKS
+            return TASKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LEASE_ID, new org.apache.thrift.meta_data.FieldMetaData("leaseId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TUserGroupInfo.class)));
+      tmpMap.put(_Fields.ESTIMATED_RESOURCES, new org.apache.thrift.meta_data.FieldMetaData("estimatedResources", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TResourceVector.class)));
+      tmpMap.put(_Fields.TASKS, new org.apache.thrift.meta_data.FieldMetaData("tasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTaskLaunchSpec.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchTasksOnLease_args.class, metaDataMap);
+    }
+
+    public launchTasksOnLease_args() {
+    }
+
+    public launchTasksOnLease_args(
+      String leaseId,
+      String requestId,
+      edu.berkeley.sparrow.thrift.TUserGroupInfo user,
+      edu.berkeley.sparrow.thrift.TResourceVector estimatedResources,
+      List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks)
+    {
+      this();
+      this.leaseId = leaseId;
+      this.requestId = requestId;
+      this.user = user;
+      this.estimatedResources = estimatedResources;
+      this.tasks = tasks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public launchTasksOnLease_args(launchTasksOnLease_args other) {
+      if (other.isSetLeaseId()) {
+        this.leaseId = other.leaseId;
+      }
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+      if (other.isSetUser()) {
+        this.user = new edu.berkeley.sparrow.thrift.TUserGroupInfo(other.user);
+      }
+      if (other.isSetEstimatedResources()) {
+        this.estimatedResources = new edu.berkeley.sparrow.thrift.TResourceVector(other.estimatedResources);
+      }
+      if (other.isSetTasks()) {
+        List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> __this__tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+        for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec other_element : other.tasks) {
+          __this__tasks.add(new edu.berkeley.sparrow.thrift.TTaskLaunchSpec(other_element));
+        }
+        this.tasks = __this__tasks;
+      }
+    }
+
+    public launchTasksOnLease_args deepCopy() {
+      return new launchTasksOnLease_args(this);
+    }
+
+    public void clear() {
+      this.leaseId = null;
+      this.requestId = null;
+      this.user = null;
+      this.estimatedResources = null;
+      this.tasks = null;
+    }
+
+    public String getLeaseId() {
+      return this.leaseId;
+    }
+
+    public launchTasksOnLease_args setLeaseId(String leaseId) {
+      this.leaseId = leaseId;
+      return this;
+    }
+
+    public void unsetLeaseId() {
+      this.leaseId = null;
+    }
+
+    /** Returns true if field leaseId is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeaseId() {
+      return this.leaseId != null;
+    }
+
+    public void setLeaseIdIsSet(boolean value) {
+      if (!value) {
+        this.leaseId = null;
+      }
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public launchTasksOnLease_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.TUserGroupInfo getUser() {
+      return this.user;
+    }
+
+    public launchTasksOnLease_args setUser(edu.berkeley.sparrow.thrift.TUserGroupInfo user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.TResourceVector getEstimatedResources() {
+      return this.estimatedResources;
+    }
+
+    public launchTasksOnLease_args setEstimatedResources(edu.berkeley.sparrow.thrift.TResourceVector estimatedResources) {
+      this.estimatedResources = estimatedResources;
+      return this;
+    }
+
+    public void unsetEstimatedResources() {
+      this.estimatedResources = null;
+    }
+
+    /** Returns true if field estimatedResources is set (has been assigned a value) and false otherwise */
+    public boolean isSetEstimatedResources() {
+      return this.estimatedResources != null;
+    }
+
+    public void setEstimatedResourcesIsSet(boolean value) {
+      if (!value) {
+        this.estimatedResources = null;
+      }
+    }
+
+    public int getTasksSize() {
+      return (this.tasks == null) ? 0 : this.tasks.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasksIterator() {
+      return (this.tasks == null) ? null : this.tasks.iterator();
+    }
+
+    public void addToTasks(edu.berkeley.sparrow.thrift.TTaskLaunchSpec elem) {
+      if (this.tasks == null) {
+        this.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+      }
+      this.tasks.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasks() {
+      return this.tasks;
+    }
+
+    public launchTasksOnLease_args setTasks(List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) {
+      this.tasks = tasks;
+      return this;
+    }
+
+    public void unsetTasks() {
+      this.tasks = null;
+    }
+
+    /** Returns true if field tasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetTasks() {
+      return this.tasks != null;
+    }
+
+    public void setTasksIsSet(boolean value) {
+      if (!value) {
+        this.tasks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case LEASE_ID:
+        if (value == null) {
+          unsetLeaseId();
+        } else {
+          setLeaseId((String)value);
+        }
+        break;
+
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((edu.berkeley.sparrow.thrift.TUserGroupInfo)value);
+        }
+        break;
+
+      case ESTIMATED_RESOURCES:
+        if (value == null) {
+          unsetEstimatedResources();
+        } else {
+          setEstimatedResources((edu.berkeley.sparrow.thrift.TResourceVector)value);
+        }
+        break;
+
+      case TASKS:
+        if (value == null) {
+          unsetTasks();
+        } else {
+          setTasks((List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LEASE_ID:
+        return getLeaseId();
+
+      case REQUEST_ID:
+        return getRequestId();
+
+      case USER:
+        return getUser();
+
+      case ESTIMATED_RESOURCES:
+        return getEstimatedResources();
+
+      case TASKS:
+        return getTasks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LEASE_ID:
+        return isSetLeaseId();
+      case REQUEST_ID:
+        return isSetRequestId();
+      case USER:
+        return isSetUser();
+      case ESTIMATED_RESOURCES:
+        return isSetEstimatedResources();
+      case TASKS:
+        return isSetTasks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof launchTasksOnLease_args)
+        return this.equals((launchTasksOnLease_args)that);
+      return false;
+    }
+
+    public boolean equals(launchTasksOnLease_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_leaseId = true && this.isSetLeaseId();
+      boolean that_present_leaseId = true && that.isSetLeaseId();
+      if (this_present_leaseId || that_present_leaseId) {
+        if (!(this_present_leaseId && that_present_leaseId))
+          return false;
+        if (!this.leaseId.equals(that.leaseId))
+          return false;
+      }
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_estimatedResources = true && this.isSetEstimatedResources();
+      boolean that_present_estimatedResources = true && that.isSetEstimatedResources();
+      if (this_present_estimatedResources || that_present_estimatedResources) {
+        if (!(this_present_estimatedResources && that_present_estimatedResources))
+          return false;
+        if (!this.estimatedResources.equals(that.estimatedResources))
+          return false;
+      }
+
+      boolean this_present_tasks = true && this.isSetTasks();
+      boolean that_present_tasks = true && that.isSetTasks();
+      if (this_present_tasks || that_present_tasks) {
+        if (!(this_present_tasks && that_present_tasks))
+          return false;
+        if (!this.tasks.equals(that.tasks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(launchTasksOnLease_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      launchTasksOnLease_args typedOther = (launchTasksOnLease_args)other;
+
+      lastComparison = Boolean.valueOf(isSetLeaseId()).compareTo(typedOther.isSetLeaseId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeaseId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaseId, typedOther.leaseId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(typedOther.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, typedOther.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEstimatedResources()).compareTo(typedOther.isSetEstimatedResources());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEstimatedResources()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.estimatedResources, typedOther.estimatedResources);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTasks()).compareTo(typedOther.isSetTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tasks, typedOther.tasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("launchTasksOnLease_args(");
+      boolean first = true;
+
+      sb.append("leaseId:");
+      if (this.leaseId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leaseId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("estimatedResources:");
+      if (this.estimatedResources == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.estimatedResources);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("tasks:");
+      if (this.tasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tasks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class launchTasksOnLease_argsStandardSchemeFactory implements SchemeFactory {
+      public launchTasksOnLease_argsStandardScheme getScheme() {
+        return new launchTasksOnLease_argsStandardScheme();
+      }
+    }
+
+    private static class launchTasksOnLease_argsStandardScheme extends StandardScheme<launchTasksOnLease_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, launchTasksOnLease_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LEASE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.leaseId = iprot.readString();
+                struct.setLeaseIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new edu.berkeley.sparrow.thrift.TUserGroupInfo();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // ESTIMATED_RESOURCES
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.estimatedResources = new edu.berkeley.sparrow.thrift.TResourceVector();
+                struct.estimatedResources.read(iprot);
+                struct.setEstimatedResourcesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list50 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list50.size);
+                  for (int _i51 = 0; _i51 < _list50.size; ++_i51)
+                  {
+                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem52; // required
+                    _elem52 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+                    _elem52.read(iprot);
+                    struct.tasks.add(_elem52);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, launchTasksOnLease_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.leaseId != null) {
+          oprot.writeFieldBegin(LEASE_ID_FIELD_DESC);
+          oprot.writeString(struct.leaseId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.estimatedResources != null) {
+          oprot.writeFieldBegin(ESTIMATED_RESOURCES_FIELD_DESC);
+          struct.estimatedResources.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.tasks != null) {
+          oprot.writeFieldBegin(TASKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter53 : struct.tasks)
+            {
+              _iter53.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class launchTasksOnLease_argsTupleSchemeFactory implements SchemeFactory {
+      public launchTasksOnLease_argsTupleScheme getScheme() {
+        return new launchTasksOnLease_argsTupleScheme();
+      }
+    }
+
+    private static class launchTasksOnLease_argsTupleScheme extends TupleScheme<launchTasksOnLease_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, launchTasksOnLease_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetLeaseId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRequestId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetUser()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEstimatedResources()) {
+          optionals.set(3);
+        }
+        if (struct.isSetTasks()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetLeaseId()) {
+          oprot.writeString(struct.leaseId);
+        }
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetEstimatedResources()) {
+          struct.estimatedResources.write(oprot);
+        }
+        if (struct.isSetTasks()) {
+          {
+            oprot.writeI32(struct.tasks.size());
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter54 : struct.tasks)
+            {
+              _iter54.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, launchTasksOnLease_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.leaseId = iprot.readString();
+          struct.setLeaseIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.user = new edu.berkeley.sparrow.thrift.TUserGroupInfo();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.estimatedResources = new edu.berkeley.sparrow.thrift.TResourceVector();
+          struct.estimatedResources.read(iprot);
+          struct.setEstimatedResourcesIsSet(true);
+        }
+        if (incoming.get(4)) {
+          {
+            org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list55.size);
+            for (int _i56 = 0; _i56 < _list55.size; ++_i56)
+            {
+              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem57; // required
+              _elem57 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+              _elem57.read(iprot);
+              struct.tasks.add(_elem57);
+            }
+          }
+          struct.setTasksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class launchTasksOnLease_result implements org.apache.thrift.TBase<launchTasksOnLease_result, launchTasksOnLease_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchTasksOnLease_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new launchTasksOnLease_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new launchTasksOnLease_resultTupleSchemeFactory());
+    }
+
+    public int success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchTasksOnLease_result.class, metaDataMap);
+    }
+
+    public launchTasksOnLease_result() {
+    }
+
+    public launchTasksOnLease_result(
+      int success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public launchTasksOnLease_result(launchTasksOnLease_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public launchTasksOnLease_result deepCopy() {
+      return new launchTasksOnLease_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public launchTasksOnLease_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(getSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof launchTasksOnLease_result)
+        return this.equals((launchTasksOnLease_result)that);
+      return false;
+    }
+
+    public boolean equals(launchTasksOnLease_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(launchTasksOnLease_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      launchTasksOnLease_result typedOther = (launchTasksOnLease_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("launchTasksOnLease_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class launchTasksOnLease_resultStandardSchemeFactory implements SchemeFactory {
+      public launchTasksOnLease_resultStandardScheme getScheme() {
+        return new launchTasksOnLease_resultStandardScheme();
+      }
+    }
+
+    private static class launchTasksOnLease_resultStandardScheme extends StandardScheme<launchTasksOnLease_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, launchTasksOnLease_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, launchTasksOnLease_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI32(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class launchTasksOnLease_resultTupleSchemeFactory implements SchemeFactory {
+      public launchTasksOnLease_resultTupleScheme getScheme() {
+        return new launchTasksOnLease_resultTupleScheme();
+      }
+    }
+
+    private static class launchTasksOnLease_resultTupleScheme extends TupleScheme<launchTasksOnLease_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, launchTasksOnLease_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, launchTasksOnLease_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class launchGangTasks_args implements org.apache.thrift.TBase<launchGangTasks_args, launchGangTasks_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchGangTasks_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new launchGangTasks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new launchGangTasks_argsTupleSchemeFactory());
+    }
+
+    public String requestId; // required
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST_ID((short)1, "requestId"),
+      TASKS((short)2, "tasks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST_ID
+            return REQUEST_ID;
+          case 2: // TASKS
+            return TASKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TASKS, new org.apache.thrift.meta_data.FieldMetaData("tasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTaskLaunchSpec.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchGangTasks_args.class, metaDataMap);
+    }
+
+    public launchGangTasks_args() {
+    }
+
+    public launchGangTasks_args(
+      String requestId,
+      List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks)
+    {
+      this();
+      this.requestId = requestId;
+      this.tasks = tasks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public launchGangTasks_args(launchGangTasks_args other) {
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+      if (other.isSetTasks()) {
+        List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> __this__tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+        for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec other_element : other.tasks) {
+          __this__tasks.add(new edu.berkeley.sparrow.thrift.TTaskLaunchSpec(other_element));
+        }
+        this.tasks = __this__tasks;
+      }
+    }
+
+    public launchGangTasks_args deepCopy() {
+      return new launchGangTasks_args(this);
+    }
+
+    public void clear() {
+      this.requestId = null;
+      this.tasks = null;
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public launchGangTasks_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public int getTasksSize() {
+      return (this.tasks == null) ? 0 : this.tasks.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasksIterator() {
+      return (this.tasks == null) ? null : this.tasks.iterator();
+    }
+
+    public void addToTasks(edu.berkeley.sparrow.thrift.TTaskLaunchSpec elem) {
+      if (this.tasks == null) {
+        this.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+      }
+      this.tasks.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasks() {
+      return this.tasks;
+    }
+
+    public launchGangTasks_args setTasks(List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) {
+      this.tasks = tasks;
+      return this;
+    }
+
+    public void unsetTasks() {
+      this.tasks = null;
+    }
+
+    /** Returns true if field tasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetTasks() {
+      return this.tasks != null;
+    }
+
+    public void setTasksIsSet(boolean value) {
+      if (!value) {
+        this.tasks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      case TASKS:
+        if (value == null) {
+          unsetTasks();
+        } else {
+          setTasks((List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_ID:
+        return getRequestId();
+
+      case TASKS:
+        return getTasks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_ID:
+        return isSetRequestId();
+      case TASKS:
+        return isSetTasks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof launchGangTasks_args)
+        return this.equals((launchGangTasks_args)that);
+      return false;
+    }
+
+    public boolean equals(launchGangTasks_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      boolean this_present_tasks = true && this.isSetTasks();
+      boolean that_present_tasks = true && that.isSetTasks();
+      if (this_present_tasks || that_present_tasks) {
+        if (!(this_present_tasks && that_present_tasks))
+          return false;
+        if (!this.tasks.equals(that.tasks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(launchGangTasks_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      launchGangTasks_args typedOther = (launchGangTasks_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTasks()).compareTo(typedOther.isSetTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tasks, typedOther.tasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("launchGangTasks_args(");
+      boolean first = true;
+
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("tasks:");
+      if (this.tasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tasks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class launchGangTasks_argsStandardSchemeFactory implements SchemeFactory {
+      public launchGangTasks_argsStandardScheme getScheme() {
+        return new launchGangTasks_argsStandardScheme();
+      }
+    }
+
+    private static class launchGangTasks_argsStandardScheme extends StandardScheme<launchGangTasks_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, launchGangTasks_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list58.size);
+                  for (int _i59 = 0; _i59 < _list58.size; ++_i59)
+                  {
+                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem60; // required
+                    _elem60 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+                    _elem60.read(iprot);
+                    struct.tasks.add(_elem60);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, launchGangTasks_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.tasks != null) {
+          oprot.writeFieldBegin(TASKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter61 : struct.tasks)
+            {
+              _iter61.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class launchGangTasks_argsTupleSchemeFactory implements SchemeFactory {
+      public launchGangTasks_argsTupleScheme getScheme() {
+        return new launchGangTasks_argsTupleScheme();
+      }
+    }
+
+    private static class launchGangTasks_argsTupleScheme extends TupleScheme<launchGangTasks_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, launchGangTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTasks()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+        if (struct.isSetTasks()) {
+          {
+            oprot.writeI32(struct.tasks.size());
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter62 : struct.tasks)
+            {
+              _iter62.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, launchGangTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list63.size);
+            for (int _i64 = 0; _i64 < _list63.size; ++_i64)
+            {
+              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem65; // required
+              _elem65 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+              _elem65.read(iprot);
+              struct.tasks.add(_elem65);
+            }
+          }
+          struct.setTasksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class launchGangTasks_result implements org.apache.thrift.TBase<launchGangTasks_result, launchGangTasks_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("launchGangTasks_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new launchGangTasks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new launchGangTasks_resultTupleSchemeFactory());
+    }
+
+    public int success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(launchGangTasks_result.class, metaDataMap);
+    }
+
+    public launchGangTasks_result() {
+    }
+
+    public launchGangTasks_result(
+      int success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public launchGangTasks_result(launchGangTasks_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public launchGangTasks_result deepCopy() {
+      return new launchGangTasks_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public launchGangTasks_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(getSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof launchGangTasks_result)
+        return this.equals((launchGangTasks_result)that);
+      return false;
+    }
+
+    public boolean equals(launchGangTasks_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(launchGangTasks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      launchGangTasks_result typedOther = (launchGangTasks_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("launchGangTasks_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class launchGangTasks_resultStandardSchemeFactory implements SchemeFactory {
+      public launchGangTasks_resultStandardScheme getScheme() {
+        return new launchGangTasks_resultStandardScheme();
+      }
+    }
+
+    private static class launchGangTasks_resultStandardScheme extends StandardScheme<launchGangTasks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, launchGangTasks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, launchGangTasks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI32(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class launchGangTasks_resultTupleSchemeFactory implements SchemeFactory {
+      public launchGangTasks_resultTupleScheme getScheme() {
+        return new launchGangTasks_resultTupleScheme();
+      }
+    }
+
+    private static class launchGangTasks_resultTupleScheme extends TupleScheme<launchGangTasks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, launchGangTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, launchGangTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class releaseGangSlots_args implements org.apache.thrift.TBase<releaseGangSlots_args, releaseGangSlots_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("releaseGangSlots_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SLOTS_FIELD_DESC = new org.apache.thrift.protocol.TField("slots", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new releaseGangSlots_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new releaseGangSlots_argsTupleSchemeFactory());
+    }
+
+    public String requestId; // required
+    public int slots; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST_ID((short)1, "requestId"),
+      SLOTS((short)2, "slots");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST_ID
+            return REQUEST_ID;
+          case 2: // SLOTS
+            return SLOTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SLOTS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SLOTS, new org.apache.thrift.meta_data.FieldMetaData("slots", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(releaseGangSlots_args.class, metaDataMap);
+    }
+
+    public releaseGangSlots_args() {
+    }
+
+    public releaseGangSlots_args(
+      String requestId,
+      int slots)
+    {
+      this();
+      this.requestId = requestId;
+      this.slots = slots;
+      setSlotsIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public releaseGangSlots_args(releaseGangSlots_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+      this.slots = other.slots;
+    }
+
+    public releaseGangSlots_args deepCopy() {
+      return new releaseGangSlots_args(this);
+    }
+
+    public void clear() {
+      this.requestId = null;
+      setSlotsIsSet(false);
+      this.slots = 0;
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public releaseGangSlots_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public int getSlots() {
+      return this.slots;
+    }
+
+    public releaseGangSlots_args setSlots(int slots) {
+      this.slots = slots;
+      setSlotsIsSet(true);
+      return this;
+    }
+
+    public void unsetSlots() {
+      __isset_bit_vector.clear(__SLOTS_ISSET_ID);
+    }
+
+    /** Returns true if field slots is set (has been assigned a value) and false otherwise */
+    public boolean isSetSlots() {
+      return __isset_bit_vector.get(__SLOTS_ISSET_ID);
+    }
+
+    public void setSlotsIsSet(boolean value) {
+      __isset_bit_vector.set(__SLOTS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      case SLOTS:
+        if (value == null) {
+          unsetSlots();
+        } else {
+          setSlots((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_ID:
+        return getRequestId();
+
+      case SLOTS:
+        return Integer.valueOf(getSlots());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_ID:
+        return isSetRequestId();
+      case SLOTS:
+        return isSetSlots();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof releaseGangSlots_args)
+        return this.equals((releaseGangSlots_args)that);
+      return false;
+    }
+
+    public boolean equals(releaseGangSlots_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      boolean this_present_slots = true;
+      boolean that_present_slots = true;
+      if (this_present_slots || that_present_slots) {
+        if (!(this_present_slots && that_present_slots))
+          return false;
+        if (this.slots != that.slots)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(releaseGangSlots_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      releaseGangSlots_args typedOther = (releaseGangSlots_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSlots()).compareTo(typedOther.isSetSlots());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSlots()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.slots, typedOther.slots);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("releaseGangSlots_args(");
+      boolean first = true;
+
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("slots:");
+      sb.append(this.slots);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class releaseGangSlots_argsStandardSchemeFactory implements SchemeFactory {
+      public releaseGangSlots_argsStandardScheme getScheme() {
+        return new releaseGangSlots_argsStandardScheme();
+      }
+    }
+
+    private static class releaseGangSlots_argsStandardScheme extends StandardScheme<releaseGangSlots_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, releaseGangSlots_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SLOTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.slots = iprot.readI32();
+                struct.setSlotsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, releaseGangSlots_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(SLOTS_FIELD_DESC);
+        oprot.writeI32(struct.slots);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class releaseGangSlots_argsTupleSchemeFactory implements SchemeFactory {
+      public releaseGangSlots_argsTupleScheme getScheme() {
+        return new releaseGangSlots_argsTupleScheme();
+      }
+    }
+
+    private static class releaseGangSlots_argsTupleScheme extends TupleScheme<releaseGangSlots_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, releaseGangSlots_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSlots()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+        if (struct.isSetSlots()) {
+          oprot.writeI32(struct.slots);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, releaseGangSlots_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.slots = iprot.readI32();
+          struct.setSlotsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class releaseGangSlots_result implements org.apache.thrift.TBase<releaseGangSlots_result, releaseGangSlots_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("releaseGangSlots_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new releaseGangSlots_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new releaseGangSlots_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(releaseGangSlots_result.class, metaDataMap);
+    }
+
+    public releaseGangSlots_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public releaseGangSlots_result(releaseGangSlots_result other) {
+    }
+
+    public releaseGangSlots_result deepCopy() {
+      return new releaseGangSlots_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof releaseGangSlots_result)
+        return this.equals((releaseGangSlots_result)that);
+      return false;
+    }
+
+    public boolean equals(releaseGangSlots_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(releaseGangSlots_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      releaseGangSlots_result typedOther = (releaseGangSlots_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("releaseGangSlots_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class releaseGangSlots_resultStandardSchemeFactory implements SchemeFactory {
+      public releaseGangSlots_resultStandardScheme getScheme() {
+        return new releaseGangSlots_resultStandardScheme();
+      }
+    }
+
+    private static class releaseGangSlots_resultStandardScheme extends StandardScheme<releaseGangSlots_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, releaseGangSlots_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, releaseGangSlots_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class releaseGangSlots_resultTupleSchemeFactory implements SchemeFactory {
+      public releaseGangSlots_resultTupleScheme getScheme() {
+        return new releaseGangSlots_resultTupleScheme();
+      }
+    }
+
+    private static class releaseGangSlots_resultTupleScheme extends TupleScheme<releaseGangSlots_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, releaseGangSlots_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, releaseGangSlots_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class cancelRequests_args implements org.apache.thrift.TBase<cancelRequests_args, cancelRequests_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelRequests_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("requestIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelRequests_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelRequests_argsTupleSchemeFactory());
+    }
+
+    public List<String> requestIds; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST_IDS((short)1, "requestIds");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST_IDS
+            return REQUEST_IDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST_IDS, new org.apache.thrift.meta_data.FieldMetaData("requestIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelRequests_args.class, metaDataMap);
+    }
+
+    public cancelRequests_args() {
+    }
+
+    public cancelRequests_args(
+      List<String> requestIds)
+    {
+      this();
+      this.requestIds = requestIds;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelRequests_args(cancelRequests_args other) {
+      if (other.isSetRequestIds()) {
+        List<String> __this__requestIds = new ArrayList<String>();
+        for (String other_element : other.requestIds) {
+          __this__requestIds.add(other_element);
+        }
+        this.requestIds = __this__requestIds;
+      }
+    }
+
+    public cancelRequests_args deepCopy() {
+      return new cancelRequests_args(this);
+    }
+
+    public void clear() {
+      this.requestIds = null;
+    }
+
+    public int getRequestIdsSize() {
+      return (this.requestIds == null) ? 0 : this.requestIds.size();
+    }
+
+    public java.util.Iterator<String> getRequestIdsIterator() {
+      return (this.requestIds == null) ? null : this.requestIds.iterator();
+    }
+
+    public void addToRequestIds(String elem) {
+      if (this.requestIds == null) {
+        this.requestIds = new ArrayList<String>();
+      }
+      this.requestIds.add(elem);
+    }
+
+    public List<String> getRequestIds() {
+      return this.requestIds;
+    }
+
+    public cancelRequests_args setRequestIds(List<String> requestIds) {
+      this.requestIds = requestIds;
+      return this;
+    }
+
+    public void unsetRequestIds() {
+      this.requestIds = null;
+    }
+
+    /** Returns true if field requestIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestIds() {
+      return this.requestIds != null;
+    }
+
+    public void setRequestIdsIsSet(boolean value) {
+      if (!value) {
+        this.requestIds = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_IDS:
+        if (value == null) {
+          unsetRequestIds();
+        } else {
+          setRequestIds((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_IDS:
+        return getRequestIds();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_IDS:
+        return isSetRequestIds();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelRequests_args)
+        return this.equals((cancelRequests_args)that);
+      return false;
+    }
+
+    public boolean equals(cancelRequests_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestIds = true && this.isSetRequestIds();
+      boolean that_present_requestIds = true && that.isSetRequestIds();
+      if (this_present_requestIds || that_present_requestIds) {
+        if (!(this_present_requestIds && that_present_requestIds))
+          return false;
+        if (!this.requestIds.equals(that.requestIds))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelRequests_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelRequests_args typedOther = (cancelRequests_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestIds()).compareTo(typedOther.isSetRequestIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestIds, typedOther.requestIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelRequests_args(");
+      boolean first = true;
+
+      sb.append("requestIds:");
+      if (this.requestIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestIds);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelRequests_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelRequests_argsStandardScheme getScheme() {
+        return new cancelRequests_argsStandardScheme();
+      }
+    }
+
+    private static class cancelRequests_argsStandardScheme extends StandardScheme<cancelRequests_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelRequests_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list66 = iprot.readListBegin();
+                  struct.requestIds = new ArrayList<String>(_list66.size);
+                  for (int _i67 = 0; _i67 < _list66.size; ++_i67)
+                  {
+                    String _elem68; // required
+                    _elem68 = iprot.readString();
+                    struct.requestIds.add(_elem68);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRequestIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelRequests_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestIds != null) {
+          oprot.writeFieldBegin(REQUEST_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.requestIds.size()));
+            for (String _iter69 : struct.requestIds)
+            {
+              oprot.writeString(_iter69);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelRequests_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelRequests_argsTupleScheme getScheme() {
+        return new cancelRequests_argsTupleScheme();
+      }
+    }
+
+    private static class cancelRequests_argsTupleScheme extends TupleScheme<cancelRequests_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelRequests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestIds()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequestIds()) {
+          {
+            oprot.writeI32(struct.requestIds.size());
+            for (String _iter70 : struct.requestIds)
+            {
+              oprot.writeString(_iter70);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelRequests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list71 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.requestIds = new ArrayList<String>(_list71.size);
+            for (int _i72 = 0; _i72 < _list71.size; ++_i72)
+            {
+              String _elem73; // required
+              _elem73 = iprot.readString();
+              struct.requestIds.add(_elem73);
+            }
+          }
+          struct.setRequestIdsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelRequests_result implements org.apache.thrift.TBase<cancelRequests_result, cancelRequests_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelRequests_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelRequests_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelRequests_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelRequests_result.class, metaDataMap);
+    }
+
+    public cancelRequests_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelRequests_result(cancelRequests_result other) {
+    }
+
+    public cancelRequests_result deepCopy() {
+      return new cancelRequests_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelRequests_result)
+        return this.equals((cancelRequests_result)that);
+      return false;
+    }
+
+    public boolean equals(cancelRequests_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelRequests_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelRequests_result typedOther = (cancelRequests_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelRequests_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelRequests_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelRequests_resultStandardScheme getScheme() {
+        return new cancelRequests_resultStandardScheme();
+      }
+    }
+
+    private static class cancelRequests_resultStandardScheme extends StandardScheme<cancelRequests_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelRequests_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelRequests_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelRequests_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelRequests_resultTupleScheme getScheme() {
+        return new cancelRequests_resultTupleScheme();
+      }
+    }
+
+    private static class cancelRequests_resultTupleScheme extends TupleScheme<cancelRequests_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelRequests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelRequests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
 }
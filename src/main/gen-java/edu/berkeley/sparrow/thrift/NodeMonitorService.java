@@ -1440,14 +1440,14 @@ public class NodeMonitorService {
             case 1: // TASKS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list8.size);
-                  for (int _i9 = 0; _i9 < _list8.size; ++_i9)
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list24.size);
+                  for (int _i25 = 0; _i25 < _list24.size; ++_i25)
                   {
-                    edu.berkeley.sparrow.thrift.TFullTaskId _elem10; // required
-                    _elem10 = new edu.berkeley.sparrow.thrift.TFullTaskId();
-                    _elem10.read(iprot);
-                    struct.tasks.add(_elem10);
+                    edu.berkeley.sparrow.thrift.TFullTaskId _elem26; // required
+                    _elem26 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+                    _elem26.read(iprot);
+                    struct.tasks.add(_elem26);
                   }
                   iprot.readListEnd();
                 }
@@ -1475,9 +1475,9 @@ public class NodeMonitorService {
           oprot.writeFieldBegin(TASKS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
-            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter11 : struct.tasks)
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter27 : struct.tasks)
             {
-              _iter11.write(oprot);
+              _iter27.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -1508,9 +1508,9 @@ public class NodeMonitorService {
         if (struct.isSetTasks()) {
           {
             oprot.writeI32(struct.tasks.size());
-            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter12 : struct.tasks)
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter28 : struct.tasks)
             {
-              _iter12.write(oprot);
+              _iter28.write(oprot);
             }
           }
         }
@@ -1522,14 +1522,14 @@ public class NodeMonitorService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list13.size);
-            for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list29.size);
+            for (int _i30 = 0; _i30 < _list29.size; ++_i30)
             {
-              edu.berkeley.sparrow.thrift.TFullTaskId _elem15; // required
-              _elem15 = new edu.berkeley.sparrow.thrift.TFullTaskId();
-              _elem15.read(iprot);
-              struct.tasks.add(_elem15);
+              edu.berkeley.sparrow.thrift.TFullTaskId _elem31; // required
+              _elem31 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+              _elem31.read(iprot);
+              struct.tasks.add(_elem31);
             }
           }
           struct.setTasksIsSet(true);
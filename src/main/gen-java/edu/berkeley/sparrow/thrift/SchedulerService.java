@@ -33,11 +33,23 @@ public class SchedulerService {
 
     public boolean registerFrontend(String app, String socketAddress) throws org.apache.thrift.TException;
 
-    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException;
+    public String submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException;
+
+    public void cancelJob(String requestId) throws org.apache.thrift.TException;
+
+    public void submitJobDag(List<edu.berkeley.sparrow.thrift.TJobStage> stages) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException;
 
     public void sendFrontendMessage(String app, edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message) throws org.apache.thrift.TException;
 
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException;
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load) throws org.apache.thrift.TException;
+
+    public void tasksFinished(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException;
+
+    public void taskLaunchFailed(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException;
+
+    public void nodeIdle(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots) throws org.apache.thrift.TException;
+
+    public void leaseGranted(edu.berkeley.sparrow.thrift.TSlotLease lease) throws org.apache.thrift.TException;
 
   }
 
@@ -47,9 +59,21 @@ public class SchedulerService {
 
     public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.submitJob_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void cancelJob(String requestId, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.cancelJob_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void submitJobDag(List<edu.berkeley.sparrow.thrift.TJobStage> stages, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.submitJobDag_call> resultHandler) throws org.apache.thrift.TException;
+
     public void sendFrontendMessage(String app, edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.sendFrontendMessage_call> resultHandler) throws org.apache.thrift.TException;
 
-    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getTask_call> resultHandler) throws org.apache.thrift.TException;
+    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getTask_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void tasksFinished(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.tasksFinished_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void taskLaunchFailed(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.taskLaunchFailed_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void nodeIdle(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.nodeIdle_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void leaseGranted(edu.berkeley.sparrow.thrift.TSlotLease lease, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.leaseGranted_call> resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -97,10 +121,10 @@ public class SchedulerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "registerFrontend failed: unknown result");
     }
 
-    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    public String submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
     {
       send_submitJob(req);
-      recv_submitJob();
+      return recv_submitJob();
     }
 
     public void send_submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws org.apache.thrift.TException
@@ -110,10 +134,56 @@ public class SchedulerService {
       sendBase("submitJob", args);
     }
 
-    public void recv_submitJob() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    public String recv_submitJob() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
     {
       submitJob_result result = new submitJob_result();
       receiveBase(result, "submitJob");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "submitJob failed: unknown result");
+    }
+
+    public void cancelJob(String requestId) throws org.apache.thrift.TException
+    {
+      send_cancelJob(requestId);
+      recv_cancelJob();
+    }
+
+    public void send_cancelJob(String requestId) throws org.apache.thrift.TException
+    {
+      cancelJob_args args = new cancelJob_args();
+      args.setRequestId(requestId);
+      sendBase("cancelJob", args);
+    }
+
+    public void recv_cancelJob() throws org.apache.thrift.TException
+    {
+      cancelJob_result result = new cancelJob_result();
+      receiveBase(result, "cancelJob");
+      return;
+    }
+
+    public void submitJobDag(List<edu.berkeley.sparrow.thrift.TJobStage> stages) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    {
+      send_submitJobDag(stages);
+      recv_submitJobDag();
+    }
+
+    public void send_submitJobDag(List<edu.berkeley.sparrow.thrift.TJobStage> stages) throws org.apache.thrift.TException
+    {
+      submitJobDag_args args = new submitJobDag_args();
+      args.setStages(stages);
+      sendBase("submitJobDag", args);
+    }
+
+    public void recv_submitJobDag() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    {
+      submitJobDag_result result = new submitJobDag_result();
+      receiveBase(result, "submitJobDag");
       if (result.e != null) {
         throw result.e;
       }
@@ -143,17 +213,18 @@ public class SchedulerService {
       return;
     }
 
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load) throws org.apache.thrift.TException
     {
-      send_getTask(requestId, nodeMonitorAddress);
+      send_getTask(requestId, nodeMonitorAddress, load);
       return recv_getTask();
     }
 
-    public void send_getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    public void send_getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load) throws org.apache.thrift.TException
     {
       getTask_args args = new getTask_args();
       args.setRequestId(requestId);
       args.setNodeMonitorAddress(nodeMonitorAddress);
+      args.setLoad(load);
       sendBase("getTask", args);
     }
 
@@ -167,6 +238,89 @@ public class SchedulerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTask failed: unknown result");
     }
 
+    public void tasksFinished(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    {
+      send_tasksFinished(tasks, nodeMonitorAddress);
+      recv_tasksFinished();
+    }
+
+    public void send_tasksFinished(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    {
+      tasksFinished_args args = new tasksFinished_args();
+      args.setTasks(tasks);
+      args.setNodeMonitorAddress(nodeMonitorAddress);
+      sendBase("tasksFinished", args);
+    }
+
+    public void recv_tasksFinished() throws org.apache.thrift.TException
+    {
+      tasksFinished_result result = new tasksFinished_result();
+      receiveBase(result, "tasksFinished");
+      return;
+    }
+
+    public void taskLaunchFailed(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    {
+      send_taskLaunchFailed(taskId, nodeMonitorAddress);
+      recv_taskLaunchFailed();
+    }
+
+    public void send_taskLaunchFailed(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    {
+      taskLaunchFailed_args args = new taskLaunchFailed_args();
+      args.setTaskId(taskId);
+      args.setNodeMonitorAddress(nodeMonitorAddress);
+      sendBase("taskLaunchFailed", args);
+    }
+
+    public void recv_taskLaunchFailed() throws org.apache.thrift.TException
+    {
+      taskLaunchFailed_result result = new taskLaunchFailed_result();
+      receiveBase(result, "taskLaunchFailed");
+      return;
+    }
+
+    public void nodeIdle(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots) throws org.apache.thrift.TException
+    {
+      send_nodeIdle(nodeMonitorAddress, freeSlots);
+      recv_nodeIdle();
+    }
+
+    public void send_nodeIdle(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots) throws org.apache.thrift.TException
+    {
+      nodeIdle_args args = new nodeIdle_args();
+      args.setNodeMonitorAddress(nodeMonitorAddress);
+      args.setFreeSlots(freeSlots);
+      sendBase("nodeIdle", args);
+    }
+
+    public void recv_nodeIdle() throws org.apache.thrift.TException
+    {
+      nodeIdle_result result = new nodeIdle_result();
+      receiveBase(result, "nodeIdle");
+      return;
+    }
+
+    public void leaseGranted(edu.berkeley.sparrow.thrift.TSlotLease lease) throws org.apache.thrift.TException
+    {
+      send_leaseGranted(lease);
+      recv_leaseGranted();
+    }
+
+    public void send_leaseGranted(edu.berkeley.sparrow.thrift.TSlotLease lease) throws org.apache.thrift.TException
+    {
+      leaseGranted_args args = new leaseGranted_args();
+      args.setLease(lease);
+      sendBase("leaseGranted", args);
+    }
+
+    public void recv_leaseGranted() throws org.apache.thrift.TException
+    {
+      leaseGranted_result result = new leaseGranted_result();
+      receiveBase(result, "leaseGranted");
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -242,13 +396,77 @@ public class SchedulerService {
         prot.writeMessageEnd();
       }
 
+      public String getResult() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_submitJob();
+      }
+    }
+
+    public void cancelJob(String requestId, org.apache.thrift.async.AsyncMethodCallback<cancelJob_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      cancelJob_call method_call = new cancelJob_call(requestId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class cancelJob_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String requestId;
+      public cancelJob_call(String requestId, org.apache.thrift.async.AsyncMethodCallback<cancelJob_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requestId = requestId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("cancelJob", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        cancelJob_args args = new cancelJob_args();
+        args.setRequestId(requestId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_cancelJob();
+      }
+    }
+
+    public void submitJobDag(List<edu.berkeley.sparrow.thrift.TJobStage> stages, org.apache.thrift.async.AsyncMethodCallback<submitJobDag_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      submitJobDag_call method_call = new submitJobDag_call(stages, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class submitJobDag_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<edu.berkeley.sparrow.thrift.TJobStage> stages;
+      public submitJobDag_call(List<edu.berkeley.sparrow.thrift.TJobStage> stages, org.apache.thrift.async.AsyncMethodCallback<submitJobDag_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.stages = stages;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("submitJobDag", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        submitJobDag_args args = new submitJobDag_args();
+        args.setStages(stages);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
       public void getResult() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_submitJob();
+        (new Client(prot)).recv_submitJobDag();
       }
     }
 
@@ -293,9 +511,9 @@ public class SchedulerService {
       }
     }
 
-    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler) throws org.apache.thrift.TException {
+    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getTask_call method_call = new getTask_call(requestId, nodeMonitorAddress, resultHandler, this, ___protocolFactory, ___transport);
+      getTask_call method_call = new getTask_call(requestId, nodeMonitorAddress, load, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -303,10 +521,12 @@ public class SchedulerService {
     public static class getTask_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String requestId;
       private edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress;
-      public getTask_call(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private edu.berkeley.sparrow.thrift.TNodeLoad load;
+      public getTask_call(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TNodeLoad load, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.requestId = requestId;
         this.nodeMonitorAddress = nodeMonitorAddress;
+        this.load = load;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -314,6 +534,7 @@ public class SchedulerService {
         getTask_args args = new getTask_args();
         args.setRequestId(requestId);
         args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.setLoad(load);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -328,6 +549,143 @@ public class SchedulerService {
       }
     }
 
+    public void tasksFinished(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<tasksFinished_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      tasksFinished_call method_call = new tasksFinished_call(tasks, nodeMonitorAddress, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class tasksFinished_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks;
+      private edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress;
+      public tasksFinished_call(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<tasksFinished_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tasks = tasks;
+        this.nodeMonitorAddress = nodeMonitorAddress;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("tasksFinished", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        tasksFinished_args args = new tasksFinished_args();
+        args.setTasks(tasks);
+        args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_tasksFinished();
+      }
+    }
+
+    public void taskLaunchFailed(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<taskLaunchFailed_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      taskLaunchFailed_call method_call = new taskLaunchFailed_call(taskId, nodeMonitorAddress, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class taskLaunchFailed_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private edu.berkeley.sparrow.thrift.TFullTaskId taskId;
+      private edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress;
+      public taskLaunchFailed_call(edu.berkeley.sparrow.thrift.TFullTaskId taskId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<taskLaunchFailed_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.taskId = taskId;
+        this.nodeMonitorAddress = nodeMonitorAddress;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("taskLaunchFailed", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        taskLaunchFailed_args args = new taskLaunchFailed_args();
+        args.setTaskId(taskId);
+        args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_taskLaunchFailed();
+      }
+    }
+
+    public void nodeIdle(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots, org.apache.thrift.async.AsyncMethodCallback<nodeIdle_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      nodeIdle_call method_call = new nodeIdle_call(nodeMonitorAddress, freeSlots, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class nodeIdle_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress;
+      private int freeSlots;
+      public nodeIdle_call(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, int freeSlots, org.apache.thrift.async.AsyncMethodCallback<nodeIdle_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.nodeMonitorAddress = nodeMonitorAddress;
+        this.freeSlots = freeSlots;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("nodeIdle", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        nodeIdle_args args = new nodeIdle_args();
+        args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.setFreeSlots(freeSlots);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_nodeIdle();
+      }
+    }
+
+    public void leaseGranted(edu.berkeley.sparrow.thrift.TSlotLease lease, org.apache.thrift.async.AsyncMethodCallback<leaseGranted_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      leaseGranted_call method_call = new leaseGranted_call(lease, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class leaseGranted_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private edu.berkeley.sparrow.thrift.TSlotLease lease;
+      public leaseGranted_call(edu.berkeley.sparrow.thrift.TSlotLease lease, org.apache.thrift.async.AsyncMethodCallback<leaseGranted_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.lease = lease;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("leaseGranted", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        leaseGranted_args args = new leaseGranted_args();
+        args.setLease(lease);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_leaseGranted();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -343,8 +701,14 @@ public class SchedulerService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("registerFrontend", new registerFrontend());
       processMap.put("submitJob", new submitJob());
+      processMap.put("cancelJob", new cancelJob());
+      processMap.put("submitJobDag", new submitJobDag());
       processMap.put("sendFrontendMessage", new sendFrontendMessage());
       processMap.put("getTask", new getTask());
+      processMap.put("tasksFinished", new tasksFinished());
+      processMap.put("taskLaunchFailed", new taskLaunchFailed());
+      processMap.put("nodeIdle", new nodeIdle());
+      processMap.put("leaseGranted", new leaseGranted());
       return processMap;
     }
 
@@ -377,7 +741,43 @@ public class SchedulerService {
       protected submitJob_result getResult(I iface, submitJob_args args) throws org.apache.thrift.TException {
         submitJob_result result = new submitJob_result();
         try {
-          iface.submitJob(args.req);
+          result.success = iface.submitJob(args.req);
+        } catch (edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    private static class cancelJob<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancelJob_args> {
+      public cancelJob() {
+        super("cancelJob");
+      }
+
+      protected cancelJob_args getEmptyArgsInstance() {
+        return new cancelJob_args();
+      }
+
+      protected cancelJob_result getResult(I iface, cancelJob_args args) throws org.apache.thrift.TException {
+        cancelJob_result result = new cancelJob_result();
+        iface.cancelJob(args.requestId);
+        return result;
+      }
+    }
+
+    private static class submitJobDag<I extends Iface> extends org.apache.thrift.ProcessFunction<I, submitJobDag_args> {
+      public submitJobDag() {
+        super("submitJobDag");
+      }
+
+      protected submitJobDag_args getEmptyArgsInstance() {
+        return new submitJobDag_args();
+      }
+
+      protected submitJobDag_result getResult(I iface, submitJobDag_args args) throws org.apache.thrift.TException {
+        submitJobDag_result result = new submitJobDag_result();
+        try {
+          iface.submitJobDag(args.stages);
         } catch (edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
           result.e = e;
         }
@@ -412,18 +812,82 @@ public class SchedulerService {
 
       protected getTask_result getResult(I iface, getTask_args args) throws org.apache.thrift.TException {
         getTask_result result = new getTask_result();
-        result.success = iface.getTask(args.requestId, args.nodeMonitorAddress);
+        result.success = iface.getTask(args.requestId, args.nodeMonitorAddress, args.load);
         return result;
       }
     }
 
-  }
-
-  public static class registerFrontend_args implements org.apache.thrift.TBase<registerFrontend_args, registerFrontend_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerFrontend_args");
+    private static class tasksFinished<I extends Iface> extends org.apache.thrift.ProcessFunction<I, tasksFinished_args> {
+      public tasksFinished() {
+        super("tasksFinished");
+      }
 
-    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField SOCKET_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("socketAddress", org.apache.thrift.protocol.TType.STRING, (short)2);
+      protected tasksFinished_args getEmptyArgsInstance() {
+        return new tasksFinished_args();
+      }
+
+      protected tasksFinished_result getResult(I iface, tasksFinished_args args) throws org.apache.thrift.TException {
+        tasksFinished_result result = new tasksFinished_result();
+        iface.tasksFinished(args.tasks, args.nodeMonitorAddress);
+        return result;
+      }
+    }
+
+    private static class taskLaunchFailed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, taskLaunchFailed_args> {
+      public taskLaunchFailed() {
+        super("taskLaunchFailed");
+      }
+
+      protected taskLaunchFailed_args getEmptyArgsInstance() {
+        return new taskLaunchFailed_args();
+      }
+
+      protected taskLaunchFailed_result getResult(I iface, taskLaunchFailed_args args) throws org.apache.thrift.TException {
+        taskLaunchFailed_result result = new taskLaunchFailed_result();
+        iface.taskLaunchFailed(args.taskId, args.nodeMonitorAddress);
+        return result;
+      }
+    }
+
+    private static class nodeIdle<I extends Iface> extends org.apache.thrift.ProcessFunction<I, nodeIdle_args> {
+      public nodeIdle() {
+        super("nodeIdle");
+      }
+
+      protected nodeIdle_args getEmptyArgsInstance() {
+        return new nodeIdle_args();
+      }
+
+      protected nodeIdle_result getResult(I iface, nodeIdle_args args) throws org.apache.thrift.TException {
+        nodeIdle_result result = new nodeIdle_result();
+        iface.nodeIdle(args.nodeMonitorAddress, args.freeSlots);
+        return result;
+      }
+    }
+
+    private static class leaseGranted<I extends Iface> extends org.apache.thrift.ProcessFunction<I, leaseGranted_args> {
+      public leaseGranted() {
+        super("leaseGranted");
+      }
+
+      protected leaseGranted_args getEmptyArgsInstance() {
+        return new leaseGranted_args();
+      }
+
+      protected leaseGranted_result getResult(I iface, leaseGranted_args args) throws org.apache.thrift.TException {
+        leaseGranted_result result = new leaseGranted_result();
+        iface.leaseGranted(args.lease);
+        return result;
+      }
+    }
+
+  }
+
+  public static class registerFrontend_args implements org.apache.thrift.TBase<registerFrontend_args, registerFrontend_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerFrontend_args");
+
+    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SOCKET_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("socketAddress", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -1577,6 +2041,7 @@ public class SchedulerService {
   public static class submitJob_result implements org.apache.thrift.TBase<submitJob_result, submitJob_result._Fields>, java.io.Serializable, Cloneable   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJob_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
@@ -1585,10 +2050,12 @@ public class SchedulerService {
       schemes.put(TupleScheme.class, new submitJob_resultTupleSchemeFactory());
     }
 
+    public String success; // required
     public edu.berkeley.sparrow.thrift.IncompleteRequestException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -1604,6 +2071,8 @@ public class SchedulerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -1649,6 +2118,8 @@ public class SchedulerService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
@@ -1659,9 +2130,11 @@ public class SchedulerService {
     }
 
     public submitJob_result(
+      String success,
       edu.berkeley.sparrow.thrift.IncompleteRequestException e)
     {
       this();
+      this.success = success;
       this.e = e;
     }
 
@@ -1669,6 +2142,9 @@ public class SchedulerService {
      * Performs a deep copy on <i>other</i>.
      */
     public submitJob_result(submitJob_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
       if (other.isSetE()) {
         this.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException(other.e);
       }
@@ -1679,9 +2155,34 @@ public class SchedulerService {
     }
 
     public void clear() {
+      this.success = null;
       this.e = null;
     }
 
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public submitJob_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public edu.berkeley.sparrow.thrift.IncompleteRequestException getE() {
       return this.e;
     }
@@ -1708,6 +2209,14 @@ public class SchedulerService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
@@ -1721,6 +2230,9 @@ public class SchedulerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
@@ -1735,6 +2247,8 @@ public class SchedulerService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -1754,6 +2268,15 @@ public class SchedulerService {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -1779,6 +2302,16 @@ public class SchedulerService {
       int lastComparison = 0;
       submitJob_result typedOther = (submitJob_result)other;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(typedOther.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -1809,6 +2342,14 @@ public class SchedulerService {
       StringBuilder sb = new StringBuilder("submitJob_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -1858,6 +2399,14 @@ public class SchedulerService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
@@ -1882,6 +2431,11 @@ public class SchedulerService {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -1905,10 +2459,16 @@ public class SchedulerService {
       public void write(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
@@ -1917,8 +2477,12 @@ public class SchedulerService {
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
@@ -1928,31 +2492,22 @@ public class SchedulerService {
 
   }
 
-  public static class sendFrontendMessage_args implements org.apache.thrift.TBase<sendFrontendMessage_args, sendFrontendMessage_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendFrontendMessage_args");
+  public static class cancelJob_args implements org.apache.thrift.TBase<cancelJob_args, cancelJob_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelJob_args");
 
-    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField TASK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("taskId", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField STATUS_FIELD_DESC = new org.apache.thrift.protocol.TField("status", org.apache.thrift.protocol.TType.I32, (short)3);
-    private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendFrontendMessage_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendFrontendMessage_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancelJob_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelJob_argsTupleSchemeFactory());
     }
 
-    public String app; // required
-    public edu.berkeley.sparrow.thrift.TFullTaskId taskId; // required
-    public int status; // required
-    public ByteBuffer message; // required
+    public String requestId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      APP((short)1, "app"),
-      TASK_ID((short)2, "taskId"),
-      STATUS((short)3, "status"),
-      MESSAGE((short)4, "message");
+      REQUEST_ID((short)1, "requestId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1967,14 +2522,8 @@ public class SchedulerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // APP
-            return APP;
-          case 2: // TASK_ID
-            return TASK_ID;
-          case 3: // STATUS
-            return STATUS;
-          case 4: // MESSAGE
-            return MESSAGE;
+          case 1: // REQUEST_ID
+            return REQUEST_ID;
           default:
             return null;
         }
@@ -2015,207 +2564,4799 @@ public class SchedulerService {
     }
 
     // isset id assignments
-    private static final int __STATUS_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.APP, new org.apache.thrift.meta_data.FieldMetaData("app", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.TASK_ID, new org.apache.thrift.meta_data.FieldMetaData("taskId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TFullTaskId.class)));
-      tmpMap.put(_Fields.STATUS, new org.apache.thrift.meta_data.FieldMetaData("status", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendFrontendMessage_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelJob_args.class, metaDataMap);
     }
 
-    public sendFrontendMessage_args() {
+    public cancelJob_args() {
     }
 
-    public sendFrontendMessage_args(
-      String app,
-      edu.berkeley.sparrow.thrift.TFullTaskId taskId,
-      int status,
-      ByteBuffer message)
+    public cancelJob_args(
+      String requestId)
     {
       this();
-      this.app = app;
-      this.taskId = taskId;
-      this.status = status;
-      setStatusIsSet(true);
-      this.message = message;
+      this.requestId = requestId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendFrontendMessage_args(sendFrontendMessage_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
-      if (other.isSetApp()) {
-        this.app = other.app;
-      }
-      if (other.isSetTaskId()) {
-        this.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId(other.taskId);
-      }
-      this.status = other.status;
-      if (other.isSetMessage()) {
-        this.message = org.apache.thrift.TBaseHelper.copyBinary(other.message);
-;
+    public cancelJob_args(cancelJob_args other) {
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
       }
     }
 
-    public sendFrontendMessage_args deepCopy() {
-      return new sendFrontendMessage_args(this);
+    public cancelJob_args deepCopy() {
+      return new cancelJob_args(this);
     }
 
     public void clear() {
-      this.app = null;
-      this.taskId = null;
-      setStatusIsSet(false);
-      this.status = 0;
-      this.message = null;
+      this.requestId = null;
     }
 
-    public String getApp() {
-      return this.app;
+    public String getRequestId() {
+      return this.requestId;
     }
 
-    public sendFrontendMessage_args setApp(String app) {
-      this.app = app;
+    public cancelJob_args setRequestId(String requestId) {
+      this.requestId = requestId;
       return this;
     }
 
-    public void unsetApp() {
-      this.app = null;
+    public void unsetRequestId() {
+      this.requestId = null;
     }
 
-    /** Returns true if field app is set (has been assigned a value) and false otherwise */
-    public boolean isSetApp() {
-      return this.app != null;
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
     }
 
-    public void setAppIsSet(boolean value) {
+    public void setRequestIdIsSet(boolean value) {
       if (!value) {
-        this.app = null;
+        this.requestId = null;
       }
     }
 
-    public edu.berkeley.sparrow.thrift.TFullTaskId getTaskId() {
-      return this.taskId;
-    }
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
 
-    public sendFrontendMessage_args setTaskId(edu.berkeley.sparrow.thrift.TFullTaskId taskId) {
-      this.taskId = taskId;
-      return this;
+      }
     }
 
-    public void unsetTaskId() {
-      this.taskId = null;
-    }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_ID:
+        return getRequestId();
 
-    /** Returns true if field taskId is set (has been assigned a value) and false otherwise */
-    public boolean isSetTaskId() {
-      return this.taskId != null;
+      }
+      throw new IllegalStateException();
     }
 
-    public void setTaskIdIsSet(boolean value) {
-      if (!value) {
-        this.taskId = null;
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_ID:
+        return isSetRequestId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelJob_args)
+        return this.equals((cancelJob_args)that);
+      return false;
+    }
+
+    public boolean equals(cancelJob_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelJob_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelJob_args typedOther = (cancelJob_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelJob_args(");
+      boolean first = true;
+
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelJob_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelJob_argsStandardScheme getScheme() {
+        return new cancelJob_argsStandardScheme();
+      }
+    }
+
+    private static class cancelJob_argsStandardScheme extends StandardScheme<cancelJob_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelJob_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelJob_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelJob_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelJob_argsTupleScheme getScheme() {
+        return new cancelJob_argsTupleScheme();
+      }
+    }
+
+    private static class cancelJob_argsTupleScheme extends TupleScheme<cancelJob_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelJob_result implements org.apache.thrift.TBase<cancelJob_result, cancelJob_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelJob_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelJob_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelJob_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelJob_result.class, metaDataMap);
+    }
+
+    public cancelJob_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelJob_result(cancelJob_result other) {
+    }
+
+    public cancelJob_result deepCopy() {
+      return new cancelJob_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelJob_result)
+        return this.equals((cancelJob_result)that);
+      return false;
+    }
+
+    public boolean equals(cancelJob_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelJob_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelJob_result typedOther = (cancelJob_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelJob_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelJob_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelJob_resultStandardScheme getScheme() {
+        return new cancelJob_resultStandardScheme();
+      }
+    }
+
+    private static class cancelJob_resultStandardScheme extends StandardScheme<cancelJob_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelJob_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelJob_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelJob_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelJob_resultTupleScheme getScheme() {
+        return new cancelJob_resultTupleScheme();
+      }
+    }
+
+    private static class cancelJob_resultTupleScheme extends TupleScheme<cancelJob_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class submitJobDag_args implements org.apache.thrift.TBase<submitJobDag_args, submitJobDag_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJobDag_args");
+
+    private static final org.apache.thrift.protocol.TField STAGES_FIELD_DESC = new org.apache.thrift.protocol.TField("stages", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new submitJobDag_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJobDag_argsTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TJobStage> stages; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      STAGES((short)1, "stages");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // STAGES
+            return STAGES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.STAGES, new org.apache.thrift.meta_data.FieldMetaData("stages", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TJobStage.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJobDag_args.class, metaDataMap);
+    }
+
+    public submitJobDag_args() {
+    }
+
+    public submitJobDag_args(
+      List<edu.berkeley.sparrow.thrift.TJobStage> stages)
+    {
+      this();
+      this.stages = stages;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public submitJobDag_args(submitJobDag_args other) {
+      if (other.isSetStages()) {
+        List<edu.berkeley.sparrow.thrift.TJobStage> __this__stages = new ArrayList<edu.berkeley.sparrow.thrift.TJobStage>();
+        for (edu.berkeley.sparrow.thrift.TJobStage other_element : other.stages) {
+          __this__stages.add(new edu.berkeley.sparrow.thrift.TJobStage(other_element));
+        }
+        this.stages = __this__stages;
+      }
+    }
+
+    public submitJobDag_args deepCopy() {
+      return new submitJobDag_args(this);
+    }
+
+    public void clear() {
+      this.stages = null;
+    }
+
+    public int getStagesSize() {
+      return (this.stages == null) ? 0 : this.stages.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TJobStage> getStagesIterator() {
+      return (this.stages == null) ? null : this.stages.iterator();
+    }
+
+    public void addToStages(edu.berkeley.sparrow.thrift.TJobStage elem) {
+      if (this.stages == null) {
+        this.stages = new ArrayList<edu.berkeley.sparrow.thrift.TJobStage>();
+      }
+      this.stages.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TJobStage> getStages() {
+      return this.stages;
+    }
+
+    public submitJobDag_args setStages(List<edu.berkeley.sparrow.thrift.TJobStage> stages) {
+      this.stages = stages;
+      return this;
+    }
+
+    public void unsetStages() {
+      this.stages = null;
+    }
+
+    /** Returns true if field stages is set (has been assigned a value) and false otherwise */
+    public boolean isSetStages() {
+      return this.stages != null;
+    }
+
+    public void setStagesIsSet(boolean value) {
+      if (!value) {
+        this.stages = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case STAGES:
+        if (value == null) {
+          unsetStages();
+        } else {
+          setStages((List<edu.berkeley.sparrow.thrift.TJobStage>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case STAGES:
+        return getStages();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case STAGES:
+        return isSetStages();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof submitJobDag_args)
+        return this.equals((submitJobDag_args)that);
+      return false;
+    }
+
+    public boolean equals(submitJobDag_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_stages = true && this.isSetStages();
+      boolean that_present_stages = true && that.isSetStages();
+      if (this_present_stages || that_present_stages) {
+        if (!(this_present_stages && that_present_stages))
+          return false;
+        if (!this.stages.equals(that.stages))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(submitJobDag_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      submitJobDag_args typedOther = (submitJobDag_args)other;
+
+      lastComparison = Boolean.valueOf(isSetStages()).compareTo(typedOther.isSetStages());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStages()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.stages, typedOther.stages);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("submitJobDag_args(");
+      boolean first = true;
+
+      sb.append("stages:");
+      if (this.stages == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.stages);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class submitJobDag_argsStandardSchemeFactory implements SchemeFactory {
+      public submitJobDag_argsStandardScheme getScheme() {
+        return new submitJobDag_argsStandardScheme();
+      }
+    }
+
+    private static class submitJobDag_argsStandardScheme extends StandardScheme<submitJobDag_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJobDag_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // STAGES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.stages = new ArrayList<edu.berkeley.sparrow.thrift.TJobStage>(_list0.size);
+                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+                  {
+                    edu.berkeley.sparrow.thrift.TJobStage _elem2; // required
+                    _elem2 = new edu.berkeley.sparrow.thrift.TJobStage();
+                    _elem2.read(iprot);
+                    struct.stages.add(_elem2);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setStagesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJobDag_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.stages != null) {
+          oprot.writeFieldBegin(STAGES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.stages.size()));
+            for (edu.berkeley.sparrow.thrift.TJobStage _iter3 : struct.stages)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class submitJobDag_argsTupleSchemeFactory implements SchemeFactory {
+      public submitJobDag_argsTupleScheme getScheme() {
+        return new submitJobDag_argsTupleScheme();
+      }
+    }
+
+    private static class submitJobDag_argsTupleScheme extends TupleScheme<submitJobDag_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJobDag_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetStages()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetStages()) {
+          {
+            oprot.writeI32(struct.stages.size());
+            for (edu.berkeley.sparrow.thrift.TJobStage _iter4 : struct.stages)
+            {
+              _iter4.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJobDag_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.stages = new ArrayList<edu.berkeley.sparrow.thrift.TJobStage>(_list5.size);
+            for (int _i6 = 0; _i6 < _list5.size; ++_i6)
+            {
+              edu.berkeley.sparrow.thrift.TJobStage _elem7; // required
+              _elem7 = new edu.berkeley.sparrow.thrift.TJobStage();
+              _elem7.read(iprot);
+              struct.stages.add(_elem7);
+            }
+          }
+          struct.setStagesIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class submitJobDag_result implements org.apache.thrift.TBase<submitJobDag_result, submitJobDag_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJobDag_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new submitJobDag_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJobDag_resultTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.IncompleteRequestException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJobDag_result.class, metaDataMap);
+    }
+
+    public submitJobDag_result() {
+    }
+
+    public submitJobDag_result(
+      edu.berkeley.sparrow.thrift.IncompleteRequestException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public submitJobDag_result(submitJobDag_result other) {
+      if (other.isSetE()) {
+        this.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException(other.e);
+      }
+    }
+
+    public submitJobDag_result deepCopy() {
+      return new submitJobDag_result(this);
+    }
+
+    public void clear() {
+      this.e = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.IncompleteRequestException getE() {
+      return this.e;
+    }
+
+    public submitJobDag_result setE(edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((edu.berkeley.sparrow.thrift.IncompleteRequestException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof submitJobDag_result)
+        return this.equals((submitJobDag_result)that);
+      return false;
+    }
+
+    public boolean equals(submitJobDag_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(submitJobDag_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      submitJobDag_result typedOther = (submitJobDag_result)other;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(typedOther.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, typedOther.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("submitJobDag_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class submitJobDag_resultStandardSchemeFactory implements SchemeFactory {
+      public submitJobDag_resultStandardScheme getScheme() {
+        return new submitJobDag_resultStandardScheme();
+      }
+    }
+
+    private static class submitJobDag_resultStandardScheme extends StandardScheme<submitJobDag_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJobDag_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJobDag_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class submitJobDag_resultTupleSchemeFactory implements SchemeFactory {
+      public submitJobDag_resultTupleScheme getScheme() {
+        return new submitJobDag_resultTupleScheme();
+      }
+    }
+
+    private static class submitJobDag_resultTupleScheme extends TupleScheme<submitJobDag_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJobDag_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJobDag_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class sendFrontendMessage_args implements org.apache.thrift.TBase<sendFrontendMessage_args, sendFrontendMessage_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendFrontendMessage_args");
+
+    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TASK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("taskId", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField STATUS_FIELD_DESC = new org.apache.thrift.protocol.TField("status", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sendFrontendMessage_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendFrontendMessage_argsTupleSchemeFactory());
+    }
+
+    public String app; // required
+    public edu.berkeley.sparrow.thrift.TFullTaskId taskId; // required
+    public int status; // required
+    public ByteBuffer message; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      APP((short)1, "app"),
+      TASK_ID((short)2, "taskId"),
+      STATUS((short)3, "status"),
+      MESSAGE((short)4, "message");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // APP
+            return APP;
+          case 2: // TASK_ID
+            return TASK_ID;
+          case 3: // STATUS
+            return STATUS;
+          case 4: // MESSAGE
+            return MESSAGE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __STATUS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.APP, new org.apache.thrift.meta_data.FieldMetaData("app", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TASK_ID, new org.apache.thrift.meta_data.FieldMetaData("taskId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TFullTaskId.class)));
+      tmpMap.put(_Fields.STATUS, new org.apache.thrift.meta_data.FieldMetaData("status", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendFrontendMessage_args.class, metaDataMap);
+    }
+
+    public sendFrontendMessage_args() {
+    }
+
+    public sendFrontendMessage_args(
+      String app,
+      edu.berkeley.sparrow.thrift.TFullTaskId taskId,
+      int status,
+      ByteBuffer message)
+    {
+      this();
+      this.app = app;
+      this.taskId = taskId;
+      this.status = status;
+      setStatusIsSet(true);
+      this.message = message;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendFrontendMessage_args(sendFrontendMessage_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetApp()) {
+        this.app = other.app;
+      }
+      if (other.isSetTaskId()) {
+        this.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId(other.taskId);
+      }
+      this.status = other.status;
+      if (other.isSetMessage()) {
+        this.message = org.apache.thrift.TBaseHelper.copyBinary(other.message);
+;
+      }
+    }
+
+    public sendFrontendMessage_args deepCopy() {
+      return new sendFrontendMessage_args(this);
+    }
+
+    public void clear() {
+      this.app = null;
+      this.taskId = null;
+      setStatusIsSet(false);
+      this.status = 0;
+      this.message = null;
+    }
+
+    public String getApp() {
+      return this.app;
+    }
+
+    public sendFrontendMessage_args setApp(String app) {
+      this.app = app;
+      return this;
+    }
+
+    public void unsetApp() {
+      this.app = null;
+    }
+
+    /** Returns true if field app is set (has been assigned a value) and false otherwise */
+    public boolean isSetApp() {
+      return this.app != null;
+    }
+
+    public void setAppIsSet(boolean value) {
+      if (!value) {
+        this.app = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.TFullTaskId getTaskId() {
+      return this.taskId;
+    }
+
+    public sendFrontendMessage_args setTaskId(edu.berkeley.sparrow.thrift.TFullTaskId taskId) {
+      this.taskId = taskId;
+      return this;
+    }
+
+    public void unsetTaskId() {
+      this.taskId = null;
+    }
+
+    /** Returns true if field taskId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTaskId() {
+      return this.taskId != null;
+    }
+
+    public void setTaskIdIsSet(boolean value) {
+      if (!value) {
+        this.taskId = null;
+      }
+    }
+
+    public int getStatus() {
+      return this.status;
+    }
+
+    public sendFrontendMessage_args setStatus(int status) {
+      this.status = status;
+      setStatusIsSet(true);
+      return this;
+    }
+
+    public void unsetStatus() {
+      __isset_bit_vector.clear(__STATUS_ISSET_ID);
+    }
+
+    /** Returns true if field status is set (has been assigned a value) and false otherwise */
+    public boolean isSetStatus() {
+      return __isset_bit_vector.get(__STATUS_ISSET_ID);
+    }
+
+    public void setStatusIsSet(boolean value) {
+      __isset_bit_vector.set(__STATUS_ISSET_ID, value);
+    }
+
+    public byte[] getMessage() {
+      setMessage(org.apache.thrift.TBaseHelper.rightSize(message));
+      return message == null ? null : message.array();
+    }
+
+    public ByteBuffer bufferForMessage() {
+      return message;
+    }
+
+    public sendFrontendMessage_args setMessage(byte[] message) {
+      setMessage(message == null ? (ByteBuffer)null : ByteBuffer.wrap(message));
+      return this;
+    }
+
+    public sendFrontendMessage_args setMessage(ByteBuffer message) {
+      this.message = message;
+      return this;
+    }
+
+    public void unsetMessage() {
+      this.message = null;
+    }
+
+    /** Returns true if field message is set (has been assigned a value) and false otherwise */
+    public boolean isSetMessage() {
+      return this.message != null;
+    }
+
+    public void setMessageIsSet(boolean value) {
+      if (!value) {
+        this.message = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case APP:
+        if (value == null) {
+          unsetApp();
+        } else {
+          setApp((String)value);
+        }
+        break;
+
+      case TASK_ID:
+        if (value == null) {
+          unsetTaskId();
+        } else {
+          setTaskId((edu.berkeley.sparrow.thrift.TFullTaskId)value);
+        }
+        break;
+
+      case STATUS:
+        if (value == null) {
+          unsetStatus();
+        } else {
+          setStatus((Integer)value);
+        }
+        break;
+
+      case MESSAGE:
+        if (value == null) {
+          unsetMessage();
+        } else {
+          setMessage((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case APP:
+        return getApp();
+
+      case TASK_ID:
+        return getTaskId();
+
+      case STATUS:
+        return Integer.valueOf(getStatus());
+
+      case MESSAGE:
+        return getMessage();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case APP:
+        return isSetApp();
+      case TASK_ID:
+        return isSetTaskId();
+      case STATUS:
+        return isSetStatus();
+      case MESSAGE:
+        return isSetMessage();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendFrontendMessage_args)
+        return this.equals((sendFrontendMessage_args)that);
+      return false;
+    }
+
+    public boolean equals(sendFrontendMessage_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_app = true && this.isSetApp();
+      boolean that_present_app = true && that.isSetApp();
+      if (this_present_app || that_present_app) {
+        if (!(this_present_app && that_present_app))
+          return false;
+        if (!this.app.equals(that.app))
+          return false;
+      }
+
+      boolean this_present_taskId = true && this.isSetTaskId();
+      boolean that_present_taskId = true && that.isSetTaskId();
+      if (this_present_taskId || that_present_taskId) {
+        if (!(this_present_taskId && that_present_taskId))
+          return false;
+        if (!this.taskId.equals(that.taskId))
+          return false;
+      }
+
+      boolean this_present_status = true;
+      boolean that_present_status = true;
+      if (this_present_status || that_present_status) {
+        if (!(this_present_status && that_present_status))
+          return false;
+        if (this.status != that.status)
+          return false;
+      }
+
+      boolean this_present_message = true && this.isSetMessage();
+      boolean that_present_message = true && that.isSetMessage();
+      if (this_present_message || that_present_message) {
+        if (!(this_present_message && that_present_message))
+          return false;
+        if (!this.message.equals(that.message))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(sendFrontendMessage_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      sendFrontendMessage_args typedOther = (sendFrontendMessage_args)other;
+
+      lastComparison = Boolean.valueOf(isSetApp()).compareTo(typedOther.isSetApp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetApp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.app, typedOther.app);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTaskId()).compareTo(typedOther.isSetTaskId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTaskId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.taskId, typedOther.taskId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetStatus()).compareTo(typedOther.isSetStatus());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStatus()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.status, typedOther.status);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMessage()).compareTo(typedOther.isSetMessage());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.message, typedOther.message);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sendFrontendMessage_args(");
+      boolean first = true;
+
+      sb.append("app:");
+      if (this.app == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.app);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("taskId:");
+      if (this.taskId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.taskId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("status:");
+      sb.append(this.status);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("message:");
+      if (this.message == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.message, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class sendFrontendMessage_argsStandardSchemeFactory implements SchemeFactory {
+      public sendFrontendMessage_argsStandardScheme getScheme() {
+        return new sendFrontendMessage_argsStandardScheme();
+      }
+    }
+
+    private static class sendFrontendMessage_argsStandardScheme extends StandardScheme<sendFrontendMessage_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // APP
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.app = iprot.readString();
+                struct.setAppIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TASK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
+                struct.taskId.read(iprot);
+                struct.setTaskIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // STATUS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.status = iprot.readI32();
+                struct.setStatusIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // MESSAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.message = iprot.readBinary();
+                struct.setMessageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.app != null) {
+          oprot.writeFieldBegin(APP_FIELD_DESC);
+          oprot.writeString(struct.app);
+          oprot.writeFieldEnd();
+        }
+        if (struct.taskId != null) {
+          oprot.writeFieldBegin(TASK_ID_FIELD_DESC);
+          struct.taskId.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(STATUS_FIELD_DESC);
+        oprot.writeI32(struct.status);
+        oprot.writeFieldEnd();
+        if (struct.message != null) {
+          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
+          oprot.writeBinary(struct.message);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendFrontendMessage_argsTupleSchemeFactory implements SchemeFactory {
+      public sendFrontendMessage_argsTupleScheme getScheme() {
+        return new sendFrontendMessage_argsTupleScheme();
+      }
+    }
+
+    private static class sendFrontendMessage_argsTupleScheme extends TupleScheme<sendFrontendMessage_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetApp()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTaskId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetStatus()) {
+          optionals.set(2);
+        }
+        if (struct.isSetMessage()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetApp()) {
+          oprot.writeString(struct.app);
+        }
+        if (struct.isSetTaskId()) {
+          struct.taskId.write(oprot);
+        }
+        if (struct.isSetStatus()) {
+          oprot.writeI32(struct.status);
+        }
+        if (struct.isSetMessage()) {
+          oprot.writeBinary(struct.message);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.app = iprot.readString();
+          struct.setAppIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
+          struct.taskId.read(iprot);
+          struct.setTaskIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.status = iprot.readI32();
+          struct.setStatusIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.message = iprot.readBinary();
+          struct.setMessageIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class sendFrontendMessage_result implements org.apache.thrift.TBase<sendFrontendMessage_result, sendFrontendMessage_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendFrontendMessage_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sendFrontendMessage_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sendFrontendMessage_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendFrontendMessage_result.class, metaDataMap);
+    }
+
+    public sendFrontendMessage_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendFrontendMessage_result(sendFrontendMessage_result other) {
+    }
+
+    public sendFrontendMessage_result deepCopy() {
+      return new sendFrontendMessage_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendFrontendMessage_result)
+        return this.equals((sendFrontendMessage_result)that);
+      return false;
+    }
+
+    public boolean equals(sendFrontendMessage_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(sendFrontendMessage_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      sendFrontendMessage_result typedOther = (sendFrontendMessage_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sendFrontendMessage_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class sendFrontendMessage_resultStandardSchemeFactory implements SchemeFactory {
+      public sendFrontendMessage_resultStandardScheme getScheme() {
+        return new sendFrontendMessage_resultStandardScheme();
+      }
+    }
+
+    private static class sendFrontendMessage_resultStandardScheme extends StandardScheme<sendFrontendMessage_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendFrontendMessage_resultTupleSchemeFactory implements SchemeFactory {
+      public sendFrontendMessage_resultTupleScheme getScheme() {
+        return new sendFrontendMessage_resultTupleScheme();
+      }
+    }
+
+    private static class sendFrontendMessage_resultTupleScheme extends TupleScheme<sendFrontendMessage_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getTask_args implements org.apache.thrift.TBase<getTask_args, getTask_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTask_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField LOAD_FIELD_DESC = new org.apache.thrift.protocol.TField("load", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTask_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTask_argsTupleSchemeFactory());
+    }
+
+    public String requestId; // required
+    public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+    public edu.berkeley.sparrow.thrift.TNodeLoad load; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST_ID((short)1, "requestId"),
+      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress"),
+      LOAD((short)3, "load");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST_ID
+            return REQUEST_ID;
+          case 2: // NODE_MONITOR_ADDRESS
+            return NODE_MONITOR_ADDRESS;
+          case 3: // LOAD
+            return LOAD;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      tmpMap.put(_Fields.LOAD, new org.apache.thrift.meta_data.FieldMetaData("load", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TNodeLoad.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTask_args.class, metaDataMap);
+    }
+
+    public getTask_args() {
+    }
+
+    public getTask_args(
+      String requestId,
+      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress,
+      edu.berkeley.sparrow.thrift.TNodeLoad load)
+    {
+      this();
+      this.requestId = requestId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.load = load;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTask_args(getTask_args other) {
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+      if (other.isSetNodeMonitorAddress()) {
+        this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
+      }
+      if (other.isSetLoad()) {
+        this.load = new edu.berkeley.sparrow.thrift.TNodeLoad(other.load);
+      }
+    }
+
+    public getTask_args deepCopy() {
+      return new getTask_args(this);
+    }
+
+    public void clear() {
+      this.requestId = null;
+      this.nodeMonitorAddress = null;
+      this.load = null;
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public getTask_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.THostPort getNodeMonitorAddress() {
+      return this.nodeMonitorAddress;
+    }
+
+    public getTask_args setNodeMonitorAddress(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      return this;
+    }
+
+    public void unsetNodeMonitorAddress() {
+      this.nodeMonitorAddress = null;
+    }
+
+    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeMonitorAddress() {
+      return this.nodeMonitorAddress != null;
+    }
+
+    public void setNodeMonitorAddressIsSet(boolean value) {
+      if (!value) {
+        this.nodeMonitorAddress = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.TNodeLoad getLoad() {
+      return this.load;
+    }
+
+    public getTask_args setLoad(edu.berkeley.sparrow.thrift.TNodeLoad load) {
+      this.load = load;
+      return this;
+    }
+
+    public void unsetLoad() {
+      this.load = null;
+    }
+
+    /** Returns true if field load is set (has been assigned a value) and false otherwise */
+    public boolean isSetLoad() {
+      return this.load != null;
+    }
+
+    public void setLoadIsSet(boolean value) {
+      if (!value) {
+        this.load = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      case NODE_MONITOR_ADDRESS:
+        if (value == null) {
+          unsetNodeMonitorAddress();
+        } else {
+          setNodeMonitorAddress((edu.berkeley.sparrow.thrift.THostPort)value);
+        }
+        break;
+
+      case LOAD:
+        if (value == null) {
+          unsetLoad();
+        } else {
+          setLoad((edu.berkeley.sparrow.thrift.TNodeLoad)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_ID:
+        return getRequestId();
+
+      case NODE_MONITOR_ADDRESS:
+        return getNodeMonitorAddress();
+
+      case LOAD:
+        return getLoad();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_ID:
+        return isSetRequestId();
+      case NODE_MONITOR_ADDRESS:
+        return isSetNodeMonitorAddress();
+      case LOAD:
+        return isSetLoad();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTask_args)
+        return this.equals((getTask_args)that);
+      return false;
+    }
+
+    public boolean equals(getTask_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
+      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
+      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
+        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
+          return false;
+        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
+          return false;
+      }
+
+      boolean this_present_load = true && this.isSetLoad();
+      boolean that_present_load = true && that.isSetLoad();
+      if (this_present_load || that_present_load) {
+        if (!(this_present_load && that_present_load))
+          return false;
+        if (!this.load.equals(that.load))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getTask_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getTask_args typedOther = (getTask_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNodeMonitorAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLoad()).compareTo(typedOther.isSetLoad());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLoad()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.load, typedOther.load);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTask_args(");
+      boolean first = true;
+
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("nodeMonitorAddress:");
+      if (this.nodeMonitorAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.nodeMonitorAddress);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("load:");
+      if (this.load == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.load);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getTask_argsStandardSchemeFactory implements SchemeFactory {
+      public getTask_argsStandardScheme getScheme() {
+        return new getTask_argsStandardScheme();
+      }
+    }
+
+    private static class getTask_argsStandardScheme extends StandardScheme<getTask_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTask_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NODE_MONITOR_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+                struct.nodeMonitorAddress.read(iprot);
+                struct.setNodeMonitorAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LOAD
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.load = new edu.berkeley.sparrow.thrift.TNodeLoad();
+                struct.load.read(iprot);
+                struct.setLoadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTask_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.nodeMonitorAddress != null) {
+          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
+          struct.nodeMonitorAddress.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.load != null) {
+          oprot.writeFieldBegin(LOAD_FIELD_DESC);
+          struct.load.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTask_argsTupleSchemeFactory implements SchemeFactory {
+      public getTask_argsTupleScheme getScheme() {
+        return new getTask_argsTupleScheme();
+      }
+    }
+
+    private static class getTask_argsTupleScheme extends TupleScheme<getTask_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLoad()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          struct.nodeMonitorAddress.write(oprot);
+        }
+        if (struct.isSetLoad()) {
+          struct.load.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+          struct.nodeMonitorAddress.read(iprot);
+          struct.setNodeMonitorAddressIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.load = new edu.berkeley.sparrow.thrift.TNodeLoad();
+          struct.load.read(iprot);
+          struct.setLoadIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTask_result implements org.apache.thrift.TBase<getTask_result, getTask_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTask_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTask_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTask_resultTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTaskLaunchSpec.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTask_result.class, metaDataMap);
+    }
+
+    public getTask_result() {
+    }
+
+    public getTask_result(
+      List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTask_result(getTask_result other) {
+      if (other.isSetSuccess()) {
+        List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> __this__success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+        for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec other_element : other.success) {
+          __this__success.add(new edu.berkeley.sparrow.thrift.TTaskLaunchSpec(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getTask_result deepCopy() {
+      return new getTask_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(edu.berkeley.sparrow.thrift.TTaskLaunchSpec elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getSuccess() {
+      return this.success;
+    }
+
+    public getTask_result setSuccess(List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTask_result)
+        return this.equals((getTask_result)that);
+      return false;
+    }
+
+    public boolean equals(getTask_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getTask_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getTask_result typedOther = (getTask_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTask_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getTask_resultStandardSchemeFactory implements SchemeFactory {
+      public getTask_resultStandardScheme getScheme() {
+        return new getTask_resultStandardScheme();
+      }
+    }
+
+    private static class getTask_resultStandardScheme extends StandardScheme<getTask_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTask_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list8.size);
+                  for (int _i9 = 0; _i9 < _list8.size; ++_i9)
+                  {
+                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem10; // required
+                    _elem10 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+                    _elem10.read(iprot);
+                    struct.success.add(_elem10);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTask_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTask_resultTupleSchemeFactory implements SchemeFactory {
+      public getTask_resultTupleScheme getScheme() {
+        return new getTask_resultTupleScheme();
+      }
+    }
+
+    private static class getTask_resultTupleScheme extends TupleScheme<getTask_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list13.size);
+            for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+            {
+              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem15; // required
+              _elem15 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+              _elem15.read(iprot);
+              struct.success.add(_elem15);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class tasksFinished_args implements org.apache.thrift.TBase<tasksFinished_args, tasksFinished_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tasksFinished_args");
+
+    private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new tasksFinished_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new tasksFinished_argsTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks; // required
+    public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TASKS((short)1, "tasks"),
+      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TASKS
+            return TASKS;
+          case 2: // NODE_MONITOR_ADDRESS
+            return NODE_MONITOR_ADDRESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TASKS, new org.apache.thrift.meta_data.FieldMetaData("tasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TFullTaskId.class))));
+      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tasksFinished_args.class, metaDataMap);
+    }
+
+    public tasksFinished_args() {
+    }
+
+    public tasksFinished_args(
+      List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks,
+      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress)
+    {
+      this();
+      this.tasks = tasks;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tasksFinished_args(tasksFinished_args other) {
+      if (other.isSetTasks()) {
+        List<edu.berkeley.sparrow.thrift.TFullTaskId> __this__tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>();
+        for (edu.berkeley.sparrow.thrift.TFullTaskId other_element : other.tasks) {
+          __this__tasks.add(new edu.berkeley.sparrow.thrift.TFullTaskId(other_element));
+        }
+        this.tasks = __this__tasks;
+      }
+      if (other.isSetNodeMonitorAddress()) {
+        this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
+      }
+    }
+
+    public tasksFinished_args deepCopy() {
+      return new tasksFinished_args(this);
+    }
+
+    public void clear() {
+      this.tasks = null;
+      this.nodeMonitorAddress = null;
+    }
+
+    public int getTasksSize() {
+      return (this.tasks == null) ? 0 : this.tasks.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TFullTaskId> getTasksIterator() {
+      return (this.tasks == null) ? null : this.tasks.iterator();
+    }
+
+    public void addToTasks(edu.berkeley.sparrow.thrift.TFullTaskId elem) {
+      if (this.tasks == null) {
+        this.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>();
+      }
+      this.tasks.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TFullTaskId> getTasks() {
+      return this.tasks;
+    }
+
+    public tasksFinished_args setTasks(List<edu.berkeley.sparrow.thrift.TFullTaskId> tasks) {
+      this.tasks = tasks;
+      return this;
+    }
+
+    public void unsetTasks() {
+      this.tasks = null;
+    }
+
+    /** Returns true if field tasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetTasks() {
+      return this.tasks != null;
+    }
+
+    public void setTasksIsSet(boolean value) {
+      if (!value) {
+        this.tasks = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.THostPort getNodeMonitorAddress() {
+      return this.nodeMonitorAddress;
+    }
+
+    public tasksFinished_args setNodeMonitorAddress(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      return this;
+    }
+
+    public void unsetNodeMonitorAddress() {
+      this.nodeMonitorAddress = null;
+    }
+
+    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeMonitorAddress() {
+      return this.nodeMonitorAddress != null;
+    }
+
+    public void setNodeMonitorAddressIsSet(boolean value) {
+      if (!value) {
+        this.nodeMonitorAddress = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TASKS:
+        if (value == null) {
+          unsetTasks();
+        } else {
+          setTasks((List<edu.berkeley.sparrow.thrift.TFullTaskId>)value);
+        }
+        break;
+
+      case NODE_MONITOR_ADDRESS:
+        if (value == null) {
+          unsetNodeMonitorAddress();
+        } else {
+          setNodeMonitorAddress((edu.berkeley.sparrow.thrift.THostPort)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TASKS:
+        return getTasks();
+
+      case NODE_MONITOR_ADDRESS:
+        return getNodeMonitorAddress();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TASKS:
+        return isSetTasks();
+      case NODE_MONITOR_ADDRESS:
+        return isSetNodeMonitorAddress();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tasksFinished_args)
+        return this.equals((tasksFinished_args)that);
+      return false;
+    }
+
+    public boolean equals(tasksFinished_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tasks = true && this.isSetTasks();
+      boolean that_present_tasks = true && that.isSetTasks();
+      if (this_present_tasks || that_present_tasks) {
+        if (!(this_present_tasks && that_present_tasks))
+          return false;
+        if (!this.tasks.equals(that.tasks))
+          return false;
+      }
+
+      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
+      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
+      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
+        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
+          return false;
+        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(tasksFinished_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      tasksFinished_args typedOther = (tasksFinished_args)other;
+
+      lastComparison = Boolean.valueOf(isSetTasks()).compareTo(typedOther.isSetTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tasks, typedOther.tasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNodeMonitorAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("tasksFinished_args(");
+      boolean first = true;
+
+      sb.append("tasks:");
+      if (this.tasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tasks);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("nodeMonitorAddress:");
+      if (this.nodeMonitorAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.nodeMonitorAddress);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class tasksFinished_argsStandardSchemeFactory implements SchemeFactory {
+      public tasksFinished_argsStandardScheme getScheme() {
+        return new tasksFinished_argsStandardScheme();
+      }
+    }
+
+    private static class tasksFinished_argsStandardScheme extends StandardScheme<tasksFinished_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tasksFinished_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list16.size);
+                  for (int _i17 = 0; _i17 < _list16.size; ++_i17)
+                  {
+                    edu.berkeley.sparrow.thrift.TFullTaskId _elem18; // required
+                    _elem18 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+                    _elem18.read(iprot);
+                    struct.tasks.add(_elem18);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NODE_MONITOR_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+                struct.nodeMonitorAddress.read(iprot);
+                struct.setNodeMonitorAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tasksFinished_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tasks != null) {
+          oprot.writeFieldBegin(TASKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter19 : struct.tasks)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.nodeMonitorAddress != null) {
+          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
+          struct.nodeMonitorAddress.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tasksFinished_argsTupleSchemeFactory implements SchemeFactory {
+      public tasksFinished_argsTupleScheme getScheme() {
+        return new tasksFinished_argsTupleScheme();
+      }
+    }
+
+    private static class tasksFinished_argsTupleScheme extends TupleScheme<tasksFinished_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tasksFinished_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTasks()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTasks()) {
+          {
+            oprot.writeI32(struct.tasks.size());
+            for (edu.berkeley.sparrow.thrift.TFullTaskId _iter20 : struct.tasks)
+            {
+              _iter20.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          struct.nodeMonitorAddress.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tasksFinished_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TFullTaskId>(_list21.size);
+            for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+            {
+              edu.berkeley.sparrow.thrift.TFullTaskId _elem23; // required
+              _elem23 = new edu.berkeley.sparrow.thrift.TFullTaskId();
+              _elem23.read(iprot);
+              struct.tasks.add(_elem23);
+            }
+          }
+          struct.setTasksIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+          struct.nodeMonitorAddress.read(iprot);
+          struct.setNodeMonitorAddressIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class tasksFinished_result implements org.apache.thrift.TBase<tasksFinished_result, tasksFinished_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tasksFinished_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new tasksFinished_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new tasksFinished_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tasksFinished_result.class, metaDataMap);
+    }
+
+    public tasksFinished_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tasksFinished_result(tasksFinished_result other) {
+    }
+
+    public tasksFinished_result deepCopy() {
+      return new tasksFinished_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tasksFinished_result)
+        return this.equals((tasksFinished_result)that);
+      return false;
+    }
+
+    public boolean equals(tasksFinished_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(tasksFinished_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      tasksFinished_result typedOther = (tasksFinished_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("tasksFinished_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class tasksFinished_resultStandardSchemeFactory implements SchemeFactory {
+      public tasksFinished_resultStandardScheme getScheme() {
+        return new tasksFinished_resultStandardScheme();
+      }
+    }
+
+    private static class tasksFinished_resultStandardScheme extends StandardScheme<tasksFinished_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tasksFinished_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tasksFinished_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tasksFinished_resultTupleSchemeFactory implements SchemeFactory {
+      public tasksFinished_resultTupleScheme getScheme() {
+        return new tasksFinished_resultTupleScheme();
+      }
+    }
+
+    private static class tasksFinished_resultTupleScheme extends TupleScheme<tasksFinished_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tasksFinished_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tasksFinished_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class taskLaunchFailed_args implements org.apache.thrift.TBase<taskLaunchFailed_args, taskLaunchFailed_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("taskLaunchFailed_args");
+
+    private static final org.apache.thrift.protocol.TField TASK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("taskId", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new taskLaunchFailed_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new taskLaunchFailed_argsTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.TFullTaskId taskId; // required
+    public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TASK_ID((short)1, "taskId"),
+      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TASK_ID
+            return TASK_ID;
+          case 2: // NODE_MONITOR_ADDRESS
+            return NODE_MONITOR_ADDRESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TASK_ID, new org.apache.thrift.meta_data.FieldMetaData("taskId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TFullTaskId.class)));
+      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(taskLaunchFailed_args.class, metaDataMap);
+    }
+
+    public taskLaunchFailed_args() {
+    }
+
+    public taskLaunchFailed_args(
+      edu.berkeley.sparrow.thrift.TFullTaskId taskId,
+      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress)
+    {
+      this();
+      this.taskId = taskId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public taskLaunchFailed_args(taskLaunchFailed_args other) {
+      if (other.isSetTaskId()) {
+        this.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId(other.taskId);
+      }
+      if (other.isSetNodeMonitorAddress()) {
+        this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
+      }
+    }
+
+    public taskLaunchFailed_args deepCopy() {
+      return new taskLaunchFailed_args(this);
+    }
+
+    public void clear() {
+      this.taskId = null;
+      this.nodeMonitorAddress = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.TFullTaskId getTaskId() {
+      return this.taskId;
+    }
+
+    public taskLaunchFailed_args setTaskId(edu.berkeley.sparrow.thrift.TFullTaskId taskId) {
+      this.taskId = taskId;
+      return this;
+    }
+
+    public void unsetTaskId() {
+      this.taskId = null;
+    }
+
+    /** Returns true if field taskId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTaskId() {
+      return this.taskId != null;
+    }
+
+    public void setTaskIdIsSet(boolean value) {
+      if (!value) {
+        this.taskId = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.THostPort getNodeMonitorAddress() {
+      return this.nodeMonitorAddress;
+    }
+
+    public taskLaunchFailed_args setNodeMonitorAddress(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      return this;
+    }
+
+    public void unsetNodeMonitorAddress() {
+      this.nodeMonitorAddress = null;
+    }
+
+    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeMonitorAddress() {
+      return this.nodeMonitorAddress != null;
+    }
+
+    public void setNodeMonitorAddressIsSet(boolean value) {
+      if (!value) {
+        this.nodeMonitorAddress = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TASK_ID:
+        if (value == null) {
+          unsetTaskId();
+        } else {
+          setTaskId((edu.berkeley.sparrow.thrift.TFullTaskId)value);
+        }
+        break;
+
+      case NODE_MONITOR_ADDRESS:
+        if (value == null) {
+          unsetNodeMonitorAddress();
+        } else {
+          setNodeMonitorAddress((edu.berkeley.sparrow.thrift.THostPort)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TASK_ID:
+        return getTaskId();
+
+      case NODE_MONITOR_ADDRESS:
+        return getNodeMonitorAddress();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TASK_ID:
+        return isSetTaskId();
+      case NODE_MONITOR_ADDRESS:
+        return isSetNodeMonitorAddress();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof taskLaunchFailed_args)
+        return this.equals((taskLaunchFailed_args)that);
+      return false;
+    }
+
+    public boolean equals(taskLaunchFailed_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_taskId = true && this.isSetTaskId();
+      boolean that_present_taskId = true && that.isSetTaskId();
+      if (this_present_taskId || that_present_taskId) {
+        if (!(this_present_taskId && that_present_taskId))
+          return false;
+        if (!this.taskId.equals(that.taskId))
+          return false;
+      }
+
+      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
+      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
+      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
+        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
+          return false;
+        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(taskLaunchFailed_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      taskLaunchFailed_args typedOther = (taskLaunchFailed_args)other;
+
+      lastComparison = Boolean.valueOf(isSetTaskId()).compareTo(typedOther.isSetTaskId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTaskId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.taskId, typedOther.taskId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNodeMonitorAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("taskLaunchFailed_args(");
+      boolean first = true;
+
+      sb.append("taskId:");
+      if (this.taskId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.taskId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("nodeMonitorAddress:");
+      if (this.nodeMonitorAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.nodeMonitorAddress);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class taskLaunchFailed_argsStandardSchemeFactory implements SchemeFactory {
+      public taskLaunchFailed_argsStandardScheme getScheme() {
+        return new taskLaunchFailed_argsStandardScheme();
+      }
+    }
+
+    private static class taskLaunchFailed_argsStandardScheme extends StandardScheme<taskLaunchFailed_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, taskLaunchFailed_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TASK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
+                struct.taskId.read(iprot);
+                struct.setTaskIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NODE_MONITOR_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+                struct.nodeMonitorAddress.read(iprot);
+                struct.setNodeMonitorAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, taskLaunchFailed_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.taskId != null) {
+          oprot.writeFieldBegin(TASK_ID_FIELD_DESC);
+          struct.taskId.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.nodeMonitorAddress != null) {
+          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
+          struct.nodeMonitorAddress.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class taskLaunchFailed_argsTupleSchemeFactory implements SchemeFactory {
+      public taskLaunchFailed_argsTupleScheme getScheme() {
+        return new taskLaunchFailed_argsTupleScheme();
+      }
+    }
+
+    private static class taskLaunchFailed_argsTupleScheme extends TupleScheme<taskLaunchFailed_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, taskLaunchFailed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTaskId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTaskId()) {
+          struct.taskId.write(oprot);
+        }
+        if (struct.isSetNodeMonitorAddress()) {
+          struct.nodeMonitorAddress.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, taskLaunchFailed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
+          struct.taskId.read(iprot);
+          struct.setTaskIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+          struct.nodeMonitorAddress.read(iprot);
+          struct.setNodeMonitorAddressIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class taskLaunchFailed_result implements org.apache.thrift.TBase<taskLaunchFailed_result, taskLaunchFailed_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("taskLaunchFailed_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new taskLaunchFailed_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new taskLaunchFailed_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(taskLaunchFailed_result.class, metaDataMap);
+    }
+
+    public taskLaunchFailed_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public taskLaunchFailed_result(taskLaunchFailed_result other) {
+    }
+
+    public taskLaunchFailed_result deepCopy() {
+      return new taskLaunchFailed_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof taskLaunchFailed_result)
+        return this.equals((taskLaunchFailed_result)that);
+      return false;
+    }
+
+    public boolean equals(taskLaunchFailed_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(taskLaunchFailed_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      taskLaunchFailed_result typedOther = (taskLaunchFailed_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("taskLaunchFailed_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class taskLaunchFailed_resultStandardSchemeFactory implements SchemeFactory {
+      public taskLaunchFailed_resultStandardScheme getScheme() {
+        return new taskLaunchFailed_resultStandardScheme();
+      }
+    }
+
+    private static class taskLaunchFailed_resultStandardScheme extends StandardScheme<taskLaunchFailed_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, taskLaunchFailed_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, taskLaunchFailed_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class taskLaunchFailed_resultTupleSchemeFactory implements SchemeFactory {
+      public taskLaunchFailed_resultTupleScheme getScheme() {
+        return new taskLaunchFailed_resultTupleScheme();
+      }
+    }
+
+    private static class taskLaunchFailed_resultTupleScheme extends TupleScheme<taskLaunchFailed_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, taskLaunchFailed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, taskLaunchFailed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class nodeIdle_args implements org.apache.thrift.TBase<nodeIdle_args, nodeIdle_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("nodeIdle_args");
+
+    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField FREE_SLOTS_FIELD_DESC = new org.apache.thrift.protocol.TField("freeSlots", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new nodeIdle_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new nodeIdle_argsTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+    public int freeSlots; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NODE_MONITOR_ADDRESS((short)1, "nodeMonitorAddress"),
+      FREE_SLOTS((short)2, "freeSlots");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
       }
-    }
 
-    public int getStatus() {
-      return this.status;
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NODE_MONITOR_ADDRESS
+            return NODE_MONITOR_ADDRESS;
+          case 2: // FREE_SLOTS
+            return FREE_SLOTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
     }
 
-    public sendFrontendMessage_args setStatus(int status) {
-      this.status = status;
-      setStatusIsSet(true);
-      return this;
+    // isset id assignments
+    private static final int __FREESLOTS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      tmpMap.put(_Fields.FREE_SLOTS, new org.apache.thrift.meta_data.FieldMetaData("freeSlots", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(nodeIdle_args.class, metaDataMap);
     }
 
-    public void unsetStatus() {
-      __isset_bit_vector.clear(__STATUS_ISSET_ID);
+    public nodeIdle_args() {
     }
 
-    /** Returns true if field status is set (has been assigned a value) and false otherwise */
-    public boolean isSetStatus() {
-      return __isset_bit_vector.get(__STATUS_ISSET_ID);
+    public nodeIdle_args(
+      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress,
+      int freeSlots)
+    {
+      this();
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.freeSlots = freeSlots;
+      setFreeSlotsIsSet(true);
     }
 
-    public void setStatusIsSet(boolean value) {
-      __isset_bit_vector.set(__STATUS_ISSET_ID, value);
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public nodeIdle_args(nodeIdle_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetNodeMonitorAddress()) {
+        this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
+      }
+      this.freeSlots = other.freeSlots;
     }
 
-    public byte[] getMessage() {
-      setMessage(org.apache.thrift.TBaseHelper.rightSize(message));
-      return message == null ? null : message.array();
+    public nodeIdle_args deepCopy() {
+      return new nodeIdle_args(this);
     }
 
-    public ByteBuffer bufferForMessage() {
-      return message;
+    public void clear() {
+      this.nodeMonitorAddress = null;
+      setFreeSlotsIsSet(false);
+      this.freeSlots = 0;
     }
 
-    public sendFrontendMessage_args setMessage(byte[] message) {
-      setMessage(message == null ? (ByteBuffer)null : ByteBuffer.wrap(message));
-      return this;
+    public edu.berkeley.sparrow.thrift.THostPort getNodeMonitorAddress() {
+      return this.nodeMonitorAddress;
     }
 
-    public sendFrontendMessage_args setMessage(ByteBuffer message) {
-      this.message = message;
+    public nodeIdle_args setNodeMonitorAddress(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
       return this;
     }
 
-    public void unsetMessage() {
-      this.message = null;
+    public void unsetNodeMonitorAddress() {
+      this.nodeMonitorAddress = null;
     }
 
-    /** Returns true if field message is set (has been assigned a value) and false otherwise */
-    public boolean isSetMessage() {
-      return this.message != null;
+    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeMonitorAddress() {
+      return this.nodeMonitorAddress != null;
     }
 
-    public void setMessageIsSet(boolean value) {
+    public void setNodeMonitorAddressIsSet(boolean value) {
       if (!value) {
-        this.message = null;
+        this.nodeMonitorAddress = null;
       }
     }
 
-    public void setFieldValue(_Fields field, Object value) {
-      switch (field) {
-      case APP:
-        if (value == null) {
-          unsetApp();
-        } else {
-          setApp((String)value);
-        }
-        break;
+    public int getFreeSlots() {
+      return this.freeSlots;
+    }
 
-      case TASK_ID:
-        if (value == null) {
-          unsetTaskId();
-        } else {
-          setTaskId((edu.berkeley.sparrow.thrift.TFullTaskId)value);
-        }
-        break;
+    public nodeIdle_args setFreeSlots(int freeSlots) {
+      this.freeSlots = freeSlots;
+      setFreeSlotsIsSet(true);
+      return this;
+    }
 
-      case STATUS:
+    public void unsetFreeSlots() {
+      __isset_bit_vector.clear(__FREESLOTS_ISSET_ID);
+    }
+
+    /** Returns true if field freeSlots is set (has been assigned a value) and false otherwise */
+    public boolean isSetFreeSlots() {
+      return __isset_bit_vector.get(__FREESLOTS_ISSET_ID);
+    }
+
+    public void setFreeSlotsIsSet(boolean value) {
+      __isset_bit_vector.set(__FREESLOTS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NODE_MONITOR_ADDRESS:
         if (value == null) {
-          unsetStatus();
+          unsetNodeMonitorAddress();
         } else {
-          setStatus((Integer)value);
+          setNodeMonitorAddress((edu.berkeley.sparrow.thrift.THostPort)value);
         }
         break;
 
-      case MESSAGE:
+      case FREE_SLOTS:
         if (value == null) {
-          unsetMessage();
+          unsetFreeSlots();
         } else {
-          setMessage((ByteBuffer)value);
+          setFreeSlots((Integer)value);
         }
         break;
 
@@ -2224,17 +7365,11 @@ public class SchedulerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case APP:
-        return getApp();
-
-      case TASK_ID:
-        return getTaskId();
-
-      case STATUS:
-        return Integer.valueOf(getStatus());
+      case NODE_MONITOR_ADDRESS:
+        return getNodeMonitorAddress();
 
-      case MESSAGE:
-        return getMessage();
+      case FREE_SLOTS:
+        return Integer.valueOf(getFreeSlots());
 
       }
       throw new IllegalStateException();
@@ -2247,14 +7382,10 @@ public class SchedulerService {
       }
 
       switch (field) {
-      case APP:
-        return isSetApp();
-      case TASK_ID:
-        return isSetTaskId();
-      case STATUS:
-        return isSetStatus();
-      case MESSAGE:
-        return isSetMessage();
+      case NODE_MONITOR_ADDRESS:
+        return isSetNodeMonitorAddress();
+      case FREE_SLOTS:
+        return isSetFreeSlots();
       }
       throw new IllegalStateException();
     }
@@ -2263,48 +7394,30 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendFrontendMessage_args)
-        return this.equals((sendFrontendMessage_args)that);
+      if (that instanceof nodeIdle_args)
+        return this.equals((nodeIdle_args)that);
       return false;
     }
 
-    public boolean equals(sendFrontendMessage_args that) {
+    public boolean equals(nodeIdle_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_app = true && this.isSetApp();
-      boolean that_present_app = true && that.isSetApp();
-      if (this_present_app || that_present_app) {
-        if (!(this_present_app && that_present_app))
-          return false;
-        if (!this.app.equals(that.app))
-          return false;
-      }
-
-      boolean this_present_taskId = true && this.isSetTaskId();
-      boolean that_present_taskId = true && that.isSetTaskId();
-      if (this_present_taskId || that_present_taskId) {
-        if (!(this_present_taskId && that_present_taskId))
-          return false;
-        if (!this.taskId.equals(that.taskId))
-          return false;
-      }
-
-      boolean this_present_status = true;
-      boolean that_present_status = true;
-      if (this_present_status || that_present_status) {
-        if (!(this_present_status && that_present_status))
+      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
+      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
+      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
+        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
           return false;
-        if (this.status != that.status)
+        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
           return false;
       }
 
-      boolean this_present_message = true && this.isSetMessage();
-      boolean that_present_message = true && that.isSetMessage();
-      if (this_present_message || that_present_message) {
-        if (!(this_present_message && that_present_message))
+      boolean this_present_freeSlots = true;
+      boolean that_present_freeSlots = true;
+      if (this_present_freeSlots || that_present_freeSlots) {
+        if (!(this_present_freeSlots && that_present_freeSlots))
           return false;
-        if (!this.message.equals(that.message))
+        if (this.freeSlots != that.freeSlots)
           return false;
       }
 
@@ -2316,50 +7429,30 @@ public class SchedulerService {
       return 0;
     }
 
-    public int compareTo(sendFrontendMessage_args other) {
+    public int compareTo(nodeIdle_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      sendFrontendMessage_args typedOther = (sendFrontendMessage_args)other;
+      nodeIdle_args typedOther = (nodeIdle_args)other;
 
-      lastComparison = Boolean.valueOf(isSetApp()).compareTo(typedOther.isSetApp());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetApp()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.app, typedOther.app);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetTaskId()).compareTo(typedOther.isSetTaskId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetTaskId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.taskId, typedOther.taskId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetStatus()).compareTo(typedOther.isSetStatus());
+      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetStatus()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.status, typedOther.status);
+      if (isSetNodeMonitorAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetMessage()).compareTo(typedOther.isSetMessage());
+      lastComparison = Boolean.valueOf(isSetFreeSlots()).compareTo(typedOther.isSetFreeSlots());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetMessage()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.message, typedOther.message);
+      if (isSetFreeSlots()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.freeSlots, typedOther.freeSlots);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2381,36 +7474,20 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendFrontendMessage_args(");
+      StringBuilder sb = new StringBuilder("nodeIdle_args(");
       boolean first = true;
 
-      sb.append("app:");
-      if (this.app == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.app);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("taskId:");
-      if (this.taskId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.taskId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("status:");
-      sb.append(this.status);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("message:");
-      if (this.message == null) {
+      sb.append("nodeMonitorAddress:");
+      if (this.nodeMonitorAddress == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.message, sb);
+        sb.append(this.nodeMonitorAddress);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("freeSlots:");
+      sb.append(this.freeSlots);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -2437,15 +7514,15 @@ public class SchedulerService {
       }
     }
 
-    private static class sendFrontendMessage_argsStandardSchemeFactory implements SchemeFactory {
-      public sendFrontendMessage_argsStandardScheme getScheme() {
-        return new sendFrontendMessage_argsStandardScheme();
+    private static class nodeIdle_argsStandardSchemeFactory implements SchemeFactory {
+      public nodeIdle_argsStandardScheme getScheme() {
+        return new nodeIdle_argsStandardScheme();
       }
     }
 
-    private static class sendFrontendMessage_argsStandardScheme extends StandardScheme<sendFrontendMessage_args> {
+    private static class nodeIdle_argsStandardScheme extends StandardScheme<nodeIdle_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, nodeIdle_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2455,35 +7532,19 @@ public class SchedulerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // APP
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.app = iprot.readString();
-                struct.setAppIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // TASK_ID
+            case 1: // NODE_MONITOR_ADDRESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
-                struct.taskId.read(iprot);
-                struct.setTaskIdIsSet(true);
+                struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+                struct.nodeMonitorAddress.read(iprot);
+                struct.setNodeMonitorAddressIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // STATUS
+            case 2: // FREE_SLOTS
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.status = iprot.readI32();
-                struct.setStatusIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // MESSAGE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.message = iprot.readBinary();
-                struct.setMessageIsSet(true);
+                struct.freeSlots = iprot.readI32();
+                struct.setFreeSlotsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2499,107 +7560,77 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, nodeIdle_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.app != null) {
-          oprot.writeFieldBegin(APP_FIELD_DESC);
-          oprot.writeString(struct.app);
-          oprot.writeFieldEnd();
-        }
-        if (struct.taskId != null) {
-          oprot.writeFieldBegin(TASK_ID_FIELD_DESC);
-          struct.taskId.write(oprot);
+        if (struct.nodeMonitorAddress != null) {
+          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
+          struct.nodeMonitorAddress.write(oprot);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(STATUS_FIELD_DESC);
-        oprot.writeI32(struct.status);
+        oprot.writeFieldBegin(FREE_SLOTS_FIELD_DESC);
+        oprot.writeI32(struct.freeSlots);
         oprot.writeFieldEnd();
-        if (struct.message != null) {
-          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
-          oprot.writeBinary(struct.message);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sendFrontendMessage_argsTupleSchemeFactory implements SchemeFactory {
-      public sendFrontendMessage_argsTupleScheme getScheme() {
-        return new sendFrontendMessage_argsTupleScheme();
+    private static class nodeIdle_argsTupleSchemeFactory implements SchemeFactory {
+      public nodeIdle_argsTupleScheme getScheme() {
+        return new nodeIdle_argsTupleScheme();
       }
     }
 
-    private static class sendFrontendMessage_argsTupleScheme extends TupleScheme<sendFrontendMessage_args> {
+    private static class nodeIdle_argsTupleScheme extends TupleScheme<nodeIdle_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, nodeIdle_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetApp()) {
+        if (struct.isSetNodeMonitorAddress()) {
           optionals.set(0);
         }
-        if (struct.isSetTaskId()) {
+        if (struct.isSetFreeSlots()) {
           optionals.set(1);
         }
-        if (struct.isSetStatus()) {
-          optionals.set(2);
-        }
-        if (struct.isSetMessage()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetApp()) {
-          oprot.writeString(struct.app);
-        }
-        if (struct.isSetTaskId()) {
-          struct.taskId.write(oprot);
-        }
-        if (struct.isSetStatus()) {
-          oprot.writeI32(struct.status);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNodeMonitorAddress()) {
+          struct.nodeMonitorAddress.write(oprot);
         }
-        if (struct.isSetMessage()) {
-          oprot.writeBinary(struct.message);
+        if (struct.isSetFreeSlots()) {
+          oprot.writeI32(struct.freeSlots);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, nodeIdle_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.app = iprot.readString();
-          struct.setAppIsSet(true);
+          struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
+          struct.nodeMonitorAddress.read(iprot);
+          struct.setNodeMonitorAddressIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.taskId = new edu.berkeley.sparrow.thrift.TFullTaskId();
-          struct.taskId.read(iprot);
-          struct.setTaskIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.status = iprot.readI32();
-          struct.setStatusIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.message = iprot.readBinary();
-          struct.setMessageIsSet(true);
+          struct.freeSlots = iprot.readI32();
+          struct.setFreeSlotsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class sendFrontendMessage_result implements org.apache.thrift.TBase<sendFrontendMessage_result, sendFrontendMessage_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendFrontendMessage_result");
+  public static class nodeIdle_result implements org.apache.thrift.TBase<nodeIdle_result, nodeIdle_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("nodeIdle_result");
 
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sendFrontendMessage_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sendFrontendMessage_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new nodeIdle_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new nodeIdle_resultTupleSchemeFactory());
     }
 
 
@@ -2662,20 +7693,20 @@ public class SchedulerService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendFrontendMessage_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(nodeIdle_result.class, metaDataMap);
     }
 
-    public sendFrontendMessage_result() {
+    public nodeIdle_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendFrontendMessage_result(sendFrontendMessage_result other) {
+    public nodeIdle_result(nodeIdle_result other) {
     }
 
-    public sendFrontendMessage_result deepCopy() {
-      return new sendFrontendMessage_result(this);
+    public nodeIdle_result deepCopy() {
+      return new nodeIdle_result(this);
     }
 
     public void clear() {
@@ -2707,12 +7738,12 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendFrontendMessage_result)
-        return this.equals((sendFrontendMessage_result)that);
+      if (that instanceof nodeIdle_result)
+        return this.equals((nodeIdle_result)that);
       return false;
     }
 
-    public boolean equals(sendFrontendMessage_result that) {
+    public boolean equals(nodeIdle_result that) {
       if (that == null)
         return false;
 
@@ -2724,13 +7755,13 @@ public class SchedulerService {
       return 0;
     }
 
-    public int compareTo(sendFrontendMessage_result other) {
+    public int compareTo(nodeIdle_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      sendFrontendMessage_result typedOther = (sendFrontendMessage_result)other;
+      nodeIdle_result typedOther = (nodeIdle_result)other;
 
       return 0;
     }
@@ -2749,7 +7780,7 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sendFrontendMessage_result(");
+      StringBuilder sb = new StringBuilder("nodeIdle_result(");
       boolean first = true;
 
       sb.append(")");
@@ -2776,15 +7807,15 @@ public class SchedulerService {
       }
     }
 
-    private static class sendFrontendMessage_resultStandardSchemeFactory implements SchemeFactory {
-      public sendFrontendMessage_resultStandardScheme getScheme() {
-        return new sendFrontendMessage_resultStandardScheme();
+    private static class nodeIdle_resultStandardSchemeFactory implements SchemeFactory {
+      public nodeIdle_resultStandardScheme getScheme() {
+        return new nodeIdle_resultStandardScheme();
       }
     }
 
-    private static class sendFrontendMessage_resultStandardScheme extends StandardScheme<sendFrontendMessage_result> {
+    private static class nodeIdle_resultStandardScheme extends StandardScheme<nodeIdle_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, nodeIdle_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2805,7 +7836,7 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, nodeIdle_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2815,46 +7846,43 @@ public class SchedulerService {
 
     }
 
-    private static class sendFrontendMessage_resultTupleSchemeFactory implements SchemeFactory {
-      public sendFrontendMessage_resultTupleScheme getScheme() {
-        return new sendFrontendMessage_resultTupleScheme();
+    private static class nodeIdle_resultTupleSchemeFactory implements SchemeFactory {
+      public nodeIdle_resultTupleScheme getScheme() {
+        return new nodeIdle_resultTupleScheme();
       }
     }
 
-    private static class sendFrontendMessage_resultTupleScheme extends TupleScheme<sendFrontendMessage_result> {
+    private static class nodeIdle_resultTupleScheme extends TupleScheme<nodeIdle_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, nodeIdle_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendFrontendMessage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, nodeIdle_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
 
   }
 
-  public static class getTask_args implements org.apache.thrift.TBase<getTask_args, getTask_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTask_args");
+  public static class leaseGranted_args implements org.apache.thrift.TBase<leaseGranted_args, leaseGranted_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("leaseGranted_args");
 
-    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField LEASE_FIELD_DESC = new org.apache.thrift.protocol.TField("lease", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getTask_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getTask_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new leaseGranted_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new leaseGranted_argsTupleSchemeFactory());
     }
 
-    public String requestId; // required
-    public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+    public edu.berkeley.sparrow.thrift.TSlotLease lease; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REQUEST_ID((short)1, "requestId"),
-      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress");
+      LEASE((short)1, "lease");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2869,10 +7897,8 @@ public class SchedulerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // REQUEST_ID
-            return REQUEST_ID;
-          case 2: // NODE_MONITOR_ADDRESS
-            return NODE_MONITOR_ADDRESS;
+          case 1: // LEASE
+            return LEASE;
           default:
             return null;
         }
@@ -2916,110 +7942,70 @@ public class SchedulerService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      tmpMap.put(_Fields.LEASE, new org.apache.thrift.meta_data.FieldMetaData("lease", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TSlotLease.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTask_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(leaseGranted_args.class, metaDataMap);
     }
 
-    public getTask_args() {
+    public leaseGranted_args() {
     }
 
-    public getTask_args(
-      String requestId,
-      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress)
+    public leaseGranted_args(
+      edu.berkeley.sparrow.thrift.TSlotLease lease)
     {
       this();
-      this.requestId = requestId;
-      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.lease = lease;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTask_args(getTask_args other) {
-      if (other.isSetRequestId()) {
-        this.requestId = other.requestId;
-      }
-      if (other.isSetNodeMonitorAddress()) {
-        this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
+    public leaseGranted_args(leaseGranted_args other) {
+      if (other.isSetLease()) {
+        this.lease = new edu.berkeley.sparrow.thrift.TSlotLease(other.lease);
       }
     }
 
-    public getTask_args deepCopy() {
-      return new getTask_args(this);
+    public leaseGranted_args deepCopy() {
+      return new leaseGranted_args(this);
     }
 
     public void clear() {
-      this.requestId = null;
-      this.nodeMonitorAddress = null;
-    }
-
-    public String getRequestId() {
-      return this.requestId;
-    }
-
-    public getTask_args setRequestId(String requestId) {
-      this.requestId = requestId;
-      return this;
-    }
-
-    public void unsetRequestId() {
-      this.requestId = null;
-    }
-
-    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
-    public boolean isSetRequestId() {
-      return this.requestId != null;
-    }
-
-    public void setRequestIdIsSet(boolean value) {
-      if (!value) {
-        this.requestId = null;
-      }
+      this.lease = null;
     }
 
-    public edu.berkeley.sparrow.thrift.THostPort getNodeMonitorAddress() {
-      return this.nodeMonitorAddress;
+    public edu.berkeley.sparrow.thrift.TSlotLease getLease() {
+      return this.lease;
     }
 
-    public getTask_args setNodeMonitorAddress(edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) {
-      this.nodeMonitorAddress = nodeMonitorAddress;
+    public leaseGranted_args setLease(edu.berkeley.sparrow.thrift.TSlotLease lease) {
+      this.lease = lease;
       return this;
     }
 
-    public void unsetNodeMonitorAddress() {
-      this.nodeMonitorAddress = null;
+    public void unsetLease() {
+      this.lease = null;
     }
 
-    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
-    public boolean isSetNodeMonitorAddress() {
-      return this.nodeMonitorAddress != null;
+    /** Returns true if field lease is set (has been assigned a value) and false otherwise */
+    public boolean isSetLease() {
+      return this.lease != null;
     }
 
-    public void setNodeMonitorAddressIsSet(boolean value) {
+    public void setLeaseIsSet(boolean value) {
       if (!value) {
-        this.nodeMonitorAddress = null;
+        this.lease = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case REQUEST_ID:
-        if (value == null) {
-          unsetRequestId();
-        } else {
-          setRequestId((String)value);
-        }
-        break;
-
-      case NODE_MONITOR_ADDRESS:
+      case LEASE:
         if (value == null) {
-          unsetNodeMonitorAddress();
+          unsetLease();
         } else {
-          setNodeMonitorAddress((edu.berkeley.sparrow.thrift.THostPort)value);
+          setLease((edu.berkeley.sparrow.thrift.TSlotLease)value);
         }
         break;
 
@@ -3028,11 +8014,8 @@ public class SchedulerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case REQUEST_ID:
-        return getRequestId();
-
-      case NODE_MONITOR_ADDRESS:
-        return getNodeMonitorAddress();
+      case LEASE:
+        return getLease();
 
       }
       throw new IllegalStateException();
@@ -3045,10 +8028,8 @@ public class SchedulerService {
       }
 
       switch (field) {
-      case REQUEST_ID:
-        return isSetRequestId();
-      case NODE_MONITOR_ADDRESS:
-        return isSetNodeMonitorAddress();
+      case LEASE:
+        return isSetLease();
       }
       throw new IllegalStateException();
     }
@@ -3057,30 +8038,21 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTask_args)
-        return this.equals((getTask_args)that);
+      if (that instanceof leaseGranted_args)
+        return this.equals((leaseGranted_args)that);
       return false;
     }
 
-    public boolean equals(getTask_args that) {
+    public boolean equals(leaseGranted_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_requestId = true && this.isSetRequestId();
-      boolean that_present_requestId = true && that.isSetRequestId();
-      if (this_present_requestId || that_present_requestId) {
-        if (!(this_present_requestId && that_present_requestId))
-          return false;
-        if (!this.requestId.equals(that.requestId))
-          return false;
-      }
-
-      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
-      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
-      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
-        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
+      boolean this_present_lease = true && this.isSetLease();
+      boolean that_present_lease = true && that.isSetLease();
+      if (this_present_lease || that_present_lease) {
+        if (!(this_present_lease && that_present_lease))
           return false;
-        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
+        if (!this.lease.equals(that.lease))
           return false;
       }
 
@@ -3089,33 +8061,23 @@ public class SchedulerService {
 
     @Override
     public int hashCode() {
-      return 0;
-    }
-
-    public int compareTo(getTask_args other) {
-      if (!getClass().equals(other.getClass())) {
-        return getClass().getName().compareTo(other.getClass().getName());
-      }
-
-      int lastComparison = 0;
-      getTask_args typedOther = (getTask_args)other;
-
-      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRequestId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
+      return 0;
+    }
+
+    public int compareTo(leaseGranted_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
-      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
+
+      int lastComparison = 0;
+      leaseGranted_args typedOther = (leaseGranted_args)other;
+
+      lastComparison = Boolean.valueOf(isSetLease()).compareTo(typedOther.isSetLease());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNodeMonitorAddress()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
+      if (isSetLease()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lease, typedOther.lease);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3137,22 +8099,14 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getTask_args(");
+      StringBuilder sb = new StringBuilder("leaseGranted_args(");
       boolean first = true;
 
-      sb.append("requestId:");
-      if (this.requestId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.requestId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("nodeMonitorAddress:");
-      if (this.nodeMonitorAddress == null) {
+      sb.append("lease:");
+      if (this.lease == null) {
         sb.append("null");
       } else {
-        sb.append(this.nodeMonitorAddress);
+        sb.append(this.lease);
       }
       first = false;
       sb.append(")");
@@ -3179,15 +8133,15 @@ public class SchedulerService {
       }
     }
 
-    private static class getTask_argsStandardSchemeFactory implements SchemeFactory {
-      public getTask_argsStandardScheme getScheme() {
-        return new getTask_argsStandardScheme();
+    private static class leaseGranted_argsStandardSchemeFactory implements SchemeFactory {
+      public leaseGranted_argsStandardScheme getScheme() {
+        return new leaseGranted_argsStandardScheme();
       }
     }
 
-    private static class getTask_argsStandardScheme extends StandardScheme<getTask_args> {
+    private static class leaseGranted_argsStandardScheme extends StandardScheme<leaseGranted_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTask_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, leaseGranted_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3197,19 +8151,11 @@ public class SchedulerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REQUEST_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.requestId = iprot.readString();
-                struct.setRequestIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // NODE_MONITOR_ADDRESS
+            case 1: // LEASE
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
-                struct.nodeMonitorAddress.read(iprot);
-                struct.setNodeMonitorAddressIsSet(true);
+                struct.lease = new edu.berkeley.sparrow.thrift.TSlotLease();
+                struct.lease.read(iprot);
+                struct.setLeaseIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3225,18 +8171,13 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTask_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, leaseGranted_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.requestId != null) {
-          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
-          oprot.writeString(struct.requestId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.nodeMonitorAddress != null) {
-          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
-          struct.nodeMonitorAddress.write(oprot);
+        if (struct.lease != null) {
+          oprot.writeFieldBegin(LEASE_FIELD_DESC);
+          struct.lease.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3245,67 +8186,55 @@ public class SchedulerService {
 
     }
 
-    private static class getTask_argsTupleSchemeFactory implements SchemeFactory {
-      public getTask_argsTupleScheme getScheme() {
-        return new getTask_argsTupleScheme();
+    private static class leaseGranted_argsTupleSchemeFactory implements SchemeFactory {
+      public leaseGranted_argsTupleScheme getScheme() {
+        return new leaseGranted_argsTupleScheme();
       }
     }
 
-    private static class getTask_argsTupleScheme extends TupleScheme<getTask_args> {
+    private static class leaseGranted_argsTupleScheme extends TupleScheme<leaseGranted_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTask_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, leaseGranted_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRequestId()) {
+        if (struct.isSetLease()) {
           optionals.set(0);
         }
-        if (struct.isSetNodeMonitorAddress()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetRequestId()) {
-          oprot.writeString(struct.requestId);
-        }
-        if (struct.isSetNodeMonitorAddress()) {
-          struct.nodeMonitorAddress.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLease()) {
+          struct.lease.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTask_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, leaseGranted_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.requestId = iprot.readString();
-          struct.setRequestIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort();
-          struct.nodeMonitorAddress.read(iprot);
-          struct.setNodeMonitorAddressIsSet(true);
+          struct.lease = new edu.berkeley.sparrow.thrift.TSlotLease();
+          struct.lease.read(iprot);
+          struct.setLeaseIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getTask_result implements org.apache.thrift.TBase<getTask_result, getTask_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTask_result");
+  public static class leaseGranted_result implements org.apache.thrift.TBase<leaseGranted_result, leaseGranted_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("leaseGranted_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getTask_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getTask_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new leaseGranted_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new leaseGranted_resultTupleSchemeFactory());
     }
 
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3320,8 +8249,6 @@ public class SchedulerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -3360,106 +8287,36 @@ public class SchedulerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTaskLaunchSpec.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTask_result.class, metaDataMap);
-    }
-
-    public getTask_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(leaseGranted_result.class, metaDataMap);
     }
 
-    public getTask_result(
-      List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success)
-    {
-      this();
-      this.success = success;
+    public leaseGranted_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTask_result(getTask_result other) {
-      if (other.isSetSuccess()) {
-        List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> __this__success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
-        for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec other_element : other.success) {
-          __this__success.add(new edu.berkeley.sparrow.thrift.TTaskLaunchSpec(other_element));
-        }
-        this.success = __this__success;
-      }
+    public leaseGranted_result(leaseGranted_result other) {
     }
 
-    public getTask_result deepCopy() {
-      return new getTask_result(this);
+    public leaseGranted_result deepCopy() {
+      return new leaseGranted_result(this);
     }
 
     public void clear() {
-      this.success = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(edu.berkeley.sparrow.thrift.TTaskLaunchSpec elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getSuccess() {
-      return this.success;
-    }
-
-    public getTask_result setSuccess(List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new IllegalStateException();
     }
@@ -3471,8 +8328,6 @@ public class SchedulerService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -3481,24 +8336,15 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTask_result)
-        return this.equals((getTask_result)that);
+      if (that instanceof leaseGranted_result)
+        return this.equals((leaseGranted_result)that);
       return false;
     }
 
-    public boolean equals(getTask_result that) {
+    public boolean equals(leaseGranted_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -3507,24 +8353,14 @@ public class SchedulerService {
       return 0;
     }
 
-    public int compareTo(getTask_result other) {
+    public int compareTo(leaseGranted_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getTask_result typedOther = (getTask_result)other;
+      leaseGranted_result typedOther = (leaseGranted_result)other;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -3542,16 +8378,9 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getTask_result(");
+      StringBuilder sb = new StringBuilder("leaseGranted_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3576,15 +8405,15 @@ public class SchedulerService {
       }
     }
 
-    private static class getTask_resultStandardSchemeFactory implements SchemeFactory {
-      public getTask_resultStandardScheme getScheme() {
-        return new getTask_resultStandardScheme();
+    private static class leaseGranted_resultStandardSchemeFactory implements SchemeFactory {
+      public leaseGranted_resultStandardScheme getScheme() {
+        return new leaseGranted_resultStandardScheme();
       }
     }
 
-    private static class getTask_resultStandardScheme extends StandardScheme<getTask_result> {
+    private static class leaseGranted_resultStandardScheme extends StandardScheme<leaseGranted_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTask_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, leaseGranted_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3594,25 +8423,6 @@ public class SchedulerService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list0.size);
-                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
-                  {
-                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem2; // required
-                    _elem2 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
-                    _elem2.read(iprot);
-                    struct.success.add(_elem2);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3624,73 +8434,32 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTask_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, leaseGranted_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter3 : struct.success)
-            {
-              _iter3.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getTask_resultTupleSchemeFactory implements SchemeFactory {
-      public getTask_resultTupleScheme getScheme() {
-        return new getTask_resultTupleScheme();
+    private static class leaseGranted_resultTupleSchemeFactory implements SchemeFactory {
+      public leaseGranted_resultTupleScheme getScheme() {
+        return new leaseGranted_resultTupleScheme();
       }
     }
 
-    private static class getTask_resultTupleScheme extends TupleScheme<getTask_result> {
+    private static class leaseGranted_resultTupleScheme extends TupleScheme<leaseGranted_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTask_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, leaseGranted_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter4 : struct.success)
-            {
-              _iter4.write(oprot);
-            }
-          }
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTask_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, leaseGranted_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list5.size);
-            for (int _i6 = 0; _i6 < _list5.size; ++_i6)
-            {
-              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem7; // required
-              _elem7 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
-              _elem7.read(iprot);
-              struct.success.add(_elem7);
-            }
-          }
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -478,16 +478,16 @@ public class SchedulerStateStoreService {
             case 1: // SNAPSHOT
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map26 = iprot.readMapBegin();
-                  struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map26.size);
-                  for (int _i27 = 0; _i27 < _map26.size; ++_i27)
+                  org.apache.thrift.protocol.TMap _map74 = iprot.readMapBegin();
+                  struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map74.size);
+                  for (int _i75 = 0; _i75 < _map74.size; ++_i75)
                   {
-                    String _key28; // required
-                    edu.berkeley.sparrow.thrift.TNodeState _val29; // optional
-                    _key28 = iprot.readString();
-                    _val29 = new edu.berkeley.sparrow.thrift.TNodeState();
-                    _val29.read(iprot);
-                    struct.snapshot.put(_key28, _val29);
+                    String _key76; // required
+                    edu.berkeley.sparrow.thrift.TNodeState _val77; // optional
+                    _key76 = iprot.readString();
+                    _val77 = new edu.berkeley.sparrow.thrift.TNodeState();
+                    _val77.read(iprot);
+                    struct.snapshot.put(_key76, _val77);
                   }
                   iprot.readMapEnd();
                 }
@@ -515,10 +515,10 @@ public class SchedulerStateStoreService {
           oprot.writeFieldBegin(SNAPSHOT_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.snapshot.size()));
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter30 : struct.snapshot.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter78 : struct.snapshot.entrySet())
             {
-              oprot.writeString(_iter30.getKey());
-              _iter30.getValue().write(oprot);
+              oprot.writeString(_iter78.getKey());
+              _iter78.getValue().write(oprot);
             }
             oprot.writeMapEnd();
           }
@@ -549,10 +549,10 @@ public class SchedulerStateStoreService {
         if (struct.isSetSnapshot()) {
           {
             oprot.writeI32(struct.snapshot.size());
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter31 : struct.snapshot.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter79 : struct.snapshot.entrySet())
             {
-              oprot.writeString(_iter31.getKey());
-              _iter31.getValue().write(oprot);
+              oprot.writeString(_iter79.getKey());
+              _iter79.getValue().write(oprot);
             }
           }
         }
@@ -564,16 +564,16 @@ public class SchedulerStateStoreService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TMap _map32 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map32.size);
-            for (int _i33 = 0; _i33 < _map32.size; ++_i33)
+            org.apache.thrift.protocol.TMap _map80 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map80.size);
+            for (int _i81 = 0; _i81 < _map80.size; ++_i81)
             {
-              String _key34; // required
-              edu.berkeley.sparrow.thrift.TNodeState _val35; // optional
-              _key34 = iprot.readString();
-              _val35 = new edu.berkeley.sparrow.thrift.TNodeState();
-              _val35.read(iprot);
-              struct.snapshot.put(_key34, _val35);
+              String _key82; // required
+              edu.berkeley.sparrow.thrift.TNodeState _val83; // optional
+              _key82 = iprot.readString();
+              _val83 = new edu.berkeley.sparrow.thrift.TNodeState();
+              _val83.read(iprot);
+              struct.snapshot.put(_key82, _val83);
             }
           }
           struct.setSnapshotIsSet(true);
@@ -33,7 +33,7 @@ public class StateStoreService {
 
     public void registerScheduler(String schedulerAddress) throws org.apache.thrift.TException;
 
-    public void registerNodeMonitor(String nodeMonitorAddress) throws org.apache.thrift.TException;
+    public void registerNodeMonitor(String nodeMonitorAddress, String rack) throws org.apache.thrift.TException;
 
   }
 
@@ -41,7 +41,7 @@ public class StateStoreService {
 
     public void registerScheduler(String schedulerAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.registerScheduler_call> resultHandler) throws org.apache.thrift.TException;
 
-    public void registerNodeMonitor(String nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.registerNodeMonitor_call> resultHandler) throws org.apache.thrift.TException;
+    public void registerNodeMonitor(String nodeMonitorAddress, String rack, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.registerNodeMonitor_call> resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -85,16 +85,17 @@ public class StateStoreService {
       return;
     }
 
-    public void registerNodeMonitor(String nodeMonitorAddress) throws org.apache.thrift.TException
+    public void registerNodeMonitor(String nodeMonitorAddress, String rack) throws org.apache.thrift.TException
     {
-      send_registerNodeMonitor(nodeMonitorAddress);
+      send_registerNodeMonitor(nodeMonitorAddress, rack);
       recv_registerNodeMonitor();
     }
 
-    public void send_registerNodeMonitor(String nodeMonitorAddress) throws org.apache.thrift.TException
+    public void send_registerNodeMonitor(String nodeMonitorAddress, String rack) throws org.apache.thrift.TException
     {
       registerNodeMonitor_args args = new registerNodeMonitor_args();
       args.setNodeMonitorAddress(nodeMonitorAddress);
+      args.setRack(rack);
       sendBase("registerNodeMonitor", args);
     }
 
@@ -155,24 +156,27 @@ public class StateStoreService {
       }
     }
 
-    public void registerNodeMonitor(String nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<registerNodeMonitor_call> resultHandler) throws org.apache.thrift.TException {
+    public void registerNodeMonitor(String nodeMonitorAddress, String rack, org.apache.thrift.async.AsyncMethodCallback<registerNodeMonitor_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      registerNodeMonitor_call method_call = new registerNodeMonitor_call(nodeMonitorAddress, resultHandler, this, ___protocolFactory, ___transport);
+      registerNodeMonitor_call method_call = new registerNodeMonitor_call(nodeMonitorAddress, rack, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class registerNodeMonitor_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String nodeMonitorAddress;
-      public registerNodeMonitor_call(String nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<registerNodeMonitor_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private String rack;
+      public registerNodeMonitor_call(String nodeMonitorAddress, String rack, org.apache.thrift.async.AsyncMethodCallback<registerNodeMonitor_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.nodeMonitorAddress = nodeMonitorAddress;
+        this.rack = rack;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("registerNodeMonitor", org.apache.thrift.protocol.TMessageType.CALL, 0));
         registerNodeMonitor_args args = new registerNodeMonitor_args();
         args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.setRack(rack);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -232,7 +236,7 @@ public class StateStoreService {
 
       protected registerNodeMonitor_result getResult(I iface, registerNodeMonitor_args args) throws org.apache.thrift.TException {
         registerNodeMonitor_result result = new registerNodeMonitor_result();
-        iface.registerNodeMonitor(args.nodeMonitorAddress);
+        iface.registerNodeMonitor(args.nodeMonitorAddress, args.rack);
         return result;
       }
     }
@@ -839,6 +843,7 @@ public class StateStoreService {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerNodeMonitor_args");
 
     private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RACK_FIELD_DESC = new org.apache.thrift.protocol.TField("rack", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -847,10 +852,12 @@ public class StateStoreService {
     }
 
     public String nodeMonitorAddress; // required
+    public String rack; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NODE_MONITOR_ADDRESS((short)1, "nodeMonitorAddress");
+      NODE_MONITOR_ADDRESS((short)1, "nodeMonitorAddress"),
+      RACK((short)2, "rack");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -867,6 +874,8 @@ public class StateStoreService {
         switch(fieldId) {
           case 1: // NODE_MONITOR_ADDRESS
             return NODE_MONITOR_ADDRESS;
+          case 2: // RACK
+            return RACK;
           default:
             return null;
         }
@@ -912,6 +921,8 @@ public class StateStoreService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RACK, new org.apache.thrift.meta_data.FieldMetaData("rack", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerNodeMonitor_args.class, metaDataMap);
     }
@@ -920,10 +931,12 @@ public class StateStoreService {
     }
 
     public registerNodeMonitor_args(
-      String nodeMonitorAddress)
+      String nodeMonitorAddress,
+      String rack)
     {
       this();
       this.nodeMonitorAddress = nodeMonitorAddress;
+      this.rack = rack;
     }
 
     /**
@@ -933,6 +946,9 @@ public class StateStoreService {
       if (other.isSetNodeMonitorAddress()) {
         this.nodeMonitorAddress = other.nodeMonitorAddress;
       }
+      if (other.isSetRack()) {
+        this.rack = other.rack;
+      }
     }
 
     public registerNodeMonitor_args deepCopy() {
@@ -941,6 +957,7 @@ public class StateStoreService {
 
     public void clear() {
       this.nodeMonitorAddress = null;
+      this.rack = null;
     }
 
     public String getNodeMonitorAddress() {
@@ -967,6 +984,30 @@ public class StateStoreService {
       }
     }
 
+    public String getRack() {
+      return this.rack;
+    }
+
+    public registerNodeMonitor_args setRack(String rack) {
+      this.rack = rack;
+      return this;
+    }
+
+    public void unsetRack() {
+      this.rack = null;
+    }
+
+    /** Returns true if field rack is set (has been assigned a value) and false otherwise */
+    public boolean isSetRack() {
+      return this.rack != null;
+    }
+
+    public void setRackIsSet(boolean value) {
+      if (!value) {
+        this.rack = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case NODE_MONITOR_ADDRESS:
@@ -977,6 +1018,14 @@ public class StateStoreService {
         }
         break;
 
+      case RACK:
+        if (value == null) {
+          unsetRack();
+        } else {
+          setRack((String)value);
+        }
+        break;
+
       }
     }
 
@@ -985,6 +1034,9 @@ public class StateStoreService {
       case NODE_MONITOR_ADDRESS:
         return getNodeMonitorAddress();
 
+      case RACK:
+        return getRack();
+
       }
       throw new IllegalStateException();
     }
@@ -998,6 +1050,8 @@ public class StateStoreService {
       switch (field) {
       case NODE_MONITOR_ADDRESS:
         return isSetNodeMonitorAddress();
+      case RACK:
+        return isSetRack();
       }
       throw new IllegalStateException();
     }
@@ -1024,6 +1078,15 @@ public class StateStoreService {
           return false;
       }
 
+      boolean this_present_rack = true && this.isSetRack();
+      boolean that_present_rack = true && that.isSetRack();
+      if (this_present_rack || that_present_rack) {
+        if (!(this_present_rack && that_present_rack))
+          return false;
+        if (!this.rack.equals(that.rack))
+          return false;
+      }
+
       return true;
     }
 
@@ -1050,6 +1113,16 @@ public class StateStoreService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetRack()).compareTo(typedOther.isSetRack());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRack()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rack, typedOther.rack);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1077,6 +1150,14 @@ public class StateStoreService {
         sb.append(this.nodeMonitorAddress);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("rack:");
+      if (this.rack == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rack);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1127,6 +1208,14 @@ public class StateStoreService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // RACK
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.rack = iprot.readString();
+                struct.setRackIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1147,6 +1236,11 @@ public class StateStoreService {
           oprot.writeString(struct.nodeMonitorAddress);
           oprot.writeFieldEnd();
         }
+        if (struct.rack != null) {
+          oprot.writeFieldBegin(RACK_FIELD_DESC);
+          oprot.writeString(struct.rack);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -1168,20 +1262,30 @@ public class StateStoreService {
         if (struct.isSetNodeMonitorAddress()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRack()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetNodeMonitorAddress()) {
           oprot.writeString(struct.nodeMonitorAddress);
         }
+        if (struct.isSetRack()) {
+          oprot.writeString(struct.rack);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, registerNodeMonitor_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.nodeMonitorAddress = iprot.readString();
           struct.setNodeMonitorAddressIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.rack = iprot.readString();
+          struct.setRackIsSet(true);
+        }
       }
     }
 
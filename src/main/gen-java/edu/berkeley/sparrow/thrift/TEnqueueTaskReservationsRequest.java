@@ -36,6 +36,13 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
   private static final org.apache.thrift.protocol.TField ESTIMATED_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("estimatedResources", org.apache.thrift.protocol.TType.STRUCT, (short)4);
   private static final org.apache.thrift.protocol.TField SCHEDULER_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerAddress", org.apache.thrift.protocol.TType.STRUCT, (short)5);
   private static final org.apache.thrift.protocol.TField NUM_TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("numTasks", org.apache.thrift.protocol.TType.I32, (short)6);
+  private static final org.apache.thrift.protocol.TField PRIORITY_FIELD_DESC = new org.apache.thrift.protocol.TField("priority", org.apache.thrift.protocol.TType.I32, (short)7);
+  private static final org.apache.thrift.protocol.TField DEADLINE_FIELD_DESC = new org.apache.thrift.protocol.TField("deadline", org.apache.thrift.protocol.TType.I64, (short)8);
+  private static final org.apache.thrift.protocol.TField JOB_TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("jobTasks", org.apache.thrift.protocol.TType.I32, (short)9);
+  private static final org.apache.thrift.protocol.TField UNLAUNCHED_JOB_TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("unlaunchedJobTasks", org.apache.thrift.protocol.TType.I32, (short)10);
+  private static final org.apache.thrift.protocol.TField EXPECTED_TASK_DURATION_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("expectedTaskDurationMs", org.apache.thrift.protocol.TType.I64, (short)11);
+  private static final org.apache.thrift.protocol.TField GANG_HOLD_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("gangHoldMs", org.apache.thrift.protocol.TType.I64, (short)12);
+  private static final org.apache.thrift.protocol.TField SCHEDULER_EPOCH_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerEpoch", org.apache.thrift.protocol.TType.I64, (short)13);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -49,6 +56,13 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
   public TResourceVector estimatedResources; // required
   public THostPort schedulerAddress; // required
   public int numTasks; // required
+  public int priority; // optional
+  public long deadline; // optional
+  public int jobTasks; // optional
+  public int unlaunchedJobTasks; // optional
+  public long expectedTaskDurationMs; // optional
+  public long gangHoldMs; // optional
+  public long schedulerEpoch; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -57,7 +71,14 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     REQUEST_ID((short)3, "requestId"),
     ESTIMATED_RESOURCES((short)4, "estimatedResources"),
     SCHEDULER_ADDRESS((short)5, "schedulerAddress"),
-    NUM_TASKS((short)6, "numTasks");
+    NUM_TASKS((short)6, "numTasks"),
+    PRIORITY((short)7, "priority"),
+    DEADLINE((short)8, "deadline"),
+    JOB_TASKS((short)9, "jobTasks"),
+    UNLAUNCHED_JOB_TASKS((short)10, "unlaunchedJobTasks"),
+    EXPECTED_TASK_DURATION_MS((short)11, "expectedTaskDurationMs"),
+    GANG_HOLD_MS((short)12, "gangHoldMs"),
+    SCHEDULER_EPOCH((short)13, "schedulerEpoch");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -84,6 +105,20 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
           return SCHEDULER_ADDRESS;
         case 6: // NUM_TASKS
           return NUM_TASKS;
+        case 7: // PRIORITY
+          return PRIORITY;
+        case 8: // DEADLINE
+          return DEADLINE;
+        case 9: // JOB_TASKS
+          return JOB_TASKS;
+        case 10: // UNLAUNCHED_JOB_TASKS
+          return UNLAUNCHED_JOB_TASKS;
+        case 11: // EXPECTED_TASK_DURATION_MS
+          return EXPECTED_TASK_DURATION_MS;
+        case 12: // GANG_HOLD_MS
+          return GANG_HOLD_MS;
+        case 13: // SCHEDULER_EPOCH
+          return SCHEDULER_EPOCH;
         default:
           return null;
       }
@@ -125,7 +160,15 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
 
   // isset id assignments
   private static final int __NUMTASKS_ISSET_ID = 0;
-  private BitSet __isset_bit_vector = new BitSet(1);
+  private static final int __PRIORITY_ISSET_ID = 1;
+  private static final int __DEADLINE_ISSET_ID = 2;
+  private static final int __JOBTASKS_ISSET_ID = 3;
+  private static final int __UNLAUNCHEDJOBTASKS_ISSET_ID = 4;
+  private static final int __EXPECTEDTASKDURATIONMS_ISSET_ID = 5;
+  private static final int __GANGHOLDMS_ISSET_ID = 6;
+  private static final int __SCHEDULEREPOCH_ISSET_ID = 7;
+  private BitSet __isset_bit_vector = new BitSet(8);
+  private _Fields optionals[] = {_Fields.PRIORITY,_Fields.DEADLINE,_Fields.JOB_TASKS,_Fields.UNLAUNCHED_JOB_TASKS,_Fields.EXPECTED_TASK_DURATION_MS,_Fields.GANG_HOLD_MS,_Fields.SCHEDULER_EPOCH};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -141,6 +184,20 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, THostPort.class)));
     tmpMap.put(_Fields.NUM_TASKS, new org.apache.thrift.meta_data.FieldMetaData("numTasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.PRIORITY, new org.apache.thrift.meta_data.FieldMetaData("priority", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.DEADLINE, new org.apache.thrift.meta_data.FieldMetaData("deadline", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.JOB_TASKS, new org.apache.thrift.meta_data.FieldMetaData("jobTasks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.UNLAUNCHED_JOB_TASKS, new org.apache.thrift.meta_data.FieldMetaData("unlaunchedJobTasks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.EXPECTED_TASK_DURATION_MS, new org.apache.thrift.meta_data.FieldMetaData("expectedTaskDurationMs", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.GANG_HOLD_MS, new org.apache.thrift.meta_data.FieldMetaData("gangHoldMs", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.SCHEDULER_EPOCH, new org.apache.thrift.meta_data.FieldMetaData("schedulerEpoch", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TEnqueueTaskReservationsRequest.class, metaDataMap);
   }
@@ -188,6 +245,13 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       this.schedulerAddress = new THostPort(other.schedulerAddress);
     }
     this.numTasks = other.numTasks;
+    this.priority = other.priority;
+    this.deadline = other.deadline;
+    this.jobTasks = other.jobTasks;
+    this.unlaunchedJobTasks = other.unlaunchedJobTasks;
+    this.expectedTaskDurationMs = other.expectedTaskDurationMs;
+    this.gangHoldMs = other.gangHoldMs;
+    this.schedulerEpoch = other.schedulerEpoch;
   }
 
   public TEnqueueTaskReservationsRequest deepCopy() {
@@ -202,6 +266,20 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     this.schedulerAddress = null;
     setNumTasksIsSet(false);
     this.numTasks = 0;
+    setPriorityIsSet(false);
+    this.priority = 0;
+    setDeadlineIsSet(false);
+    this.deadline = 0;
+    setJobTasksIsSet(false);
+    this.jobTasks = 0;
+    setUnlaunchedJobTasksIsSet(false);
+    this.unlaunchedJobTasks = 0;
+    setExpectedTaskDurationMsIsSet(false);
+    this.expectedTaskDurationMs = 0;
+    setGangHoldMsIsSet(false);
+    this.gangHoldMs = 0;
+    setSchedulerEpochIsSet(false);
+    this.schedulerEpoch = 0;
   }
 
   public String getAppId() {
@@ -347,6 +425,167 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     __isset_bit_vector.set(__NUMTASKS_ISSET_ID, value);
   }
 
+  public int getPriority() {
+    return this.priority;
+  }
+
+  public TEnqueueTaskReservationsRequest setPriority(int priority) {
+    this.priority = priority;
+    setPriorityIsSet(true);
+    return this;
+  }
+
+  public void unsetPriority() {
+    __isset_bit_vector.clear(__PRIORITY_ISSET_ID);
+  }
+
+  /** Returns true if field priority is set (has been assigned a value) and false otherwise */
+  public boolean isSetPriority() {
+    return __isset_bit_vector.get(__PRIORITY_ISSET_ID);
+  }
+
+  public void setPriorityIsSet(boolean value) {
+    __isset_bit_vector.set(__PRIORITY_ISSET_ID, value);
+  }
+
+  public long getDeadline() {
+    return this.deadline;
+  }
+
+  public TEnqueueTaskReservationsRequest setDeadline(long deadline) {
+    this.deadline = deadline;
+    setDeadlineIsSet(true);
+    return this;
+  }
+
+  public void unsetDeadline() {
+    __isset_bit_vector.clear(__DEADLINE_ISSET_ID);
+  }
+
+  /** Returns true if field deadline is set (has been assigned a value) and false otherwise */
+  public boolean isSetDeadline() {
+    return __isset_bit_vector.get(__DEADLINE_ISSET_ID);
+  }
+
+  public void setDeadlineIsSet(boolean value) {
+    __isset_bit_vector.set(__DEADLINE_ISSET_ID, value);
+  }
+
+  public int getJobTasks() {
+    return this.jobTasks;
+  }
+
+  public TEnqueueTaskReservationsRequest setJobTasks(int jobTasks) {
+    this.jobTasks = jobTasks;
+    setJobTasksIsSet(true);
+    return this;
+  }
+
+  public void unsetJobTasks() {
+    __isset_bit_vector.clear(__JOBTASKS_ISSET_ID);
+  }
+
+  /** Returns true if field jobTasks is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobTasks() {
+    return __isset_bit_vector.get(__JOBTASKS_ISSET_ID);
+  }
+
+  public void setJobTasksIsSet(boolean value) {
+    __isset_bit_vector.set(__JOBTASKS_ISSET_ID, value);
+  }
+
+  public int getUnlaunchedJobTasks() {
+    return this.unlaunchedJobTasks;
+  }
+
+  public TEnqueueTaskReservationsRequest setUnlaunchedJobTasks(int unlaunchedJobTasks) {
+    this.unlaunchedJobTasks = unlaunchedJobTasks;
+    setUnlaunchedJobTasksIsSet(true);
+    return this;
+  }
+
+  public void unsetUnlaunchedJobTasks() {
+    __isset_bit_vector.clear(__UNLAUNCHEDJOBTASKS_ISSET_ID);
+  }
+
+  /** Returns true if field unlaunchedJobTasks is set (has been assigned a value) and false otherwise */
+  public boolean isSetUnlaunchedJobTasks() {
+    return __isset_bit_vector.get(__UNLAUNCHEDJOBTASKS_ISSET_ID);
+  }
+
+  public void setUnlaunchedJobTasksIsSet(boolean value) {
+    __isset_bit_vector.set(__UNLAUNCHEDJOBTASKS_ISSET_ID, value);
+  }
+
+  public long getExpectedTaskDurationMs() {
+    return this.expectedTaskDurationMs;
+  }
+
+  public TEnqueueTaskReservationsRequest setExpectedTaskDurationMs(long expectedTaskDurationMs) {
+    this.expectedTaskDurationMs = expectedTaskDurationMs;
+    setExpectedTaskDurationMsIsSet(true);
+    return this;
+  }
+
+  public void unsetExpectedTaskDurationMs() {
+    __isset_bit_vector.clear(__EXPECTEDTASKDURATIONMS_ISSET_ID);
+  }
+
+  /** Returns true if field expectedTaskDurationMs is set (has been assigned a value) and false otherwise */
+  public boolean isSetExpectedTaskDurationMs() {
+    return __isset_bit_vector.get(__EXPECTEDTASKDURATIONMS_ISSET_ID);
+  }
+
+  public void setExpectedTaskDurationMsIsSet(boolean value) {
+    __isset_bit_vector.set(__EXPECTEDTASKDURATIONMS_ISSET_ID, value);
+  }
+
+  public long getGangHoldMs() {
+    return this.gangHoldMs;
+  }
+
+  public TEnqueueTaskReservationsRequest setGangHoldMs(long gangHoldMs) {
+    this.gangHoldMs = gangHoldMs;
+    setGangHoldMsIsSet(true);
+    return this;
+  }
+
+  public void unsetGangHoldMs() {
+    __isset_bit_vector.clear(__GANGHOLDMS_ISSET_ID);
+  }
+
+  /** Returns true if field gangHoldMs is set (has been assigned a value) and false otherwise */
+  public boolean isSetGangHoldMs() {
+    return __isset_bit_vector.get(__GANGHOLDMS_ISSET_ID);
+  }
+
+  public void setGangHoldMsIsSet(boolean value) {
+    __isset_bit_vector.set(__GANGHOLDMS_ISSET_ID, value);
+  }
+
+  public long getSchedulerEpoch() {
+    return this.schedulerEpoch;
+  }
+
+  public TEnqueueTaskReservationsRequest setSchedulerEpoch(long schedulerEpoch) {
+    this.schedulerEpoch = schedulerEpoch;
+    setSchedulerEpochIsSet(true);
+    return this;
+  }
+
+  public void unsetSchedulerEpoch() {
+    __isset_bit_vector.clear(__SCHEDULEREPOCH_ISSET_ID);
+  }
+
+  /** Returns true if field schedulerEpoch is set (has been assigned a value) and false otherwise */
+  public boolean isSetSchedulerEpoch() {
+    return __isset_bit_vector.get(__SCHEDULEREPOCH_ISSET_ID);
+  }
+
+  public void setSchedulerEpochIsSet(boolean value) {
+    __isset_bit_vector.set(__SCHEDULEREPOCH_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case APP_ID:
@@ -397,6 +636,62 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       }
       break;
 
+    case PRIORITY:
+      if (value == null) {
+        unsetPriority();
+      } else {
+        setPriority((Integer)value);
+      }
+      break;
+
+    case DEADLINE:
+      if (value == null) {
+        unsetDeadline();
+      } else {
+        setDeadline((Long)value);
+      }
+      break;
+
+    case JOB_TASKS:
+      if (value == null) {
+        unsetJobTasks();
+      } else {
+        setJobTasks((Integer)value);
+      }
+      break;
+
+    case UNLAUNCHED_JOB_TASKS:
+      if (value == null) {
+        unsetUnlaunchedJobTasks();
+      } else {
+        setUnlaunchedJobTasks((Integer)value);
+      }
+      break;
+
+    case EXPECTED_TASK_DURATION_MS:
+      if (value == null) {
+        unsetExpectedTaskDurationMs();
+      } else {
+        setExpectedTaskDurationMs((Long)value);
+      }
+      break;
+
+    case GANG_HOLD_MS:
+      if (value == null) {
+        unsetGangHoldMs();
+      } else {
+        setGangHoldMs((Long)value);
+      }
+      break;
+
+    case SCHEDULER_EPOCH:
+      if (value == null) {
+        unsetSchedulerEpoch();
+      } else {
+        setSchedulerEpoch((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -420,6 +715,27 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     case NUM_TASKS:
       return Integer.valueOf(getNumTasks());
 
+    case PRIORITY:
+      return Integer.valueOf(getPriority());
+
+    case DEADLINE:
+      return Long.valueOf(getDeadline());
+
+    case JOB_TASKS:
+      return Integer.valueOf(getJobTasks());
+
+    case UNLAUNCHED_JOB_TASKS:
+      return Integer.valueOf(getUnlaunchedJobTasks());
+
+    case EXPECTED_TASK_DURATION_MS:
+      return Long.valueOf(getExpectedTaskDurationMs());
+
+    case GANG_HOLD_MS:
+      return Long.valueOf(getGangHoldMs());
+
+    case SCHEDULER_EPOCH:
+      return Long.valueOf(getSchedulerEpoch());
+
     }
     throw new IllegalStateException();
   }
@@ -443,6 +759,20 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       return isSetSchedulerAddress();
     case NUM_TASKS:
       return isSetNumTasks();
+    case PRIORITY:
+      return isSetPriority();
+    case DEADLINE:
+      return isSetDeadline();
+    case JOB_TASKS:
+      return isSetJobTasks();
+    case UNLAUNCHED_JOB_TASKS:
+      return isSetUnlaunchedJobTasks();
+    case EXPECTED_TASK_DURATION_MS:
+      return isSetExpectedTaskDurationMs();
+    case GANG_HOLD_MS:
+      return isSetGangHoldMs();
+    case SCHEDULER_EPOCH:
+      return isSetSchedulerEpoch();
     }
     throw new IllegalStateException();
   }
@@ -514,6 +844,69 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         return false;
     }
 
+    boolean this_present_priority = true && this.isSetPriority();
+    boolean that_present_priority = true && that.isSetPriority();
+    if (this_present_priority || that_present_priority) {
+      if (!(this_present_priority && that_present_priority))
+        return false;
+      if (this.priority != that.priority)
+        return false;
+    }
+
+    boolean this_present_deadline = true && this.isSetDeadline();
+    boolean that_present_deadline = true && that.isSetDeadline();
+    if (this_present_deadline || that_present_deadline) {
+      if (!(this_present_deadline && that_present_deadline))
+        return false;
+      if (this.deadline != that.deadline)
+        return false;
+    }
+
+    boolean this_present_jobTasks = true && this.isSetJobTasks();
+    boolean that_present_jobTasks = true && that.isSetJobTasks();
+    if (this_present_jobTasks || that_present_jobTasks) {
+      if (!(this_present_jobTasks && that_present_jobTasks))
+        return false;
+      if (this.jobTasks != that.jobTasks)
+        return false;
+    }
+
+    boolean this_present_unlaunchedJobTasks = true && this.isSetUnlaunchedJobTasks();
+    boolean that_present_unlaunchedJobTasks = true && that.isSetUnlaunchedJobTasks();
+    if (this_present_unlaunchedJobTasks || that_present_unlaunchedJobTasks) {
+      if (!(this_present_unlaunchedJobTasks && that_present_unlaunchedJobTasks))
+        return false;
+      if (this.unlaunchedJobTasks != that.unlaunchedJobTasks)
+        return false;
+    }
+
+    boolean this_present_expectedTaskDurationMs = true && this.isSetExpectedTaskDurationMs();
+    boolean that_present_expectedTaskDurationMs = true && that.isSetExpectedTaskDurationMs();
+    if (this_present_expectedTaskDurationMs || that_present_expectedTaskDurationMs) {
+      if (!(this_present_expectedTaskDurationMs && that_present_expectedTaskDurationMs))
+        return false;
+      if (this.expectedTaskDurationMs != that.expectedTaskDurationMs)
+        return false;
+    }
+
+    boolean this_present_gangHoldMs = true && this.isSetGangHoldMs();
+    boolean that_present_gangHoldMs = true && that.isSetGangHoldMs();
+    if (this_present_gangHoldMs || that_present_gangHoldMs) {
+      if (!(this_present_gangHoldMs && that_present_gangHoldMs))
+        return false;
+      if (this.gangHoldMs != that.gangHoldMs)
+        return false;
+    }
+
+    boolean this_present_schedulerEpoch = true && this.isSetSchedulerEpoch();
+    boolean that_present_schedulerEpoch = true && that.isSetSchedulerEpoch();
+    if (this_present_schedulerEpoch || that_present_schedulerEpoch) {
+      if (!(this_present_schedulerEpoch && that_present_schedulerEpoch))
+        return false;
+      if (this.schedulerEpoch != that.schedulerEpoch)
+        return false;
+    }
+
     return true;
   }
 
@@ -590,6 +983,76 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetPriority()).compareTo(typedOther.isSetPriority());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPriority()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.priority, typedOther.priority);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetDeadline()).compareTo(typedOther.isSetDeadline());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDeadline()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.deadline, typedOther.deadline);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobTasks()).compareTo(typedOther.isSetJobTasks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobTasks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobTasks, typedOther.jobTasks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetUnlaunchedJobTasks()).compareTo(typedOther.isSetUnlaunchedJobTasks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetUnlaunchedJobTasks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.unlaunchedJobTasks, typedOther.unlaunchedJobTasks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetExpectedTaskDurationMs()).compareTo(typedOther.isSetExpectedTaskDurationMs());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetExpectedTaskDurationMs()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.expectedTaskDurationMs, typedOther.expectedTaskDurationMs);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetGangHoldMs()).compareTo(typedOther.isSetGangHoldMs());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetGangHoldMs()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gangHoldMs, typedOther.gangHoldMs);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetSchedulerEpoch()).compareTo(typedOther.isSetSchedulerEpoch());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSchedulerEpoch()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.schedulerEpoch, typedOther.schedulerEpoch);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -653,6 +1116,48 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     sb.append("numTasks:");
     sb.append(this.numTasks);
     first = false;
+    if (isSetPriority()) {
+      if (!first) sb.append(", ");
+      sb.append("priority:");
+      sb.append(this.priority);
+      first = false;
+    }
+    if (isSetDeadline()) {
+      if (!first) sb.append(", ");
+      sb.append("deadline:");
+      sb.append(this.deadline);
+      first = false;
+    }
+    if (isSetJobTasks()) {
+      if (!first) sb.append(", ");
+      sb.append("jobTasks:");
+      sb.append(this.jobTasks);
+      first = false;
+    }
+    if (isSetUnlaunchedJobTasks()) {
+      if (!first) sb.append(", ");
+      sb.append("unlaunchedJobTasks:");
+      sb.append(this.unlaunchedJobTasks);
+      first = false;
+    }
+    if (isSetExpectedTaskDurationMs()) {
+      if (!first) sb.append(", ");
+      sb.append("expectedTaskDurationMs:");
+      sb.append(this.expectedTaskDurationMs);
+      first = false;
+    }
+    if (isSetGangHoldMs()) {
+      if (!first) sb.append(", ");
+      sb.append("gangHoldMs:");
+      sb.append(this.gangHoldMs);
+      first = false;
+    }
+    if (isSetSchedulerEpoch()) {
+      if (!first) sb.append(", ");
+      sb.append("schedulerEpoch:");
+      sb.append(this.schedulerEpoch);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -748,6 +1253,62 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 7: // PRIORITY
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.priority = iprot.readI32();
+              struct.setPriorityIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // DEADLINE
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.deadline = iprot.readI64();
+              struct.setDeadlineIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 9: // JOB_TASKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.jobTasks = iprot.readI32();
+              struct.setJobTasksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // UNLAUNCHED_JOB_TASKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.unlaunchedJobTasks = iprot.readI32();
+              struct.setUnlaunchedJobTasksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 11: // EXPECTED_TASK_DURATION_MS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.expectedTaskDurationMs = iprot.readI64();
+              struct.setExpectedTaskDurationMsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 12: // GANG_HOLD_MS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.gangHoldMs = iprot.readI64();
+              struct.setGangHoldMsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 13: // SCHEDULER_EPOCH
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.schedulerEpoch = iprot.readI64();
+              struct.setSchedulerEpochIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -791,6 +1352,41 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       oprot.writeFieldBegin(NUM_TASKS_FIELD_DESC);
       oprot.writeI32(struct.numTasks);
       oprot.writeFieldEnd();
+      if (struct.isSetPriority()) {
+        oprot.writeFieldBegin(PRIORITY_FIELD_DESC);
+        oprot.writeI32(struct.priority);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetDeadline()) {
+        oprot.writeFieldBegin(DEADLINE_FIELD_DESC);
+        oprot.writeI64(struct.deadline);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetJobTasks()) {
+        oprot.writeFieldBegin(JOB_TASKS_FIELD_DESC);
+        oprot.writeI32(struct.jobTasks);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetUnlaunchedJobTasks()) {
+        oprot.writeFieldBegin(UNLAUNCHED_JOB_TASKS_FIELD_DESC);
+        oprot.writeI32(struct.unlaunchedJobTasks);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetExpectedTaskDurationMs()) {
+        oprot.writeFieldBegin(EXPECTED_TASK_DURATION_MS_FIELD_DESC);
+        oprot.writeI64(struct.expectedTaskDurationMs);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetGangHoldMs()) {
+        oprot.writeFieldBegin(GANG_HOLD_MS_FIELD_DESC);
+        oprot.writeI64(struct.gangHoldMs);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetSchedulerEpoch()) {
+        oprot.writeFieldBegin(SCHEDULER_EPOCH_FIELD_DESC);
+        oprot.writeI64(struct.schedulerEpoch);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -827,7 +1423,28 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       if (struct.isSetNumTasks()) {
         optionals.set(5);
       }
-      oprot.writeBitSet(optionals, 6);
+      if (struct.isSetPriority()) {
+        optionals.set(6);
+      }
+      if (struct.isSetDeadline()) {
+        optionals.set(7);
+      }
+      if (struct.isSetJobTasks()) {
+        optionals.set(8);
+      }
+      if (struct.isSetUnlaunchedJobTasks()) {
+        optionals.set(9);
+      }
+      if (struct.isSetExpectedTaskDurationMs()) {
+        optionals.set(10);
+      }
+      if (struct.isSetGangHoldMs()) {
+        optionals.set(11);
+      }
+      if (struct.isSetSchedulerEpoch()) {
+        optionals.set(12);
+      }
+      oprot.writeBitSet(optionals, 13);
       if (struct.isSetAppId()) {
         oprot.writeString(struct.appId);
       }
@@ -846,12 +1463,33 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       if (struct.isSetNumTasks()) {
         oprot.writeI32(struct.numTasks);
       }
+      if (struct.isSetPriority()) {
+        oprot.writeI32(struct.priority);
+      }
+      if (struct.isSetDeadline()) {
+        oprot.writeI64(struct.deadline);
+      }
+      if (struct.isSetJobTasks()) {
+        oprot.writeI32(struct.jobTasks);
+      }
+      if (struct.isSetUnlaunchedJobTasks()) {
+        oprot.writeI32(struct.unlaunchedJobTasks);
+      }
+      if (struct.isSetExpectedTaskDurationMs()) {
+        oprot.writeI64(struct.expectedTaskDurationMs);
+      }
+      if (struct.isSetGangHoldMs()) {
+        oprot.writeI64(struct.gangHoldMs);
+      }
+      if (struct.isSetSchedulerEpoch()) {
+        oprot.writeI64(struct.schedulerEpoch);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TEnqueueTaskReservationsRequest struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(6);
+      BitSet incoming = iprot.readBitSet(13);
       if (incoming.get(0)) {
         struct.appId = iprot.readString();
         struct.setAppIdIsSet(true);
@@ -879,6 +1517,34 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         struct.numTasks = iprot.readI32();
         struct.setNumTasksIsSet(true);
       }
+      if (incoming.get(6)) {
+        struct.priority = iprot.readI32();
+        struct.setPriorityIsSet(true);
+      }
+      if (incoming.get(7)) {
+        struct.deadline = iprot.readI64();
+        struct.setDeadlineIsSet(true);
+      }
+      if (incoming.get(8)) {
+        struct.jobTasks = iprot.readI32();
+        struct.setJobTasksIsSet(true);
+      }
+      if (incoming.get(9)) {
+        struct.unlaunchedJobTasks = iprot.readI32();
+        struct.setUnlaunchedJobTasksIsSet(true);
+      }
+      if (incoming.get(10)) {
+        struct.expectedTaskDurationMs = iprot.readI64();
+        struct.setExpectedTaskDurationMsIsSet(true);
+      }
+      if (incoming.get(11)) {
+        struct.gangHoldMs = iprot.readI64();
+        struct.setGangHoldMsIsSet(true);
+      }
+      if (incoming.get(12)) {
+        struct.schedulerEpoch = iprot.readI64();
+        struct.setSchedulerEpochIsSet(true);
+      }
     }
   }
 
@@ -34,6 +34,7 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
   private static final org.apache.thrift.protocol.TField APP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("appId", org.apache.thrift.protocol.TType.STRING, (short)3);
   private static final org.apache.thrift.protocol.TField SCHEDULER_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerAddress", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+  private static final org.apache.thrift.protocol.TField REPORT_COMPLETION_FIELD_DESC = new org.apache.thrift.protocol.TField("reportCompletion", org.apache.thrift.protocol.TType.BOOL, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,13 +46,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   public String requestId; // required
   public String appId; // required
   public THostPort schedulerAddress; // required
+  public boolean reportCompletion; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     TASK_ID((short)1, "taskId"),
     REQUEST_ID((short)2, "requestId"),
     APP_ID((short)3, "appId"),
-    SCHEDULER_ADDRESS((short)4, "schedulerAddress");
+    SCHEDULER_ADDRESS((short)4, "schedulerAddress"),
+    REPORT_COMPLETION((short)5, "reportCompletion");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -74,6 +77,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
           return APP_ID;
         case 4: // SCHEDULER_ADDRESS
           return SCHEDULER_ADDRESS;
+        case 5: // REPORT_COMPLETION
+          return REPORT_COMPLETION;
         default:
           return null;
       }
@@ -114,6 +119,9 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   }
 
   // isset id assignments
+  private static final int __REPORTCOMPLETION_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  private _Fields optionals[] = {_Fields.REPORT_COMPLETION};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -125,6 +133,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.SCHEDULER_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("schedulerAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, THostPort.class)));
+    tmpMap.put(_Fields.REPORT_COMPLETION, new org.apache.thrift.meta_data.FieldMetaData("reportCompletion", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TFullTaskId.class, metaDataMap);
   }
@@ -149,6 +159,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
    * Performs a deep copy on <i>other</i>.
    */
   public TFullTaskId(TFullTaskId other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
     if (other.isSetTaskId()) {
       this.taskId = other.taskId;
     }
@@ -161,6 +173,7 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     if (other.isSetSchedulerAddress()) {
       this.schedulerAddress = new THostPort(other.schedulerAddress);
     }
+    this.reportCompletion = other.reportCompletion;
   }
 
   public TFullTaskId deepCopy() {
@@ -172,6 +185,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     this.requestId = null;
     this.appId = null;
     this.schedulerAddress = null;
+    setReportCompletionIsSet(false);
+    this.reportCompletion = false;
   }
 
   public String getTaskId() {
@@ -270,6 +285,29 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     }
   }
 
+  public boolean isReportCompletion() {
+    return this.reportCompletion;
+  }
+
+  public TFullTaskId setReportCompletion(boolean reportCompletion) {
+    this.reportCompletion = reportCompletion;
+    setReportCompletionIsSet(true);
+    return this;
+  }
+
+  public void unsetReportCompletion() {
+    __isset_bit_vector.clear(__REPORTCOMPLETION_ISSET_ID);
+  }
+
+  /** Returns true if field reportCompletion is set (has been assigned a value) and false otherwise */
+  public boolean isSetReportCompletion() {
+    return __isset_bit_vector.get(__REPORTCOMPLETION_ISSET_ID);
+  }
+
+  public void setReportCompletionIsSet(boolean value) {
+    __isset_bit_vector.set(__REPORTCOMPLETION_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TASK_ID:
@@ -304,6 +342,14 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       }
       break;
 
+    case REPORT_COMPLETION:
+      if (value == null) {
+        unsetReportCompletion();
+      } else {
+        setReportCompletion((Boolean)value);
+      }
+      break;
+
     }
   }
 
@@ -321,6 +367,9 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     case SCHEDULER_ADDRESS:
       return getSchedulerAddress();
 
+    case REPORT_COMPLETION:
+      return Boolean.valueOf(isReportCompletion());
+
     }
     throw new IllegalStateException();
   }
@@ -340,6 +389,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       return isSetAppId();
     case SCHEDULER_ADDRESS:
       return isSetSchedulerAddress();
+    case REPORT_COMPLETION:
+      return isSetReportCompletion();
     }
     throw new IllegalStateException();
   }
@@ -393,6 +444,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         return false;
     }
 
+    boolean this_present_reportCompletion = true && this.isSetReportCompletion();
+    boolean that_present_reportCompletion = true && that.isSetReportCompletion();
+    if (this_present_reportCompletion || that_present_reportCompletion) {
+      if (!(this_present_reportCompletion && that_present_reportCompletion))
+        return false;
+      if (this.reportCompletion != that.reportCompletion)
+        return false;
+    }
+
     return true;
   }
 
@@ -449,6 +509,16 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetReportCompletion()).compareTo(typedOther.isSetReportCompletion());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReportCompletion()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.reportCompletion, typedOther.reportCompletion);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -500,6 +570,12 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       sb.append(this.schedulerAddress);
     }
     first = false;
+    if (isSetReportCompletion()) {
+      if (!first) sb.append(", ");
+      sb.append("reportCompletion:");
+      sb.append(this.reportCompletion);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -518,6 +594,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te.getMessage());
@@ -575,6 +653,14 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // REPORT_COMPLETION
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.reportCompletion = iprot.readBool();
+              struct.setReportCompletionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -610,6 +696,11 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         struct.schedulerAddress.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetReportCompletion()) {
+        oprot.writeFieldBegin(REPORT_COMPLETION_FIELD_DESC);
+        oprot.writeBool(struct.reportCompletion);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -640,7 +731,10 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       if (struct.isSetSchedulerAddress()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetReportCompletion()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetTaskId()) {
         oprot.writeString(struct.taskId);
       }
@@ -653,12 +747,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       if (struct.isSetSchedulerAddress()) {
         struct.schedulerAddress.write(oprot);
       }
+      if (struct.isSetReportCompletion()) {
+        oprot.writeBool(struct.reportCompletion);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TFullTaskId struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(4);
+      BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         struct.taskId = iprot.readString();
         struct.setTaskIdIsSet(true);
@@ -676,6 +773,10 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         struct.schedulerAddress.read(iprot);
         struct.setSchedulerAddressIsSet(true);
       }
+      if (incoming.get(4)) {
+        struct.reportCompletion = iprot.readBool();
+        struct.setReportCompletionIsSet(true);
+      }
     }
   }
 
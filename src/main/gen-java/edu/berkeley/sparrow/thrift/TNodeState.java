@@ -32,6 +32,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
 
   private static final org.apache.thrift.protocol.TField SPARROW_USAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("sparrowUsage", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField EXTERNAL_USAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("externalUsage", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+  private static final org.apache.thrift.protocol.TField RACK_FIELD_DESC = new org.apache.thrift.protocol.TField("rack", org.apache.thrift.protocol.TType.STRING, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -41,11 +42,13 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
 
   public TResourceVector sparrowUsage; // required
   public TResourceVector externalUsage; // required
+  public String rack; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     SPARROW_USAGE((short)1, "sparrowUsage"),
-    EXTERNAL_USAGE((short)2, "externalUsage");
+    EXTERNAL_USAGE((short)2, "externalUsage"),
+    RACK((short)3, "rack");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -64,6 +67,8 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
           return SPARROW_USAGE;
         case 2: // EXTERNAL_USAGE
           return EXTERNAL_USAGE;
+        case 3: // RACK
+          return RACK;
         default:
           return null;
       }
@@ -104,6 +109,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
   }
 
   // isset id assignments
+  private _Fields optionals[] = {_Fields.RACK};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -111,6 +117,8 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
     tmpMap.put(_Fields.EXTERNAL_USAGE, new org.apache.thrift.meta_data.FieldMetaData("externalUsage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
+    tmpMap.put(_Fields.RACK, new org.apache.thrift.meta_data.FieldMetaData("rack", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TNodeState.class, metaDataMap);
   }
@@ -137,6 +145,9 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     if (other.isSetExternalUsage()) {
       this.externalUsage = new TResourceVector(other.externalUsage);
     }
+    if (other.isSetRack()) {
+      this.rack = other.rack;
+    }
   }
 
   public TNodeState deepCopy() {
@@ -146,6 +157,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
   public void clear() {
     this.sparrowUsage = null;
     this.externalUsage = null;
+    this.rack = null;
   }
 
   public TResourceVector getSparrowUsage() {
@@ -196,6 +208,30 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     }
   }
 
+  public String getRack() {
+    return this.rack;
+  }
+
+  public TNodeState setRack(String rack) {
+    this.rack = rack;
+    return this;
+  }
+
+  public void unsetRack() {
+    this.rack = null;
+  }
+
+  /** Returns true if field rack is set (has been assigned a value) and false otherwise */
+  public boolean isSetRack() {
+    return this.rack != null;
+  }
+
+  public void setRackIsSet(boolean value) {
+    if (!value) {
+      this.rack = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case SPARROW_USAGE:
@@ -214,6 +250,14 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       }
       break;
 
+    case RACK:
+      if (value == null) {
+        unsetRack();
+      } else {
+        setRack((String)value);
+      }
+      break;
+
     }
   }
 
@@ -225,6 +269,9 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     case EXTERNAL_USAGE:
       return getExternalUsage();
 
+    case RACK:
+      return getRack();
+
     }
     throw new IllegalStateException();
   }
@@ -240,6 +287,8 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       return isSetSparrowUsage();
     case EXTERNAL_USAGE:
       return isSetExternalUsage();
+    case RACK:
+      return isSetRack();
     }
     throw new IllegalStateException();
   }
@@ -275,6 +324,15 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         return false;
     }
 
+    boolean this_present_rack = true && this.isSetRack();
+    boolean that_present_rack = true && that.isSetRack();
+    if (this_present_rack || that_present_rack) {
+      if (!(this_present_rack && that_present_rack))
+        return false;
+      if (!this.rack.equals(that.rack))
+        return false;
+    }
+
     return true;
   }
 
@@ -311,6 +369,16 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetRack()).compareTo(typedOther.isSetRack());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetRack()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rack, typedOther.rack);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -346,6 +414,16 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       sb.append(this.externalUsage);
     }
     first = false;
+    if (isSetRack()) {
+      if (!first) sb.append(", ");
+      sb.append("rack:");
+      if (this.rack == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rack);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -406,6 +484,14 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // RACK
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.rack = iprot.readString();
+              struct.setRackIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -431,6 +517,13 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         struct.externalUsage.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.rack != null) {
+        if (struct.isSetRack()) {
+          oprot.writeFieldBegin(RACK_FIELD_DESC);
+          oprot.writeString(struct.rack);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -455,19 +548,25 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       if (struct.isSetExternalUsage()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetRack()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetSparrowUsage()) {
         struct.sparrowUsage.write(oprot);
       }
       if (struct.isSetExternalUsage()) {
         struct.externalUsage.write(oprot);
       }
+      if (struct.isSetRack()) {
+        oprot.writeString(struct.rack);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TNodeState struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.sparrowUsage = new TResourceVector();
         struct.sparrowUsage.read(iprot);
@@ -478,6 +577,10 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         struct.externalUsage.read(iprot);
         struct.setExternalUsageIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.rack = iprot.readString();
+        struct.setRackIsSet(true);
+      }
     }
   }
 
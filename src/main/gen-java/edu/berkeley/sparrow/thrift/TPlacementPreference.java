@@ -33,6 +33,8 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
   private static final org.apache.thrift.protocol.TField NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("nodes", org.apache.thrift.protocol.TType.LIST, (short)1);
   private static final org.apache.thrift.protocol.TField RACKS_FIELD_DESC = new org.apache.thrift.protocol.TField("racks", org.apache.thrift.protocol.TType.LIST, (short)2);
   private static final org.apache.thrift.protocol.TField DELAY_THRESHOLD_FIELD_DESC = new org.apache.thrift.protocol.TField("delayThreshold", org.apache.thrift.protocol.TType.I32, (short)3);
+  private static final org.apache.thrift.protocol.TField AVOID_NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("avoidNodes", org.apache.thrift.protocol.TType.LIST, (short)4);
+  private static final org.apache.thrift.protocol.TField AVOID_JOB_FIELD_DESC = new org.apache.thrift.protocol.TField("avoidJob", org.apache.thrift.protocol.TType.STRING, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -43,12 +45,16 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
   public List<String> nodes; // required
   public List<String> racks; // required
   public int delayThreshold; // required
+  public List<String> avoidNodes; // optional
+  public String avoidJob; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     NODES((short)1, "nodes"),
     RACKS((short)2, "racks"),
-    DELAY_THRESHOLD((short)3, "delayThreshold");
+    DELAY_THRESHOLD((short)3, "delayThreshold"),
+    AVOID_NODES((short)4, "avoidNodes"),
+    AVOID_JOB((short)5, "avoidJob");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -69,6 +75,10 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
           return RACKS;
         case 3: // DELAY_THRESHOLD
           return DELAY_THRESHOLD;
+        case 4: // AVOID_NODES
+          return AVOID_NODES;
+        case 5: // AVOID_JOB
+          return AVOID_JOB;
         default:
           return null;
       }
@@ -111,6 +121,7 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
   // isset id assignments
   private static final int __DELAYTHRESHOLD_ISSET_ID = 0;
   private BitSet __isset_bit_vector = new BitSet(1);
+  private _Fields optionals[] = {_Fields.AVOID_NODES,_Fields.AVOID_JOB};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -122,6 +133,11 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
     tmpMap.put(_Fields.DELAY_THRESHOLD, new org.apache.thrift.meta_data.FieldMetaData("delayThreshold", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.AVOID_NODES, new org.apache.thrift.meta_data.FieldMetaData("avoidNodes", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.AVOID_JOB, new org.apache.thrift.meta_data.FieldMetaData("avoidJob", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TPlacementPreference.class, metaDataMap);
   }
@@ -162,6 +178,16 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
       this.racks = __this__racks;
     }
     this.delayThreshold = other.delayThreshold;
+    if (other.isSetAvoidNodes()) {
+      List<String> __this__avoidNodes = new ArrayList<String>();
+      for (String other_element : other.avoidNodes) {
+        __this__avoidNodes.add(other_element);
+      }
+      this.avoidNodes = __this__avoidNodes;
+    }
+    if (other.isSetAvoidJob()) {
+      this.avoidJob = other.avoidJob;
+    }
   }
 
   public TPlacementPreference deepCopy() {
@@ -173,6 +199,8 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
     this.racks = null;
     setDelayThresholdIsSet(false);
     this.delayThreshold = 0;
+    this.avoidNodes = null;
+    this.avoidJob = null;
   }
 
   public int getNodesSize() {
@@ -276,6 +304,69 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
     __isset_bit_vector.set(__DELAYTHRESHOLD_ISSET_ID, value);
   }
 
+  public int getAvoidNodesSize() {
+    return (this.avoidNodes == null) ? 0 : this.avoidNodes.size();
+  }
+
+  public java.util.Iterator<String> getAvoidNodesIterator() {
+    return (this.avoidNodes == null) ? null : this.avoidNodes.iterator();
+  }
+
+  public void addToAvoidNodes(String elem) {
+    if (this.avoidNodes == null) {
+      this.avoidNodes = new ArrayList<String>();
+    }
+    this.avoidNodes.add(elem);
+  }
+
+  public List<String> getAvoidNodes() {
+    return this.avoidNodes;
+  }
+
+  public TPlacementPreference setAvoidNodes(List<String> avoidNodes) {
+    this.avoidNodes = avoidNodes;
+    return this;
+  }
+
+  public void unsetAvoidNodes() {
+    this.avoidNodes = null;
+  }
+
+  /** Returns true if field avoidNodes is set (has been assigned a value) and false otherwise */
+  public boolean isSetAvoidNodes() {
+    return this.avoidNodes != null;
+  }
+
+  public void setAvoidNodesIsSet(boolean value) {
+    if (!value) {
+      this.avoidNodes = null;
+    }
+  }
+
+  public String getAvoidJob() {
+    return this.avoidJob;
+  }
+
+  public TPlacementPreference setAvoidJob(String avoidJob) {
+    this.avoidJob = avoidJob;
+    return this;
+  }
+
+  public void unsetAvoidJob() {
+    this.avoidJob = null;
+  }
+
+  /** Returns true if field avoidJob is set (has been assigned a value) and false otherwise */
+  public boolean isSetAvoidJob() {
+    return this.avoidJob != null;
+  }
+
+  public void setAvoidJobIsSet(boolean value) {
+    if (!value) {
+      this.avoidJob = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case NODES:
@@ -302,6 +393,22 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
       }
       break;
 
+    case AVOID_NODES:
+      if (value == null) {
+        unsetAvoidNodes();
+      } else {
+        setAvoidNodes((List<String>)value);
+      }
+      break;
+
+    case AVOID_JOB:
+      if (value == null) {
+        unsetAvoidJob();
+      } else {
+        setAvoidJob((String)value);
+      }
+      break;
+
     }
   }
 
@@ -316,6 +423,12 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
     case DELAY_THRESHOLD:
       return Integer.valueOf(getDelayThreshold());
 
+    case AVOID_NODES:
+      return getAvoidNodes();
+
+    case AVOID_JOB:
+      return getAvoidJob();
+
     }
     throw new IllegalStateException();
   }
@@ -333,6 +446,10 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
       return isSetRacks();
     case DELAY_THRESHOLD:
       return isSetDelayThreshold();
+    case AVOID_NODES:
+      return isSetAvoidNodes();
+    case AVOID_JOB:
+      return isSetAvoidJob();
     }
     throw new IllegalStateException();
   }
@@ -377,6 +494,24 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
         return false;
     }
 
+    boolean this_present_avoidNodes = true && this.isSetAvoidNodes();
+    boolean that_present_avoidNodes = true && that.isSetAvoidNodes();
+    if (this_present_avoidNodes || that_present_avoidNodes) {
+      if (!(this_present_avoidNodes && that_present_avoidNodes))
+        return false;
+      if (!this.avoidNodes.equals(that.avoidNodes))
+        return false;
+    }
+
+    boolean this_present_avoidJob = true && this.isSetAvoidJob();
+    boolean that_present_avoidJob = true && that.isSetAvoidJob();
+    if (this_present_avoidJob || that_present_avoidJob) {
+      if (!(this_present_avoidJob && that_present_avoidJob))
+        return false;
+      if (!this.avoidJob.equals(that.avoidJob))
+        return false;
+    }
+
     return true;
   }
 
@@ -423,6 +558,26 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetAvoidNodes()).compareTo(typedOther.isSetAvoidNodes());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetAvoidNodes()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.avoidNodes, typedOther.avoidNodes);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetAvoidJob()).compareTo(typedOther.isSetAvoidJob());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetAvoidJob()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.avoidJob, typedOther.avoidJob);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -462,6 +617,26 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
     sb.append("delayThreshold:");
     sb.append(this.delayThreshold);
     first = false;
+    if (isSetAvoidNodes()) {
+      if (!first) sb.append(", ");
+      sb.append("avoidNodes:");
+      if (this.avoidNodes == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.avoidNodes);
+      }
+      first = false;
+    }
+    if (isSetAvoidJob()) {
+      if (!first) sb.append(", ");
+      sb.append("avoidJob:");
+      if (this.avoidJob == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.avoidJob);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -550,6 +725,32 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // AVOID_NODES
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list6 = iprot.readListBegin();
+                struct.avoidNodes = new ArrayList<String>(_list6.size);
+                for (int _i7 = 0; _i7 < _list6.size; ++_i7)
+                {
+                  String _elem8; // required
+                  _elem8 = iprot.readString();
+                  struct.avoidNodes.add(_elem8);
+                }
+                iprot.readListEnd();
+              }
+              struct.setAvoidNodesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // AVOID_JOB
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.avoidJob = iprot.readString();
+              struct.setAvoidJobIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -569,9 +770,9 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
         oprot.writeFieldBegin(NODES_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.nodes.size()));
-          for (String _iter6 : struct.nodes)
+          for (String _iter9 : struct.nodes)
           {
-            oprot.writeString(_iter6);
+            oprot.writeString(_iter9);
           }
           oprot.writeListEnd();
         }
@@ -581,9 +782,9 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
         oprot.writeFieldBegin(RACKS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.racks.size()));
-          for (String _iter7 : struct.racks)
+          for (String _iter10 : struct.racks)
           {
-            oprot.writeString(_iter7);
+            oprot.writeString(_iter10);
           }
           oprot.writeListEnd();
         }
@@ -592,6 +793,27 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
       oprot.writeFieldBegin(DELAY_THRESHOLD_FIELD_DESC);
       oprot.writeI32(struct.delayThreshold);
       oprot.writeFieldEnd();
+      if (struct.avoidNodes != null) {
+        if (struct.isSetAvoidNodes()) {
+          oprot.writeFieldBegin(AVOID_NODES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.avoidNodes.size()));
+            for (String _iter11 : struct.avoidNodes)
+            {
+              oprot.writeString(_iter11);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.avoidJob != null) {
+        if (struct.isSetAvoidJob()) {
+          oprot.writeFieldBegin(AVOID_JOB_FIELD_DESC);
+          oprot.writeString(struct.avoidJob);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -619,56 +841,74 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
       if (struct.isSetDelayThreshold()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetAvoidNodes()) {
+        optionals.set(3);
+      }
+      if (struct.isSetAvoidJob()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetNodes()) {
         {
           oprot.writeI32(struct.nodes.size());
-          for (String _iter8 : struct.nodes)
+          for (String _iter12 : struct.nodes)
           {
-            oprot.writeString(_iter8);
+            oprot.writeString(_iter12);
           }
         }
       }
       if (struct.isSetRacks()) {
         {
           oprot.writeI32(struct.racks.size());
-          for (String _iter9 : struct.racks)
+          for (String _iter13 : struct.racks)
           {
-            oprot.writeString(_iter9);
+            oprot.writeString(_iter13);
           }
         }
       }
       if (struct.isSetDelayThreshold()) {
         oprot.writeI32(struct.delayThreshold);
       }
+      if (struct.isSetAvoidNodes()) {
+        {
+          oprot.writeI32(struct.avoidNodes.size());
+          for (String _iter14 : struct.avoidNodes)
+          {
+            oprot.writeString(_iter14);
+          }
+        }
+      }
+      if (struct.isSetAvoidJob()) {
+        oprot.writeString(struct.avoidJob);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TPlacementPreference struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(3);
+      BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TList _list10 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.nodes = new ArrayList<String>(_list10.size);
-          for (int _i11 = 0; _i11 < _list10.size; ++_i11)
+          org.apache.thrift.protocol.TList _list15 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.nodes = new ArrayList<String>(_list15.size);
+          for (int _i16 = 0; _i16 < _list15.size; ++_i16)
           {
-            String _elem12; // required
-            _elem12 = iprot.readString();
-            struct.nodes.add(_elem12);
+            String _elem17; // required
+            _elem17 = iprot.readString();
+            struct.nodes.add(_elem17);
           }
         }
         struct.setNodesIsSet(true);
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.racks = new ArrayList<String>(_list13.size);
-          for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+          org.apache.thrift.protocol.TList _list18 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.racks = new ArrayList<String>(_list18.size);
+          for (int _i19 = 0; _i19 < _list18.size; ++_i19)
           {
-            String _elem15; // required
-            _elem15 = iprot.readString();
-            struct.racks.add(_elem15);
+            String _elem20; // required
+            _elem20 = iprot.readString();
+            struct.racks.add(_elem20);
           }
         }
         struct.setRacksIsSet(true);
@@ -677,6 +917,23 @@ public class TPlacementPreference implements org.apache.thrift.TBase<TPlacementP
         struct.delayThreshold = iprot.readI32();
         struct.setDelayThresholdIsSet(true);
       }
+      if (incoming.get(3)) {
+        {
+          org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.avoidNodes = new ArrayList<String>(_list21.size);
+          for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+          {
+            String _elem23; // required
+            _elem23 = iprot.readString();
+            struct.avoidNodes.add(_elem23);
+          }
+        }
+        struct.setAvoidNodesIsSet(true);
+      }
+      if (incoming.get(4)) {
+        struct.avoidJob = iprot.readString();
+        struct.setAvoidJobIsSet(true);
+      }
     }
   }
 
@@ -32,6 +32,8 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
 
   private static final org.apache.thrift.protocol.TField MEMORY_FIELD_DESC = new org.apache.thrift.protocol.TField("memory", org.apache.thrift.protocol.TType.I64, (short)1);
   private static final org.apache.thrift.protocol.TField CORES_FIELD_DESC = new org.apache.thrift.protocol.TField("cores", org.apache.thrift.protocol.TType.I32, (short)2);
+  private static final org.apache.thrift.protocol.TField DISK_FIELD_DESC = new org.apache.thrift.protocol.TField("disk", org.apache.thrift.protocol.TType.I64, (short)3);
+  private static final org.apache.thrift.protocol.TField NETWORK_FIELD_DESC = new org.apache.thrift.protocol.TField("network", org.apache.thrift.protocol.TType.I64, (short)4);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -41,11 +43,15 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
 
   public long memory; // required
   public int cores; // required
+  public long disk; // optional
+  public long network; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     MEMORY((short)1, "memory"),
-    CORES((short)2, "cores");
+    CORES((short)2, "cores"),
+    DISK((short)3, "disk"),
+    NETWORK((short)4, "network");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -64,6 +70,10 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
           return MEMORY;
         case 2: // CORES
           return CORES;
+        case 3: // DISK
+          return DISK;
+        case 4: // NETWORK
+          return NETWORK;
         default:
           return null;
       }
@@ -106,7 +116,10 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
   // isset id assignments
   private static final int __MEMORY_ISSET_ID = 0;
   private static final int __CORES_ISSET_ID = 1;
-  private BitSet __isset_bit_vector = new BitSet(2);
+  private static final int __DISK_ISSET_ID = 2;
+  private static final int __NETWORK_ISSET_ID = 3;
+  private BitSet __isset_bit_vector = new BitSet(4);
+  private _Fields optionals[] = {_Fields.DISK,_Fields.NETWORK};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -114,6 +127,10 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     tmpMap.put(_Fields.CORES, new org.apache.thrift.meta_data.FieldMetaData("cores", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.DISK, new org.apache.thrift.meta_data.FieldMetaData("disk", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.NETWORK, new org.apache.thrift.meta_data.FieldMetaData("network", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TResourceVector.class, metaDataMap);
   }
@@ -140,6 +157,8 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
     __isset_bit_vector.or(other.__isset_bit_vector);
     this.memory = other.memory;
     this.cores = other.cores;
+    this.disk = other.disk;
+    this.network = other.network;
   }
 
   public TResourceVector deepCopy() {
@@ -151,6 +170,10 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
     this.memory = 0;
     setCoresIsSet(false);
     this.cores = 0;
+    setDiskIsSet(false);
+    this.disk = 0;
+    setNetworkIsSet(false);
+    this.network = 0;
   }
 
   public long getMemory() {
@@ -199,6 +222,52 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
     __isset_bit_vector.set(__CORES_ISSET_ID, value);
   }
 
+  public long getDisk() {
+    return this.disk;
+  }
+
+  public TResourceVector setDisk(long disk) {
+    this.disk = disk;
+    setDiskIsSet(true);
+    return this;
+  }
+
+  public void unsetDisk() {
+    __isset_bit_vector.clear(__DISK_ISSET_ID);
+  }
+
+  /** Returns true if field disk is set (has been assigned a value) and false otherwise */
+  public boolean isSetDisk() {
+    return __isset_bit_vector.get(__DISK_ISSET_ID);
+  }
+
+  public void setDiskIsSet(boolean value) {
+    __isset_bit_vector.set(__DISK_ISSET_ID, value);
+  }
+
+  public long getNetwork() {
+    return this.network;
+  }
+
+  public TResourceVector setNetwork(long network) {
+    this.network = network;
+    setNetworkIsSet(true);
+    return this;
+  }
+
+  public void unsetNetwork() {
+    __isset_bit_vector.clear(__NETWORK_ISSET_ID);
+  }
+
+  /** Returns true if field network is set (has been assigned a value) and false otherwise */
+  public boolean isSetNetwork() {
+    return __isset_bit_vector.get(__NETWORK_ISSET_ID);
+  }
+
+  public void setNetworkIsSet(boolean value) {
+    __isset_bit_vector.set(__NETWORK_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case MEMORY:
@@ -217,6 +286,22 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
       }
       break;
 
+    case DISK:
+      if (value == null) {
+        unsetDisk();
+      } else {
+        setDisk((Long)value);
+      }
+      break;
+
+    case NETWORK:
+      if (value == null) {
+        unsetNetwork();
+      } else {
+        setNetwork((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -228,6 +313,12 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
     case CORES:
       return Integer.valueOf(getCores());
 
+    case DISK:
+      return Long.valueOf(getDisk());
+
+    case NETWORK:
+      return Long.valueOf(getNetwork());
+
     }
     throw new IllegalStateException();
   }
@@ -243,6 +334,10 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
       return isSetMemory();
     case CORES:
       return isSetCores();
+    case DISK:
+      return isSetDisk();
+    case NETWORK:
+      return isSetNetwork();
     }
     throw new IllegalStateException();
   }
@@ -278,6 +373,24 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
         return false;
     }
 
+    boolean this_present_disk = true && this.isSetDisk();
+    boolean that_present_disk = true && that.isSetDisk();
+    if (this_present_disk || that_present_disk) {
+      if (!(this_present_disk && that_present_disk))
+        return false;
+      if (this.disk != that.disk)
+        return false;
+    }
+
+    boolean this_present_network = true && this.isSetNetwork();
+    boolean that_present_network = true && that.isSetNetwork();
+    if (this_present_network || that_present_network) {
+      if (!(this_present_network && that_present_network))
+        return false;
+      if (this.network != that.network)
+        return false;
+    }
+
     return true;
   }
 
@@ -314,6 +427,26 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetDisk()).compareTo(typedOther.isSetDisk());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDisk()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.disk, typedOther.disk);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetNetwork()).compareTo(typedOther.isSetNetwork());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetNetwork()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.network, typedOther.network);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -341,6 +474,18 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
     sb.append("cores:");
     sb.append(this.cores);
     first = false;
+    if (isSetDisk()) {
+      if (!first) sb.append(", ");
+      sb.append("disk:");
+      sb.append(this.disk);
+      first = false;
+    }
+    if (isSetNetwork()) {
+      if (!first) sb.append(", ");
+      sb.append("network:");
+      sb.append(this.network);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -401,6 +546,22 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // DISK
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.disk = iprot.readI64();
+              struct.setDiskIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // NETWORK
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.network = iprot.readI64();
+              struct.setNetworkIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -422,6 +583,16 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
       oprot.writeFieldBegin(CORES_FIELD_DESC);
       oprot.writeI32(struct.cores);
       oprot.writeFieldEnd();
+      if (struct.isSetDisk()) {
+        oprot.writeFieldBegin(DISK_FIELD_DESC);
+        oprot.writeI64(struct.disk);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetNetwork()) {
+        oprot.writeFieldBegin(NETWORK_FIELD_DESC);
+        oprot.writeI64(struct.network);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -446,19 +617,31 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
       if (struct.isSetCores()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetDisk()) {
+        optionals.set(2);
+      }
+      if (struct.isSetNetwork()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
       if (struct.isSetMemory()) {
         oprot.writeI64(struct.memory);
       }
       if (struct.isSetCores()) {
         oprot.writeI32(struct.cores);
       }
+      if (struct.isSetDisk()) {
+        oprot.writeI64(struct.disk);
+      }
+      if (struct.isSetNetwork()) {
+        oprot.writeI64(struct.network);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TResourceVector struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(4);
       if (incoming.get(0)) {
         struct.memory = iprot.readI64();
         struct.setMemoryIsSet(true);
@@ -467,6 +650,14 @@ public class TResourceVector implements org.apache.thrift.TBase<TResourceVector,
         struct.cores = iprot.readI32();
         struct.setCoresIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.disk = iprot.readI64();
+        struct.setDiskIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.network = iprot.readI64();
+        struct.setNetworkIsSet(true);
+      }
     }
   }
 
@@ -34,6 +34,10 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
   private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)2);
   private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)3);
   private static final org.apache.thrift.protocol.TField PROBE_RATIO_FIELD_DESC = new org.apache.thrift.protocol.TField("probeRatio", org.apache.thrift.protocol.TType.DOUBLE, (short)4);
+  private static final org.apache.thrift.protocol.TField PRIORITY_FIELD_DESC = new org.apache.thrift.protocol.TField("priority", org.apache.thrift.protocol.TType.I32, (short)5);
+  private static final org.apache.thrift.protocol.TField DEADLINE_FIELD_DESC = new org.apache.thrift.protocol.TField("deadline", org.apache.thrift.protocol.TType.I64, (short)6);
+  private static final org.apache.thrift.protocol.TField JOB_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("jobName", org.apache.thrift.protocol.TType.STRING, (short)7);
+  private static final org.apache.thrift.protocol.TField GANG_FIELD_DESC = new org.apache.thrift.protocol.TField("gang", org.apache.thrift.protocol.TType.BOOL, (short)8);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,13 +49,21 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
   public List<TTaskSpec> tasks; // required
   public TUserGroupInfo user; // required
   public double probeRatio; // optional
+  public int priority; // optional
+  public long deadline; // optional
+  public String jobName; // optional
+  public boolean gang; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     APP((short)1, "app"),
     TASKS((short)2, "tasks"),
     USER((short)3, "user"),
-    PROBE_RATIO((short)4, "probeRatio");
+    PROBE_RATIO((short)4, "probeRatio"),
+    PRIORITY((short)5, "priority"),
+    DEADLINE((short)6, "deadline"),
+    JOB_NAME((short)7, "jobName"),
+    GANG((short)8, "gang");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -74,6 +86,14 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
           return USER;
         case 4: // PROBE_RATIO
           return PROBE_RATIO;
+        case 5: // PRIORITY
+          return PRIORITY;
+        case 6: // DEADLINE
+          return DEADLINE;
+        case 7: // JOB_NAME
+          return JOB_NAME;
+        case 8: // GANG
+          return GANG;
         default:
           return null;
       }
@@ -115,8 +135,11 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
 
   // isset id assignments
   private static final int __PROBERATIO_ISSET_ID = 0;
-  private BitSet __isset_bit_vector = new BitSet(1);
-  private _Fields optionals[] = {_Fields.PROBE_RATIO};
+  private static final int __PRIORITY_ISSET_ID = 1;
+  private static final int __DEADLINE_ISSET_ID = 2;
+  private static final int __GANG_ISSET_ID = 3;
+  private BitSet __isset_bit_vector = new BitSet(4);
+  private _Fields optionals[] = {_Fields.PROBE_RATIO,_Fields.PRIORITY,_Fields.DEADLINE,_Fields.JOB_NAME,_Fields.GANG};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -129,6 +152,14 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TUserGroupInfo.class)));
     tmpMap.put(_Fields.PROBE_RATIO, new org.apache.thrift.meta_data.FieldMetaData("probeRatio", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.PRIORITY, new org.apache.thrift.meta_data.FieldMetaData("priority", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.DEADLINE, new org.apache.thrift.meta_data.FieldMetaData("deadline", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.JOB_NAME, new org.apache.thrift.meta_data.FieldMetaData("jobName", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.GANG, new org.apache.thrift.meta_data.FieldMetaData("gang", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TSchedulingRequest.class, metaDataMap);
   }
@@ -167,6 +198,12 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       this.user = new TUserGroupInfo(other.user);
     }
     this.probeRatio = other.probeRatio;
+    this.priority = other.priority;
+    this.deadline = other.deadline;
+    if (other.isSetJobName()) {
+      this.jobName = other.jobName;
+    }
+    this.gang = other.gang;
   }
 
   public TSchedulingRequest deepCopy() {
@@ -179,6 +216,13 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     this.user = null;
     setProbeRatioIsSet(false);
     this.probeRatio = 0.0;
+    setPriorityIsSet(false);
+    this.priority = 0;
+    setDeadlineIsSet(false);
+    this.deadline = 0;
+    this.jobName = null;
+    setGangIsSet(false);
+    this.gang = false;
   }
 
   public String getApp() {
@@ -291,6 +335,99 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     __isset_bit_vector.set(__PROBERATIO_ISSET_ID, value);
   }
 
+  public int getPriority() {
+    return this.priority;
+  }
+
+  public TSchedulingRequest setPriority(int priority) {
+    this.priority = priority;
+    setPriorityIsSet(true);
+    return this;
+  }
+
+  public void unsetPriority() {
+    __isset_bit_vector.clear(__PRIORITY_ISSET_ID);
+  }
+
+  /** Returns true if field priority is set (has been assigned a value) and false otherwise */
+  public boolean isSetPriority() {
+    return __isset_bit_vector.get(__PRIORITY_ISSET_ID);
+  }
+
+  public void setPriorityIsSet(boolean value) {
+    __isset_bit_vector.set(__PRIORITY_ISSET_ID, value);
+  }
+
+  public long getDeadline() {
+    return this.deadline;
+  }
+
+  public TSchedulingRequest setDeadline(long deadline) {
+    this.deadline = deadline;
+    setDeadlineIsSet(true);
+    return this;
+  }
+
+  public void unsetDeadline() {
+    __isset_bit_vector.clear(__DEADLINE_ISSET_ID);
+  }
+
+  /** Returns true if field deadline is set (has been assigned a value) and false otherwise */
+  public boolean isSetDeadline() {
+    return __isset_bit_vector.get(__DEADLINE_ISSET_ID);
+  }
+
+  public void setDeadlineIsSet(boolean value) {
+    __isset_bit_vector.set(__DEADLINE_ISSET_ID, value);
+  }
+
+  public String getJobName() {
+    return this.jobName;
+  }
+
+  public TSchedulingRequest setJobName(String jobName) {
+    this.jobName = jobName;
+    return this;
+  }
+
+  public void unsetJobName() {
+    this.jobName = null;
+  }
+
+  /** Returns true if field jobName is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobName() {
+    return this.jobName != null;
+  }
+
+  public void setJobNameIsSet(boolean value) {
+    if (!value) {
+      this.jobName = null;
+    }
+  }
+
+  public boolean isGang() {
+    return this.gang;
+  }
+
+  public TSchedulingRequest setGang(boolean gang) {
+    this.gang = gang;
+    setGangIsSet(true);
+    return this;
+  }
+
+  public void unsetGang() {
+    __isset_bit_vector.clear(__GANG_ISSET_ID);
+  }
+
+  /** Returns true if field gang is set (has been assigned a value) and false otherwise */
+  public boolean isSetGang() {
+    return __isset_bit_vector.get(__GANG_ISSET_ID);
+  }
+
+  public void setGangIsSet(boolean value) {
+    __isset_bit_vector.set(__GANG_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case APP:
@@ -325,6 +462,38 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       }
       break;
 
+    case PRIORITY:
+      if (value == null) {
+        unsetPriority();
+      } else {
+        setPriority((Integer)value);
+      }
+      break;
+
+    case DEADLINE:
+      if (value == null) {
+        unsetDeadline();
+      } else {
+        setDeadline((Long)value);
+      }
+      break;
+
+    case JOB_NAME:
+      if (value == null) {
+        unsetJobName();
+      } else {
+        setJobName((String)value);
+      }
+      break;
+
+    case GANG:
+      if (value == null) {
+        unsetGang();
+      } else {
+        setGang((Boolean)value);
+      }
+      break;
+
     }
   }
 
@@ -342,6 +511,18 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     case PROBE_RATIO:
       return Double.valueOf(getProbeRatio());
 
+    case PRIORITY:
+      return Integer.valueOf(getPriority());
+
+    case DEADLINE:
+      return Long.valueOf(getDeadline());
+
+    case JOB_NAME:
+      return getJobName();
+
+    case GANG:
+      return Boolean.valueOf(isGang());
+
     }
     throw new IllegalStateException();
   }
@@ -361,6 +542,14 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       return isSetUser();
     case PROBE_RATIO:
       return isSetProbeRatio();
+    case PRIORITY:
+      return isSetPriority();
+    case DEADLINE:
+      return isSetDeadline();
+    case JOB_NAME:
+      return isSetJobName();
+    case GANG:
+      return isSetGang();
     }
     throw new IllegalStateException();
   }
@@ -414,6 +603,42 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         return false;
     }
 
+    boolean this_present_priority = true && this.isSetPriority();
+    boolean that_present_priority = true && that.isSetPriority();
+    if (this_present_priority || that_present_priority) {
+      if (!(this_present_priority && that_present_priority))
+        return false;
+      if (this.priority != that.priority)
+        return false;
+    }
+
+    boolean this_present_deadline = true && this.isSetDeadline();
+    boolean that_present_deadline = true && that.isSetDeadline();
+    if (this_present_deadline || that_present_deadline) {
+      if (!(this_present_deadline && that_present_deadline))
+        return false;
+      if (this.deadline != that.deadline)
+        return false;
+    }
+
+    boolean this_present_jobName = true && this.isSetJobName();
+    boolean that_present_jobName = true && that.isSetJobName();
+    if (this_present_jobName || that_present_jobName) {
+      if (!(this_present_jobName && that_present_jobName))
+        return false;
+      if (!this.jobName.equals(that.jobName))
+        return false;
+    }
+
+    boolean this_present_gang = true && this.isSetGang();
+    boolean that_present_gang = true && that.isSetGang();
+    if (this_present_gang || that_present_gang) {
+      if (!(this_present_gang && that_present_gang))
+        return false;
+      if (this.gang != that.gang)
+        return false;
+    }
+
     return true;
   }
 
@@ -470,6 +695,46 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetPriority()).compareTo(typedOther.isSetPriority());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPriority()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.priority, typedOther.priority);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetDeadline()).compareTo(typedOther.isSetDeadline());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDeadline()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.deadline, typedOther.deadline);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobName()).compareTo(typedOther.isSetJobName());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobName()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobName, typedOther.jobName);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetGang()).compareTo(typedOther.isSetGang());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetGang()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gang, typedOther.gang);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -519,6 +784,34 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       sb.append(this.probeRatio);
       first = false;
     }
+    if (isSetPriority()) {
+      if (!first) sb.append(", ");
+      sb.append("priority:");
+      sb.append(this.priority);
+      first = false;
+    }
+    if (isSetDeadline()) {
+      if (!first) sb.append(", ");
+      sb.append("deadline:");
+      sb.append(this.deadline);
+      first = false;
+    }
+    if (isSetJobName()) {
+      if (!first) sb.append(", ");
+      sb.append("jobName:");
+      if (this.jobName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobName);
+      }
+      first = false;
+    }
+    if (isSetGang()) {
+      if (!first) sb.append(", ");
+      sb.append("gang:");
+      sb.append(this.gang);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -574,14 +867,14 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
           case 2: // TASKS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
-                struct.tasks = new ArrayList<TTaskSpec>(_list16.size);
-                for (int _i17 = 0; _i17 < _list16.size; ++_i17)
+                org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                struct.tasks = new ArrayList<TTaskSpec>(_list24.size);
+                for (int _i25 = 0; _i25 < _list24.size; ++_i25)
                 {
-                  TTaskSpec _elem18; // required
-                  _elem18 = new TTaskSpec();
-                  _elem18.read(iprot);
-                  struct.tasks.add(_elem18);
+                  TTaskSpec _elem26; // required
+                  _elem26 = new TTaskSpec();
+                  _elem26.read(iprot);
+                  struct.tasks.add(_elem26);
                 }
                 iprot.readListEnd();
               }
@@ -607,6 +900,38 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // PRIORITY
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.priority = iprot.readI32();
+              struct.setPriorityIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 6: // DEADLINE
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.deadline = iprot.readI64();
+              struct.setDeadlineIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 7: // JOB_NAME
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.jobName = iprot.readString();
+              struct.setJobNameIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // GANG
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.gang = iprot.readBool();
+              struct.setGangIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -631,9 +956,9 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         oprot.writeFieldBegin(TASKS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
-          for (TTaskSpec _iter19 : struct.tasks)
+          for (TTaskSpec _iter27 : struct.tasks)
           {
-            _iter19.write(oprot);
+            _iter27.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -649,6 +974,28 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         oprot.writeDouble(struct.probeRatio);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetPriority()) {
+        oprot.writeFieldBegin(PRIORITY_FIELD_DESC);
+        oprot.writeI32(struct.priority);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetDeadline()) {
+        oprot.writeFieldBegin(DEADLINE_FIELD_DESC);
+        oprot.writeI64(struct.deadline);
+        oprot.writeFieldEnd();
+      }
+      if (struct.jobName != null) {
+        if (struct.isSetJobName()) {
+          oprot.writeFieldBegin(JOB_NAME_FIELD_DESC);
+          oprot.writeString(struct.jobName);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetGang()) {
+        oprot.writeFieldBegin(GANG_FIELD_DESC);
+        oprot.writeBool(struct.gang);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -679,16 +1026,28 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       if (struct.isSetProbeRatio()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetPriority()) {
+        optionals.set(4);
+      }
+      if (struct.isSetDeadline()) {
+        optionals.set(5);
+      }
+      if (struct.isSetJobName()) {
+        optionals.set(6);
+      }
+      if (struct.isSetGang()) {
+        optionals.set(7);
+      }
+      oprot.writeBitSet(optionals, 8);
       if (struct.isSetApp()) {
         oprot.writeString(struct.app);
       }
       if (struct.isSetTasks()) {
         {
           oprot.writeI32(struct.tasks.size());
-          for (TTaskSpec _iter20 : struct.tasks)
+          for (TTaskSpec _iter28 : struct.tasks)
           {
-            _iter20.write(oprot);
+            _iter28.write(oprot);
           }
         }
       }
@@ -698,26 +1057,38 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       if (struct.isSetProbeRatio()) {
         oprot.writeDouble(struct.probeRatio);
       }
+      if (struct.isSetPriority()) {
+        oprot.writeI32(struct.priority);
+      }
+      if (struct.isSetDeadline()) {
+        oprot.writeI64(struct.deadline);
+      }
+      if (struct.isSetJobName()) {
+        oprot.writeString(struct.jobName);
+      }
+      if (struct.isSetGang()) {
+        oprot.writeBool(struct.gang);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TSchedulingRequest struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(4);
+      BitSet incoming = iprot.readBitSet(8);
       if (incoming.get(0)) {
         struct.app = iprot.readString();
         struct.setAppIsSet(true);
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.tasks = new ArrayList<TTaskSpec>(_list21.size);
-          for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+          org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.tasks = new ArrayList<TTaskSpec>(_list29.size);
+          for (int _i30 = 0; _i30 < _list29.size; ++_i30)
           {
-            TTaskSpec _elem23; // required
-            _elem23 = new TTaskSpec();
-            _elem23.read(iprot);
-            struct.tasks.add(_elem23);
+            TTaskSpec _elem31; // required
+            _elem31 = new TTaskSpec();
+            _elem31.read(iprot);
+            struct.tasks.add(_elem31);
           }
         }
         struct.setTasksIsSet(true);
@@ -731,6 +1102,22 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         struct.probeRatio = iprot.readDouble();
         struct.setProbeRatioIsSet(true);
       }
+      if (incoming.get(4)) {
+        struct.priority = iprot.readI32();
+        struct.setPriorityIsSet(true);
+      }
+      if (incoming.get(5)) {
+        struct.deadline = iprot.readI64();
+        struct.setDeadlineIsSet(true);
+      }
+      if (incoming.get(6)) {
+        struct.jobName = iprot.readString();
+        struct.setJobNameIsSet(true);
+      }
+      if (incoming.get(7)) {
+        struct.gang = iprot.readBool();
+        struct.setGangIsSet(true);
+      }
     }
   }
 
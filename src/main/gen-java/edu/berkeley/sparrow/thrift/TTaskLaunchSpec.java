@@ -32,6 +32,9 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
 
   private static final org.apache.thrift.protocol.TField TASK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("taskId", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)2);
+  private static final org.apache.thrift.protocol.TField REPORT_COMPLETION_FIELD_DESC = new org.apache.thrift.protocol.TField("reportCompletion", org.apache.thrift.protocol.TType.BOOL, (short)3);
+  private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)4);
+  private static final org.apache.thrift.protocol.TField ESTIMATED_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("estimatedResources", org.apache.thrift.protocol.TType.STRUCT, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -41,11 +44,17 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
 
   public String taskId; // required
   public ByteBuffer message; // required
+  public boolean reportCompletion; // optional
+  public String requestId; // optional
+  public TResourceVector estimatedResources; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     TASK_ID((short)1, "taskId"),
-    MESSAGE((short)2, "message");
+    MESSAGE((short)2, "message"),
+    REPORT_COMPLETION((short)3, "reportCompletion"),
+    REQUEST_ID((short)4, "requestId"),
+    ESTIMATED_RESOURCES((short)5, "estimatedResources");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -64,6 +73,12 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
           return TASK_ID;
         case 2: // MESSAGE
           return MESSAGE;
+        case 3: // REPORT_COMPLETION
+          return REPORT_COMPLETION;
+        case 4: // REQUEST_ID
+          return REQUEST_ID;
+        case 5: // ESTIMATED_RESOURCES
+          return ESTIMATED_RESOURCES;
         default:
           return null;
       }
@@ -104,6 +119,9 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
   }
 
   // isset id assignments
+  private static final int __REPORTCOMPLETION_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  private _Fields optionals[] = {_Fields.REPORT_COMPLETION,_Fields.REQUEST_ID,_Fields.ESTIMATED_RESOURCES};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -111,6 +129,12 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.REPORT_COMPLETION, new org.apache.thrift.meta_data.FieldMetaData("reportCompletion", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.ESTIMATED_RESOURCES, new org.apache.thrift.meta_data.FieldMetaData("estimatedResources", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TTaskLaunchSpec.class, metaDataMap);
   }
@@ -131,6 +155,8 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
    * Performs a deep copy on <i>other</i>.
    */
   public TTaskLaunchSpec(TTaskLaunchSpec other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
     if (other.isSetTaskId()) {
       this.taskId = other.taskId;
     }
@@ -138,6 +164,13 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
       this.message = org.apache.thrift.TBaseHelper.copyBinary(other.message);
 ;
     }
+    this.reportCompletion = other.reportCompletion;
+    if (other.isSetRequestId()) {
+      this.requestId = other.requestId;
+    }
+    if (other.isSetEstimatedResources()) {
+      this.estimatedResources = new TResourceVector(other.estimatedResources);
+    }
   }
 
   public TTaskLaunchSpec deepCopy() {
@@ -147,6 +180,10 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
   public void clear() {
     this.taskId = null;
     this.message = null;
+    setReportCompletionIsSet(false);
+    this.reportCompletion = false;
+    this.requestId = null;
+    this.estimatedResources = null;
   }
 
   public String getTaskId() {
@@ -207,6 +244,77 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
     }
   }
 
+  public boolean isReportCompletion() {
+    return this.reportCompletion;
+  }
+
+  public TTaskLaunchSpec setReportCompletion(boolean reportCompletion) {
+    this.reportCompletion = reportCompletion;
+    setReportCompletionIsSet(true);
+    return this;
+  }
+
+  public void unsetReportCompletion() {
+    __isset_bit_vector.clear(__REPORTCOMPLETION_ISSET_ID);
+  }
+
+  /** Returns true if field reportCompletion is set (has been assigned a value) and false otherwise */
+  public boolean isSetReportCompletion() {
+    return __isset_bit_vector.get(__REPORTCOMPLETION_ISSET_ID);
+  }
+
+  public void setReportCompletionIsSet(boolean value) {
+    __isset_bit_vector.set(__REPORTCOMPLETION_ISSET_ID, value);
+  }
+
+  public String getRequestId() {
+    return this.requestId;
+  }
+
+  public TTaskLaunchSpec setRequestId(String requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  public void unsetRequestId() {
+    this.requestId = null;
+  }
+
+  /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+  public boolean isSetRequestId() {
+    return this.requestId != null;
+  }
+
+  public void setRequestIdIsSet(boolean value) {
+    if (!value) {
+      this.requestId = null;
+    }
+  }
+
+  public TResourceVector getEstimatedResources() {
+    return this.estimatedResources;
+  }
+
+  public TTaskLaunchSpec setEstimatedResources(TResourceVector estimatedResources) {
+    this.estimatedResources = estimatedResources;
+    return this;
+  }
+
+  public void unsetEstimatedResources() {
+    this.estimatedResources = null;
+  }
+
+  /** Returns true if field estimatedResources is set (has been assigned a value) and false otherwise */
+  public boolean isSetEstimatedResources() {
+    return this.estimatedResources != null;
+  }
+
+  public void setEstimatedResourcesIsSet(boolean value) {
+    if (!value) {
+      this.estimatedResources = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TASK_ID:
@@ -225,6 +333,30 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
       }
       break;
 
+    case REPORT_COMPLETION:
+      if (value == null) {
+        unsetReportCompletion();
+      } else {
+        setReportCompletion((Boolean)value);
+      }
+      break;
+
+    case REQUEST_ID:
+      if (value == null) {
+        unsetRequestId();
+      } else {
+        setRequestId((String)value);
+      }
+      break;
+
+    case ESTIMATED_RESOURCES:
+      if (value == null) {
+        unsetEstimatedResources();
+      } else {
+        setEstimatedResources((TResourceVector)value);
+      }
+      break;
+
     }
   }
 
@@ -236,6 +368,15 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
     case MESSAGE:
       return getMessage();
 
+    case REPORT_COMPLETION:
+      return Boolean.valueOf(isReportCompletion());
+
+    case REQUEST_ID:
+      return getRequestId();
+
+    case ESTIMATED_RESOURCES:
+      return getEstimatedResources();
+
     }
     throw new IllegalStateException();
   }
@@ -251,6 +392,12 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
       return isSetTaskId();
     case MESSAGE:
       return isSetMessage();
+    case REPORT_COMPLETION:
+      return isSetReportCompletion();
+    case REQUEST_ID:
+      return isSetRequestId();
+    case ESTIMATED_RESOURCES:
+      return isSetEstimatedResources();
     }
     throw new IllegalStateException();
   }
@@ -286,6 +433,33 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
         return false;
     }
 
+    boolean this_present_reportCompletion = true && this.isSetReportCompletion();
+    boolean that_present_reportCompletion = true && that.isSetReportCompletion();
+    if (this_present_reportCompletion || that_present_reportCompletion) {
+      if (!(this_present_reportCompletion && that_present_reportCompletion))
+        return false;
+      if (this.reportCompletion != that.reportCompletion)
+        return false;
+    }
+
+    boolean this_present_requestId = true && this.isSetRequestId();
+    boolean that_present_requestId = true && that.isSetRequestId();
+    if (this_present_requestId || that_present_requestId) {
+      if (!(this_present_requestId && that_present_requestId))
+        return false;
+      if (!this.requestId.equals(that.requestId))
+        return false;
+    }
+
+    boolean this_present_estimatedResources = true && this.isSetEstimatedResources();
+    boolean that_present_estimatedResources = true && that.isSetEstimatedResources();
+    if (this_present_estimatedResources || that_present_estimatedResources) {
+      if (!(this_present_estimatedResources && that_present_estimatedResources))
+        return false;
+      if (!this.estimatedResources.equals(that.estimatedResources))
+        return false;
+    }
+
     return true;
   }
 
@@ -322,6 +496,36 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetReportCompletion()).compareTo(typedOther.isSetReportCompletion());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReportCompletion()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.reportCompletion, typedOther.reportCompletion);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetRequestId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetEstimatedResources()).compareTo(typedOther.isSetEstimatedResources());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetEstimatedResources()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.estimatedResources, typedOther.estimatedResources);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -357,6 +561,32 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
       org.apache.thrift.TBaseHelper.toString(this.message, sb);
     }
     first = false;
+    if (isSetReportCompletion()) {
+      if (!first) sb.append(", ");
+      sb.append("reportCompletion:");
+      sb.append(this.reportCompletion);
+      first = false;
+    }
+    if (isSetRequestId()) {
+      if (!first) sb.append(", ");
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+    }
+    if (isSetEstimatedResources()) {
+      if (!first) sb.append(", ");
+      sb.append("estimatedResources:");
+      if (this.estimatedResources == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.estimatedResources);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -375,6 +605,8 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te.getMessage());
@@ -415,6 +647,31 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // REPORT_COMPLETION
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.reportCompletion = iprot.readBool();
+              struct.setReportCompletionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // REQUEST_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.requestId = iprot.readString();
+              struct.setRequestIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // ESTIMATED_RESOURCES
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.estimatedResources = new TResourceVector();
+              struct.estimatedResources.read(iprot);
+              struct.setEstimatedResourcesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -440,6 +697,25 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
         oprot.writeBinary(struct.message);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetReportCompletion()) {
+        oprot.writeFieldBegin(REPORT_COMPLETION_FIELD_DESC);
+        oprot.writeBool(struct.reportCompletion);
+        oprot.writeFieldEnd();
+      }
+      if (struct.requestId != null) {
+        if (struct.isSetRequestId()) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.estimatedResources != null) {
+        if (struct.isSetEstimatedResources()) {
+          oprot.writeFieldBegin(ESTIMATED_RESOURCES_FIELD_DESC);
+          struct.estimatedResources.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -464,19 +740,37 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
       if (struct.isSetMessage()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetReportCompletion()) {
+        optionals.set(2);
+      }
+      if (struct.isSetRequestId()) {
+        optionals.set(3);
+      }
+      if (struct.isSetEstimatedResources()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetTaskId()) {
         oprot.writeString(struct.taskId);
       }
       if (struct.isSetMessage()) {
         oprot.writeBinary(struct.message);
       }
+      if (struct.isSetReportCompletion()) {
+        oprot.writeBool(struct.reportCompletion);
+      }
+      if (struct.isSetRequestId()) {
+        oprot.writeString(struct.requestId);
+      }
+      if (struct.isSetEstimatedResources()) {
+        struct.estimatedResources.write(oprot);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TTaskLaunchSpec struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         struct.taskId = iprot.readString();
         struct.setTaskIdIsSet(true);
@@ -485,6 +779,19 @@ public class TTaskLaunchSpec implements org.apache.thrift.TBase<TTaskLaunchSpec,
         struct.message = iprot.readBinary();
         struct.setMessageIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.reportCompletion = iprot.readBool();
+        struct.setReportCompletionIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.requestId = iprot.readString();
+        struct.setRequestIdIsSet(true);
+      }
+      if (incoming.get(4)) {
+        struct.estimatedResources = new TResourceVector();
+        struct.estimatedResources.read(iprot);
+        struct.setEstimatedResourcesIsSet(true);
+      }
     }
   }
 
@@ -34,6 +34,7 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
   private static final org.apache.thrift.protocol.TField PREFERENCE_FIELD_DESC = new org.apache.thrift.protocol.TField("preference", org.apache.thrift.protocol.TType.STRUCT, (short)2);
   private static final org.apache.thrift.protocol.TField ESTIMATED_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("estimatedResources", org.apache.thrift.protocol.TType.STRUCT, (short)3);
   private static final org.apache.thrift.protocol.TField MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("message", org.apache.thrift.protocol.TType.STRING, (short)4);
+  private static final org.apache.thrift.protocol.TField EXPECTED_DURATION_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("expectedDurationMs", org.apache.thrift.protocol.TType.I64, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,13 +46,15 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
   public TPlacementPreference preference; // required
   public TResourceVector estimatedResources; // required
   public ByteBuffer message; // required
+  public long expectedDurationMs; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     TASK_ID((short)1, "taskId"),
     PREFERENCE((short)2, "preference"),
     ESTIMATED_RESOURCES((short)3, "estimatedResources"),
-    MESSAGE((short)4, "message");
+    MESSAGE((short)4, "message"),
+    EXPECTED_DURATION_MS((short)5, "expectedDurationMs");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -74,6 +77,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
           return ESTIMATED_RESOURCES;
         case 4: // MESSAGE
           return MESSAGE;
+        case 5: // EXPECTED_DURATION_MS
+          return EXPECTED_DURATION_MS;
         default:
           return null;
       }
@@ -114,6 +119,9 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
   }
 
   // isset id assignments
+  private static final int __EXPECTEDDURATIONMS_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  private _Fields optionals[] = {_Fields.EXPECTED_DURATION_MS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -125,6 +133,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
     tmpMap.put(_Fields.MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("message", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.EXPECTED_DURATION_MS, new org.apache.thrift.meta_data.FieldMetaData("expectedDurationMs", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TTaskSpec.class, metaDataMap);
   }
@@ -149,6 +159,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
    * Performs a deep copy on <i>other</i>.
    */
   public TTaskSpec(TTaskSpec other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
     if (other.isSetTaskId()) {
       this.taskId = other.taskId;
     }
@@ -162,6 +174,7 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       this.message = org.apache.thrift.TBaseHelper.copyBinary(other.message);
 ;
     }
+    this.expectedDurationMs = other.expectedDurationMs;
   }
 
   public TTaskSpec deepCopy() {
@@ -173,6 +186,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
     this.preference = null;
     this.estimatedResources = null;
     this.message = null;
+    setExpectedDurationMsIsSet(false);
+    this.expectedDurationMs = 0;
   }
 
   public String getTaskId() {
@@ -281,6 +296,29 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
     }
   }
 
+  public long getExpectedDurationMs() {
+    return this.expectedDurationMs;
+  }
+
+  public TTaskSpec setExpectedDurationMs(long expectedDurationMs) {
+    this.expectedDurationMs = expectedDurationMs;
+    setExpectedDurationMsIsSet(true);
+    return this;
+  }
+
+  public void unsetExpectedDurationMs() {
+    __isset_bit_vector.clear(__EXPECTEDDURATIONMS_ISSET_ID);
+  }
+
+  /** Returns true if field expectedDurationMs is set (has been assigned a value) and false otherwise */
+  public boolean isSetExpectedDurationMs() {
+    return __isset_bit_vector.get(__EXPECTEDDURATIONMS_ISSET_ID);
+  }
+
+  public void setExpectedDurationMsIsSet(boolean value) {
+    __isset_bit_vector.set(__EXPECTEDDURATIONMS_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TASK_ID:
@@ -315,6 +353,14 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       }
       break;
 
+    case EXPECTED_DURATION_MS:
+      if (value == null) {
+        unsetExpectedDurationMs();
+      } else {
+        setExpectedDurationMs((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -332,6 +378,9 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
     case MESSAGE:
       return getMessage();
 
+    case EXPECTED_DURATION_MS:
+      return Long.valueOf(getExpectedDurationMs());
+
     }
     throw new IllegalStateException();
   }
@@ -351,6 +400,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       return isSetEstimatedResources();
     case MESSAGE:
       return isSetMessage();
+    case EXPECTED_DURATION_MS:
+      return isSetExpectedDurationMs();
     }
     throw new IllegalStateException();
   }
@@ -404,6 +455,15 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
         return false;
     }
 
+    boolean this_present_expectedDurationMs = true && this.isSetExpectedDurationMs();
+    boolean that_present_expectedDurationMs = true && that.isSetExpectedDurationMs();
+    if (this_present_expectedDurationMs || that_present_expectedDurationMs) {
+      if (!(this_present_expectedDurationMs && that_present_expectedDurationMs))
+        return false;
+      if (this.expectedDurationMs != that.expectedDurationMs)
+        return false;
+    }
+
     return true;
   }
 
@@ -460,6 +520,16 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetExpectedDurationMs()).compareTo(typedOther.isSetExpectedDurationMs());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetExpectedDurationMs()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.expectedDurationMs, typedOther.expectedDurationMs);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -511,6 +581,12 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       org.apache.thrift.TBaseHelper.toString(this.message, sb);
     }
     first = false;
+    if (isSetExpectedDurationMs()) {
+      if (!first) sb.append(", ");
+      sb.append("expectedDurationMs:");
+      sb.append(this.expectedDurationMs);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -529,6 +605,8 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te.getMessage());
@@ -587,6 +665,14 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // EXPECTED_DURATION_MS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.expectedDurationMs = iprot.readI64();
+              struct.setExpectedDurationMsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -622,6 +708,11 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
         oprot.writeBinary(struct.message);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetExpectedDurationMs()) {
+        oprot.writeFieldBegin(EXPECTED_DURATION_MS_FIELD_DESC);
+        oprot.writeI64(struct.expectedDurationMs);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -652,7 +743,10 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       if (struct.isSetMessage()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetExpectedDurationMs()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetTaskId()) {
         oprot.writeString(struct.taskId);
       }
@@ -665,12 +759,15 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
       if (struct.isSetMessage()) {
         oprot.writeBinary(struct.message);
       }
+      if (struct.isSetExpectedDurationMs()) {
+        oprot.writeI64(struct.expectedDurationMs);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TTaskSpec struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(4);
+      BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         struct.taskId = iprot.readString();
         struct.setTaskIdIsSet(true);
@@ -689,6 +786,10 @@ public class TTaskSpec implements org.apache.thrift.TBase<TTaskSpec, TTaskSpec._
         struct.message = iprot.readBinary();
         struct.setMessageIsSet(true);
       }
+      if (incoming.get(4)) {
+        struct.expectedDurationMs = iprot.readI64();
+        struct.setExpectedDurationMsIsSet(true);
+      }
     }
   }
 
@@ -15,6 +15,7 @@ import edu.berkeley.sparrow.thrift.FrontendService;
 import edu.berkeley.sparrow.thrift.IncompleteRequestException;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.SchedulerService.Client;
+import edu.berkeley.sparrow.thrift.TJobStage;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
 import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
@@ -116,6 +117,87 @@ public class SparrowFrontendClient {
     return true;
   }
   
+  /**
+   * Submits a fully specified scheduling request. Use this to set optional job attributes
+   * (e.g., the job's priority) that the other submitJob() variants don't expose.
+   */
+  public boolean submitJob(TSchedulingRequest request) throws TException {
+    try {
+      Client client = clients.take();
+      client.submitJob(request);
+      clients.put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    } catch (TException e) {
+      LOG.error(e);
+      return false;
+    } catch (IncompleteRequestException e) {
+      LOG.error(e);
+    }
+    return true;
+  }
+
+  /**
+   * Like {@link #submitJob(TSchedulingRequest)}, but returns the ID the scheduler gave the job,
+   * which can be passed to {@link #cancelJob}, or null if the job couldn't be submitted.
+   */
+  public String submitCancellableJob(TSchedulingRequest request) throws TException {
+    try {
+      Client client = clients.take();
+      String requestId = client.submitJob(request);
+      clients.put(client);
+      return requestId;
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    } catch (TException e) {
+      LOG.error(e);
+    } catch (IncompleteRequestException e) {
+      LOG.error(e);
+    }
+    return null;
+  }
+
+  /**
+   * Cancels a job submitted with {@link #submitCancellableJob}: its tasks that haven't been
+   * launched are dropped, and those that are running are killed. Returns false if the scheduler
+   * couldn't be reached.
+   */
+  public boolean cancelJob(String requestId) throws TException {
+    try {
+      Client client = clients.take();
+      client.cancelJob(requestId);
+      clients.put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    } catch (TException e) {
+      LOG.error(e);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Submits a job made of stages that depend on each other (see
+   * {@link edu.berkeley.sparrow.thrift.SchedulerService.Iface#submitJobDag}). Returns false if
+   * the scheduler couldn't be reached or rejected the stages.
+   */
+  public boolean submitJobDag(List<TJobStage> stages) throws TException {
+    try {
+      Client client = clients.take();
+      client.submitJobDag(stages);
+      clients.put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    } catch (TException e) {
+      LOG.error(e);
+      return false;
+    } catch (IncompleteRequestException e) {
+      LOG.error(e);
+      return false;
+    }
+    return true;
+  }
+
   public void close() {
     for (int i = 0; i < NUM_CLIENTS; i++) {
       clients.poll().getOutputProtocol().getTransport().close();
@@ -36,6 +36,10 @@ public class SparrowConf {
   
   public final static String SYSTEM_CPUS = "system.cpus";
   public final static int DEFAULT_SYSTEM_CPUS = 4;
+
+  /** Disk (MB/s) and network (Mb/s) bandwidth of the node; unset means not limited. */
+  public final static String SYSTEM_DISK_BANDWIDTH = "system.disk_bandwidth";
+  public final static String SYSTEM_NETWORK_BANDWIDTH = "system.network_bandwidth";
   
   // Values: "production", "standalone", "configbased"
   public final static String DEPLYOMENT_MODE = "deployment.mode";
@@ -56,7 +60,274 @@ public class SparrowConf {
   // For requests w/ constraints...
   public final static String SAMPLE_RATIO_CONSTRAINED = "sample.ratio.constrained";
   public final static int DEFAULT_SAMPLE_RATIO_CONSTRAINED = 2;
+
+  /**
+   * Whether schedulers tune the probe ratio for requests without constraints (for each
+   * application) based on how quickly node monitors respond to reservations, rather than always
+   * using {@link #SAMPLE_RATIO}. The ratio is kept within the given bounds.
+   */
+  public final static String SAMPLE_RATIO_ADAPTIVE = "sample.ratio.adaptive";
+  public final static boolean DEFAULT_SAMPLE_RATIO_ADAPTIVE = false;
+  public final static String SAMPLE_RATIO_MIN = "sample.ratio.min";
+  public final static double DEFAULT_SAMPLE_RATIO_MIN = 1.0;
+  public final static String SAMPLE_RATIO_MAX = "sample.ratio.max";
+  public final static double DEFAULT_SAMPLE_RATIO_MAX = 2.0;
+  // Mean delay (in milliseconds) between enqueueing a job's reservations and the first getTask()
+  // for the job that the tuning aims for...
+  public final static String SAMPLE_RATIO_TARGET_DELAY_MS = "sample.ratio.target_delay.ms";
+  public final static long DEFAULT_SAMPLE_RATIO_TARGET_DELAY_MS = 10;
+  // ...without letting the fraction of getTask() calls that find no task exceed this.
+  public final static String SAMPLE_RATIO_MAX_EMPTY_FRACTION = "sample.ratio.max_empty_fraction";
+  public final static double DEFAULT_SAMPLE_RATIO_MAX_EMPTY_FRACTION = 0.5;
+  // Number of jobs observed between adjustments.
+  public final static String SAMPLE_RATIO_WINDOW = "sample.ratio.window";
+  public final static int DEFAULT_SAMPLE_RATIO_WINDOW = 50;
+
+  /**
+   * Hedged probing: if a job still has unlaunched tasks after a delay, or once a fraction of its
+   * reservations have been responded to, schedulers enqueue a few extra reservations for it on
+   * node monitors that don't have one yet. Each trigger is disabled when set to 0.
+   */
+  // Delay (in milliseconds) after submission...
+  public final static String HEDGE_DELAY_MS = "hedge.delay.ms";
+  public final static long DEFAULT_HEDGE_DELAY_MS = 0;
+  // ...or fraction of reservations responded to, after which a job is hedged.
+  public final static String HEDGE_RESPONSE_FRACTION = "hedge.response_fraction";
+  public final static double DEFAULT_HEDGE_RESPONSE_FRACTION = 0;
+  // Maximum number of hedge reservations created for each job.
+  public final static String HEDGE_MAX_RESERVATIONS = "hedge.max_reservations";
+  public final static int DEFAULT_HEDGE_MAX_RESERVATIONS = 2;
+
+  /**
+   * Whether schedulers track when tasks finish (node monitors report completions back), and
+   * launch a speculative copy of tasks that run well past their job's median task duration.
+   */
+  public final static String SPECULATION = "speculation.enabled";
+  public final static boolean DEFAULT_SPECULATION = false;
+  // A copy is launched once a task has run this many times the median duration...
+  public final static String SPECULATION_MULTIPLIER = "speculation.multiplier";
+  public final static double DEFAULT_SPECULATION_MULTIPLIER = 1.5;
+  // ...as long as at least this fraction of the job's tasks have finished.
+  public final static String SPECULATION_MIN_FINISHED_FRACTION =
+      "speculation.min_finished_fraction";
+  public final static double DEFAULT_SPECULATION_MIN_FINISHED_FRACTION = 0.5;
+  // How often (in milliseconds) schedulers look for stragglers.
+  public final static String SPECULATION_INTERVAL_MS = "speculation.interval.ms";
+  public final static long DEFAULT_SPECULATION_INTERVAL_MS = 100;
+
+  /**
+   * Whether a getTask() call for a job with no tasks left to launch is given a task from
+   * another of the scheduler's outstanding jobs with the same application and user, so that the
+   * reservation isn't wasted.
+   */
+  public final static String RESERVATION_SHARING = "reservation.share_across_jobs";
+  public final static boolean DEFAULT_RESERVATION_SHARING = false;
+
+  /**
+   * How long (in milliseconds) schedulers wait for node monitors to hold slots for all of a gang
+   * job's tasks. If the gang isn't complete by then, its held slots are released and the job is
+   * submitted again.
+   */
+  public final static String GANG_TIMEOUT_MS = "gang.timeout.ms";
+  public final static long DEFAULT_GANG_TIMEOUT_MS = 1000;
+
+  /**
+   * Mean number of reservations queued on node monitors (as reported with RPCs) above which
+   * schedulers hold new jobs instead of placing them, until queues drain (0 = never hold jobs).
+   */
+  public final static String ADMISSION_QUEUE_THRESHOLD = "admission.queue_threshold";
+  public final static double DEFAULT_ADMISSION_QUEUE_THRESHOLD = 0;
+
+  /** Maximum number of jobs a scheduler holds; more jobs are rejected. */
+  public final static String ADMISSION_MAX_QUEUED_JOBS = "admission.max_queued_jobs";
+  public final static int DEFAULT_ADMISSION_MAX_QUEUED_JOBS = 1000;
+
+  /** How long (in milliseconds) frontends are told to wait when a job is rejected. */
+  public final static String ADMISSION_RETRY_AFTER_MS = "admission.retry_after.ms";
+  public final static long DEFAULT_ADMISSION_RETRY_AFTER_MS = 1000;
+
+  /**
+   * Jobs per second each application's frontend may submit to a scheduler (0 = no limit), and
+   * how many jobs it may submit at once after being idle.
+   */
+  public final static String ADMISSION_RATE = "admission.rate";
+  public final static double DEFAULT_ADMISSION_RATE = 0;
+  public final static String ADMISSION_BURST = "admission.burst";
+  public final static double DEFAULT_ADMISSION_BURST = 10;
+
+  /** How long (in milliseconds) schedulers consider a node monitor idle after it says so. */
+  public final static String IDLE_NODE_EXPIRY_MS = "idle_nodes.expiry.ms";
+  public final static long DEFAULT_IDLE_NODE_EXPIRY_MS = 1000;
+
+  /**
+   * How long (in milliseconds) schedulers use the load that a node monitor reports with its RPC
+   * responses to pick the nodes they probe (0 = don't use reported loads).
+   */
+  public final static String NODE_LOAD_MAX_AGE_MS = "node_load.max_age.ms";
+  public final static long DEFAULT_NODE_LOAD_MAX_AGE_MS = 500;
+
+  /**
+   * Schedulers score each node monitor's health as an exponentially weighted moving average
+   * (with weight {@link #NODE_HEALTH_WEIGHT}) of the outcomes of RPCs to it: 1 for an RPC that
+   * succeeded within {@link #NODE_HEALTH_SLOW_RPC_MS}, and 0 for one that failed or was slower.
+   * Node monitors whose score drops below this aren't probed for a while (0 = never exclude
+   * node monitors).
+   */
+  public final static String NODE_HEALTH_MIN_SCORE = "node_health.min_score";
+  public final static double DEFAULT_NODE_HEALTH_MIN_SCORE = 0;
+  public final static String NODE_HEALTH_WEIGHT = "node_health.weight";
+  public final static double DEFAULT_NODE_HEALTH_WEIGHT = 0.3;
+  public final static String NODE_HEALTH_SLOW_RPC_MS = "node_health.slow_rpc.ms";
+  public final static long DEFAULT_NODE_HEALTH_SLOW_RPC_MS = 1000;
+  // Node monitors are first excluded for this many milliseconds, doubling each time they are
+  // excluded again after being readmitted, up to the maximum.
+  public final static String NODE_HEALTH_EXCLUSION_MS = "node_health.exclusion.ms";
+  public final static long DEFAULT_NODE_HEALTH_EXCLUSION_MS = 1000;
+  public final static String NODE_HEALTH_MAX_EXCLUSION_MS = "node_health.max_exclusion.ms";
+  public final static long DEFAULT_NODE_HEALTH_MAX_EXCLUSION_MS = 60000;
+  // Readmitted node monitors are excluded again as soon as an RPC to them fails or is slow,
+  // until they have been readmitted for this many milliseconds.
+  public final static String NODE_HEALTH_PROBATION_MS = "node_health.probation.ms";
+  public final static long DEFAULT_NODE_HEALTH_PROBATION_MS = 10000;
+
+  /**
+   * Whether schedulers place long jobs centrally, on the least loaded node monitors outside a
+   * partition reserved for short jobs, while short jobs keep probing and prefer the reserved
+   * partition.
+   */
+  public final static String HYBRID = "hybrid.enabled";
+  public final static boolean DEFAULT_HYBRID = false;
+  // Fraction of node monitors reserved for short jobs.
+  public final static String HYBRID_SHORT_PARTITION_FRACTION = "hybrid.short_partition.fraction";
+  public final static double DEFAULT_HYBRID_SHORT_PARTITION_FRACTION = 0.2;
+  // Jobs whose tasks are expected to run for at least this many milliseconds on average are long.
+  public final static String HYBRID_LONG_JOB_DURATION_MS = "hybrid.long_job.duration.ms";
+  public final static long DEFAULT_HYBRID_LONG_JOB_DURATION_MS = 10000;
+  // Jobs with at least this many tasks are long, whatever their expected duration (0 = never).
+  public final static String HYBRID_LONG_JOB_TASKS = "hybrid.long_job.tasks";
+  public final static int DEFAULT_HYBRID_LONG_JOB_TASKS = 0;
   
+  /** The policy node monitors use to order queued task reservations. */
+  // Values: "fifo", "priority", "edf" (earliest deadline first), "srjf" (shortest remaining
+  // job first), "resources" (launch reservations whose resources fit on the node)
+  public final static String NM_TASK_SCHEDULER_TYPE = "node_monitor.task_scheduler";
+  public final static String DEFAULT_NM_TASK_SCHEDULER_TYPE = "fifo";
+
+  /** Milliseconds a queued reservation must wait to gain one level of priority (0 = never). */
+  public final static String PRIORITY_AGING_INTERVAL_MS = "priority.aging.interval.ms";
+  public final static long DEFAULT_PRIORITY_AGING_INTERVAL_MS = 1000;
+
+  /**
+   * Milliseconds the next reservation to launch on a node monitor using the "priority" task
+   * scheduler must wait before a running task of lower priority is preempted (killed and queued
+   * again) for it (0 = never).
+   */
+  public final static String PREEMPTION_DELAY_MS = "preemption.delay.ms";
+  public final static long DEFAULT_PREEMPTION_DELAY_MS = 0;
+
+  /**
+   * Longest time (in milliseconds) a reservation may wait in a shortest remaining job first
+   * queue before it is launched ahead of reservations for smaller jobs.
+   */
+  public final static String SRJF_MAX_WAIT_MS = "srjf.max_wait.ms";
+  public final static long DEFAULT_SRJF_MAX_WAIT_MS = 10000;
+
+  /**
+   * Longest time (in milliseconds) the oldest queued reservation may wait at a resource-aware
+   * node monitor before smaller reservations stop being launched ahead of it.
+   */
+  public final static String RESOURCE_PACKING_MAX_WAIT_MS = "resource.packing.max_wait.ms";
+  public final static long DEFAULT_RESOURCE_PACKING_MAX_WAIT_MS = 10000;
+
+  /** Number of named jobs whose nodes the scheduler remembers, so later jobs can avoid them. */
+  public final static String ANTI_AFFINITY_TRACKED_JOBS = "anti_affinity.tracked_jobs";
+  public final static int DEFAULT_ANTI_AFFINITY_TRACKED_JOBS = 1000;
+
+  /**
+   * Number of recently submitted requests whose node monitors the scheduler remembers, so that
+   * their jobs can be cancelled.
+   */
+  public final static String CANCEL_TRACKED_REQUESTS = "cancel.tracked_requests";
+  public final static int DEFAULT_CANCEL_TRACKED_REQUESTS = 10000;
+
+  /**
+   * Number of times a task that a node monitor failed to launch on its backend is placed again
+   * before the scheduler gives up on it.
+   */
+  public final static String LAUNCH_MAX_RETRIES = "launch.max_retries";
+  public final static int DEFAULT_LAUNCH_MAX_RETRIES = 3;
+
+  /**
+   * Number of recently submitted requests the scheduler remembers, so that their tasks can be
+   * placed again if they fail to launch.
+   */
+  public final static String LAUNCH_TRACKED_REQUESTS = "launch.tracked_requests";
+  public final static int DEFAULT_LAUNCH_TRACKED_REQUESTS = 10000;
+
+  /**
+   * Number of RPCs in a row to a node monitor that must fail before the scheduler considers it
+   * dead, and places the tasks it launched there again. Tasks then report their completion to
+   * the scheduler, so that it knows which ones are still running. A node monitor that is only
+   * unreachable for a while may end up running its tasks twice. 0 disables this.
+   */
+  public final static String LAUNCH_DEAD_NODE_FAILURES = "launch.dead_node_failures";
+  public final static int DEFAULT_LAUNCH_DEAD_NODE_FAILURES = 0;
+
+  /** Rack that this node monitor's machine is in, reported to the state store. */
+  public final static String NM_RACK = "node_monitor.rack";
+
+  /**
+   * How often (in milliseconds) a node monitor with free slots and no queued reservations tells
+   * the schedulers that enqueued reservations on it recently that it is idle (0 = never).
+   */
+  public final static String NM_IDLE_ADVERTISEMENT_INTERVAL_MS =
+      "node_monitor.idle_advertisement.interval.ms";
+  public final static long DEFAULT_NM_IDLE_ADVERTISEMENT_INTERVAL_MS = 0;
+  // Schedulers count as recent if they enqueued a reservation within this many milliseconds.
+  public final static String NM_IDLE_ADVERTISEMENT_WINDOW_MS =
+      "node_monitor.idle_advertisement.window.ms";
+  public final static long DEFAULT_NM_IDLE_ADVERTISEMENT_WINDOW_MS = 10000;
+
+  /**
+   * Number of free slots an idle node monitor leases to each recent scheduler, instead of just
+   * advertising them, each time it checks for idle slots (0 = no leases). The scheduler launches
+   * tasks in leased slots without probing.
+   */
+  public final static String NM_SLOT_LEASE_SLOTS = "node_monitor.slot_lease.slots";
+  public final static int DEFAULT_NM_SLOT_LEASE_SLOTS = 0;
+  // Leased slots that haven't been used within this many milliseconds are taken back.
+  public final static String NM_SLOT_LEASE_DURATION_MS = "node_monitor.slot_lease.duration.ms";
+  public final static long DEFAULT_NM_SLOT_LEASE_DURATION_MS = 500;
+
+  /**
+   * Weight of the most recent task in the moving average of task durations that node monitors
+   * keep for each application, which is used to estimate how long queued reservations will take
+   * when the frontend gives no expected duration.
+   */
+  public final static String NM_TASK_DURATION_EWMA_WEIGHT =
+      "node_monitor.task_duration.ewma_weight";
+  public final static double DEFAULT_NM_TASK_DURATION_EWMA_WEIGHT = 0.2;
+
+  /**
+   * How long (in milliseconds) a node monitor waits for an RPC to a scheduler, such as
+   * getTask(), before giving up on it (0 = wait forever). The slot of a reservation whose
+   * getTask() call fails or times out goes to the next reservation.
+   */
+  public final static String NM_SCHEDULER_RPC_TIMEOUT_MS =
+      "node_monitor.scheduler_rpc.timeout.ms";
+  public final static long DEFAULT_NM_SCHEDULER_RPC_TIMEOUT_MS = 10000;
+
+  /**
+   * Number of RPCs to a scheduler (such as getTask()) that must fail in a row for a node monitor
+   * to declare the scheduler dead and drop its queued reservations (0 = never).
+   */
+  public final static String NM_SCHEDULER_MAX_FAILURES = "node_monitor.scheduler.max_failures";
+  public final static int DEFAULT_NM_SCHEDULER_MAX_FAILURES = 0;
+  // Reservations from a dead scheduler are refused for this many milliseconds, unless the
+  // scheduler was restarted since it was declared dead.
+  public final static String NM_SCHEDULER_TOMBSTONE_MS = "node_monitor.scheduler.tombstone.ms";
+  public final static long DEFAULT_NM_SCHEDULER_TOMBSTONE_MS = 60000;
+
   /** The hostname of this machine. */
   public final static String HOSTNAME = "hostname";
   
@@ -68,4 +339,7 @@ public class SparrowConf {
   public final static String STATIC_CPU_PER_NM = "static.cpu.per.backend";
   public final static String STATIC_APP_NAME = "static.app.name";
   public final static String STATIC_SCHEDULERS = "static.frontends";
+  // Prefix for the rack topology: each "static.racks.<rack name>" key gives a comma-separated
+  // list of the hostnames of the machines in that rack.
+  public final static String STATIC_RACKS = "static.racks";
 }
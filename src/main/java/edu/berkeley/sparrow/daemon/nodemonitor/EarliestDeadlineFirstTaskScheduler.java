@@ -0,0 +1,89 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A scheduler that runs a fixed number of tasks at once and launches queued reservations in
+ * order of their job's deadline (reservations for jobs without a deadline are launched last).
+ *
+ * Reservations whose deadline has already passed are moved to the back of the queue, so that
+ * they don't delay jobs that can still meet their deadlines; they are launched, in arrival order,
+ * only once no reservations with a deadline in the future remain. Expired reservations are not
+ * dropped, because the scheduler that sent a reservation waits for the node monitor to ask it
+ * for a task before it considers the job's reservations to be complete.
+ */
+public class EarliestDeadlineFirstTaskScheduler extends OrderedTaskScheduler {
+  private final static Logger LOG = Logger.getLogger(EarliestDeadlineFirstTaskScheduler.class);
+
+  private PriorityQueue<QueuedReservation> taskReservations =
+      new PriorityQueue<QueuedReservation>(11, new QueuedReservationComparator() {
+        @Override
+        protected int compareReservations(TaskReservation r1, TaskReservation r2) {
+          if (r1.deadline == r2.deadline) {
+            return 0;
+          }
+          return r1.deadline < r2.deadline ? -1 : 1;
+        }
+      });
+
+  /** Reservations that missed their deadline while queued, in arrival order. */
+  private Queue<TaskReservation> expiredReservations = new LinkedList<TaskReservation>();
+
+  @Override
+  protected void enqueueReservation(TaskReservation taskReservation) {
+    taskReservations.add(new QueuedReservation(taskReservation));
+  }
+
+  @Override
+  protected TaskReservation dequeueReservation() {
+    // Reservations with the earliest deadlines are at the head of the queue, so all expired
+    // reservations can be found by looking at the head.
+    long now = clock.currentTimeMillis();
+    while (!taskReservations.isEmpty() && taskReservations.peek().reservation.deadline < now) {
+      TaskReservation expired = taskReservations.poll().reservation;
+      LOG.debug("Deprioritizing reservation for request " + expired.requestId +
+                ", which missed its deadline by " + (now - expired.deadline) + "ms");
+      expiredReservations.add(expired);
+    }
+    QueuedReservation queued = taskReservations.poll();
+    if (queued != null) {
+      return queued.reservation;
+    }
+    return expiredReservations.poll();
+  }
+
+  @Override
+  protected int numQueuedReservations() {
+    return taskReservations.size() + expiredReservations.size();
+  }
+
+  @Override
+  protected List<TaskReservation> removeReservations(String requestId) {
+    List<TaskReservation> removed = Lists.newArrayList();
+    Iterator<QueuedReservation> iterator = taskReservations.iterator();
+    while (iterator.hasNext()) {
+      QueuedReservation queued = iterator.next();
+      if (queued.reservation.requestId.equals(requestId)) {
+        iterator.remove();
+        removed.add(queued.reservation);
+      }
+    }
+    Iterator<TaskReservation> expiredIterator = expiredReservations.iterator();
+    while (expiredIterator.hasNext()) {
+      TaskReservation reservation = expiredIterator.next();
+      if (reservation.requestId.equals(requestId)) {
+        expiredIterator.remove();
+        removed.add(reservation);
+      }
+    }
+    return removed;
+  }
+}
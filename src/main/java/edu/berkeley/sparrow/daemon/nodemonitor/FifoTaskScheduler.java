@@ -1,9 +1,13 @@
 package edu.berkeley.sparrow.daemon.nodemonitor;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.log4j.Logger;
 
+import com.google.common.collect.Lists;
+
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 
@@ -68,6 +72,20 @@ public class FifoTaskScheduler extends TaskScheduler {
     }
   }
 
+  @Override
+  synchronized List<TaskReservation> handleRequestCancelled(String requestId) {
+    List<TaskReservation> removed = Lists.newArrayList();
+    Iterator<TaskReservation> iterator = taskReservations.iterator();
+    while (iterator.hasNext()) {
+      TaskReservation reservation = iterator.next();
+      if (reservation.requestId.equals(requestId)) {
+        iterator.remove();
+        removed.add(reservation);
+      }
+    }
+    return removed;
+  }
+
   @Override
   TResourceUsage getResourceUsage(String appId) {
     TResourceUsage out = new TResourceUsage();
@@ -77,4 +95,12 @@ public class FifoTaskScheduler extends TaskScheduler {
     return out;
   }
 
+  @Override
+  synchronized int getFreeSlots() {
+    if (taskReservations.size() > 0) {
+      return 0;
+    }
+    return Math.max(0, maxActiveTasks - activeTasks);
+  }
+
 }
@@ -1,5 +1,9 @@
 package edu.berkeley.sparrow.daemon.nodemonitor;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 
@@ -38,4 +42,15 @@ public class NoQueueTaskScheduler extends TaskScheduler {
     // Do nothing
   }
 
+  @Override
+  List<TaskReservation> handleRequestCancelled(String requestId) {
+    // Nothing is ever queued.
+    return Lists.newArrayList();
+  }
+
+  @Override
+  int getFreeSlots() {
+    return Math.max(0, getFreeResources().getCores());
+  }
+
 }
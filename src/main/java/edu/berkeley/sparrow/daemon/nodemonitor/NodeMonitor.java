@@ -9,6 +9,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
@@ -19,15 +21,24 @@ import com.google.common.collect.Maps;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.Resources;
 import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.sendFrontendMessage_call;
+import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.leaseGranted_call;
+import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.nodeIdle_call;
+import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.tasksFinished_call;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.THostPort;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSlotLease;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
  * A Node Monitor which is responsible for communicating with application
@@ -37,6 +48,13 @@ import edu.berkeley.sparrow.thrift.TResourceVector;
  */
 public class NodeMonitor {
   private final static Logger LOG = Logger.getLogger(NodeMonitor.class);
+  private final static Logger AUDIT_LOG = Logging.getAuditLogger(NodeMonitor.class);
+
+  /** How often (in milliseconds) slots held for gang jobs are checked for expiry. */
+  private final static long GANG_HOLD_CHECK_INTERVAL_MS = 100;
+
+  /** How often (in milliseconds) the task scheduler is checked for tasks to preempt. */
+  private final static long PREEMPTION_CHECK_INTERVAL_MS = 100;
 
   private static NodeMonitorState state;
   private HashMap<String, InetSocketAddress> appSockets =
@@ -46,14 +64,38 @@ public class NodeMonitor {
   // Map to scheduler socket address for each request id.
   private ConcurrentMap<String, InetSocketAddress> requestSchedulers =
       Maps.newConcurrentMap();
+  // Time each scheduler last enqueued a reservation (only kept if idle advertisement is on).
+  private ConcurrentMap<InetSocketAddress, Long> schedulerContactTimes =
+      Maps.newConcurrentMap();
+  // Application each scheduler last enqueued a reservation for (only kept if leasing is on).
+  private ConcurrentMap<InetSocketAddress, String> schedulerApps = Maps.newConcurrentMap();
+  private long idleAdvertisementIntervalMs;
+  private long idleAdvertisementWindowMs;
+  private int leaseSlots;
+  private long leaseDurationMs;
   private ThriftClientPool<SchedulerService.AsyncClient> schedulerClientPool =
       new ThriftClientPool<SchedulerService.AsyncClient>(
           new ThriftClientPool.SchedulerServiceMakerFactory());
 
   private TResourceVector capacity;
-  private FifoTaskScheduler scheduler;
+  private TaskScheduler scheduler;
   private TaskLauncherService taskLauncherService;
 
+  /** Null if slots aren't leased to schedulers. */
+  private SlotLeaseManager leaseManager;
+
+  /** Slots held for gang jobs until their scheduler launches tasks in them or releases them. */
+  private SlotLeaseManager gangHolds;
+
+  /** Whether held slots are checked for expiry, which starts with the first gang job. */
+  private boolean gangHoldExpiryStarted = false;
+
+  /** Tracks which schedulers are alive, so that dead schedulers' reservations are dropped. */
+  private SchedulerLiveness schedulerLiveness;
+
+  /** Address schedulers know this node monitor by (the address it gives in getTask()). */
+  private THostPort nodeMonitorInternalAddress;
+
   public void initialize(Configuration conf, int nodeMonitorInternalPort)
       throws UnknownHostException {
     String mode = conf.getString(SparrowConf.DEPLYOMENT_MODE, "unspecified");
@@ -80,11 +122,304 @@ public class NodeMonitor {
     capacity.setCores(cores);
     LOG.info("Using core allocation: " + cores);
 
-    scheduler = new FifoTaskScheduler();
-    scheduler.setMaxActiveTasks(cores);
+    if (conf.containsKey(SparrowConf.SYSTEM_DISK_BANDWIDTH)) {
+      capacity.setDisk(conf.getLong(SparrowConf.SYSTEM_DISK_BANDWIDTH));
+      LOG.info("Using disk bandwidth allocation: " + capacity.getDisk());
+    }
+    if (conf.containsKey(SparrowConf.SYSTEM_NETWORK_BANDWIDTH)) {
+      capacity.setNetwork(conf.getLong(SparrowConf.SYSTEM_NETWORK_BANDWIDTH));
+      LOG.info("Using network bandwidth allocation: " + capacity.getNetwork());
+    }
+
+    String schedulerType = conf.getString(SparrowConf.NM_TASK_SCHEDULER_TYPE,
+                                          SparrowConf.DEFAULT_NM_TASK_SCHEDULER_TYPE);
+    if (schedulerType.equals("fifo")) {
+      FifoTaskScheduler fifoScheduler = new FifoTaskScheduler();
+      fifoScheduler.setMaxActiveTasks(cores);
+      scheduler = fifoScheduler;
+    } else if (schedulerType.equals("resources")) {
+      scheduler = new ResourceAwareTaskScheduler();
+    } else {
+      OrderedTaskScheduler orderedScheduler;
+      if (schedulerType.equals("priority")) {
+        orderedScheduler = new PriorityTaskScheduler();
+      } else if (schedulerType.equals("edf")) {
+        orderedScheduler = new EarliestDeadlineFirstTaskScheduler();
+      } else if (schedulerType.equals("srjf")) {
+        orderedScheduler = new ShortestRemainingJobFirstTaskScheduler();
+      } else {
+        throw new RuntimeException("Unsupported task scheduler type: " + schedulerType);
+      }
+      orderedScheduler.setMaxActiveTasks(cores);
+      scheduler = orderedScheduler;
+    }
+    LOG.info("Using " + schedulerType + " task scheduler");
     scheduler.initialize(capacity, conf);
+    nodeMonitorInternalAddress = new THostPort(Network.getHostName(conf), nodeMonitorInternalPort);
+    idleAdvertisementIntervalMs = conf.getLong(
+        SparrowConf.NM_IDLE_ADVERTISEMENT_INTERVAL_MS,
+        SparrowConf.DEFAULT_NM_IDLE_ADVERTISEMENT_INTERVAL_MS);
+    leaseSlots = conf.getInt(SparrowConf.NM_SLOT_LEASE_SLOTS,
+                             SparrowConf.DEFAULT_NM_SLOT_LEASE_SLOTS);
+    leaseDurationMs = conf.getLong(SparrowConf.NM_SLOT_LEASE_DURATION_MS,
+                                   SparrowConf.DEFAULT_NM_SLOT_LEASE_DURATION_MS);
+    // Leases are granted and expired when checking for idle slots.
+    if (leaseSlots > 0 && idleAdvertisementIntervalMs > 0) {
+      leaseManager = new SlotLeaseManager(scheduler);
+    }
+    gangHolds = new SlotLeaseManager(scheduler);
+    if (conf.getLong(SparrowConf.PREEMPTION_DELAY_MS,
+                     SparrowConf.DEFAULT_PREEMPTION_DELAY_MS) > 0) {
+      Executors.newSingleThreadScheduledExecutor().scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            TFullTaskId victim = scheduler.preemptTask();
+            if (victim != null) {
+              boolean preempted = preemptTask(victim);
+              reportCompletedTasks(scheduler.preemptionConfirmed(victim, preempted));
+            }
+          } catch (Exception e) {
+            // An exception would cancel future runs.
+            LOG.error("Error preempting tasks", e);
+          }
+        }
+      }, PREEMPTION_CHECK_INTERVAL_MS, PREEMPTION_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    schedulerClientPool.setTimeoutMs(
+        conf.getLong(SparrowConf.NM_SCHEDULER_RPC_TIMEOUT_MS,
+                     SparrowConf.DEFAULT_NM_SCHEDULER_RPC_TIMEOUT_MS));
+    schedulerLiveness = new SchedulerLiveness(conf, new SchedulerLiveness.Listener() {
+      @Override
+      public void schedulerDead(InetSocketAddress schedulerAddress) {
+        dropScheduler(schedulerAddress);
+      }
+    });
     taskLauncherService = new TaskLauncherService();
-    taskLauncherService.initialize(conf, scheduler, schedulerClientPool, nodeMonitorInternalPort);
+    taskLauncherService.initialize(conf, scheduler, schedulerClientPool, nodeMonitorInternalPort,
+                                   leaseManager, gangHolds, schedulerLiveness);
+
+    idleAdvertisementWindowMs = conf.getLong(
+        SparrowConf.NM_IDLE_ADVERTISEMENT_WINDOW_MS,
+        SparrowConf.DEFAULT_NM_IDLE_ADVERTISEMENT_WINDOW_MS);
+    if (idleAdvertisementIntervalMs > 0) {
+      Executors.newSingleThreadScheduledExecutor().scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            advertiseIdleSlots();
+          } catch (Exception e) {
+            // An exception would cancel future runs.
+            LOG.error("Error advertising idle slots", e);
+          }
+        }
+      }, idleAdvertisementIntervalMs, idleAdvertisementIntervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Starts expiring slots held for gang jobs, unless that was already started. Only nodes that
+   * are sent gang jobs' reservations need to check for expired holds.
+   */
+  private synchronized void startGangHoldExpiry() {
+    if (gangHoldExpiryStarted) {
+      return;
+    }
+    gangHoldExpiryStarted = true;
+    Executors.newSingleThreadScheduledExecutor().scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          gangHolds.expireLeases();
+        } catch (Exception e) {
+          // An exception would cancel future runs.
+          LOG.error("Error expiring slots held for gang jobs", e);
+        }
+      }
+    }, GANG_HOLD_CHECK_INTERVAL_MS, GANG_HOLD_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * If the node has free slots and no queued reservations, tells the schedulers that enqueued
+   * reservations here within the last {@link SparrowConf#NM_IDLE_ADVERTISEMENT_WINDOW_MS}. If
+   * leasing is on, schedulers without a lease are leased some of the free slots instead.
+   */
+  private void advertiseIdleSlots() {
+    if (leaseManager != null) {
+      leaseManager.expireLeases();
+    }
+    int freeSlots = scheduler.getFreeSlots();
+    long now = System.currentTimeMillis();
+    for (Map.Entry<InetSocketAddress, Long> entry : schedulerContactTimes.entrySet()) {
+      if (now - entry.getValue() > idleAdvertisementWindowMs) {
+        schedulerContactTimes.remove(entry.getKey(), entry.getValue());
+        continue;
+      }
+      if (freeSlots == 0) {
+        continue;
+      }
+      if (leaseManager != null && grantLease(entry.getKey(), Math.min(leaseSlots, freeSlots))) {
+        freeSlots -= Math.min(leaseSlots, freeSlots);
+        continue;
+      }
+      try {
+        AsyncClient client = schedulerClientPool.borrowClient(entry.getKey());
+        client.nodeIdle(nodeMonitorInternalAddress, freeSlots,
+                        new NodeIdleCallback(entry.getKey(), client));
+      } catch (Exception e) {
+        LOG.error("Error advertising idle slots to scheduler " + entry.getKey() + ": " + e);
+      }
+    }
+  }
+
+  private class NodeIdleCallback implements AsyncMethodCallback<nodeIdle_call> {
+    private InetSocketAddress schedulerAddress;
+    private AsyncClient client;
+
+    public NodeIdleCallback(InetSocketAddress schedulerAddress, AsyncClient client) {
+      this.schedulerAddress = schedulerAddress;
+      this.client = client;
+    }
+
+    public void onComplete(nodeIdle_call response) {
+      schedulerLiveness.rpcSucceeded(schedulerAddress);
+      try { schedulerClientPool.returnClient(schedulerAddress, client); }
+      catch (Exception e) { LOG.error(e); }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      schedulerLiveness.rpcFailed(schedulerAddress);
+      LOG.error("Error advertising idle slots to scheduler " + schedulerAddress + ": " +
+                exception);
+    }
+  }
+
+  /**
+   * Leases slots to the given scheduler for the application it last enqueued reservations for.
+   * Returns false if the scheduler already has a lease or the application isn't registered.
+   */
+  private boolean grantLease(InetSocketAddress schedulerAddress, int slots) {
+    String appId = schedulerApps.get(schedulerAddress);
+    InetSocketAddress backend = appId == null ? null : appSockets.get(appId);
+    if (backend == null || leaseManager.hasLease(schedulerAddress)) {
+      return false;
+    }
+    TSlotLease lease = leaseManager.grantLease(appId, backend, schedulerAddress,
+                                               nodeMonitorInternalAddress, slots,
+                                               leaseDurationMs);
+    try {
+      AsyncClient client = schedulerClientPool.borrowClient(schedulerAddress);
+      client.leaseGranted(lease, new LeaseGrantedCallback(schedulerAddress, client));
+    } catch (Exception e) {
+      // The unused slots are given back when the lease expires.
+      LOG.error("Error granting lease to scheduler " + schedulerAddress + ": " + e);
+    }
+    return true;
+  }
+
+  private class LeaseGrantedCallback implements AsyncMethodCallback<leaseGranted_call> {
+    private InetSocketAddress schedulerAddress;
+    private AsyncClient client;
+
+    public LeaseGrantedCallback(InetSocketAddress schedulerAddress, AsyncClient client) {
+      this.schedulerAddress = schedulerAddress;
+      this.client = client;
+    }
+
+    public void onComplete(leaseGranted_call response) {
+      schedulerLiveness.rpcSucceeded(schedulerAddress);
+      try { schedulerClientPool.returnClient(schedulerAddress, client); }
+      catch (Exception e) { LOG.error(e); }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      schedulerLiveness.rpcFailed(schedulerAddress);
+      LOG.error("Error granting lease to scheduler " + schedulerAddress + ": " + exception);
+    }
+  }
+
+  /**
+   * Launches the given tasks in slots held for a lease, and returns the number of tasks
+   * launched.
+   */
+  public int launchTasksOnLease(String leaseId, String requestId, TUserGroupInfo user,
+                                TResourceVector estimatedResources, List<TTaskLaunchSpec> tasks) {
+    LOG.debug(Logging.functionCall(leaseId, requestId, tasks));
+    if (leaseManager == null) {
+      return 0;
+    }
+    List<TaskScheduler.TaskReservation> slots = leaseManager.useSlots(leaseId, tasks.size());
+    for (int i = 0; i < slots.size(); i++) {
+      TaskScheduler.TaskReservation slot = slots.get(i);
+      slot.user = user;
+      // The task scheduler accounts for the slot under the lease ID, but the task runs under
+      // its job's request (so that cancelling the job kills it) and with the job's resources.
+      TTaskLaunchSpec task = tasks.get(i);
+      task.setRequestId(requestId);
+      task.setEstimatedResources(estimatedResources);
+      AUDIT_LOG.info(Logging.auditEventString("node_monitor_lease_task_launch", leaseId,
+                                              requestId, nodeMonitorInternalAddress.getHost(),
+                                              task.getTaskId()));
+      taskLauncherService.launchTask(slot, task);
+    }
+    return slots.size();
+  }
+
+  /**
+   * Launches the given tasks of a gang job in slots held for the job, and returns the number of
+   * tasks launched.
+   */
+  public int launchGangTasks(String requestId, List<TTaskLaunchSpec> tasks) {
+    LOG.debug(Logging.functionCall(requestId, tasks));
+    List<TaskScheduler.TaskReservation> slots = gangHolds.useSlots(requestId, tasks.size());
+    for (int i = 0; i < slots.size(); i++) {
+      AUDIT_LOG.info(Logging.auditEventString("node_monitor_gang_task_launch", requestId,
+                                              nodeMonitorInternalAddress.getHost(),
+                                              tasks.get(i).getTaskId()));
+      taskLauncherService.launchTask(slots.get(i), tasks.get(i));
+    }
+    return slots.size();
+  }
+
+  /** Gives back up to {@code slots} slots held for the given gang job. */
+  public void releaseGangSlots(String requestId, int slots) {
+    LOG.debug(Logging.functionCall(requestId, slots));
+    gangHolds.releaseSlots(requestId, slots);
+  }
+
+  /**
+   * Drops the given cancelled requests: removes their queued reservations, releases slots held
+   * for them, and asks backends to kill their running tasks.
+   */
+  public void cancelRequests(List<String> requestIds) {
+    LOG.debug(Logging.functionCall(requestIds));
+    for (String requestId : requestIds) {
+      List<TFullTaskId> runningTasks = scheduler.requestCancelled(requestId);
+      gangHolds.releaseSlots(requestId, Integer.MAX_VALUE);
+      killTasks(runningTasks);
+    }
+  }
+
+  /**
+   * Drops everything queued for a scheduler that was declared dead: the queued reservations of
+   * its requests, and the slots held for its gang jobs and leases. Its running tasks are left
+   * to finish.
+   */
+  private void dropScheduler(InetSocketAddress schedulerAddress) {
+    List<String> requestIds = scheduler.schedulerDead(schedulerAddress);
+    for (String requestId : requestIds) {
+      requestSchedulers.remove(requestId);
+      gangHolds.releaseSlots(requestId, Integer.MAX_VALUE);
+      if (leaseManager != null) {
+        leaseManager.releaseSlots(requestId, Integer.MAX_VALUE);
+      }
+    }
+    schedulerContactTimes.remove(schedulerAddress);
+    schedulerApps.remove(schedulerAddress);
+    LOG.warn("Scheduler " + schedulerAddress + " is dead; dropped the queued reservations of " +
+             requestIds.size() + " requests");
   }
 
   /**
@@ -122,28 +457,129 @@ public class NodeMonitor {
   }
 
   /**
-   * Account for tasks which have finished.
+   * Account for tasks which have finished, and report the completions that schedulers asked
+   * for back to them. Tasks that stopped because they were preempted aren't reported, since
+   * they will run again.
    */
   public void tasksFinished(List<TFullTaskId> tasks) {
     LOG.debug(Logging.functionCall(tasks));
-    scheduler.tasksFinished(tasks);
+    reportCompletedTasks(scheduler.tasksFinished(tasks));
+  }
+
+  /** Reports the completions of the given tasks to the schedulers that asked for them. */
+  private void reportCompletedTasks(List<TFullTaskId> completedTasks) {
+    Map<InetSocketAddress, List<TFullTaskId>> reports = Maps.newHashMap();
+    for (TFullTaskId task : completedTasks) {
+      if (task.isSetReportCompletion() && task.isReportCompletion()) {
+        InetSocketAddress schedulerAddress = new InetSocketAddress(
+            task.getSchedulerAddress().getHost(), task.getSchedulerAddress().getPort());
+        if (!reports.containsKey(schedulerAddress)) {
+          reports.put(schedulerAddress, new ArrayList<TFullTaskId>());
+        }
+        reports.get(schedulerAddress).add(task);
+      }
+    }
+    for (Map.Entry<InetSocketAddress, List<TFullTaskId>> entry : reports.entrySet()) {
+      try {
+        AsyncClient client = schedulerClientPool.borrowClient(entry.getKey());
+        client.tasksFinished(entry.getValue(), nodeMonitorInternalAddress,
+                             new TasksFinishedCallback(entry.getKey(), client));
+      } catch (Exception e) {
+        LOG.error("Error reporting finished tasks to scheduler " + entry.getKey() + ": " + e);
+      }
+    }
+  }
+
+  private class TasksFinishedCallback implements AsyncMethodCallback<tasksFinished_call> {
+    private InetSocketAddress schedulerAddress;
+    private AsyncClient client;
+
+    public TasksFinishedCallback(InetSocketAddress schedulerAddress, AsyncClient client) {
+      this.schedulerAddress = schedulerAddress;
+      this.client = client;
+    }
+
+    public void onComplete(tasksFinished_call response) {
+      schedulerLiveness.rpcSucceeded(schedulerAddress);
+      try { schedulerClientPool.returnClient(schedulerAddress, client); }
+      catch (Exception e) { LOG.error(e); }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      schedulerLiveness.rpcFailed(schedulerAddress);
+      LOG.error("Error reporting finished tasks to scheduler " + schedulerAddress + ": " +
+                exception);
+    }
+  }
+
+  /**
+   * Asks the backend running the given task to preempt it, and returns whether the backend
+   * stopped it.
+   */
+  private boolean preemptTask(TFullTaskId task) {
+    InetSocketAddress backend = appSockets.get(task.getAppId());
+    if (backend == null) {
+      LOG.error("No socket stored for " + task.getAppId() + "; can't preempt task " +
+                task.getTaskId());
+      return false;
+    }
+    return taskLauncherService.preemptTask(task, backend);
+  }
+
+  /** Asks the backends running the given tasks to kill them. */
+  public void killTasks(List<TFullTaskId> tasks) {
+    LOG.debug(Logging.functionCall(tasks));
+    for (TFullTaskId task : tasks) {
+      InetSocketAddress backend = appSockets.get(task.getAppId());
+      if (backend == null) {
+        LOG.error("No socket stored for " + task.getAppId() + "; can't kill task " +
+                  task.getTaskId());
+        continue;
+      }
+      taskLauncherService.killTask(task, backend);
+    }
   }
 
-  public boolean enqueueTaskReservations(TEnqueueTaskReservationsRequest request) {
+  /**
+   * Enqueues the given reservations, and returns whether they were enqueued along with the
+   * node's load, which the scheduler uses to pick the nodes it probes.
+   */
+  public TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      TEnqueueTaskReservationsRequest request) {
     LOG.debug(Logging.functionCall(request));
 
     InetSocketAddress schedulerAddress = new InetSocketAddress(
         request.getSchedulerAddress().getHost(), request.getSchedulerAddress().getPort());
+    if (!schedulerLiveness.acceptReservations(schedulerAddress, request.getSchedulerEpoch())) {
+      AUDIT_LOG.info(Logging.auditEventString("node_monitor_dead_scheduler_reservation",
+                                              request.getRequestId(),
+                                              schedulerAddress.getAddress().getHostAddress()));
+      return new TEnqueueTaskReservationsResponse(false, scheduler.getNodeLoad(request.getAppId()));
+    }
+    if (request.isSetGangHoldMs() && request.getGangHoldMs() > 0) {
+      startGangHoldExpiry();
+    }
     requestSchedulers.put(request.getRequestId(), schedulerAddress);
+    if (idleAdvertisementIntervalMs > 0) {
+      schedulerContactTimes.put(schedulerAddress, System.currentTimeMillis());
+    }
+    if (leaseManager != null) {
+      schedulerApps.put(schedulerAddress, request.getAppId());
+    }
 
     InetSocketAddress socket = appSockets.get(request.getAppId());
     if (socket == null) {
       LOG.error("No socket stored for " + request.getAppId() + " (never registered?). " +
       		"Can't launch task.");
-      return false;
+      return new TEnqueueTaskReservationsResponse(false, scheduler.getNodeLoad(request.getAppId()));
     }
     scheduler.submitTaskReservations(request, socket);
-    return true;
+    if (leaseManager != null && scheduler.getFreeSlots() == 0) {
+      // The node is busy, so slots held for leases are better used by queued reservations.
+      leaseManager.revokeLeases();
+    }
+    return new TEnqueueTaskReservationsResponse(true, scheduler.getNodeLoad(request.getAppId()));
   }
 
   private class sendFrontendMessageCallback implements
@@ -171,6 +607,12 @@ public class NodeMonitor {
       int status, ByteBuffer message) {
     LOG.debug(Logging.functionCall(app, taskId, message));
     InetSocketAddress scheduler = requestSchedulers.get(taskId.requestId);
+    if (scheduler == null && taskId.isSetSchedulerAddress()) {
+      // Tasks launched in another request's reservation run under a request that may have no
+      // reservations on this node.
+      scheduler = new InetSocketAddress(taskId.getSchedulerAddress().getHost(),
+                                        taskId.getSchedulerAddress().getPort());
+    }
     if (scheduler == null) {
       LOG.error("Did not find any scheduler info for request: " + taskId);
       return;
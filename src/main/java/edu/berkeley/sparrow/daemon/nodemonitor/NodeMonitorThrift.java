@@ -18,8 +18,12 @@ import edu.berkeley.sparrow.daemon.util.TServers;
 import edu.berkeley.sparrow.thrift.InternalService;
 import edu.berkeley.sparrow.thrift.NodeMonitorService;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
  * This class extends the thrift Sparrow node monitor interface. It wraps the
@@ -98,8 +102,35 @@ public class NodeMonitorThrift implements NodeMonitorService.Iface,
   }
 
   @Override
-  public boolean enqueueTaskReservations(TEnqueueTaskReservationsRequest request)
-      throws TException {
+  public TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      TEnqueueTaskReservationsRequest request) throws TException {
     return nodeMonitor.enqueueTaskReservations(request);
   }
-}
\ No newline at end of file
+
+  @Override
+  public void killTasks(List<TFullTaskId> tasks) throws TException {
+    nodeMonitor.killTasks(tasks);
+  }
+
+  @Override
+  public int launchTasksOnLease(String leaseId, String requestId, TUserGroupInfo user,
+                                TResourceVector estimatedResources, List<TTaskLaunchSpec> tasks)
+      throws TException {
+    return nodeMonitor.launchTasksOnLease(leaseId, requestId, user, estimatedResources, tasks);
+  }
+
+  @Override
+  public int launchGangTasks(String requestId, List<TTaskLaunchSpec> tasks) throws TException {
+    return nodeMonitor.launchGangTasks(requestId, tasks);
+  }
+
+  @Override
+  public void releaseGangSlots(String requestId, int slots) throws TException {
+    nodeMonitor.releaseGangSlots(requestId, slots);
+  }
+
+  @Override
+  public void cancelRequests(List<String> requestIds) throws TException {
+    nodeMonitor.cancelRequests(requestIds);
+  }
+}
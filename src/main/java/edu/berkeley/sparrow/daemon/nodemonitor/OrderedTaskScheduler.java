@@ -0,0 +1,137 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+
+/**
+ * Base class for schedulers that, like the {@link FifoTaskScheduler}, run a fixed number of
+ * tasks at once (equal to the number of cores on the machine), but that launch queued
+ * reservations in an order other than arrival order. Subclasses define the order by
+ * implementing the queue operations.
+ */
+public abstract class OrderedTaskScheduler extends TaskScheduler {
+  private final static Logger LOG = Logger.getLogger(OrderedTaskScheduler.class);
+
+  public int maxActiveTasks = 4;
+  public Integer activeTasks = 0;
+
+  /** Used to break ties between reservations in arrival order. */
+  private long nextSequenceNumber = 0;
+
+  /** A queued reservation, tagged with its position in arrival order. */
+  protected class QueuedReservation {
+    public TaskReservation reservation;
+    public long sequenceNumber;
+
+    public QueuedReservation(TaskReservation reservation) {
+      this.reservation = reservation;
+      this.sequenceNumber = nextSequenceNumber++;
+    }
+  }
+
+  /**
+   * Orders queued reservations using {@link #compareReservations}, falling back to arrival
+   * order for reservations that compare equal.
+   */
+  protected abstract class QueuedReservationComparator
+      implements Comparator<QueuedReservation> {
+    @Override
+    public int compare(QueuedReservation q1, QueuedReservation q2) {
+      int result = compareReservations(q1.reservation, q2.reservation);
+      if (result != 0) {
+        return result;
+      }
+      if (q1.sequenceNumber == q2.sequenceNumber) {
+        return 0;
+      }
+      return q1.sequenceNumber < q2.sequenceNumber ? -1 : 1;
+    }
+
+    /** Returns a negative number if r1 should be launched before r2. */
+    protected abstract int compareReservations(TaskReservation r1, TaskReservation r2);
+  }
+
+  public void setMaxActiveTasks(int max) {
+    this.maxActiveTasks = max;
+  }
+
+  @Override
+  synchronized int handleSubmitTaskReservation(TaskReservation taskReservation) {
+    // This method and handleTaskCompleted() are synchronized to avoid race conditions between
+    // updating activeTasks and the queue of reservations.
+    if (activeTasks < maxActiveTasks) {
+      if (numQueuedReservations() > 0) {
+        String errorMessage = "activeTasks should be less than maxActiveTasks only " +
+                              "when no outstanding reservations.";
+        LOG.error(errorMessage);
+        throw new IllegalStateException(errorMessage);
+      }
+      makeTaskRunnable(taskReservation);
+      ++activeTasks;
+      LOG.debug("Making task for request " + taskReservation.requestId + " runnable (" +
+                activeTasks + " of " + maxActiveTasks + " task slots currently filled)");
+      return 0;
+    }
+    int queuedReservations = numQueuedReservations();
+    LOG.debug("Enqueueing task reservation with request id " + taskReservation.requestId +
+              " because all task slots filled. " + queuedReservations +
+              " already enqueued reservations.");
+    enqueueReservation(taskReservation);
+    return queuedReservations;
+  }
+
+  @Override
+  synchronized protected void handleTaskCompleted(
+      String requestId, String lastExecutedTaskRequestId, String lastExecutedTaskId) {
+    TaskReservation reservation = dequeueReservation();
+    if (reservation != null) {
+      reservation.previousRequestId = lastExecutedTaskRequestId;
+      reservation.previousTaskId = lastExecutedTaskId;
+      makeTaskRunnable(reservation);
+    } else {
+      activeTasks -= 1;
+    }
+  }
+
+  @Override
+  synchronized List<TaskReservation> handleRequestCancelled(String requestId) {
+    return removeReservations(requestId);
+  }
+
+  @Override
+  synchronized TResourceUsage getResourceUsage(String appId) {
+    TResourceUsage out = new TResourceUsage();
+    out.resources = TResources.subtract(capacity, getFreeResources());
+    // We use one shared queue for all apps here
+    out.queueLength = numQueuedReservations();
+    return out;
+  }
+
+  @Override
+  synchronized int getFreeSlots() {
+    if (numQueuedReservations() > 0) {
+      return 0;
+    }
+    return Math.max(0, maxActiveTasks - activeTasks);
+  }
+
+  // ORDERED TASK SCHEDULERS MUST IMPLEMENT THE FOLLOWING. All are called while holding the
+  // scheduler's lock.
+
+  /** Adds a reservation that can't be launched yet to the queue. */
+  protected abstract void enqueueReservation(TaskReservation taskReservation);
+
+  /** Removes and returns the reservation to launch next, or null if the queue is empty. */
+  protected abstract TaskReservation dequeueReservation();
+
+  /** Returns the number of queued reservations. */
+  protected abstract int numQueuedReservations();
+
+  /** Removes and returns the queued reservations of the given request. */
+  protected abstract List<TaskReservation> removeReservations(String requestId);
+}
@@ -0,0 +1,97 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * Like the {@link FifoTaskScheduler}, this scheduler runs a fixed number of tasks at once, but
+ * when all slots are full, queued reservations are launched in order of job priority rather than
+ * in arrival order.
+ *
+ * To avoid starving low priority jobs, reservations age: each reservation gains one priority
+ * level for every {@link SparrowConf#PRIORITY_AGING_INTERVAL_MS} milliseconds it spends in the
+ * queue. Because all reservations age at the same rate, this is equivalent to ordering
+ * reservations by their arrival time, shifted earlier by the aging interval for each level of
+ * priority, so the order of queued reservations never changes and a heap can be used.
+ *
+ * Optionally, a running task of lower priority is preempted for a reservation that has waited
+ * too long (see {@link TaskScheduler#preemptTask}).
+ */
+public class PriorityTaskScheduler extends OrderedTaskScheduler {
+  /** Milliseconds of queueing that are worth one level of priority; 0 disables aging. */
+  private long agingIntervalMs;
+
+  private PriorityQueue<QueuedReservation> taskReservations =
+      new PriorityQueue<QueuedReservation>(11, new QueuedReservationComparator() {
+        @Override
+        protected int compareReservations(TaskReservation r1, TaskReservation r2) {
+          if (agingIntervalMs > 0) {
+            long virtualTime1 = r1.enqueueTime - r1.priority * agingIntervalMs;
+            long virtualTime2 = r2.enqueueTime - r2.priority * agingIntervalMs;
+            if (virtualTime1 != virtualTime2) {
+              return virtualTime1 < virtualTime2 ? -1 : 1;
+            }
+          } else if (r1.priority != r2.priority) {
+            return r1.priority > r2.priority ? -1 : 1;
+          }
+          return 0;
+        }
+      });
+
+  @Override
+  void initialize(TResourceVector capacity, Configuration conf) {
+    super.initialize(capacity, conf);
+    agingIntervalMs = conf.getLong(SparrowConf.PRIORITY_AGING_INTERVAL_MS,
+                                   SparrowConf.DEFAULT_PRIORITY_AGING_INTERVAL_MS);
+  }
+
+  @Override
+  protected void enqueueReservation(TaskReservation taskReservation) {
+    taskReservations.add(new QueuedReservation(taskReservation));
+  }
+
+  @Override
+  protected TaskReservation dequeueReservation() {
+    QueuedReservation queued = taskReservations.poll();
+    if (queued == null) {
+      return null;
+    }
+    return queued.reservation;
+  }
+
+  @Override
+  protected int numQueuedReservations() {
+    return taskReservations.size();
+  }
+
+  @Override
+  protected TaskReservation peekQueuedReservation() {
+    QueuedReservation queued = taskReservations.peek();
+    if (queued == null) {
+      return null;
+    }
+    return queued.reservation;
+  }
+
+  @Override
+  protected List<TaskReservation> removeReservations(String requestId) {
+    List<TaskReservation> removed = Lists.newArrayList();
+    Iterator<QueuedReservation> iterator = taskReservations.iterator();
+    while (iterator.hasNext()) {
+      QueuedReservation queued = iterator.next();
+      if (queued.reservation.requestId.equals(requestId)) {
+        iterator.remove();
+        removed.add(queued.reservation);
+      }
+    }
+    return removed;
+  }
+}
@@ -0,0 +1,197 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * A scheduler that, rather than running a fixed number of tasks at once, launches a reservation
+ * only when its estimated resources fit in the node's capacity less the resources of the tasks
+ * it has already launched. All dimensions of the {@link TResourceVector} are considered
+ * (including disk and network bandwidth, if the node's capacity sets them).
+ *
+ * Whenever resources are freed, queued reservations are scanned in arrival order and every one
+ * that fits is launched, so a large reservation at the head of the queue doesn't block smaller
+ * reservations behind it. To bound starvation of large reservations, once the oldest queued
+ * reservation has waited longer than {@link SparrowConf#RESOURCE_PACKING_MAX_WAIT_MS}, no other
+ * reservations are launched until it has been.
+ *
+ * A reservation that is larger than the node's capacity is launched once nothing else is
+ * running on the node, since it would otherwise never run.
+ */
+public class ResourceAwareTaskScheduler extends TaskScheduler {
+  private final static Logger LOG = Logger.getLogger(ResourceAwareTaskScheduler.class);
+
+  private long maxWaitMs;
+
+  /** Resources of all reservations that have been launched and not yet completed. */
+  private TResourceVector committed = TResources.none();
+  private int committedReservations = 0;
+
+  /** Resources and number of launched reservations for each request with launched tasks. */
+  private HashMap<String, CommittedRequest> committedRequests = Maps.newHashMap();
+
+  private LinkedList<TaskReservation> taskReservations = new LinkedList<TaskReservation>();
+
+  private class CommittedRequest {
+    public TResourceVector resources;
+    public int reservations = 0;
+
+    public CommittedRequest(TResourceVector resources) {
+      this.resources = resources;
+    }
+  }
+
+  @Override
+  void initialize(TResourceVector capacity, Configuration conf) {
+    super.initialize(capacity, conf);
+    maxWaitMs = conf.getLong(SparrowConf.RESOURCE_PACKING_MAX_WAIT_MS,
+                             SparrowConf.DEFAULT_RESOURCE_PACKING_MAX_WAIT_MS);
+  }
+
+  @Override
+  synchronized int handleSubmitTaskReservation(TaskReservation taskReservation) {
+    // This method and handleTaskCompleted() are synchronized to avoid race conditions between
+    // updating the committed resources and the queue of reservations.
+    if (!oldestReservationStarved() && canLaunch(taskReservation)) {
+      launch(taskReservation);
+      return 0;
+    }
+    int queuedReservations = taskReservations.size();
+    LOG.debug("Enqueueing task reservation with request id " + taskReservation.requestId +
+              " because its resources don't fit on the node. " + queuedReservations +
+              " already enqueued reservations.");
+    taskReservations.add(taskReservation);
+    // The oldest reservation may have become starved since resources were last freed.
+    launchQueuedReservations("", "");
+    return queuedReservations;
+  }
+
+  @Override
+  synchronized protected void handleTaskCompleted(
+      String requestId, String lastExecutedTaskRequestId, String lastExecutedTaskId) {
+    CommittedRequest request = committedRequests.get(requestId);
+    if (request == null) {
+      LOG.error("No launched reservations for request: " + requestId);
+    } else {
+      TResources.subtractFrom(committed, request.resources);
+      committedReservations--;
+      request.reservations--;
+      if (request.reservations == 0) {
+        committedRequests.remove(requestId);
+      }
+    }
+
+    launchQueuedReservations(lastExecutedTaskRequestId, lastExecutedTaskId);
+  }
+
+  @Override
+  synchronized List<TaskReservation> handleRequestCancelled(String requestId) {
+    List<TaskReservation> removed = Lists.newArrayList();
+    Iterator<TaskReservation> iterator = taskReservations.iterator();
+    while (iterator.hasNext()) {
+      TaskReservation reservation = iterator.next();
+      if (reservation.requestId.equals(requestId)) {
+        iterator.remove();
+        removed.add(reservation);
+      }
+    }
+    // A starved reservation that was holding back the others may have been removed.
+    launchQueuedReservations("", "");
+    return removed;
+  }
+
+  @Override
+  synchronized TResourceUsage getResourceUsage(String appId) {
+    TResourceUsage out = new TResourceUsage();
+    out.resources = TResources.clone(committed);
+    // We use one shared queue for all apps here
+    out.queueLength = taskReservations.size();
+    return out;
+  }
+
+  /** Free slots are counted in cores, since reservations don't have a fixed size. */
+  @Override
+  synchronized int getFreeSlots() {
+    if (taskReservations.size() > 0) {
+      return 0;
+    }
+    return Math.max(0, capacity.getCores() - committed.getCores());
+  }
+
+  /**
+   * Launches, in arrival order, each queued reservation that fits on the node. The first
+   * reservation launched is recorded as filling the slot of the given task. Must be called while
+   * holding the scheduler's lock.
+   */
+  private void launchQueuedReservations(String lastExecutedTaskRequestId,
+                                        String lastExecutedTaskId) {
+    boolean starved = oldestReservationStarved();
+    Iterator<TaskReservation> iterator = taskReservations.iterator();
+    while (iterator.hasNext()) {
+      TaskReservation reservation = iterator.next();
+      if (!canLaunch(reservation)) {
+        if (starved) {
+          // Hold the freed resources for the starved reservation.
+          break;
+        }
+        continue;
+      }
+      iterator.remove();
+      // Only the first reservation launched fills the slot of the task that just completed.
+      reservation.previousRequestId = lastExecutedTaskRequestId;
+      reservation.previousTaskId = lastExecutedTaskId;
+      lastExecutedTaskRequestId = "";
+      lastExecutedTaskId = "";
+      launch(reservation);
+      starved = oldestReservationStarved();
+    }
+  }
+
+  /**
+   * Returns whether the given reservation's resources fit on the node. Must be called while
+   * holding the scheduler's lock.
+   */
+  private boolean canLaunch(TaskReservation reservation) {
+    return committedReservations == 0 ||
+        TResources.fits(reservation.estimatedResources, capacity, committed);
+  }
+
+  /**
+   * Returns whether the oldest queued reservation has waited long enough that it should be
+   * launched before any other reservations. Must be called while holding the scheduler's lock.
+   */
+  private boolean oldestReservationStarved() {
+    if (taskReservations.isEmpty()) {
+      return false;
+    }
+    long waitTime = clock.currentTimeMillis() - taskReservations.peek().enqueueTime;
+    return waitTime > maxWaitMs;
+  }
+
+  private void launch(TaskReservation reservation) {
+    CommittedRequest request = committedRequests.get(reservation.requestId);
+    if (request == null) {
+      request = new CommittedRequest(reservation.estimatedResources);
+      committedRequests.put(reservation.requestId, request);
+    }
+    request.reservations++;
+    committedReservations++;
+    TResources.addTo(committed, reservation.estimatedResources);
+    LOG.debug("Making task for request " + reservation.requestId + " runnable (" +
+              committedReservations + " tasks launched, using " + committed + ")");
+    makeTaskRunnable(reservation);
+  }
+}
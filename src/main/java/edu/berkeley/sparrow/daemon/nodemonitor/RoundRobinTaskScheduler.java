@@ -2,11 +2,14 @@ package edu.berkeley.sparrow.daemon.nodemonitor;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 import org.apache.log4j.Logger;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 import edu.berkeley.sparrow.daemon.util.TResources;
@@ -96,6 +99,28 @@ public class RoundRobinTaskScheduler extends TaskScheduler {
     }
   }
 
+  @Override
+  List<TaskReservation> handleRequestCancelled(String requestId) {
+    List<TaskReservation> removed = Lists.newArrayList();
+    synchronized(appQueues) {
+      for (String app : Lists.newArrayList(apps)) {
+        Iterator<TaskReservation> iterator = appQueues.get(app).iterator();
+        while (iterator.hasNext()) {
+          TaskReservation reservation = iterator.next();
+          if (reservation.requestId.equals(requestId)) {
+            iterator.remove();
+            removed.add(reservation);
+          }
+        }
+        if (appQueues.get(app).isEmpty()) {
+          appQueues.remove(app);
+          apps.remove(app);
+        }
+      }
+    }
+    return removed;
+  }
+
   @Override
   TResourceUsage getResourceUsage(String appId) {
     TResourceUsage out = new TResourceUsage();
@@ -110,4 +135,14 @@ public class RoundRobinTaskScheduler extends TaskScheduler {
     return out;
   }
 
+  @Override
+  int getFreeSlots() {
+    synchronized(appQueues) {
+      if (!appQueues.isEmpty()) {
+        return 0;
+      }
+    }
+    return Math.max(0, getFreeResources().getCores());
+  }
+
 }
@@ -0,0 +1,118 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+
+/**
+ * Learns which schedulers are alive from the outcomes of the node monitor's RPCs to them. A
+ * scheduler is declared dead once {@link SparrowConf#NM_SCHEDULER_MAX_FAILURES} RPCs to it fail
+ * in a row; the listener is then told, so that everything queued for the scheduler can be
+ * dropped, and the scheduler is tombstoned for {@link SparrowConf#NM_SCHEDULER_TOMBSTONE_MS} so
+ * that reservations from it that arrive late are refused. Reservations carry the epoch of the
+ * scheduler that sent them (see {@link #acceptReservations}); a scheduler that was restarted
+ * has a later epoch, which clears its tombstone.
+ */
+class SchedulerLiveness {
+  /** Told when a scheduler is declared dead. */
+  interface Listener {
+    void schedulerDead(InetSocketAddress schedulerAddress);
+  }
+
+  private int maxFailures;
+  private long tombstoneMs;
+  private Listener listener;
+  private Clock clock;
+
+  /** Number of RPCs that failed in a row, for schedulers whose last RPC failed. */
+  private Map<InetSocketAddress, Integer> failures = Maps.newHashMap();
+
+  /** Times until which dead schedulers are tombstoned. */
+  private Map<InetSocketAddress, Long> tombstones = Maps.newHashMap();
+
+  /** Latest epoch that each scheduler enqueued reservations with. */
+  private Map<InetSocketAddress, Long> epochs = Maps.newHashMap();
+
+  SchedulerLiveness(Configuration conf, Listener listener) {
+    this(conf.getInt(SparrowConf.NM_SCHEDULER_MAX_FAILURES,
+                     SparrowConf.DEFAULT_NM_SCHEDULER_MAX_FAILURES),
+         conf.getLong(SparrowConf.NM_SCHEDULER_TOMBSTONE_MS,
+                      SparrowConf.DEFAULT_NM_SCHEDULER_TOMBSTONE_MS),
+         listener);
+  }
+
+  SchedulerLiveness(int maxFailures, long tombstoneMs, Listener listener) {
+    this(maxFailures, tombstoneMs, listener, Clock.SYSTEM);
+  }
+
+  SchedulerLiveness(int maxFailures, long tombstoneMs, Listener listener, Clock clock) {
+    this.maxFailures = maxFailures;
+    this.tombstoneMs = tombstoneMs;
+    this.listener = listener;
+    this.clock = clock;
+  }
+
+  synchronized void rpcSucceeded(InetSocketAddress schedulerAddress) {
+    failures.remove(schedulerAddress);
+  }
+
+  /**
+   * Returns whether reservations that the given scheduler sent with the given epoch (0 if none
+   * was given) should be accepted. They are refused while the scheduler is tombstoned, unless
+   * the epoch is later than any the scheduler used before, which means that it was restarted.
+   */
+  synchronized boolean acceptReservations(InetSocketAddress schedulerAddress, long epoch) {
+    if (epoch > 0) {
+      Long lastEpoch = epochs.get(schedulerAddress);
+      if (lastEpoch == null || epoch > lastEpoch) {
+        epochs.put(schedulerAddress, epoch);
+        if (lastEpoch != null) {
+          failures.remove(schedulerAddress);
+          tombstones.remove(schedulerAddress);
+        }
+      }
+    }
+    return !isDead(schedulerAddress);
+  }
+
+  /** Records that an RPC to the given scheduler failed, and declares it dead if need be. */
+  void rpcFailed(InetSocketAddress schedulerAddress) {
+    synchronized (this) {
+      if (maxFailures <= 0 || isDead(schedulerAddress)) {
+        return;
+      }
+      Integer schedulerFailures = failures.get(schedulerAddress);
+      schedulerFailures = schedulerFailures == null ? 1 : schedulerFailures + 1;
+      if (schedulerFailures < maxFailures) {
+        failures.put(schedulerAddress, schedulerFailures);
+        return;
+      }
+      failures.remove(schedulerAddress);
+      tombstones.put(schedulerAddress, clock.currentTimeMillis() + tombstoneMs);
+    }
+    // Called without holding the lock, since the listener may take other locks.
+    listener.schedulerDead(schedulerAddress);
+  }
+
+  /** Returns whether the given scheduler was declared dead and is still tombstoned. */
+  synchronized boolean isDead(InetSocketAddress schedulerAddress) {
+    if (tombstones.isEmpty()) {
+      return false;
+    }
+    Long tombstoneExpiry = tombstones.get(schedulerAddress);
+    if (tombstoneExpiry == null) {
+      return false;
+    }
+    if (clock.currentTimeMillis() >= tombstoneExpiry) {
+      tombstones.remove(schedulerAddress);
+      return false;
+    }
+    return true;
+  }
+}
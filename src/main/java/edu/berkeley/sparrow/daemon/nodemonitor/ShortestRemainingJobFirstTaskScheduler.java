@@ -0,0 +1,124 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * A scheduler that runs a fixed number of tasks at once and launches queued reservations for the
+ * jobs with the least remaining work first, where a job's remaining work is the number of its
+ * unlaunched tasks times their estimated duration (durations count as 1ms while unknown, so
+ * jobs are ordered by remaining tasks until durations have been learned). Because a job's
+ * response time is the completion time of its last task, this keeps reservations for short
+ * jobs from queueing behind the reservations of large jobs.
+ *
+ * To bound starvation of large jobs, a reservation that has been queued for longer than
+ * {@link SparrowConf#SRJF_MAX_WAIT_MS} is launched ahead of all other reservations (oldest
+ * first).
+ */
+public class ShortestRemainingJobFirstTaskScheduler extends OrderedTaskScheduler {
+  private final static Logger LOG =
+      Logger.getLogger(ShortestRemainingJobFirstTaskScheduler.class);
+
+  private long maxWaitMs;
+
+  /**
+   * Each queued reservation is stored in both of the following queues; reservations launched
+   * from one queue are marked as dequeued and skipped when they reach the head of the other.
+   */
+  private PriorityQueue<SizedReservation> reservationsBySize =
+      new PriorityQueue<SizedReservation>(11, new QueuedReservationComparator() {
+        @Override
+        protected int compareReservations(TaskReservation r1, TaskReservation r2) {
+          long work1 = remainingWork(r1);
+          long work2 = remainingWork(r2);
+          if (work1 == work2) {
+            return 0;
+          }
+          return work1 < work2 ? -1 : 1;
+        }
+      });
+  private LinkedList<SizedReservation> reservationsByArrival = new LinkedList<SizedReservation>();
+  private int numQueuedReservations = 0;
+
+  private class SizedReservation extends QueuedReservation {
+    public boolean dequeued = false;
+
+    public SizedReservation(TaskReservation reservation) {
+      super(reservation);
+    }
+  }
+
+  private static long remainingWork(TaskReservation reservation) {
+    return reservation.remainingJobTasks * Math.max(1, reservation.estimatedDurationMs);
+  }
+
+  @Override
+  void initialize(TResourceVector capacity, Configuration conf) {
+    super.initialize(capacity, conf);
+    maxWaitMs = conf.getLong(SparrowConf.SRJF_MAX_WAIT_MS, SparrowConf.DEFAULT_SRJF_MAX_WAIT_MS);
+  }
+
+  @Override
+  protected void enqueueReservation(TaskReservation taskReservation) {
+    SizedReservation queued = new SizedReservation(taskReservation);
+    reservationsBySize.add(queued);
+    reservationsByArrival.add(queued);
+    numQueuedReservations++;
+  }
+
+  @Override
+  protected TaskReservation dequeueReservation() {
+    while (!reservationsByArrival.isEmpty() && reservationsByArrival.peek().dequeued) {
+      reservationsByArrival.poll();
+    }
+    while (!reservationsBySize.isEmpty() && reservationsBySize.peek().dequeued) {
+      reservationsBySize.poll();
+    }
+    if (reservationsByArrival.isEmpty()) {
+      return null;
+    }
+
+    SizedReservation next;
+    SizedReservation oldest = reservationsByArrival.peek();
+    long waitTime = clock.currentTimeMillis() - oldest.reservation.enqueueTime;
+    if (waitTime > maxWaitMs) {
+      LOG.debug("Launching reservation for request " + oldest.reservation.requestId +
+                " ahead of smaller jobs because it has been queued for " + waitTime + "ms");
+      next = reservationsByArrival.poll();
+    } else {
+      next = reservationsBySize.poll();
+    }
+    next.dequeued = true;
+    numQueuedReservations--;
+    return next.reservation;
+  }
+
+  @Override
+  protected int numQueuedReservations() {
+    return numQueuedReservations;
+  }
+
+  @Override
+  protected List<TaskReservation> removeReservations(String requestId) {
+    // Like launched reservations, removed reservations are marked as dequeued, and skipped when
+    // they reach the head of either queue.
+    List<TaskReservation> removed = Lists.newArrayList();
+    for (SizedReservation queued : reservationsByArrival) {
+      if (!queued.dequeued && queued.reservation.requestId.equals(requestId)) {
+        queued.dequeued = true;
+        numQueuedReservations--;
+        removed.add(queued.reservation);
+      }
+    }
+    return removed;
+  }
+}
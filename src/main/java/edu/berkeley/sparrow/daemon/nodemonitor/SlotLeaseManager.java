@@ -0,0 +1,236 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.net.InetSocketAddress;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskReservation;
+import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.util.Network;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TSlotLease;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+/**
+ * Slots that the node monitor has leased to schedulers (see
+ * {@link SparrowConf#NM_SLOT_LEASE_SLOTS}).
+ *
+ * A lease is granted by enqueueing reservations for it in the {@link TaskScheduler}, using the
+ * lease ID as the request ID, so that leased slots are accounted for like slots running a task.
+ * Tasks launched in a leased slot run under their own job's request and resources.
+ * When one of these reservations becomes runnable, the {@link TaskLauncherService} hands it to
+ * this class instead of calling getTask(), and the slot is held until the scheduler launches a
+ * task in it. Slots of leases that expire or are revoked are given back to the task scheduler,
+ * so a scheduler that stops using its leases can't keep the node's capacity.
+ *
+ * The same mechanism holds slots for gang jobs: runnable reservations of a gang job are held
+ * under the job's request ID (see {@link #holdGangSlot}) until the scheduler launches the gang's
+ * tasks in them, releases them, or the hold expires.
+ */
+class SlotLeaseManager {
+  private final static Logger LOG = Logger.getLogger(SlotLeaseManager.class);
+  private final static Logger AUDIT_LOG = Logging.getAuditLogger(SlotLeaseManager.class);
+
+  /** User that leased slots are accounted to until a task is launched in them. */
+  private final static TUserGroupInfo LEASE_USER = new TUserGroupInfo("sparrow", "sparrow");
+
+  private class Lease {
+    public InetSocketAddress schedulerAddress;
+    public long expiryTime;
+
+    /** Reservations for the lease that became runnable and haven't been used. */
+    public List<TaskReservation> heldSlots = Lists.newArrayList();
+
+    /** Number of reservations for the lease still queued in the task scheduler. */
+    public int queuedSlots;
+
+    public boolean revoked = false;
+
+    public Lease(InetSocketAddress schedulerAddress, long expiryTime, int slots) {
+      this.schedulerAddress = schedulerAddress;
+      this.expiryTime = expiryTime;
+      queuedSlots = slots;
+    }
+
+    public boolean isValid(long now) {
+      return !revoked && now <= expiryTime;
+    }
+  }
+
+  private TaskScheduler scheduler;
+  private Clock clock;
+  private AtomicInteger counter = new AtomicInteger(0);
+
+  /** Leases with slots that haven't been used or given back, indexed by lease ID. */
+  private Map<String, Lease> leases = Maps.newHashMap();
+
+  SlotLeaseManager(TaskScheduler scheduler) {
+    this(scheduler, Clock.SYSTEM);
+  }
+
+  SlotLeaseManager(TaskScheduler scheduler, Clock clock) {
+    this.scheduler = scheduler;
+    this.clock = clock;
+  }
+
+  /**
+   * Leases {@code slots} slots for tasks of the given application to the scheduler at
+   * {@code schedulerAddress}, for {@code durationMs} milliseconds.
+   */
+  TSlotLease grantLease(String appId, InetSocketAddress appBackendAddress,
+                        InetSocketAddress schedulerAddress, THostPort nodeMonitorAddress,
+                        int slots, long durationMs) {
+    String leaseId = String.format("lease_%s_%d", nodeMonitorAddress.getHost(),
+                                   counter.getAndIncrement());
+    synchronized (this) {
+      leases.put(leaseId, new Lease(schedulerAddress, clock.currentTimeMillis() + durationMs,
+                                    slots));
+    }
+    AUDIT_LOG.info(Logging.auditEventString("node_monitor_lease_granted", leaseId,
+                                            schedulerAddress.getAddress().getHostAddress(),
+                                            slots));
+    TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
+        appId, LEASE_USER, leaseId, TResources.createResourceVector(0, 1),
+        Network.socketAddressToThrift(schedulerAddress), slots);
+    scheduler.submitTaskReservations(request, appBackendAddress);
+    return new TSlotLease(leaseId, nodeMonitorAddress, appId, slots, durationMs);
+  }
+
+  /**
+   * Takes a runnable reservation from the task scheduler, if it belongs to a lease, and returns
+   * whether it did. The slot is held for the lease, or given back right away if the lease is no
+   * longer valid.
+   */
+  boolean holdSlot(TaskReservation reservation) {
+    synchronized (this) {
+      Lease lease = leases.get(reservation.requestId);
+      if (lease == null) {
+        return false;
+      }
+      lease.queuedSlots--;
+      if (lease.isValid(clock.currentTimeMillis())) {
+        lease.heldSlots.add(reservation);
+        return true;
+      }
+      if (lease.queuedSlots == 0) {
+        leases.remove(reservation.requestId);
+      }
+    }
+    scheduler.noTaskForRequest(reservation);
+    return true;
+  }
+
+  /**
+   * Holds the slot of a runnable reservation of a gang job, under the job's request ID, for at
+   * most {@code durationMs} milliseconds.
+   */
+  synchronized void holdGangSlot(TaskReservation reservation, long durationMs) {
+    Lease lease = leases.get(reservation.requestId);
+    long expiryTime = clock.currentTimeMillis() + durationMs;
+    if (lease == null) {
+      lease = new Lease(reservation.schedulerAddress, expiryTime, 0);
+      leases.put(reservation.requestId, lease);
+    }
+    // Later holds keep the earlier ones alive, since the gang is still being assembled.
+    lease.expiryTime = Math.max(lease.expiryTime, expiryTime);
+    lease.heldSlots.add(reservation);
+  }
+
+  /** Gives up to {@code maxSlots} held slots of the given lease back to the task scheduler. */
+  void releaseSlots(String leaseId, int maxSlots) {
+    List<TaskReservation> released = Lists.newArrayList();
+    synchronized (this) {
+      Lease lease = leases.get(leaseId);
+      if (lease == null) {
+        return;
+      }
+      while (released.size() < maxSlots && !lease.heldSlots.isEmpty()) {
+        released.add(lease.heldSlots.remove(0));
+      }
+      if (lease.heldSlots.isEmpty() && lease.queuedSlots == 0) {
+        leases.remove(leaseId);
+      }
+    }
+    for (TaskReservation reservation : released) {
+      scheduler.noTaskForRequest(reservation);
+    }
+  }
+
+  /**
+   * Returns up to {@code maxSlots} held slots of the given lease, in which the caller should
+   * launch tasks. Returns no slots if the lease expired or was revoked.
+   */
+  synchronized List<TaskReservation> useSlots(String leaseId, int maxSlots) {
+    List<TaskReservation> slots = Lists.newArrayList();
+    Lease lease = leases.get(leaseId);
+    if (lease == null || !lease.isValid(clock.currentTimeMillis())) {
+      return slots;
+    }
+    while (slots.size() < maxSlots && !lease.heldSlots.isEmpty()) {
+      slots.add(lease.heldSlots.remove(0));
+    }
+    if (lease.heldSlots.isEmpty() && lease.queuedSlots == 0) {
+      leases.remove(leaseId);
+    }
+    return slots;
+  }
+
+  /** Returns whether the given scheduler holds a lease that is still valid. */
+  synchronized boolean hasLease(InetSocketAddress schedulerAddress) {
+    long now = clock.currentTimeMillis();
+    for (Lease lease : leases.values()) {
+      if (lease.schedulerAddress.equals(schedulerAddress) && lease.isValid(now)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Gives the held slots of expired leases back to the task scheduler. */
+  void expireLeases() {
+    releaseSlots(false);
+  }
+
+  /** Revokes all leases, and gives their held slots back to the task scheduler. */
+  void revokeLeases() {
+    releaseSlots(true);
+  }
+
+  private void releaseSlots(boolean revokeAll) {
+    List<TaskReservation> released = Lists.newArrayList();
+    synchronized (this) {
+      long now = clock.currentTimeMillis();
+      Iterator<Map.Entry<String, Lease>> iterator = leases.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Lease> entry = iterator.next();
+        Lease lease = entry.getValue();
+        if (!revokeAll && lease.isValid(now)) {
+          continue;
+        }
+        if (lease.isValid(now)) {
+          LOG.debug("Revoking lease " + entry.getKey());
+        }
+        lease.revoked = true;
+        released.addAll(lease.heldSlots);
+        lease.heldSlots.clear();
+        if (lease.queuedSlots == 0) {
+          iterator.remove();
+        }
+      }
+    }
+    for (TaskReservation reservation : released) {
+      scheduler.noTaskForRequest(reservation);
+    }
+  }
+}
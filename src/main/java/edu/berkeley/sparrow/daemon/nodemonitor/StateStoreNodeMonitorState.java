@@ -33,7 +33,7 @@ public class StateStoreNodeMonitorState implements NodeMonitorState {
     int port = conf.getInt(SparrowConf.INTERNAL_THRIFT_PORTS, 
         NodeMonitorThrift.DEFAULT_INTERNAL_THRIFT_PORT);
     try {
-      client.registerNodeMonitor(hostname + ":" + port);
+      client.registerNodeMonitor(hostname + ":" + port, conf.getString(SparrowConf.NM_RACK, ""));
     } catch (TException e) {
       LOG.fatal("Error registering node monitor with state store");
       throw new IOException(e);
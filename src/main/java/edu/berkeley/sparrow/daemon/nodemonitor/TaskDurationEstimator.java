@@ -0,0 +1,77 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+
+/**
+ * Learns how long each application's tasks run on this node, as an exponentially weighted
+ * moving average (with weight {@link SparrowConf#NM_TASK_DURATION_EWMA_WEIGHT}) of the time
+ * between launching a task and the backend reporting it finished. Used to estimate how long
+ * queued reservations will take when the frontend didn't give an expected duration.
+ */
+class TaskDurationEstimator {
+  private double weight;
+  private Clock clock;
+
+  /** Launch times of running tasks, indexed by request ID and task ID. */
+  private ConcurrentMap<String, Long> launchTimes = Maps.newConcurrentMap();
+
+  /** Estimated task duration for each application, in milliseconds. */
+  private ConcurrentMap<String, Double> appDurations = Maps.newConcurrentMap();
+
+  /** Estimated duration of tasks of all applications, or -1 if no task has finished yet. */
+  private volatile double overallDuration = -1;
+
+  TaskDurationEstimator(Configuration conf, Clock clock) {
+    this.clock = clock;
+    weight = conf.getDouble(SparrowConf.NM_TASK_DURATION_EWMA_WEIGHT,
+                            SparrowConf.DEFAULT_NM_TASK_DURATION_EWMA_WEIGHT);
+  }
+
+  void taskLaunched(TFullTaskId taskId) {
+    launchTimes.put(getKey(taskId), clock.currentTimeMillis());
+  }
+
+  void taskFinished(TFullTaskId taskId) {
+    Long launchTime = launchTimes.remove(getKey(taskId));
+    if (launchTime == null) {
+      return;
+    }
+    double duration = clock.currentTimeMillis() - launchTime;
+    synchronized (this) {
+      Double appDuration = appDurations.get(taskId.getAppId());
+      appDurations.put(taskId.getAppId(), appDuration == null ? duration :
+                       weight * duration + (1 - weight) * appDuration);
+      overallDuration = overallDuration < 0 ? duration :
+          weight * duration + (1 - weight) * overallDuration;
+    }
+  }
+
+  /** Forgets a task that stopped without running to completion. */
+  void taskFailed(TFullTaskId taskId) {
+    launchTimes.remove(getKey(taskId));
+  }
+
+  /**
+   * Returns the estimated duration (in milliseconds) of the application's tasks, falling back
+   * to the estimate for all applications, or -1 if no task has finished yet.
+   */
+  long getEstimatedDurationMs(String appId) {
+    Double appDuration = appDurations.get(appId);
+    if (appDuration != null) {
+      return Math.round(appDuration);
+    }
+    return Math.round(overallDuration);
+  }
+
+  private static String getKey(TFullTaskId taskId) {
+    return taskId.getRequestId() + "/" + taskId.getTaskId();
+  }
+}
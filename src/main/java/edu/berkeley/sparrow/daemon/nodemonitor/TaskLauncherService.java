@@ -8,12 +8,14 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
 import org.apache.thrift.TException;
 import org.apache.thrift.async.AsyncMethodCallback;
 
+import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskReservation;
 import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Network;
@@ -23,6 +25,7 @@ import edu.berkeley.sparrow.thrift.BackendService;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.getTask_call;
+import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.taskLaunchFailed_call;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
@@ -31,7 +34,13 @@ import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
  * TaskLauncher service consumes TaskReservations produced by {@link TaskScheduler.getNextTask}.
  * For each TaskReservation, the TaskLauncherService attempts to fetch the task specification from
  * the scheduler that send the reservation using the {@code getTask} RPC; if it successfully
- * fetches a task, it launches the task on the appropriate backend.
+ * fetches a task, it launches the task on the appropriate backend. TaskReservations that hold
+ * slots for a lease are handed to the {@link SlotLeaseManager} instead. Slots of gang jobs'
+ * reservations are held before calling {@code getTask}, and the scheduler launches tasks in them
+ * once the whole gang has slots. If the backend fails to launch a task, its slot is freed and
+ * the scheduler is told, so that it can place the task again. If {@code getTask} fails or times
+ * out (see {@link SparrowConf#NM_SCHEDULER_RPC_TIMEOUT_MS}), the slot goes to the next
+ * reservation.
  */
 public class TaskLauncherService {
   private final static Logger LOG = Logger.getLogger(TaskLauncherService.class);
@@ -49,6 +58,18 @@ public class TaskLauncherService {
 
   private TaskScheduler scheduler;
 
+  /** Null if the node monitor doesn't lease slots. */
+  private SlotLeaseManager leaseManager;
+
+  /** Slots held for gang jobs. */
+  private SlotLeaseManager gangHolds;
+
+  /** Tracks which schedulers are alive, from the outcomes of getTask() calls. */
+  private SchedulerLiveness schedulerLiveness;
+
+  /** Number of getTask() calls that failed or timed out. */
+  private AtomicLong getTaskFailures = new AtomicLong(0);
+
   /** Cache of thrift clients pools for each backends. Clients are removed from the pool
    *  when in use. */
   private HashMap<InetSocketAddress, BlockingQueue<BackendService.Client>> backendClients =
@@ -60,6 +81,24 @@ public class TaskLauncherService {
     public void run() {
       while (true) {
         TaskReservation task = scheduler.getNextTask(); // blocks until task is ready
+        if (task.preemptedTask != null) {
+          // The scheduler already assigned this task, before it was preempted.
+          launchTask(task, task.preemptedTask);
+          continue;
+        }
+        if (leaseManager != null && leaseManager.holdSlot(task)) {
+          continue;
+        }
+        if (schedulerLiveness.isDead(task.schedulerAddress)) {
+          LOG.debug("Not calling getTask() for request " + task.requestId + " on dead scheduler " +
+                    task.schedulerAddress);
+          scheduler.noTaskForRequest(task);
+          continue;
+        }
+        if (task.gangHoldMs > 0) {
+          // Hold the slot first, so the scheduler can launch the gang's task in it at any time.
+          gangHolds.holdGangSlot(task, task.gangHoldMs);
+        }
         LOG.debug("Tring to get scheduler client to make getTask() request for app " + task.appId +
                   ", request " + task.requestId);
 
@@ -69,9 +108,10 @@ public class TaskLauncherService {
           schedulerClient = schedulerClientPool.borrowClient(
               task.schedulerAddress);
         } catch (Exception e) {
-          LOG.fatal("Unable to create client to contact scheduler at " +
+          LOG.error("Unable to create client to contact scheduler at " +
                     task.schedulerAddress.toString() + ":" + e);
-          return;
+          getTaskFailed(task);
+          continue;
         }
         try {
           LOG.debug("Attempting to get task from scheduler at " +
@@ -79,10 +119,11 @@ public class TaskLauncherService {
           AUDIT_LOG.debug(Logging.auditEventString("node_monitor_get_task", task.requestId,
                                                    nodeMonitorInternalAddress.getHost()));
           schedulerClient.getTask(task.requestId, nodeMonitorInternalAddress,
-                                  new GetTaskCallback(task));
+                                  scheduler.getNodeLoad(task.appId), new GetTaskCallback(task));
         } catch (TException e) {
           LOG.error("Unable to getTask() from scheduler at " +
                     task.schedulerAddress.toString() + ":" + e);
+          getTaskFailed(task);
         }
       }
     }
@@ -98,12 +139,13 @@ public class TaskLauncherService {
     @Override
     public void onComplete(getTask_call response) {
       LOG.debug(Logging.functionCall(response));
+      schedulerLiveness.rpcSucceeded(taskReservation.schedulerAddress);
       try {
         schedulerClientPool.returnClient(taskReservation.schedulerAddress,
                                          (AsyncClient) response.getClient());
       } catch (Exception e) {
-        LOG.error("Error getting client from scheduler client pool: " + e.getMessage());
-        return;
+        // The response was already received, so it's still used.
+        LOG.error("Error returning client to scheduler client pool: " + e.getMessage());
       }
       List<TTaskLaunchSpec> taskLaunchSpecs;
       try {
@@ -111,10 +153,25 @@ public class TaskLauncherService {
       } catch (TException e) {
         LOG.error("Unable to read result of calling getTask() on scheduler " +
                   taskReservation.schedulerAddress.toString() + ": " + e);
-        scheduler.noTaskForRequest(taskReservation);
+        getTaskFailed(taskReservation);
         return;
       }
 
+      if (taskReservation.gangHoldMs > 0) {
+        if (taskLaunchSpecs.isEmpty()) {
+          LOG.debug("Holding slot for gang request " + taskReservation.requestId);
+          return;
+        }
+        // The scheduler launched the task right away, so use one of the held slots for it.
+        List<TaskReservation> slots = gangHolds.useSlots(taskReservation.requestId, 1);
+        if (slots.isEmpty()) {
+          LOG.error("No slot held for gang request " + taskReservation.requestId +
+                    "; not launching task " + taskLaunchSpecs.get(0).getTaskId());
+          return;
+        }
+        taskReservation = slots.get(0);
+      }
+
       if (taskLaunchSpecs.isEmpty()) {
         LOG.debug("Didn't receive a task for request " + taskReservation.requestId);
         scheduler.noTaskForRequest(taskReservation);
@@ -134,59 +191,157 @@ public class TaskLauncherService {
                                               taskLaunchSpec.getTaskId(),
                                               taskReservation.previousRequestId,
                                               taskReservation.previousTaskId));
+      launchTask(taskReservation, taskLaunchSpec);
+    }
 
-      // Launch the task on the backend.
-      BackendService.Client client = null;
-      if (!backendClients.containsKey(taskReservation.appBackendAddress)) {
-        createThriftClients(taskReservation.appBackendAddress);
-      }
+    @Override
+    public void onError(Exception exception) {
+      // Do not return error client to pool.
+      LOG.error("Error executing getTask() RPC on scheduler " +
+                taskReservation.schedulerAddress + ": " + exception);
+      getTaskFailed(taskReservation);
+    }
+  }
 
-      try {
-        // Blocks until a client becomes available.
-        client = backendClients.get(taskReservation.appBackendAddress).take();
-      } catch (InterruptedException e) {
-        LOG.fatal("Error when trying to get a client for " + taskReservation.appId
-                  + "backend at " + taskReservation.appBackendAddress.toString() + ":" +
-                  e);
-      }
+  /**
+   * Gives back the slot of a reservation whose getTask() call failed, so that it goes to the
+   * next reservation, and counts the failure against the scheduler.
+   */
+  private void getTaskFailed(TaskReservation taskReservation) {
+    long failures = getTaskFailures.incrementAndGet();
+    AUDIT_LOG.info(Logging.auditEventString(
+        "node_monitor_get_task_failed", taskReservation.requestId,
+        taskReservation.schedulerAddress.getAddress().getHostAddress(), failures));
+    releaseSlot(taskReservation);
+    schedulerLiveness.rpcFailed(taskReservation.schedulerAddress);
+  }
 
-      THostPort schedulerHostPort = Network.socketAddressToThrift(
+  /**
+   * Gives back the slot of a reservation whose getTask() call failed. For gang jobs, the
+   * scheduler won't know about the hold, so the held slot is released rather than kept until
+   * it expires.
+   */
+  private void releaseSlot(TaskReservation taskReservation) {
+    if (taskReservation.gangHoldMs > 0) {
+      gangHolds.releaseSlots(taskReservation.requestId, 1);
+    } else {
+      scheduler.noTaskForRequest(taskReservation);
+    }
+  }
+
+  /** Returns the number of getTask() calls that failed or timed out. */
+  long getGetTaskFailures() {
+    return getTaskFailures.get();
+  }
+
+  /** Launches the given task on the backend, in the slot held by {@code taskReservation}. */
+  void launchTask(TaskReservation taskReservation, TTaskLaunchSpec taskLaunchSpec) {
+    BackendService.Client client = null;
+    if (!backendClients.containsKey(taskReservation.appBackendAddress)) {
+      createThriftClients(taskReservation.appBackendAddress);
+    }
+
+    try {
+      // Blocks until a client becomes available.
+      client = backendClients.get(taskReservation.appBackendAddress).take();
+    } catch (InterruptedException e) {
+      LOG.fatal("Error when trying to get a client for " + taskReservation.appId
+                + "backend at " + taskReservation.appBackendAddress.toString() + ":" +
+                e);
+    }
+
+    THostPort schedulerHostPort = Network.socketAddressToThrift(
+        taskReservation.schedulerAddress);
+    // Tasks launched in another request's reservation or in a lease run under their own request.
+    String requestId = taskLaunchSpec.isSetRequestId() ? taskLaunchSpec.getRequestId() :
+        taskReservation.requestId;
+    TFullTaskId taskId = new TFullTaskId(taskLaunchSpec.getTaskId(), requestId,
+                                         taskReservation.appId, schedulerHostPort);
+    if (taskLaunchSpec.isSetReportCompletion()) {
+      taskId.setReportCompletion(taskLaunchSpec.isReportCompletion());
+    }
+    scheduler.taskLaunched(taskReservation, taskLaunchSpec, taskId);
+    try {
+      client.launchTask(taskLaunchSpec.bufferForMessage(), taskId, taskReservation.user,
+                        taskReservation.estimatedResources);
+    } catch (TException e) {
+      LOG.error("Unable to launch task on backend " + taskReservation.appBackendAddress + ":" +
+                e);
+      client = replaceClient(taskReservation.appBackendAddress, client);
+      launchFailed(taskReservation, taskId);
+    }
+
+    try {
+      backendClients.get(taskReservation.appBackendAddress).put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal("Error while attempting to return client for " +
+                taskReservation.appBackendAddress.toString() +
+                " to the set of backend clients: " + e);
+    }
+
+    LOG.debug("Launched task " + taskId.taskId + " for request " + taskId.requestId +
+              " on application backend at system time " + System.currentTimeMillis());
+  }
+
+  /**
+   * Returns a new client for the backend at {@code backendAddr} to use instead of one whose
+   * connection may be broken, or the old client if a new one can't be created.
+   */
+  private BackendService.Client replaceClient(InetSocketAddress backendAddr,
+                                              BackendService.Client client) {
+    try {
+      return TClients.createBlockingBackendClient(backendAddr.getAddress().getHostAddress(),
+                                                  backendAddr.getPort());
+    } catch (IOException e) {
+      LOG.error("Error creating thrift client", e);
+      return client;
+    }
+  }
+
+  /** Frees the slot of a task that failed to launch, and tells its scheduler. */
+  private void launchFailed(TaskReservation taskReservation, TFullTaskId taskId) {
+    scheduler.taskLaunchFailed(taskId);
+    try {
+      SchedulerService.AsyncClient client = schedulerClientPool.borrowClient(
           taskReservation.schedulerAddress);
-      TFullTaskId taskId = new TFullTaskId(taskLaunchSpec.getTaskId(), taskReservation.requestId,
-                                           taskReservation.appId, schedulerHostPort);
-      try {
-        client.launchTask(taskLaunchSpec.bufferForMessage(), taskId, taskReservation.user,
-                          taskReservation.estimatedResources);
-      } catch (TException e) {
-        LOG.fatal("Unable to launch task on backend " + taskReservation.appBackendAddress + ":" +
-                  e);
-      }
+      client.taskLaunchFailed(taskId, nodeMonitorInternalAddress,
+                              new TaskLaunchFailedCallback(taskReservation.schedulerAddress,
+                                                           client));
+    } catch (Exception e) {
+      LOG.error("Unable to report launch failure of task " + taskId.taskId + " to scheduler " +
+                taskReservation.schedulerAddress + ":" + e);
+    }
+  }
 
-      try {
-        backendClients.get(taskReservation.appBackendAddress).put(client);
-      } catch (InterruptedException e) {
-        LOG.fatal("Error while attempting to return client for " +
-                  taskReservation.appBackendAddress.toString() +
-                  " to the set of backend clients: " + e);
-      }
+  private class TaskLaunchFailedCallback implements AsyncMethodCallback<taskLaunchFailed_call> {
+    private InetSocketAddress schedulerAddress;
+    private AsyncClient client;
 
-      LOG.debug("Launched task " + taskId.taskId + " for request " + taskReservation.requestId +
-                " on application backend at system time " + System.currentTimeMillis());
+    public TaskLaunchFailedCallback(InetSocketAddress schedulerAddress, AsyncClient client) {
+      this.schedulerAddress = schedulerAddress;
+      this.client = client;
+    }
+
+    public void onComplete(taskLaunchFailed_call response) {
+      try { schedulerClientPool.returnClient(schedulerAddress, client); }
+      catch (Exception e) { LOG.error(e); }
     }
 
-    @Override
     public void onError(Exception exception) {
-      // Do not return error client to pool.
-      exception.printStackTrace();
-      LOG.error("Error executing getTask() RPC:" + exception.getStackTrace().toString() +
-                exception.toString());
+      // Do not return error client to pool
+      LOG.error("Error reporting launch failure to scheduler " + schedulerAddress + ": " +
+                exception);
     }
   }
 
   public void initialize(Configuration conf, TaskScheduler scheduler,
                          ThriftClientPool<SchedulerService.AsyncClient> schedulerClientPool,
-                         int nodeMonitorPort) {
+                         int nodeMonitorPort, SlotLeaseManager leaseManager,
+                         SlotLeaseManager gangHolds, SchedulerLiveness schedulerLiveness) {
     this.scheduler = scheduler;
+    this.schedulerLiveness = schedulerLiveness;
+    this.leaseManager = leaseManager;
+    this.gangHolds = gangHolds;
     this.schedulerClientPool = schedulerClientPool;
     nodeMonitorInternalAddress = new THostPort(Network.getHostName(conf), nodeMonitorPort);
     ExecutorService service = Executors.newFixedThreadPool(CLIENT_POOL_SIZE);
@@ -195,6 +350,63 @@ public class TaskLauncherService {
     }
   }
 
+  /** Asks the backend at {@code backendAddr} to kill the given task. */
+  public void killTask(TFullTaskId taskId, InetSocketAddress backendAddr) {
+    if (!backendClients.containsKey(backendAddr)) {
+      createThriftClients(backendAddr);
+    }
+    BackendService.Client client;
+    try {
+      client = backendClients.get(backendAddr).take();
+    } catch (InterruptedException e) {
+      LOG.error("Interrupted getting a client for backend at " + backendAddr, e);
+      return;
+    }
+    try {
+      client.killTask(taskId);
+    } catch (TException e) {
+      LOG.error("Unable to kill task " + taskId.taskId + " on backend " + backendAddr + ":" + e);
+    }
+    try {
+      backendClients.get(backendAddr).put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal("Error while attempting to return client for " + backendAddr.toString() +
+                " to the set of backend clients: " + e);
+    }
+  }
+
+  /**
+   * Asks the backend at {@code backendAddr} to preempt the given task, and returns whether it
+   * stopped the task. Returns false if the backend couldn't be asked.
+   */
+  public boolean preemptTask(TFullTaskId taskId, InetSocketAddress backendAddr) {
+    if (!backendClients.containsKey(backendAddr)) {
+      createThriftClients(backendAddr);
+    }
+    BackendService.Client client;
+    try {
+      client = backendClients.get(backendAddr).take();
+    } catch (InterruptedException e) {
+      LOG.error("Interrupted getting a client for backend at " + backendAddr, e);
+      return false;
+    }
+    boolean preempted = false;
+    try {
+      preempted = client.preemptTask(taskId);
+    } catch (TException e) {
+      LOG.error("Unable to preempt task " + taskId.taskId + " on backend " + backendAddr + ":" +
+                e);
+      client = replaceClient(backendAddr, client);
+    }
+    try {
+      backendClients.get(backendAddr).put(client);
+    } catch (InterruptedException e) {
+      LOG.fatal("Error while attempting to return client for " + backendAddr.toString() +
+                " to the set of backend clients: " + e);
+    }
+    return preempted;
+  }
+
   /** Creates a set of thrift clients and adds them to the client pool. */
   public void createThriftClients(InetSocketAddress backendAddr) {
     BlockingQueue<BackendService.Client> clients = new
@@ -3,21 +3,31 @@ package edu.berkeley.sparrow.daemon.nodemonitor;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
 import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
@@ -47,6 +57,43 @@ public abstract class TaskScheduler {
     public InetSocketAddress schedulerAddress;
     public InetSocketAddress appBackendAddress;
 
+    /** Priority of the job this reservation belongs to (higher values are more urgent). */
+    public int priority;
+
+    /**
+     * Absolute deadline of the job this reservation belongs to, in milliseconds since the epoch,
+     * or {@link Long#MAX_VALUE} if the job has no deadline.
+     */
+    public long deadline;
+
+    /**
+     * Number of the job's tasks that remained to be launched when the scheduler sent this
+     * reservation.
+     */
+    public int remainingJobTasks;
+
+    /** Time (in milliseconds since the epoch) when this reservation arrived at the node. */
+    public long enqueueTime;
+
+    /**
+     * How long (in milliseconds) the reservation's task is expected to run: the job's expected
+     * task duration if the scheduler gave one, otherwise the duration learned for the
+     * application, or 0 if neither is known.
+     */
+    public long estimatedDurationMs;
+
+    /**
+     * For reservations of gang jobs, how long (in milliseconds) the slot is held for the job once
+     * the reservation is runnable; 0 for other jobs.
+     */
+    public long gangHoldMs;
+
+    /**
+     * For the reservation of a task that was preempted, the task to launch again once the
+     * reservation is runnable, without asking the scheduler for one; null for other reservations.
+     */
+    public TTaskLaunchSpec preemptedTask;
+
     public TaskReservation(TEnqueueTaskReservationsRequest request,
                            InetSocketAddress appBackendAddress) {
       appId = request.getAppId();
@@ -58,6 +105,38 @@ public abstract class TaskScheduler {
       this.appBackendAddress = appBackendAddress;
       previousRequestId = "";
       previousTaskId = "";
+      priority = request.isSetPriority() ? request.getPriority() : 0;
+      deadline = request.isSetDeadline() ? request.getDeadline() : Long.MAX_VALUE;
+      if (request.isSetUnlaunchedJobTasks()) {
+        remainingJobTasks = request.getUnlaunchedJobTasks();
+      } else if (request.isSetJobTasks()) {
+        remainingJobTasks = request.getJobTasks();
+      } else {
+        // The job has at least as many tasks as reservations in this request.
+        remainingJobTasks = request.getNumTasks();
+      }
+      enqueueTime = clock.currentTimeMillis();
+      if (request.isSetExpectedTaskDurationMs()) {
+        estimatedDurationMs = request.getExpectedTaskDurationMs();
+      } else {
+        estimatedDurationMs = Math.max(0, durationEstimator.getEstimatedDurationMs(appId));
+      }
+      gangHoldMs = request.isSetGangHoldMs() ? request.getGangHoldMs() : 0;
+    }
+  }
+
+  /** A task running on the node, along with the reservation whose slot it uses. */
+  protected class RunningTask {
+    public TFullTaskId taskId;
+    public TTaskLaunchSpec spec;
+    public TaskReservation reservation;
+    public long launchTime;
+
+    public RunningTask(TFullTaskId taskId, TTaskLaunchSpec spec, TaskReservation reservation) {
+      this.taskId = taskId;
+      this.spec = spec;
+      this.reservation = reservation;
+      launchTime = clock.currentTimeMillis();
     }
   }
 
@@ -68,6 +147,9 @@ public abstract class TaskScheduler {
     /** Estimated resources. */
     public TResourceVector resources;
 
+    /** Scheduler that sent the request, or null if unknown. */
+    public InetSocketAddress schedulerAddress;
+
     public ResourceInfo(int tasks, TResourceVector resources) {
      remainingTasks = tasks;
      this.resources = resources;
@@ -80,17 +162,68 @@ public abstract class TaskScheduler {
 
   protected TResourceVector capacity;
   protected Configuration conf;
+  protected Clock clock = Clock.SYSTEM;
   protected TResourceVector inUse = TResources.clone(TResources.none());
   private final BlockingQueue<TaskReservation> runnableTaskQueue =
       new LinkedBlockingQueue<TaskReservation>();
   private HashMap<String, ResourceInfo> resourcesPerRequest = Maps.newHashMap();
 
+  /**
+   * IDs of the requests in {@link #resourcesPerRequest}, indexed by the scheduler that sent them,
+   * so that a dead scheduler's requests are found without going through every request.
+   */
+  private HashMap<InetSocketAddress, Set<String>> schedulerRequests = Maps.newHashMap();
+
+  /** Number of reservations that were launched after their job's deadline had passed. */
+  private AtomicLong deadlineMisses = new AtomicLong(0);
+
+  /** Learns the durations of each application's tasks. */
+  private TaskDurationEstimator durationEstimator;
+
+  /** Total estimated duration of reservations that haven't been made runnable yet. */
+  private AtomicLong queuedWorkMs = new AtomicLong(0);
+
+  /** Number of reservations that haven't been made runnable yet and whose duration is known. */
+  private AtomicInteger queuedEstimatedReservations = new AtomicInteger(0);
+
+  /**
+   * Number of reservations that were made runnable and whose slots haven't been freed yet. Their
+   * slots run tasks, wait for getTask() to return, or are held for leases and gang jobs.
+   */
+  private AtomicInteger occupiedSlots = new AtomicInteger(0);
+
+  /** Tasks running on the node, indexed by request ID and then by task ID. */
+  private HashMap<String, Map<String, RunningTask>> runningTasks = Maps.newHashMap();
+
+  /**
+   * How long (in milliseconds) the next reservation to launch must wait before a running task of
+   * lower priority is preempted for it (see {@link #preemptTask}); 0 disables preemption.
+   */
+  private long preemptionDelayMs;
+
+  /** Tasks that were preempted and haven't finished yet, as "requestId/taskId". */
+  private Set<String> preemptedTasks = Sets.newHashSet();
+
+  /** Task that the backend was asked to preempt and hasn't answered for yet, or null. */
+  private RunningTask preemptionVictim;
+
+  /** Whether the backend reported {@link #preemptionVictim} finished before answering. */
+  private boolean preemptionVictimFinished;
+
   /** Initialize the task scheduler, passing it the current available resources
    *  on the machine. */
   void initialize(TResourceVector capacity, Configuration conf) {
     this.capacity = capacity;
     this.conf = conf;
     this.ipAddress = Network.getIPAddress(conf);
+    durationEstimator = new TaskDurationEstimator(conf, clock);
+    preemptionDelayMs = conf.getLong(SparrowConf.PREEMPTION_DELAY_MS,
+                                     SparrowConf.DEFAULT_PREEMPTION_DELAY_MS);
+  }
+
+  /** Sets the clock the scheduler reads (for testing). Must be called before initialize(). */
+  void setClock(Clock clock) {
+    this.clock = clock;
   }
 
   /**
@@ -104,9 +237,21 @@ public abstract class TaskScheduler {
       LOG.fatal(e);
     }
     addResourceInUse(task.estimatedResources);
+    if (clock.currentTimeMillis() > task.deadline) {
+      long misses = deadlineMisses.incrementAndGet();
+      AUDIT_LOG.info(Logging.auditEventString("node_monitor_deadline_miss", ipAddress,
+                                              task.requestId, task.deadline, misses));
+    }
     return task;
   }
 
+  /**
+   * Returns the number of reservations that were launched after their job's deadline.
+   */
+  long getDeadlineMisses() {
+    return deadlineMisses.get();
+  }
+
   /**
    * Returns the current number of runnable tasks (for testing).
    */
@@ -114,10 +259,70 @@ public abstract class TaskScheduler {
     return runnableTaskQueue.size();
   }
 
-  void tasksFinished(List<TFullTaskId> finishedTasks) {
+  /**
+   * Frees the slots of the given tasks, which stopped running, and returns the ones that
+   * completed: tasks that stopped because they were preempted will run again. Whether a task
+   * that stopped while the backend was being asked to preempt it completed is only known once
+   * the backend answers (see {@link #preemptionConfirmed}).
+   */
+  List<TFullTaskId> tasksFinished(List<TFullTaskId> finishedTasks) {
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
     for (TFullTaskId t : finishedTasks) {
-      AUDIT_LOG.info(Logging.auditEventString("task_completed", t.getRequestId(), t.getTaskId()));
-      taskCompleted(t.getRequestId(), t.getRequestId(), t.getTaskId());
+      boolean preempted;
+      boolean preempting = false;
+      synchronized (this) {
+        preempted = preemptedTasks.remove(getKey(t));
+        if (!preempted && preemptionVictim != null &&
+            getKey(t).equals(getKey(preemptionVictim.taskId))) {
+          preempting = true;
+          preemptionVictimFinished = true;
+        }
+      }
+      if (preempted) {
+        AUDIT_LOG.info(Logging.auditEventString("task_preempted", t.getRequestId(),
+                                                t.getTaskId()));
+      } else if (!preempting) {
+        AUDIT_LOG.info(Logging.auditEventString("task_completed", t.getRequestId(),
+                                                t.getTaskId()));
+        durationEstimator.taskFinished(t);
+        completedTasks.add(t);
+      }
+      freeTaskSlot(t);
+    }
+    return completedTasks;
+  }
+
+  /** Frees the slot of a task that the backend failed to launch. */
+  void taskLaunchFailed(TFullTaskId t) {
+    AUDIT_LOG.info(Logging.auditEventString("task_launch_failed", t.getRequestId(),
+                                            t.getTaskId()));
+    synchronized (this) {
+      preemptedTasks.remove(getKey(t));
+    }
+    durationEstimator.taskFailed(t);
+    freeTaskSlot(t);
+  }
+
+  /**
+   * Frees the slot of a task that stopped running. Tasks launched in another request's
+   * reservation or in a lease run under their own request, but use the reservation's slot.
+   */
+  private void freeTaskSlot(TFullTaskId t) {
+    RunningTask task = null;
+    synchronized (runningTasks) {
+      Map<String, RunningTask> requestTasks = runningTasks.get(t.getRequestId());
+      if (requestTasks != null) {
+        task = requestTasks.remove(t.getTaskId());
+        if (requestTasks.isEmpty()) {
+          runningTasks.remove(t.getRequestId());
+        }
+      }
+    }
+    if (task == null) {
+      taskCompleted(t.getRequestId(), null, t.getRequestId(), t.getTaskId());
+    } else {
+      taskCompleted(task.reservation.requestId, task.reservation.estimatedResources,
+                    t.getRequestId(), t.getTaskId());
     }
   }
 
@@ -126,8 +331,8 @@ public abstract class TaskScheduler {
                                             taskReservation.requestId,
                                             taskReservation.previousRequestId,
                                             taskReservation.previousTaskId));
-    taskCompleted(taskReservation.requestId, taskReservation.previousRequestId,
-                  taskReservation.previousTaskId);
+    taskCompleted(taskReservation.requestId, taskReservation.estimatedResources,
+                  taskReservation.previousRequestId, taskReservation.previousTaskId);
   }
 
   /**
@@ -136,9 +341,11 @@ public abstract class TaskScheduler {
    * the node monitor attempted to get from the scheduler, but the scheduler didn't return a task
    * because all tasks for the job had been executed). Used to determine how long it takes the node
    * monitor to launch a task from the queue. Empty strings indicate that the task was launched
-   * directly from the queue (so there was no immediately prevoius task).
+   * directly from the queue (so there was no immediately prevoius task). The slot's resources
+   * are freed, or the request's estimated resources if {@code resources} is null.
    */
-  private synchronized void taskCompleted(String requestId, String lastExecutedTaskRequestId,
+  private synchronized void taskCompleted(String requestId, TResourceVector resources,
+                                          String lastExecutedTaskRequestId,
                                           String lastExecutedTaskId) {
     LOG.debug(Logging.functionCall(requestId));
     ResourceInfo resourceInfo = resourcesPerRequest.get(requestId);
@@ -149,15 +356,223 @@ public abstract class TaskScheduler {
     resourceInfo.remainingTasks--;
     if (resourceInfo.remainingTasks == 0) {
       LOG.debug("Deleting resources for request " + requestId);
-      resourcesPerRequest.remove(requestId);
+      removeRequest(requestId);
     }
-    freeResourceInUse(resourceInfo.resources);
+    freeResourceInUse(resources == null ? resourceInfo.resources : resources);
+    occupiedSlots.decrementAndGet();
     handleTaskCompleted(requestId, lastExecutedTaskRequestId, lastExecutedTaskId);
   }
 
+  /**
+   * Signals that a task was launched on the backend in the slot of the given reservation, to
+   * learn how long it runs. If the task's job estimated different resources than the
+   * reservation's request, the slot accounts for the task's resources instead.
+   */
+  void taskLaunched(TaskReservation reservation, TTaskLaunchSpec spec, TFullTaskId taskId) {
+    durationEstimator.taskLaunched(taskId);
+    if (spec.isSetEstimatedResources()) {
+      freeResourceInUse(reservation.estimatedResources);
+      reservation.estimatedResources = spec.getEstimatedResources();
+      addResourceInUse(reservation.estimatedResources);
+    }
+    synchronized (runningTasks) {
+      Map<String, RunningTask> requestTasks = runningTasks.get(taskId.getRequestId());
+      if (requestTasks == null) {
+        requestTasks = Maps.newHashMap();
+        runningTasks.put(taskId.getRequestId(), requestTasks);
+      }
+      requestTasks.put(taskId.getTaskId(), new RunningTask(taskId, spec, reservation));
+    }
+  }
+
+  /**
+   * Preempts a running task if the reservation next in line has waited longer than
+   * {@link SparrowConf#PREEMPTION_DELAY_MS} and every slot runs a task with a lower priority than
+   * it. Slots that don't run a task yet (waiting for getTask() to return, or held for a lease or
+   * a gang job) are about to be used, so no task is preempted while there are any.
+   * The victim is the running task with the lowest priority (the most recently launched one, if
+   * several have that priority, so the least work is lost). Gang jobs' tasks are never
+   * preempted, and only one task is preempted at a time. Returns the victim, which the caller
+   * should ask the backend to preempt before calling {@link #preemptionConfirmed}, or null.
+   */
+  synchronized TFullTaskId preemptTask() {
+    if (preemptionDelayMs <= 0 || preemptionVictim != null || !preemptedTasks.isEmpty() ||
+        getFreeSlots() > 0) {
+      return null;
+    }
+    TaskReservation waiting = peekQueuedReservation();
+    if (waiting == null ||
+        clock.currentTimeMillis() - waiting.enqueueTime < preemptionDelayMs) {
+      return null;
+    }
+    RunningTask victim = null;
+    int numRunningTasks = 0;
+    synchronized (runningTasks) {
+      for (Map<String, RunningTask> requestTasks : runningTasks.values()) {
+        for (RunningTask task : requestTasks.values()) {
+          numRunningTasks++;
+          if (task.reservation.priority >= waiting.priority || task.reservation.gangHoldMs > 0) {
+            return null;
+          }
+          if (victim == null || task.reservation.priority < victim.reservation.priority ||
+              (task.reservation.priority == victim.reservation.priority &&
+               task.launchTime > victim.launchTime)) {
+            victim = task;
+          }
+        }
+      }
+    }
+    if (victim == null || numRunningTasks < occupiedSlots.get()) {
+      return null;
+    }
+    AUDIT_LOG.info(Logging.auditEventString("node_monitor_preempt_task", ipAddress,
+                                            victim.taskId.getRequestId(),
+                                            victim.taskId.getTaskId(), waiting.requestId));
+    preemptionVictim = victim;
+    preemptionVictimFinished = false;
+    return victim.taskId;
+  }
+
+  /**
+   * Signals whether the backend stopped the task returned by {@link #preemptTask}. If it did, the
+   * task's reservation is queued again so that the task runs again from the start once a slot
+   * frees up. Otherwise the task keeps running; if the backend already reported it finished, it
+   * completed, and it is returned so that its completion can be reported.
+   */
+  synchronized List<TFullTaskId> preemptionConfirmed(TFullTaskId taskId, boolean preempted) {
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
+    RunningTask victim = preemptionVictim;
+    if (victim == null || !victim.taskId.equals(taskId)) {
+      return completedTasks;
+    }
+    preemptionVictim = null;
+    if (!preempted) {
+      AUDIT_LOG.info(Logging.auditEventString("node_monitor_preemption_refused", ipAddress,
+                                              taskId.getRequestId(), taskId.getTaskId()));
+      if (preemptionVictimFinished) {
+        AUDIT_LOG.info(Logging.auditEventString("task_completed", taskId.getRequestId(),
+                                                taskId.getTaskId()));
+        durationEstimator.taskFinished(taskId);
+        completedTasks.add(taskId);
+      }
+      return completedTasks;
+    }
+    if (preemptionVictimFinished) {
+      AUDIT_LOG.info(Logging.auditEventString("task_preempted", taskId.getRequestId(),
+                                              taskId.getTaskId()));
+      durationEstimator.taskFailed(taskId);
+    } else {
+      preemptedTasks.add(getKey(taskId));
+    }
+
+    // The victim's slot is freed when the backend reports it finished, so the re-queued
+    // reservation counts as another unlaunched task of its request.
+    TaskReservation requeued = victim.reservation;
+    requeued.preemptedTask = victim.spec;
+    requeued.previousRequestId = "";
+    requeued.previousTaskId = "";
+    // Queue it behind the reservations that are already waiting.
+    requeued.enqueueTime = clock.currentTimeMillis();
+    ResourceInfo resourceInfo = resourcesPerRequest.get(requeued.requestId);
+    if (resourceInfo == null) {
+      resourceInfo = new ResourceInfo(1, requeued.estimatedResources);
+      resourceInfo.schedulerAddress = requeued.schedulerAddress;
+      addRequest(requeued.requestId, resourceInfo);
+    } else {
+      resourceInfo.remainingTasks++;
+    }
+    reservationQueued(requeued);
+    handleSubmitTaskReservation(requeued);
+    return completedTasks;
+  }
+
+  /**
+   * Removes the queued reservations of a cancelled request, and returns the request's tasks
+   * that are running on the node, which should be killed. Reservations that were already made
+   * runnable are left alone: the scheduler has no task for them.
+   */
+  synchronized List<TFullTaskId> requestCancelled(String requestId) {
+    int removed = removeQueuedReservations(requestId);
+    AUDIT_LOG.info(Logging.auditEventString("node_monitor_request_cancelled", ipAddress,
+                                            requestId, removed));
+    List<TFullTaskId> requestTaskIds = Lists.newArrayList();
+    synchronized (runningTasks) {
+      Map<String, RunningTask> requestTasks = runningTasks.get(requestId);
+      if (requestTasks != null) {
+        for (RunningTask task : requestTasks.values()) {
+          requestTaskIds.add(task.taskId);
+        }
+      }
+    }
+    return requestTaskIds;
+  }
+
+  /**
+   * Removes the queued reservations of the requests sent by the given scheduler, which was
+   * declared dead, in one sweep. Their running tasks are left to finish. Returns the IDs of the
+   * scheduler's requests that had reservations or tasks on the node.
+   */
+  synchronized List<String> schedulerDead(InetSocketAddress schedulerAddress) {
+    List<String> requestIds = Lists.newArrayList();
+    Set<String> schedulerRequestIds = schedulerRequests.get(schedulerAddress);
+    if (schedulerRequestIds != null) {
+      requestIds.addAll(schedulerRequestIds);
+    }
+    int removed = 0;
+    for (String requestId : requestIds) {
+      removed += removeQueuedReservations(requestId);
+    }
+    AUDIT_LOG.info(Logging.auditEventString("node_monitor_scheduler_dead", ipAddress,
+                                            schedulerAddress.getAddress().getHostAddress(),
+                                            requestIds.size(), removed));
+    return requestIds;
+  }
+
+  /** Removes the queued reservations of the given request, and returns how many there were. */
+  private int removeQueuedReservations(String requestId) {
+    List<TaskReservation> removed = handleRequestCancelled(requestId);
+    for (TaskReservation reservation : removed) {
+      reservationDequeued(reservation);
+    }
+    ResourceInfo resourceInfo = resourcesPerRequest.get(requestId);
+    if (resourceInfo != null && !removed.isEmpty()) {
+      resourceInfo.remainingTasks -= removed.size();
+      if (resourceInfo.remainingTasks <= 0) {
+        removeRequest(requestId);
+      }
+    }
+    return removed.size();
+  }
+
+  private void addRequest(String requestId, ResourceInfo resourceInfo) {
+    resourcesPerRequest.put(requestId, resourceInfo);
+    Set<String> requestIds = schedulerRequests.get(resourceInfo.schedulerAddress);
+    if (requestIds == null) {
+      requestIds = Sets.newHashSet();
+      schedulerRequests.put(resourceInfo.schedulerAddress, requestIds);
+    }
+    requestIds.add(requestId);
+  }
+
+  private void removeRequest(String requestId) {
+    ResourceInfo resourceInfo = resourcesPerRequest.remove(requestId);
+    if (resourceInfo == null) {
+      return;
+    }
+    Set<String> requestIds = schedulerRequests.get(resourceInfo.schedulerAddress);
+    if (requestIds != null) {
+      requestIds.remove(requestId);
+      if (requestIds.isEmpty()) {
+        schedulerRequests.remove(resourceInfo.schedulerAddress);
+      }
+    }
+  }
+
   protected void makeTaskRunnable(TaskReservation taskReservation) {
     LOG.debug("Making task for request " + taskReservation.requestId +
               " runnable (previous task: " + taskReservation.previousTaskId + ")");
+    reservationDequeued(taskReservation);
+    occupiedSlots.incrementAndGet();
     try {
       runnableTaskQueue.put(taskReservation);
     } catch (InterruptedException e) {
@@ -165,16 +580,35 @@ public abstract class TaskScheduler {
     }
   }
 
+  /** Adds a reservation that was queued to the estimate of the work waiting on the node. */
+  private void reservationQueued(TaskReservation reservation) {
+    queuedWorkMs.addAndGet(reservation.estimatedDurationMs);
+    if (reservation.estimatedDurationMs > 0) {
+      queuedEstimatedReservations.incrementAndGet();
+    }
+  }
+
+  /** Removes a reservation that is no longer queued from the estimate of the waiting work. */
+  private void reservationDequeued(TaskReservation reservation) {
+    queuedWorkMs.addAndGet(-reservation.estimatedDurationMs);
+    if (reservation.estimatedDurationMs > 0) {
+      queuedEstimatedReservations.decrementAndGet();
+    }
+  }
+
   public synchronized void submitTaskReservations(TEnqueueTaskReservationsRequest request,
                                                   InetSocketAddress appBackendAddress) {
     ResourceInfo resourceInfo = new ResourceInfo(request.getNumTasks(),
                                                  request.getEstimatedResources());
-    resourcesPerRequest.put(request.getRequestId(), resourceInfo);
+    resourceInfo.schedulerAddress = new InetSocketAddress(
+        request.getSchedulerAddress().getHost(), request.getSchedulerAddress().getPort());
+    addRequest(request.getRequestId(), resourceInfo);
     LOG.debug("Added resource info for request " + request.getRequestId() + " with " +
               resourceInfo.remainingTasks + " tasks.");
     for (int i = 0; i < request.getNumTasks(); ++i) {
       LOG.debug("Creating reservation " + i + " for request " + request.getRequestId());
       TaskReservation reservation = new TaskReservation(request, appBackendAddress);
+      reservationQueued(reservation);
       int queuedReservations = handleSubmitTaskReservation(reservation);
       AUDIT_LOG.info(Logging.auditEventString("reservation_enqueued", ipAddress, request.requestId,
                                               queuedReservations));
@@ -203,6 +637,40 @@ public abstract class TaskScheduler {
     return TResources.subtract(free, reserved);
   }
 
+  /**
+   * Returns the load reported to schedulers along with RPCs for the given application. The
+   * estimated wait is left unset when the duration of no queued reservation is known, so that
+   * schedulers fall back to the queue length.
+   */
+  TNodeLoad getNodeLoad(String appId) {
+    TNodeLoad load = new TNodeLoad(getResourceUsage(appId).queueLength, getFreeSlots());
+    if (queuedEstimatedReservations.get() > 0) {
+      load.setEstimatedWaitMs(getEstimatedWaitMs());
+    }
+    return load;
+  }
+
+  /**
+   * Returns how long (in milliseconds) a new reservation is expected to wait before it is
+   * launched: the estimated duration of all queued reservations, spread over the node's cores.
+   */
+  long getEstimatedWaitMs() {
+    return Math.max(0, queuedWorkMs.get()) / Math.max(1, capacity.getCores());
+  }
+
+  private static String getKey(TFullTaskId taskId) {
+    return taskId.getRequestId() + "/" + taskId.getTaskId();
+  }
+
+  /**
+   * Returns the queued reservation that will be launched next, for which running tasks may be
+   * preempted, or null. Called while holding the scheduler's lock. Only schedulers that order
+   * reservations by priority override this, so other schedulers never preempt tasks.
+   */
+  protected TaskReservation peekQueuedReservation() {
+    return null;
+  }
+
   // TASK SCHEDULERS MUST IMPLEMENT THE FOLLOWING
 
   /**
@@ -216,9 +684,21 @@ public abstract class TaskScheduler {
   protected abstract void handleTaskCompleted(String requestId, String lastExecutedTaskRequestId,
                                               String lastExecutedTaskId);
 
+  /**
+   * Removes and returns the queued (not yet runnable) reservations of the given request, which
+   * was cancelled.
+   */
+  abstract List<TaskReservation> handleRequestCancelled(String requestId);
+
   /**
    * Returns the current resource usage. If the resource usage is equal to the
    * machines capacity, this will include the queue length for appId.
    */
   abstract TResourceUsage getResourceUsage(String appId);
+
+  /**
+   * Returns the number of additional reservations that would be launched immediately, which is
+   * 0 whenever reservations are queued.
+   */
+  abstract int getFreeSlots();
 }
@@ -0,0 +1,131 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+import edu.berkeley.sparrow.daemon.util.Logging;
+
+/**
+ * Tunes the probe ratio used to place one application's jobs, based on how node monitors
+ * respond to the jobs' reservations.
+ *
+ * Two signals are observed over a window of {@link SparrowConf#SAMPLE_RATIO_WINDOW} jobs: the
+ * mean delay between enqueueing a job's reservations and the first getTask() call for the job,
+ * which grows when reservations land on busy node monitors, and the fraction of getTask() calls
+ * that find no task left to launch, which is the cost of extra probes. After each window, the
+ * ratio is lowered if too many calls found no task, raised if jobs waited longer than the
+ * target delay, and lowered if they waited less than half of it.
+ */
+public class AdaptiveProbeRatio {
+  private final static Logger LOG = Logger.getLogger(AdaptiveProbeRatio.class);
+  private final static Logger AUDIT_LOG = Logging.getAuditLogger(AdaptiveProbeRatio.class);
+
+  /** Amount the probe ratio changes by in each adjustment. */
+  public final static double ADJUSTMENT_STEP = 0.05;
+
+  private String appId;
+  private Clock clock;
+  private double minProbeRatio;
+  private double maxProbeRatio;
+  private long targetDelayMs;
+  private double maxEmptyFraction;
+  private int windowSize;
+
+  private volatile double probeRatio;
+
+  /** Enqueue times of jobs for which no getTask() call has been received yet. */
+  private ConcurrentMap<String, Long> awaitingFirstResponse = Maps.newConcurrentMap();
+
+  // Statistics for the current window.
+  private int responses = 0;
+  private int emptyResponses = 0;
+  private int jobs = 0;
+  private long totalDelayMs = 0;
+
+  public AdaptiveProbeRatio(String appId, double initialProbeRatio, Configuration conf) {
+    this(appId, initialProbeRatio, conf, Clock.SYSTEM);
+  }
+
+  AdaptiveProbeRatio(String appId, double initialProbeRatio, Configuration conf, Clock clock) {
+    this.appId = appId;
+    this.clock = clock;
+    minProbeRatio = conf.getDouble(SparrowConf.SAMPLE_RATIO_MIN,
+                                   SparrowConf.DEFAULT_SAMPLE_RATIO_MIN);
+    maxProbeRatio = conf.getDouble(SparrowConf.SAMPLE_RATIO_MAX,
+                                   SparrowConf.DEFAULT_SAMPLE_RATIO_MAX);
+    targetDelayMs = conf.getLong(SparrowConf.SAMPLE_RATIO_TARGET_DELAY_MS,
+                                 SparrowConf.DEFAULT_SAMPLE_RATIO_TARGET_DELAY_MS);
+    maxEmptyFraction = conf.getDouble(SparrowConf.SAMPLE_RATIO_MAX_EMPTY_FRACTION,
+                                      SparrowConf.DEFAULT_SAMPLE_RATIO_MAX_EMPTY_FRACTION);
+    windowSize = conf.getInt(SparrowConf.SAMPLE_RATIO_WINDOW,
+                             SparrowConf.DEFAULT_SAMPLE_RATIO_WINDOW);
+    probeRatio = Math.min(maxProbeRatio, Math.max(minProbeRatio, initialProbeRatio));
+  }
+
+  /** Returns the probe ratio to use for the application's next job. */
+  public double getProbeRatio() {
+    return probeRatio;
+  }
+
+  /** Signals that reservations for the given request were just enqueued. */
+  public void jobEnqueued(String requestId) {
+    awaitingFirstResponse.put(requestId, clock.currentTimeMillis());
+  }
+
+  /**
+   * Signals that a node monitor called getTask() for the given request, and whether it was
+   * assigned a task.
+   */
+  public synchronized void taskRequested(String requestId, boolean assigned) {
+    responses++;
+    if (!assigned) {
+      emptyResponses++;
+    }
+    Long enqueueTime = awaitingFirstResponse.remove(requestId);
+    if (enqueueTime != null) {
+      jobs++;
+      totalDelayMs += clock.currentTimeMillis() - enqueueTime;
+      if (jobs >= windowSize) {
+        adjust();
+      }
+    }
+  }
+
+  /** Signals that no more getTask() calls will be received for the given request. */
+  public void jobFinished(String requestId) {
+    awaitingFirstResponse.remove(requestId);
+  }
+
+  private void adjust() {
+    double emptyFraction = ((double) emptyResponses) / responses;
+    double meanDelayMs = ((double) totalDelayMs) / jobs;
+    double oldProbeRatio = probeRatio;
+    double newProbeRatio = oldProbeRatio;
+    if (emptyFraction > maxEmptyFraction) {
+      newProbeRatio -= ADJUSTMENT_STEP;
+    } else if (meanDelayMs > targetDelayMs) {
+      newProbeRatio += ADJUSTMENT_STEP;
+    } else if (meanDelayMs < targetDelayMs / 2.0) {
+      newProbeRatio -= ADJUSTMENT_STEP;
+    }
+    probeRatio = Math.min(maxProbeRatio, Math.max(minProbeRatio, newProbeRatio));
+
+    if (probeRatio != oldProbeRatio) {
+      LOG.info("Changed probe ratio for app " + appId + " from " + oldProbeRatio + " to " +
+               probeRatio + " (mean delay to first getTask: " + meanDelayMs + "ms, " +
+               "fraction of getTask calls with no task: " + emptyFraction + ")");
+      AUDIT_LOG.info(Logging.auditEventString("probe_ratio_changed", appId, oldProbeRatio,
+                                              probeRatio, meanDelayMs, emptyFraction));
+    }
+    responses = 0;
+    emptyResponses = 0;
+    jobs = 0;
+    totalDelayMs = 0;
+  }
+}
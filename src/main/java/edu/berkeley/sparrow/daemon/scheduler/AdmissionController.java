@@ -0,0 +1,207 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Decides when jobs submitted by frontends are placed. Each frontend (application) may submit
+ * jobs at a limited rate, enforced with a token bucket (see {@link SparrowConf#ADMISSION_RATE}).
+ * While node monitors' queues are longer than {@link SparrowConf#ADMISSION_QUEUE_THRESHOLD} on
+ * average, new jobs are held in a bounded queue rather than probing, since deeper node monitor
+ * queues don't improve throughput. Held jobs are placed once queues drain, highest priority
+ * first, taking turns between tenants (users of an application) at the same priority. Jobs
+ * that exceed the rate limit, or arrive when the queue is full, are rejected with a hint of when
+ * to retry.
+ */
+public class AdmissionController {
+  /** A job held until node monitors' queues drain. */
+  public class QueuedJob {
+    public TSchedulingRequest request;
+    public String requestId;
+    public int priority;
+
+    /** Position of the job among its tenant's jobs, used to take turns between tenants. */
+    public long tenantSequence;
+
+    /** Used to break ties in arrival order. */
+    public long sequence;
+
+    public QueuedJob(TSchedulingRequest request, String requestId, long tenantSequence) {
+      this.request = request;
+      this.requestId = requestId;
+      this.priority = request.isSetPriority() ? request.getPriority() : 0;
+      this.tenantSequence = tenantSequence;
+      this.sequence = nextSequence++;
+    }
+  }
+
+  /** Tokens available to a frontend, refilled continuously up to the burst size. */
+  private class TokenBucket {
+    public double tokens = burst;
+    public long lastRefillTime = System.currentTimeMillis();
+  }
+
+  private double queueThreshold;
+  private int maxQueuedJobs;
+  private long retryAfterMs;
+  private double rate;
+  private double burst;
+
+  private PriorityQueue<QueuedJob> queue = new PriorityQueue<QueuedJob>(11,
+      new Comparator<QueuedJob>() {
+        @Override
+        public int compare(QueuedJob j1, QueuedJob j2) {
+          if (j1.priority != j2.priority) {
+            return j1.priority > j2.priority ? -1 : 1;
+          }
+          if (j1.tenantSequence != j2.tenantSequence) {
+            return j1.tenantSequence < j2.tenantSequence ? -1 : 1;
+          }
+          if (j1.sequence == j2.sequence) {
+            return 0;
+          }
+          return j1.sequence < j2.sequence ? -1 : 1;
+        }
+      });
+  private long nextSequence = 0;
+
+  /** Sequence number of the next job queued for each tenant. */
+  private Map<String, Long> tenantSequences = Maps.newHashMap();
+
+  /**
+   * Tenant sequence number of the last job released. Tenants that haven't had jobs queued
+   * recently start from here, so they don't jump ahead of tenants that have been waiting.
+   */
+  private long releasedTenantSequence = 0;
+
+  private Map<String, TokenBucket> buckets = Maps.newHashMap();
+
+  public AdmissionController(Configuration conf) {
+    this(conf.getDouble(SparrowConf.ADMISSION_QUEUE_THRESHOLD,
+                        SparrowConf.DEFAULT_ADMISSION_QUEUE_THRESHOLD),
+         conf.getInt(SparrowConf.ADMISSION_MAX_QUEUED_JOBS,
+                     SparrowConf.DEFAULT_ADMISSION_MAX_QUEUED_JOBS),
+         conf.getLong(SparrowConf.ADMISSION_RETRY_AFTER_MS,
+                      SparrowConf.DEFAULT_ADMISSION_RETRY_AFTER_MS),
+         conf.getDouble(SparrowConf.ADMISSION_RATE, SparrowConf.DEFAULT_ADMISSION_RATE),
+         conf.getDouble(SparrowConf.ADMISSION_BURST, SparrowConf.DEFAULT_ADMISSION_BURST));
+  }
+
+  public AdmissionController(double queueThreshold, int maxQueuedJobs, long retryAfterMs,
+                             double rate, double burst) {
+    this.queueThreshold = queueThreshold;
+    this.maxQueuedJobs = maxQueuedJobs;
+    this.retryAfterMs = retryAfterMs;
+    this.rate = rate;
+    this.burst = Math.max(1, burst);
+  }
+
+  /** Returns whether jobs are ever held (otherwise, only rate limits apply). */
+  public boolean holdsJobs() {
+    return queueThreshold > 0;
+  }
+
+  /** Returns whether the given mean node monitor queue length means the cluster is overloaded. */
+  public boolean isOverloaded(double meanQueueLength) {
+    return holdsJobs() && meanQueueLength > queueThreshold;
+  }
+
+  /**
+   * Takes a token from the given application's frontend, or throws if it has none left, with a
+   * hint of when the next one will be available.
+   */
+  public synchronized void takeToken(String app) throws IncompleteRequestException {
+    if (rate <= 0) {
+      return;
+    }
+    TokenBucket bucket = buckets.get(app);
+    if (bucket == null) {
+      bucket = new TokenBucket();
+      buckets.put(app, bucket);
+    }
+    long now = System.currentTimeMillis();
+    bucket.tokens = Math.min(burst, bucket.tokens + (now - bucket.lastRefillTime) * rate / 1000);
+    bucket.lastRefillTime = now;
+    if (bucket.tokens < 1) {
+      IncompleteRequestException e = new IncompleteRequestException(
+          "Application " + app + " exceeded its rate of " + rate + " jobs per second");
+      e.setRetryAfterMs((long) Math.ceil((1 - bucket.tokens) * 1000 / rate));
+      throw e;
+    }
+    bucket.tokens--;
+  }
+
+  /**
+   * Decides whether a job can be placed right away: it can unless the cluster is overloaded or
+   * other jobs are already held, in which case the job is held. Throws if the job should be
+   * held but the queue is full.
+   */
+  public synchronized boolean admit(TSchedulingRequest request, String requestId,
+                                    boolean overloaded) throws IncompleteRequestException {
+    if (!overloaded && queue.isEmpty()) {
+      return true;
+    }
+    if (queue.size() >= maxQueuedJobs) {
+      IncompleteRequestException e = new IncompleteRequestException(
+          "Scheduler is overloaded and already holds " + queue.size() + " jobs");
+      e.setRetryAfterMs(retryAfterMs);
+      throw e;
+    }
+    String tenant = getTenant(request);
+    Long tenantSequence = tenantSequences.get(tenant);
+    if (tenantSequence == null || tenantSequence < releasedTenantSequence) {
+      tenantSequence = releasedTenantSequence;
+    }
+    tenantSequences.put(tenant, tenantSequence + 1);
+    queue.add(new QueuedJob(request, requestId, tenantSequence));
+    return false;
+  }
+
+  /** Returns the held job that will be placed next, or null if no jobs are held. */
+  public synchronized QueuedJob peek() {
+    return queue.peek();
+  }
+
+  /** Removes and returns the held job to place next, or null if no jobs are held. */
+  public synchronized QueuedJob poll() {
+    QueuedJob job = queue.poll();
+    if (job != null) {
+      releasedTenantSequence = Math.max(releasedTenantSequence, job.tenantSequence);
+    }
+    if (queue.isEmpty()) {
+      tenantSequences.clear();
+    }
+    return job;
+  }
+
+  /** Drops the held job of the given request, and returns whether it was held. */
+  public synchronized boolean remove(String requestId) {
+    Iterator<QueuedJob> iterator = queue.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().requestId.equals(requestId)) {
+        iterator.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the number of held jobs. */
+  public synchronized int queuedJobs() {
+    return queue.size();
+  }
+
+  private static String getTenant(TSchedulingRequest request) {
+    return request.getApp() + "/" + request.getUser().getUser();
+  }
+}
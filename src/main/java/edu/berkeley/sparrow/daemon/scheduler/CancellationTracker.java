@@ -0,0 +1,90 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Remembers which node monitors were sent reservations or tasks of recently submitted requests,
+ * so that their jobs can be cancelled. A job's tasks may be submitted again under new request
+ * IDs (for example, when a lease is refused), so each job is tracked along with all of the
+ * requests it was submitted under, and a cancelled job's tasks aren't submitted again.
+ */
+public class CancellationTracker {
+  /** A job, along with the requests it was submitted under and the nodes they were sent to. */
+  public class Job {
+    public List<String> requestIds = Lists.newArrayList();
+    public Set<InetSocketAddress> nodes = Sets.newHashSet();
+    public boolean cancelled = false;
+  }
+
+  private TrackedRequests<Job> requests;
+
+  public CancellationTracker(int maxTrackedRequests) {
+    requests = new TrackedRequests<Job>(maxTrackedRequests);
+  }
+
+  /**
+   * Records the request ID that a request was given when it was submitted. Returns false if the
+   * request resubmits tasks of a job that has been cancelled, in which case it shouldn't be
+   * placed.
+   */
+  public synchronized boolean requestSubmitted(TSchedulingRequest request, String requestId) {
+    Job job = requests.takeResubmittedJob(request);
+    if (job == null) {
+      job = new Job();
+    } else if (job.cancelled) {
+      return false;
+    }
+    job.requestIds.add(requestId);
+    requests.requestSubmitted(requestId, job);
+    return true;
+  }
+
+  /**
+   * Records that tasks of the given request will be submitted again, in {@code retry}. Returns
+   * false if the request's job has been cancelled, in which case the tasks shouldn't be
+   * submitted.
+   */
+  public synchronized boolean requestResubmitted(String requestId, TSchedulingRequest retry) {
+    Job job = requests.getJob(requestId);
+    if (job == null) {
+      return true;
+    }
+    if (job.cancelled) {
+      return false;
+    }
+    requests.requestResubmitted(retry, job);
+    return true;
+  }
+
+  /**
+   * Records that reservations or tasks of the given request were sent to the given nodes. The
+   * nodes of a cancelled job aren't changed, so they can be read without holding the lock.
+   */
+  public synchronized void nodesUsed(String requestId, Collection<InetSocketAddress> nodes) {
+    Job job = requests.getJob(requestId);
+    if (job != null && !job.cancelled) {
+      job.nodes.addAll(nodes);
+    }
+  }
+
+  /**
+   * Marks the job of the given request cancelled, and returns it. Returns null if the request
+   * isn't known (or is no longer tracked), or its job was already cancelled.
+   */
+  public synchronized Job jobCancelled(String requestId) {
+    Job job = requests.getJob(requestId);
+    if (job == null || job.cancelled) {
+      return null;
+    }
+    job.cancelled = true;
+    return job;
+  }
+}
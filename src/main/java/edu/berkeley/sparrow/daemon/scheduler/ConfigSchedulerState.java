@@ -18,10 +18,12 @@ public class ConfigSchedulerState implements SchedulerState {
 
   ConcurrentMap<InetSocketAddress, TResourceVector> backends;
   private Configuration conf;
+  private NodeTopology topology;
   
   @Override
   public void initialize(Configuration conf) {
     backends = ConfigUtil.parseBackends(conf);
+    topology = NodeTopology.fromConfiguration(conf);
     this.conf = conf;
   }
 
@@ -43,4 +45,9 @@ public class ConfigSchedulerState implements SchedulerState {
     return backends;
   }
 
+  @Override
+  public NodeTopology getTopology() {
+    return topology;
+  }
+
 }
@@ -2,11 +2,11 @@ package edu.berkeley.sparrow.daemon.scheduler;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.UnknownHostException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,8 +47,24 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
   /** Total number of outstanding reservations. */
   private int numOutstandingReservations;
 
+  /** Total number of reservations enqueued, and number of node monitor replies received. */
+  private int numReservations;
+  private int numResponses;
+
+  /** Whether hedge reservations have already been created for this job. */
+  private boolean hedged = false;
+
   private double probeRatio;
 
+  /** Used to expand rack preferences into the machines in each rack. */
+  private NodeTopology topology;
+
+  /** Used to resolve node preferences and to find the nodes that tasks must avoid. */
+  private NodeIndex nodeIndex;
+
+  /** For each task with anti-affinity, the machines the task must not be launched on. */
+  private Map<TTaskLaunchSpec, Set<InetAddress>> avoidedNodes;
+
   /** Id of the request associated with this task placer. */
   String requestId;
 
@@ -58,13 +74,54 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
    */
   List<TTaskLaunchSpec> unlaunchedUnconstrainedTasks;
 
+  /**
+   * A constrained task with a delay threshold. Once the threshold has passed, the task may be
+   * launched on any node monitor that has a reservation for the job.
+   */
+  private class DelayedTask {
+    public TTaskLaunchSpec taskSpec;
+    public long releaseTime;
+
+    /** Whether extra reservations have been created for this task since it was released. */
+    public boolean probed = false;
+
+    public DelayedTask(TTaskLaunchSpec taskSpec, long releaseTime) {
+      this.taskSpec = taskSpec;
+      this.releaseTime = releaseTime;
+    }
+  }
+
+  /** Constrained tasks with a delay threshold that may not have been launched yet. */
+  private List<DelayedTask> delayedTasks;
+
+  /** Node monitors where reservations have been enqueued for this job. */
+  private Set<InetSocketAddress> probedNodes;
+
+  /** Information about the job, used to create extra reservations for released tasks. */
+  private String appId;
+  private TUserGroupInfo user;
+  private TResourceVector estimatedResources;
+  private THostPort schedulerAddress;
+
   ConstrainedTaskPlacer(String requestId, double probeRatio){
+    this(requestId, probeRatio, new NodeTopology(), new NodeIndex(0));
+  }
+
+  ConstrainedTaskPlacer(String requestId, double probeRatio, NodeTopology topology,
+                        NodeIndex nodeIndex){
     this.requestId = requestId;
     this.probeRatio = probeRatio;
+    this.topology = topology;
+    this.nodeIndex = nodeIndex;
+    avoidedNodes = Maps.newHashMap();
     launchedConstrainedTasks = Collections.synchronizedSet(new HashSet<TTaskLaunchSpec>());
     unlaunchedConstrainedTasks = Maps.newConcurrentMap();
     numOutstandingReservations = 0;
+    numReservations = 0;
+    numResponses = 0;
     unlaunchedUnconstrainedTasks = Lists.newArrayList();
+    delayedTasks = Lists.newArrayList();
+    probedNodes = new HashSet<InetSocketAddress>();
   }
 
   @Override
@@ -73,6 +130,7 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       TSchedulingRequest schedulingRequest, String requestId,
       Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
     LOG.debug(Logging.functionCall(schedulingRequest, requestId, nodes, schedulerAddress));
+    long now = System.currentTimeMillis();
 
     // Tracks number of tasks to be enqueued at each node monitor.
     HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
@@ -100,18 +158,34 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
 
     // We assume all tasks in a job have the same resource usage requirements.
     TResourceVector estimatedResources = taskList.get(0).getEstimatedResources();
+    this.appId = schedulingRequest.getApp();
+    this.user = schedulingRequest.getUser();
+    this.estimatedResources = estimatedResources;
+    this.schedulerAddress = schedulerAddress;
 
     for (TTaskSpec task : taskList) {
-      if (task.preference == null || task.preference.nodes == null ||
-          task.preference.nodes.size() == 0) {
+      if (!hasPlacementPreference(task)) {
         unconstrainedTasks.add(task);
         continue;
       }
 
-      List<InetSocketAddress> preferredNodes = taskPreferencesToSocketList(task, addrToSocket);
+      Set<InetAddress> avoided = nodeIndex.getAvoidedNodes(task.preference);
+      List<InetSocketAddress> preferredNodes =
+          taskPreferencesToSocketList(task, addrToSocket, avoided);
 
       TTaskLaunchSpec taskLaunchSpec = new TTaskLaunchSpec(task.getTaskId(),
                                                            task.bufferForMessage());
+      if (!avoided.isEmpty()) {
+        synchronized (this) {
+          avoidedNodes.put(taskLaunchSpec, avoided);
+        }
+      }
+      if (task.preference.isSetDelayThreshold() && task.preference.getDelayThreshold() > 0) {
+        synchronized (this) {
+          delayedTasks.add(
+              new DelayedTask(taskLaunchSpec, now + task.preference.getDelayThreshold()));
+        }
+      }
 
       int numEnqueuedNodes = 0;
       for (InetSocketAddress addr : preferredNodes) {
@@ -134,6 +208,7 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
             requests.get(addr).numTasks += 1;
           }
           numOutstandingReservations++;
+          numReservations++;
 
           unlaunchedConstrainedTasks.get(hostPort).add(0, taskLaunchSpec);
           numEnqueuedNodes += 1;
@@ -166,6 +241,9 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
           estimatedResources, schedulerAddress, nodes, requests);
     }
 
+    synchronized (this) {
+      probedNodes.addAll(requests.keySet());
+    }
     return requests;
   }
 
@@ -179,12 +257,19 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       TResourceVector estimatedResources, THostPort schedulerAddress,
       Collection<InetSocketAddress> nodeMonitors,
       HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    // Any unconstrained task may be launched from any of these reservations, so reservations
+    // are only placed on nodes that none of the unconstrained tasks avoid.
+    Set<InetAddress> avoided = new HashSet<InetAddress>();
+    for (TTaskSpec task : unconstrainedTasks) {
+      avoided.addAll(nodeIndex.getAvoidedNodes(task.preference));
+    }
+
     /* Identify the node monitors that aren't already being used for the constrained tasks, and
      * place all of reservations on those nodes (to try to spread the reservations evenly
      * throughout the cluster). */
     List<InetSocketAddress> unusedNodeMonitors = Lists.newArrayList();
     for (InetSocketAddress nodeMonitor : nodeMonitors) {
-      if (!requests.containsKey(nodeMonitor)) {
+      if (!requests.containsKey(nodeMonitor) && !avoided.contains(nodeMonitor.getAddress())) {
          unusedNodeMonitors.add(nodeMonitor);
       }
     }
@@ -207,6 +292,7 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       requests.put(nodeMonitor, request);
       reservationsCreated++;
       numOutstandingReservations += 1;
+      numReservations += 1;
 
       if (reservationsCreated >= reservationsToLaunch) {
         break;
@@ -222,48 +308,314 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       TTaskLaunchSpec taskLaunchSpec = new TTaskLaunchSpec(
           task.getTaskId(), task.bufferForMessage());
       unlaunchedUnconstrainedTasks.add(taskLaunchSpec);
+      Set<InetAddress> taskAvoided = nodeIndex.getAvoidedNodes(task.preference);
+      if (!taskAvoided.isEmpty()) {
+        synchronized (this) {
+          avoidedNodes.put(taskLaunchSpec, taskAvoided);
+        }
+      }
     }
 
   }
 
+  /** Returns whether the task prefers particular nodes or racks. */
+  static boolean hasPlacementPreference(TTaskSpec task) {
+    return task.preference != null &&
+        ((task.preference.nodes != null && task.preference.nodes.size() > 0) ||
+         (task.preference.racks != null && task.preference.racks.size() > 0));
+  }
+
   /**
-   * Converts the preferences for the task (which contain host names) to a list of socket
-   * addresses. We return the preferences as socket addresses because the addresses are used to
-   * open a client for the node monitor (so need to be InetSocketAddreses).
+   * Converts the preferences for the task (which contain host names and rack names) to a list of
+   * socket addresses. We return the preferences as socket addresses because the addresses are
+   * used to open a client for the node monitor (so need to be InetSocketAddreses).
+   *
+   * The preferred nodes are returned first, in random order, followed (also in random order) by
+   * the other nodes in the preferred racks and in the racks of the preferred nodes. Nodes in
+   * {@code avoided} are never returned.
    */
   private List<InetSocketAddress> taskPreferencesToSocketList(
-      TTaskSpec task, HashMap<InetAddress, InetSocketAddress> addrToSocket) {
+      TTaskSpec task, HashMap<InetAddress, InetSocketAddress> addrToSocket,
+      Set<InetAddress> avoided) {
     // Preferred nodes for this task.
     List<InetSocketAddress> preferredNodes = Lists.newLinkedList();
+    Set<String> preferredRacks = new HashSet<String>();
+    if (task.preference.racks != null) {
+      preferredRacks.addAll(task.preference.racks);
+    }
 
     // Convert the preferences (which contain host names) to a list of socket addresses.
-    Collections.shuffle(task.preference.nodes);
-    for (String node : task.preference.nodes) {
-      try {
-       InetAddress addr = InetAddress.getByName(node);
-       if (addrToSocket.containsKey(addr)) {
-         preferredNodes.add(addrToSocket.get(addr));
-       } else {
-         LOG.warn("Placement constraint for unknown node " + node);
-         LOG.warn("Node address: " + addr);
-         String knownAddrs = "";
-         for (InetAddress knownAddress: addrToSocket.keySet()) {
-           knownAddrs += " " + knownAddress.getHostAddress();
-         }
-         LOG.warn("Know about: " + knownAddrs);
-       }
-      } catch (UnknownHostException e) {
+    List<String> nodes = task.preference.nodes;
+    if (nodes == null) {
+      nodes = Lists.newArrayList();
+    }
+    Collections.shuffle(nodes);
+    for (String node : nodes) {
+      InetAddress addr = nodeIndex.resolve(node);
+      if (addr == null) {
         LOG.warn("Got placement constraint for unresolvable node " + node);
+        continue;
+      }
+      String rack = topology.getRack(addr);
+      if (rack != null) {
+        preferredRacks.add(rack);
+      }
+      if (avoided.contains(addr)) {
+        LOG.warn("Placement constraint for node " + node + ", which the task also avoids");
+      } else if (addrToSocket.containsKey(addr)) {
+        preferredNodes.add(addrToSocket.get(addr));
+      } else {
+        LOG.warn("Placement constraint for unknown node " + node);
+        LOG.warn("Node address: " + addr);
+        String knownAddrs = "";
+        for (InetAddress knownAddress: addrToSocket.keySet()) {
+          knownAddrs += " " + knownAddress.getHostAddress();
+        }
+        LOG.warn("Know about: " + knownAddrs);
+      }
+    }
+
+    Set<InetSocketAddress> nodeLocal = new HashSet<InetSocketAddress>(preferredNodes);
+    List<InetSocketAddress> rackLocal = Lists.newArrayList();
+    for (String rack : preferredRacks) {
+      Set<InetAddress> rackNodes = topology.getNodesInRack(rack);
+      if (rackNodes.isEmpty()) {
+        LOG.warn("Placement constraint for unknown rack " + rack);
+      }
+      for (InetAddress addr : rackNodes) {
+        InetSocketAddress socket = addrToSocket.get(addr);
+        // Each node is in only one rack, so it can only be duplicated by a preferred node.
+        if (socket != null && !nodeLocal.contains(socket) && !avoided.contains(addr)) {
+          rackLocal.add(socket);
+        }
       }
     }
+    Collections.shuffle(rackLocal);
+    preferredNodes.addAll(rackLocal);
 
     return preferredNodes;
   }
 
+  /**
+   * Returns the earliest time at which a delayed task that hasn't been launched will be
+   * released, or -1 if there are no such tasks (tasks that have already been released, and
+   * that extra reservations were created for, are not considered).
+   */
+  synchronized long getNextReleaseTime() {
+    long nextReleaseTime = -1;
+    for (DelayedTask delayedTask : delayedTasks) {
+      if (!delayedTask.probed && !launchedConstrainedTasks.contains(delayedTask.taskSpec) &&
+          (nextReleaseTime == -1 || delayedTask.releaseTime < nextReleaseTime)) {
+        nextReleaseTime = delayedTask.releaseTime;
+      }
+    }
+    return nextReleaseTime;
+  }
+
+  /**
+   * Returns requests to enqueue one extra reservation for each delayed task that has been
+   * released without being launched, on node monitors that don't already have reservations for
+   * the job. The node monitors where the task's reservations were enqueued are all still busy
+   * when a task is released, so without extra reservations, the task could wait as long as it
+   * would have without a delay threshold.
+   */
+  synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+  getReleasedTaskEnqueueRequests(Collection<InetSocketAddress> nodes) {
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    long now = System.currentTimeMillis();
+    List<DelayedTask> releasedTasks = Lists.newArrayList();
+    for (DelayedTask delayedTask : delayedTasks) {
+      if (!delayedTask.probed && delayedTask.releaseTime <= now &&
+          !launchedConstrainedTasks.contains(delayedTask.taskSpec)) {
+        delayedTask.probed = true;
+        releasedTasks.add(delayedTask);
+      }
+    }
+    if (releasedTasks.isEmpty()) {
+      return requests;
+    }
+
+    List<InetSocketAddress> unusedNodes = Lists.newArrayList();
+    for (InetSocketAddress node : nodes) {
+      if (!probedNodes.contains(node)) {
+        unusedNodes.add(node);
+      }
+    }
+    Collections.shuffle(unusedNodes);
+    for (DelayedTask releasedTask : releasedTasks) {
+      Iterator<InetSocketAddress> iterator = unusedNodes.iterator();
+      while (iterator.hasNext()) {
+        InetSocketAddress node = iterator.next();
+        if (!avoids(releasedTask.taskSpec, node.getAddress())) {
+          iterator.remove();
+          requests.put(node, new TEnqueueTaskReservationsRequest(
+              appId, user, requestId, estimatedResources, schedulerAddress, 1));
+          probedNodes.add(node);
+          numOutstandingReservations++;
+          numReservations++;
+          break;
+        }
+      }
+    }
+    LOG.debug("Request " + requestId + ": " + releasedTasks.size() +
+              " constrained tasks released " +
+              "after their delay threshold; created " + requests.size() +
+              " extra enqueue task reservation requests.");
+    return requests;
+  }
+
+  /**
+   * Hedge reservations are only created for unconstrained tasks: constrained tasks can't run on
+   * arbitrary node monitors, and delayed tasks get extra reservations once they are released
+   * (see {@link #getReleasedTaskEnqueueRequests}).
+   */
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+  getHedgeEnqueueTaskReservationsRequests(
+      Collection<InetSocketAddress> nodes, int maxReservations) {
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    if (hedged) {
+      return requests;
+    }
+    hedged = true;
+    int created = addUnconstrainedTaskRequests(
+        nodes, Math.min(unlaunchedUnconstrainedTasks.size(), maxReservations), requests);
+    numOutstandingReservations += created;
+    numReservations += created;
+    LOG.debug("Request " + requestId + ": created " + requests.size() + " hedge enqueue task " +
+              "reservation requests for " + unlaunchedUnconstrainedTasks.size() +
+              " unlaunched unconstrained tasks.");
+    return requests;
+  }
+
+  /**
+   * Each unlaunched constrained task that had a reservation on the refused node monitor gets one
+   * on another node monitor it prefers, where possible; the remaining refused reservations are
+   * replaced for the unconstrained tasks.
+   */
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+  getReplacementEnqueueTaskReservationsRequests(
+      InetSocketAddress refusedNode, int refusedReservations,
+      Collection<InetSocketAddress> nodes) {
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    int created = 0;
+    int stranded = 0;
+    List<TTaskLaunchSpec> refusedTasks = unlaunchedConstrainedTasks.remove(
+        new THostPort(refusedNode.getAddress().getHostAddress(), refusedNode.getPort()));
+    if (refusedTasks != null) {
+      synchronized (refusedTasks) {
+        // Tasks that had reservations on the node are at the beginning of its list.
+        for (TTaskLaunchSpec taskSpec : refusedTasks) {
+          if (created + stranded >= refusedReservations) {
+            break;
+          }
+          if (launchedConstrainedTasks.contains(taskSpec)) {
+            continue;
+          }
+          InetSocketAddress node = getUnusedPreferredNode(taskSpec, nodes, requests);
+          if (node == null) {
+            stranded++;
+            continue;
+          }
+          if (requests.containsKey(node)) {
+            requests.get(node).numTasks += 1;
+          } else {
+            requests.put(node, new TEnqueueTaskReservationsRequest(
+                appId, user, requestId, estimatedResources, schedulerAddress, 1));
+            probedNodes.add(node);
+          }
+          unlaunchedConstrainedTasks.get(
+              new THostPort(node.getAddress().getHostAddress(), node.getPort()))
+              .add(0, taskSpec);
+          created++;
+        }
+      }
+    }
+    created += addUnconstrainedTaskRequests(
+        nodes, Math.min(unlaunchedUnconstrainedTasks.size(), refusedReservations - created),
+        requests);
+    numOutstandingReservations += created - refusedReservations;
+    numReservations += created - refusedReservations;
+    if (requests.isEmpty() && (stranded > 0 || !unlaunchedUnconstrainedTasks.isEmpty())) {
+      LOG.warn("Request " + requestId + ": no node monitor left to replace " +
+               refusedReservations + " reservations refused by " + refusedNode);
+    }
+    return requests;
+  }
+
+  /**
+   * Returns a node monitor that the given constrained task prefers and that doesn't have a
+   * reservation for the job yet (other than ones in {@code requests}), or null.
+   */
+  private InetSocketAddress getUnusedPreferredNode(
+      TTaskLaunchSpec taskSpec, Collection<InetSocketAddress> nodes,
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    for (InetSocketAddress node : nodes) {
+      if (probedNodes.contains(node) && !requests.containsKey(node)) {
+        continue;
+      }
+      List<TTaskLaunchSpec> nodeTasks = unlaunchedConstrainedTasks.get(
+          new THostPort(node.getAddress().getHostAddress(), node.getPort()));
+      if (nodeTasks != null && nodeTasks.contains(taskSpec)) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Adds requests to enqueue one reservation for the unconstrained tasks on each of up to
+   * {@code maxReservations} node monitors that don't have a reservation for the job yet and
+   * that none of the tasks avoid, and returns the number added.
+   */
+  private int addUnconstrainedTaskRequests(
+      Collection<InetSocketAddress> nodes, int maxReservations,
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    if (maxReservations <= 0) {
+      return 0;
+    }
+    Set<InetAddress> avoided = new HashSet<InetAddress>();
+    for (TTaskLaunchSpec spec : unlaunchedUnconstrainedTasks) {
+      Set<InetAddress> taskAvoided = avoidedNodes.get(spec);
+      if (taskAvoided != null) {
+        avoided.addAll(taskAvoided);
+      }
+    }
+    List<InetSocketAddress> unusedNodes = Lists.newArrayList();
+    for (InetSocketAddress node : nodes) {
+      if (!probedNodes.contains(node) && !avoided.contains(node.getAddress())) {
+        unusedNodes.add(node);
+      }
+    }
+    Collections.shuffle(unusedNodes);
+    int added = 0;
+    for (InetSocketAddress node : unusedNodes) {
+      if (added >= maxReservations) {
+        break;
+      }
+      requests.put(node, new TEnqueueTaskReservationsRequest(
+          appId, user, requestId, estimatedResources, schedulerAddress, 1));
+      probedNodes.add(node);
+      added++;
+    }
+    return added;
+  }
+
+  @Override
+  public synchronized double getFractionResponded() {
+    if (numReservations == 0) {
+      return 0;
+    }
+    return ((double) numResponses) / numReservations;
+  }
+
   @Override
   public synchronized List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress) {
+    numResponses++;
     if (!unlaunchedConstrainedTasks.containsKey(nodeMonitorAddress)) {
-      List<TTaskLaunchSpec> unconstrainedTasks = getUnconstrainedTasks(nodeMonitorAddress);
+      List<TTaskLaunchSpec> unconstrainedTasks =
+          getReleasedOrUnconstrainedTasks(nodeMonitorAddress);
 
       if (unconstrainedTasks.size() == 0) {
         StringBuilder nodeMonitors = new StringBuilder();
@@ -306,21 +658,72 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
           ": Not assigning a constrained task (no remaining unlaunched tasks that prefer " +
           "this node).");
-      return getUnconstrainedTasks(nodeMonitorAddress);
+      return getReleasedOrUnconstrainedTasks(nodeMonitorAddress);
     }
   }
 
-  private List<TTaskLaunchSpec> getUnconstrainedTasks(THostPort nodeMonitorAddress) {
+  @Override
+  public synchronized List<TTaskLaunchSpec> donateTask(THostPort nodeMonitorAddress) {
+    List<TTaskLaunchSpec> tasks = getUnconstrainedTasks(
+        nodeMonitorAddress, nodeIndex.resolve(nodeMonitorAddress.getHost()));
+    for (TTaskLaunchSpec task : tasks) {
+      task.setRequestId(requestId);
+      task.setEstimatedResources(estimatedResources);
+    }
+    return tasks;
+  }
+
+  /**
+   * Returns a constrained task whose delay threshold has passed, if there is one, and otherwise
+   * an unconstrained task.
+   */
+  private List<TTaskLaunchSpec> getReleasedOrUnconstrainedTasks(THostPort nodeMonitorAddress) {
+    long now = System.currentTimeMillis();
+    InetAddress node = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    Iterator<DelayedTask> iterator = delayedTasks.iterator();
+    while (iterator.hasNext()) {
+      DelayedTask delayedTask = iterator.next();
+      if (launchedConstrainedTasks.contains(delayedTask.taskSpec)) {
+        iterator.remove();
+      } else if (delayedTask.releaseTime <= now && !avoids(delayedTask.taskSpec, node)) {
+        iterator.remove();
+        launchedConstrainedTasks.add(delayedTask.taskSpec);
+        LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
+                  ": Assigning constrained task " + delayedTask.taskSpec.getTaskId() +
+                  " because its delay threshold has passed.");
+        numOutstandingReservations--;
+        return Lists.newArrayList(delayedTask.taskSpec);
+      }
+    }
+    return getUnconstrainedTasks(nodeMonitorAddress, node);
+  }
+
+  private List<TTaskLaunchSpec> getUnconstrainedTasks(THostPort nodeMonitorAddress,
+                                                      InetAddress node) {
     if (this.unlaunchedUnconstrainedTasks.size() == 0) {
       LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
                 ": Not assighning a task (no remaining unconstrained unlaunched tasks)");
       return Lists.newArrayList();
     }
-    TTaskLaunchSpec spec = unlaunchedUnconstrainedTasks.get(0);
-    unlaunchedUnconstrainedTasks.remove(0);
+    Iterator<TTaskLaunchSpec> iterator = unlaunchedUnconstrainedTasks.iterator();
+    while (iterator.hasNext()) {
+      TTaskLaunchSpec spec = iterator.next();
+      if (!avoids(spec, node)) {
+        iterator.remove();
+        LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
+                  ": Assigning task " + spec.getTaskId());
+        return Lists.newArrayList(spec);
+      }
+    }
     LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
-              ": Assigning task " + spec.getTaskId());
-    return Lists.newArrayList(spec);
+              ": Not assigning a task (all remaining unconstrained tasks avoid the node)");
+    return Lists.newArrayList();
+  }
+
+  /** Returns whether the given task must not be launched on {@code node}. */
+  private boolean avoids(TTaskLaunchSpec taskSpec, InetAddress node) {
+    Set<InetAddress> avoided = avoidedNodes.get(taskSpec);
+    return avoided != null && avoided.contains(node);
   }
 
   @Override
@@ -0,0 +1,78 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+
+/**
+ * Slots that node monitors hold for the reservations of a gang job, along with the task that
+ * the job's placer assigned to each, until there is a slot for every task of the job. Then all
+ * of the tasks are launched at once. If the gang isn't complete before it times out, it is
+ * aborted and all of its slots are released, so no slot stays occupied by part of a gang.
+ */
+public class GangAssembly {
+  private int numTasks;
+  private int heldSlots = 0;
+
+  /** Tasks tentatively assigned to each node monitor that holds slots for the gang. */
+  private Map<THostPort, List<TTaskLaunchSpec>> assignments = Maps.newHashMap();
+
+  private boolean launched = false;
+  private boolean aborted = false;
+
+  public GangAssembly(int numTasks) {
+    this.numTasks = numTasks;
+  }
+
+  /**
+   * Records that {@code node} holds a slot for the gang, in which {@code task} will be launched.
+   * Returns false if the gang was already launched or aborted, in which case the slot should be
+   * released.
+   */
+  public synchronized boolean slotHeld(THostPort node, TTaskLaunchSpec task) {
+    if (launched || aborted) {
+      return false;
+    }
+    List<TTaskLaunchSpec> tasks = assignments.get(node);
+    if (tasks == null) {
+      tasks = Lists.newArrayList();
+      assignments.put(node, tasks);
+    }
+    tasks.add(task);
+    heldSlots++;
+    return true;
+  }
+
+  /**
+   * If slots are held for all of the gang's tasks, marks the gang launched and returns the tasks
+   * to launch on each node monitor. Otherwise, returns null.
+   */
+  public synchronized Map<THostPort, List<TTaskLaunchSpec>> launchIfComplete() {
+    if (launched || aborted || heldSlots < numTasks) {
+      return null;
+    }
+    launched = true;
+    return assignments;
+  }
+
+  /**
+   * Aborts the gang, unless it was already launched, and returns the number of slots held on
+   * each node monitor, which should be released. Returns null if the gang was launched.
+   */
+  public synchronized Map<THostPort, Integer> abort() {
+    if (launched || aborted) {
+      return null;
+    }
+    aborted = true;
+    Map<THostPort, Integer> slots = Maps.newHashMap();
+    for (Map.Entry<THostPort, List<TTaskLaunchSpec>> entry : assignments.entrySet()) {
+      slots.put(entry.getKey(), entry.getValue().size());
+    }
+    return slots;
+  }
+}
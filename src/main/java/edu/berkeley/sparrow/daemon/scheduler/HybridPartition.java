@@ -0,0 +1,121 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+
+/**
+ * Splits jobs into short and long jobs, and node monitors into a partition reserved for short
+ * jobs and a general partition, for hybrid scheduling (see {@link SparrowConf#HYBRID}).
+ *
+ * Long jobs are placed centrally: each scheduler places one reservation per task on the least
+ * loaded node monitors in the general partition. Short jobs keep probing, but probe the reserved
+ * partition first, so they don't queue behind long jobs when the cluster is busy. Whether a node
+ * is reserved only depends on its address, so all schedulers agree on the partitions without
+ * coordinating.
+ */
+public class HybridPartition {
+  /** Granularity with which the reserved fraction of node monitors is chosen. */
+  private static final int BUCKETS = 1000;
+
+  private boolean enabled;
+  private int reservedBuckets;
+  private long longJobDurationMs;
+  private int longJobTasks;
+
+  public HybridPartition(Configuration conf) {
+    this(conf.getBoolean(SparrowConf.HYBRID, SparrowConf.DEFAULT_HYBRID),
+         conf.getDouble(SparrowConf.HYBRID_SHORT_PARTITION_FRACTION,
+                        SparrowConf.DEFAULT_HYBRID_SHORT_PARTITION_FRACTION),
+         conf.getLong(SparrowConf.HYBRID_LONG_JOB_DURATION_MS,
+                      SparrowConf.DEFAULT_HYBRID_LONG_JOB_DURATION_MS),
+         conf.getInt(SparrowConf.HYBRID_LONG_JOB_TASKS, SparrowConf.DEFAULT_HYBRID_LONG_JOB_TASKS));
+  }
+
+  public HybridPartition(boolean enabled, double shortPartitionFraction, long longJobDurationMs,
+                         int longJobTasks) {
+    this.enabled = enabled;
+    this.reservedBuckets = (int) Math.round(shortPartitionFraction * BUCKETS);
+    this.longJobDurationMs = longJobDurationMs;
+    this.longJobTasks = longJobTasks;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns whether {@code node} is in the partition reserved for short jobs. */
+  public boolean isReserved(InetSocketAddress node) {
+    if (!enabled || reservedBuckets <= 0) {
+      return false;
+    }
+    // Hash the textual address, since its hash code is the same in every scheduler.
+    String key = node.getAddress().getHostAddress() + ":" + node.getPort();
+    return Math.abs(key.hashCode() % BUCKETS) < reservedBuckets;
+  }
+
+  /**
+   * Returns whether the job is long: its tasks are expected to run for at least
+   * {@link SparrowConf#HYBRID_LONG_JOB_DURATION_MS} on average, or it has at least
+   * {@link SparrowConf#HYBRID_LONG_JOB_TASKS} tasks.
+   */
+  public boolean isLongJob(TSchedulingRequest request) {
+    if (!enabled) {
+      return false;
+    }
+    if (longJobTasks > 0 && request.getTasksSize() >= longJobTasks) {
+      return true;
+    }
+    long totalDurationMs = 0;
+    int tasksWithDuration = 0;
+    for (TTaskSpec task : request.getTasks()) {
+      if (task.isSetExpectedDurationMs()) {
+        totalDurationMs += task.getExpectedDurationMs();
+        tasksWithDuration++;
+      }
+    }
+    return longJobDurationMs > 0 && tasksWithDuration > 0 &&
+        totalDurationMs / tasksWithDuration >= longJobDurationMs;
+  }
+
+  /** Returns the nodes in the general partition, where long jobs are placed. */
+  public List<InetSocketAddress> getGeneralNodes(Collection<InetSocketAddress> nodes) {
+    List<InetSocketAddress> general = Lists.newArrayList();
+    for (InetSocketAddress node : nodes) {
+      if (!isReserved(node)) {
+        general.add(node);
+      }
+    }
+    return general;
+  }
+
+  /**
+   * Moves the nodes in the reserved partition to the front of {@code nodes}, keeping the order of
+   * the nodes within each partition.
+   */
+  public void preferReserved(List<InetSocketAddress> nodes) {
+    if (!enabled || reservedBuckets <= 0) {
+      return;
+    }
+    List<InetSocketAddress> general = Lists.newArrayList();
+    int reserved = 0;
+    for (InetSocketAddress node : nodes) {
+      if (isReserved(node)) {
+        nodes.set(reserved++, node);
+      } else {
+        general.add(node);
+      }
+    }
+    for (InetSocketAddress node : general) {
+      nodes.set(reserved++, node);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * Node monitors that recently told the scheduler they have free slots and no queued
+ * reservations. Task placers take probes from this set before sampling nodes at random; each
+ * probe uses up one of the node's advertised slots, and a node is forgotten once it has no
+ * slots left or its advertisement is older than {@link SparrowConf#IDLE_NODE_EXPIRY_MS}.
+ */
+public class IdleNodeSet {
+  private class IdleNode {
+    public int freeSlots;
+    public long expiryTime;
+
+    public IdleNode(int freeSlots, long expiryTime) {
+      this.freeSlots = freeSlots;
+      this.expiryTime = expiryTime;
+    }
+  }
+
+  private long expiryMs;
+  private Map<InetSocketAddress, IdleNode> nodes = Maps.newHashMap();
+
+  public IdleNodeSet(long expiryMs) {
+    this.expiryMs = expiryMs;
+  }
+
+  /** Records that {@code node} has {@code freeSlots} free slots. */
+  public synchronized void nodeIdle(InetSocketAddress node, int freeSlots) {
+    if (freeSlots <= 0) {
+      nodes.remove(node);
+      return;
+    }
+    nodes.put(node, new IdleNode(freeSlots, System.currentTimeMillis() + expiryMs));
+  }
+
+  /**
+   * Returns up to {@code maxNodes} distinct idle nodes from {@code candidates}, in random order,
+   * and uses up one advertised slot on each.
+   */
+  public synchronized List<InetSocketAddress> takeIdleNodes(
+      Collection<InetSocketAddress> candidates, int maxNodes) {
+    List<InetSocketAddress> idleNodes = Lists.newArrayList();
+    if (nodes.isEmpty() || maxNodes <= 0) {
+      return idleNodes;
+    }
+    long now = System.currentTimeMillis();
+    Set<InetSocketAddress> candidateSet = new HashSet<InetSocketAddress>(candidates);
+    Iterator<Map.Entry<InetSocketAddress, IdleNode>> iterator = nodes.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<InetSocketAddress, IdleNode> entry = iterator.next();
+      if (entry.getValue().expiryTime < now) {
+        iterator.remove();
+      } else if (candidateSet.contains(entry.getKey())) {
+        idleNodes.add(entry.getKey());
+      }
+    }
+    Collections.shuffle(idleNodes);
+    if (idleNodes.size() > maxNodes) {
+      idleNodes = Lists.newArrayList(idleNodes.subList(0, maxNodes));
+    }
+    for (InetSocketAddress node : idleNodes) {
+      IdleNode idleNode = nodes.get(node);
+      idleNode.freeSlots--;
+      if (idleNode.freeSlots == 0) {
+        nodes.remove(node);
+      }
+    }
+    return idleNodes;
+  }
+}
@@ -0,0 +1,204 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TJobStage;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+
+/**
+ * Tracks the stages of multi-stage jobs submitted with submitJobDag(), and releases each stage
+ * once all tasks of its parent stages have finished. Node monitors report the completion of
+ * stages' tasks back to the scheduler (see {@link #isStage}), so stages are released without
+ * waiting for the frontend.
+ */
+public class JobDagTracker {
+  private class Stage {
+    public TSchedulingRequest request;
+
+    /** Parents whose tasks haven't all finished. */
+    public Set<Stage> pendingParents = Sets.newHashSet();
+    public List<Stage> children = Lists.newArrayList();
+
+    /** IDs of the stage's tasks that haven't finished. */
+    public Set<String> unfinishedTasks = Sets.newHashSet();
+
+    /** Request IDs the stage was submitted under (more than one if it was resubmitted). */
+    public List<String> requestIds = Lists.newArrayList();
+
+    public Stage(TSchedulingRequest request) {
+      this.request = request;
+      for (TTaskSpec task : request.getTasks()) {
+        unfinishedTasks.add(task.getTaskId());
+      }
+    }
+  }
+
+  /** Released stages that haven't been submitted yet, indexed by their request. */
+  private Map<TSchedulingRequest, Stage> releasedStages =
+      new IdentityHashMap<TSchedulingRequest, Stage>();
+
+  /** Submitted stages whose tasks haven't all finished, indexed by request ID. */
+  private Map<String, Stage> requestStages = Maps.newHashMap();
+
+  /**
+   * Records a job made of the given stages, and returns the requests of the stages that can be
+   * submitted right away. Throws if a stage's parent doesn't exist or the stages have a cycle.
+   */
+  public synchronized List<TSchedulingRequest> dagSubmitted(List<TJobStage> jobStages)
+      throws IncompleteRequestException {
+    Map<String, Stage> stages = Maps.newHashMap();
+    for (TJobStage jobStage : jobStages) {
+      if (stages.containsKey(jobStage.getStageId())) {
+        throw new IncompleteRequestException("Duplicate stage " + jobStage.getStageId());
+      }
+      stages.put(jobStage.getStageId(), new Stage(jobStage.getRequest()));
+    }
+    for (TJobStage jobStage : jobStages) {
+      Stage stage = stages.get(jobStage.getStageId());
+      if (!jobStage.isSetParentStageIds()) {
+        continue;
+      }
+      for (String parentId : jobStage.getParentStageIds()) {
+        Stage parent = stages.get(parentId);
+        if (parent == null) {
+          throw new IncompleteRequestException("Stage " + jobStage.getStageId() +
+                                               " has unknown parent " + parentId);
+        }
+        if (stage.pendingParents.add(parent)) {
+          parent.children.add(stage);
+        }
+      }
+    }
+    checkAcyclic(stages);
+
+    List<TSchedulingRequest> ready = Lists.newArrayList();
+    for (Stage stage : stages.values()) {
+      if (stage.pendingParents.isEmpty()) {
+        ready.addAll(release(stage));
+      }
+    }
+    return ready;
+  }
+
+  /** Throws if the stages have a cycle, using Kahn's algorithm. */
+  private static void checkAcyclic(Map<String, Stage> stages)
+      throws IncompleteRequestException {
+    Map<Stage, Integer> pendingParents = Maps.newHashMap();
+    List<Stage> roots = Lists.newArrayList();
+    for (Stage stage : stages.values()) {
+      pendingParents.put(stage, stage.pendingParents.size());
+      if (stage.pendingParents.isEmpty()) {
+        roots.add(stage);
+      }
+    }
+    int visited = 0;
+    while (!roots.isEmpty()) {
+      Stage stage = roots.remove(roots.size() - 1);
+      visited++;
+      for (Stage child : stage.children) {
+        int remaining = pendingParents.get(child) - 1;
+        pendingParents.put(child, remaining);
+        if (remaining == 0) {
+          roots.add(child);
+        }
+      }
+    }
+    if (visited < stages.size()) {
+      throw new IncompleteRequestException("Job stages have a cycle");
+    }
+  }
+
+  /**
+   * Releases a stage whose parents have finished, and returns the requests to submit: the
+   * stage's, or if it has no tasks, those of the children it completes.
+   */
+  private List<TSchedulingRequest> release(Stage stage) {
+    if (stage.unfinishedTasks.isEmpty()) {
+      return stageFinished(stage);
+    }
+    releasedStages.put(stage.request, stage);
+    return Lists.newArrayList(stage.request);
+  }
+
+  /** Releases the children of a finished stage that have no other pending parents. */
+  private List<TSchedulingRequest> stageFinished(Stage stage) {
+    for (String requestId : stage.requestIds) {
+      requestStages.remove(requestId);
+    }
+    List<TSchedulingRequest> ready = Lists.newArrayList();
+    for (Stage child : stage.children) {
+      child.pendingParents.remove(stage);
+      if (child.pendingParents.isEmpty()) {
+        ready.addAll(release(child));
+      }
+    }
+    return ready;
+  }
+
+  /**
+   * Records the request ID that a request was given when it was submitted, and returns whether
+   * the request is a stage of a multi-stage job.
+   */
+  public synchronized boolean requestSubmitted(TSchedulingRequest request, String requestId) {
+    Stage stage = releasedStages.remove(request);
+    if (stage == null) {
+      return false;
+    }
+    stage.requestIds.add(requestId);
+    requestStages.put(requestId, stage);
+    return true;
+  }
+
+  /**
+   * Records that the tasks of a stage's request are being submitted again, in {@code retry}, so
+   * that the stage is tracked under the retry's request ID as well.
+   */
+  public synchronized void requestResubmitted(String requestId, TSchedulingRequest retry) {
+    Stage stage = requestStages.get(requestId);
+    if (stage != null) {
+      releasedStages.put(retry, stage);
+    }
+  }
+
+  /**
+   * Records that the given request was cancelled. If it is a stage, the stage is dropped, so
+   * that the stages that depend on it are never submitted.
+   */
+  public synchronized void requestCancelled(String requestId) {
+    Stage stage = requestStages.get(requestId);
+    if (stage == null) {
+      return;
+    }
+    for (String stageRequestId : stage.requestIds) {
+      requestStages.remove(stageRequestId);
+    }
+    releasedStages.values().remove(stage);
+  }
+
+  /** Returns whether the given request is a stage whose task completions should be reported. */
+  public synchronized boolean isStage(String requestId) {
+    return requestStages.containsKey(requestId);
+  }
+
+  /**
+   * Records that a task of the given request finished, and returns the requests of the stages
+   * released as a result.
+   */
+  public synchronized List<TSchedulingRequest> taskFinished(String requestId, String taskId) {
+    Stage stage = requestStages.get(requestId);
+    if (stage == null || !stage.unfinishedTasks.remove(taskId) ||
+        !stage.unfinishedTasks.isEmpty()) {
+      return Lists.newArrayList();
+    }
+    return stageFinished(stage);
+  }
+}
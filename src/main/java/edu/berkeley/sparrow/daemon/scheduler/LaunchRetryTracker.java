@@ -0,0 +1,178 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+
+/**
+ * Remembers recently submitted requests, so that tasks that node monitors fail to launch on
+ * their backends can be placed again, and counts how many times each task failed to launch.
+ * Tasks may be submitted again under new request IDs (for example, when a launch fails), so the
+ * counts of a job's tasks are shared by all of the requests it was submitted under.
+ *
+ * If {@code deadNodeFailures} is positive, the tracker also remembers which node monitors run
+ * the tasks assigned through their requests' own reservations, until the tasks finish. Once
+ * that many RPCs in a row to a node monitor fail, the node monitor is considered dead, and its
+ * tasks are returned so that they can be placed again, as if they had failed to launch.
+ */
+public class LaunchRetryTracker {
+  /** A job, along with its tasks and how many times each of them failed to launch. */
+  private class Job {
+    /** The first request the job was submitted as, whose attributes retries copy. */
+    public TSchedulingRequest request;
+
+    /**
+     * The job's tasks, indexed by task ID. These are recorded when the job is submitted, since
+     * tasks launched in leased slots are removed from the request afterwards.
+     */
+    public Map<String, TTaskSpec> tasks = Maps.newHashMap();
+
+    /** Number of times each of the job's tasks failed to launch, indexed by task ID. */
+    public Map<String, Integer> failures = Maps.newHashMap();
+
+    public Job(TSchedulingRequest request) {
+      this.request = request;
+    }
+  }
+
+  private int maxRetries;
+  private int deadNodeFailures;
+
+  private TrackedRequests<Job> requests;
+
+  /** IDs of the tasks running on each node monitor, indexed by node and then request ID. */
+  private Map<InetSocketAddress, Map<String, Set<String>>> runningTasks = Maps.newHashMap();
+
+  /** Number of RPCs in a row that failed, for node monitors with running tasks. */
+  private Map<InetSocketAddress, Integer> rpcFailures = Maps.newHashMap();
+
+  public LaunchRetryTracker(int maxRetries, int maxTrackedRequests, int deadNodeFailures) {
+    this.maxRetries = maxRetries;
+    this.deadNodeFailures = deadNodeFailures;
+    requests = new TrackedRequests<Job>(maxTrackedRequests);
+  }
+
+  /** Records the request ID that a request was given when it was submitted. */
+  public synchronized void requestSubmitted(TSchedulingRequest request, String requestId) {
+    Job job = requests.takeResubmittedJob(request);
+    if (job == null) {
+      job = new Job(request);
+    }
+    for (TTaskSpec task : request.getTasks()) {
+      job.tasks.put(task.getTaskId(), task);
+    }
+    requests.requestSubmitted(requestId, job);
+  }
+
+  /** Records that tasks of the given request will be submitted again, in {@code retry}. */
+  public synchronized void requestResubmitted(String requestId, TSchedulingRequest retry) {
+    Job job = requests.getJob(requestId);
+    if (job != null) {
+      requests.requestResubmitted(retry, job);
+    }
+  }
+
+  /**
+   * Returns a request of the given request's job, to copy when placing its tasks again, or null
+   * if the request isn't known (or is no longer tracked).
+   */
+  public synchronized TSchedulingRequest getRequest(String requestId) {
+    Job job = requests.getJob(requestId);
+    return job == null ? null : job.request;
+  }
+
+  /**
+   * Records that a task of the given request failed to launch. Returns the task to place again,
+   * or null if the task has failed to launch too many times or the request isn't known (or is
+   * no longer tracked).
+   */
+  public synchronized TTaskSpec taskFailed(String requestId, String taskId) {
+    Job job = requests.getJob(requestId);
+    if (job == null) {
+      return null;
+    }
+    Integer failures = job.failures.get(taskId);
+    failures = failures == null ? 1 : failures + 1;
+    job.failures.put(taskId, failures);
+    if (failures > maxRetries) {
+      return null;
+    }
+    return job.tasks.get(taskId);
+  }
+
+  /**
+   * Returns whether node monitors' running tasks are tracked, in which case the tasks should
+   * report their completion to this scheduler.
+   */
+  public boolean tracksRunningTasks() {
+    return deadNodeFailures > 0;
+  }
+
+  /** Records that a task of the given request is running on {@code node}. */
+  public synchronized void taskLaunched(String requestId, String taskId,
+                                        InetSocketAddress node) {
+    if (!tracksRunningTasks() || requests.getJob(requestId) == null) {
+      return;
+    }
+    Map<String, Set<String>> nodeTasks = runningTasks.get(node);
+    if (nodeTasks == null) {
+      nodeTasks = Maps.newHashMap();
+      runningTasks.put(node, nodeTasks);
+    }
+    Set<String> requestTasks = nodeTasks.get(requestId);
+    if (requestTasks == null) {
+      requestTasks = Sets.newHashSet();
+      nodeTasks.put(requestId, requestTasks);
+    }
+    requestTasks.add(taskId);
+  }
+
+  /** Records that a task of the given request finished on {@code node}, or failed to launch. */
+  public synchronized void taskStopped(String requestId, String taskId, InetSocketAddress node) {
+    Map<String, Set<String>> nodeTasks = runningTasks.get(node);
+    if (nodeTasks == null) {
+      return;
+    }
+    Set<String> requestTasks = nodeTasks.get(requestId);
+    if (requestTasks != null) {
+      requestTasks.remove(taskId);
+      if (requestTasks.isEmpty()) {
+        nodeTasks.remove(requestId);
+      }
+    }
+    if (nodeTasks.isEmpty()) {
+      runningTasks.remove(node);
+      rpcFailures.remove(node);
+    }
+  }
+
+  /** Records that an RPC to {@code node} succeeded. */
+  public synchronized void rpcSucceeded(InetSocketAddress node) {
+    rpcFailures.remove(node);
+  }
+
+  /**
+   * Records that an RPC to {@code node} failed. If the node is considered dead, returns the IDs
+   * of the tasks that were running on it, indexed by request ID, and stops tracking them.
+   * Otherwise returns an empty map.
+   */
+  public synchronized Map<String, Set<String>> rpcFailed(InetSocketAddress node) {
+    if (!runningTasks.containsKey(node)) {
+      return Maps.newHashMap();
+    }
+    Integer failures = rpcFailures.get(node);
+    failures = failures == null ? 1 : failures + 1;
+    if (failures < deadNodeFailures) {
+      rpcFailures.put(node, failures);
+      return Maps.newHashMap();
+    }
+    rpcFailures.remove(node);
+    return runningTasks.remove(node);
+  }
+}
@@ -0,0 +1,153 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+import edu.berkeley.sparrow.daemon.util.Logging;
+
+/**
+ * Scores the health of node monitors from the outcomes and latencies of the scheduler's RPCs to
+ * them (see {@link SparrowConf#NODE_HEALTH_MIN_SCORE}), and excludes unhealthy node monitors
+ * from the nodes that task placers sample. An excluded node monitor is readmitted after a
+ * backoff that doubles each time it is excluded again, and stays on probation for a while after
+ * that: a single failed or slow RPC during probation excludes it again right away.
+ */
+public class NodeHealthTracker {
+  private final static Logger AUDIT_LOG = Logging.getAuditLogger(NodeHealthTracker.class);
+
+  private class NodeHealth {
+    public double score = 1;
+
+    /** Number of times the node was excluded since it last completed probation. */
+    public int exclusions = 0;
+
+    /** Time until which the node is excluded, or 0 if it never was. */
+    public long excludedUntil = 0;
+
+    /** Time until which the node is on probation, once readmitted. */
+    public long probationUntil = 0;
+  }
+
+  private double minScore;
+  private double weight;
+  private long slowRpcMs;
+  private long exclusionMs;
+  private long maxExclusionMs;
+  private long probationMs;
+  private Clock clock;
+
+  private Map<InetSocketAddress, NodeHealth> nodes = Maps.newHashMap();
+
+  /** Nodes that are currently excluded, which is empty most of the time. */
+  private Set<InetSocketAddress> excludedNodes = Sets.newHashSet();
+
+  public NodeHealthTracker(Configuration conf) {
+    this(conf.getDouble(SparrowConf.NODE_HEALTH_MIN_SCORE,
+                        SparrowConf.DEFAULT_NODE_HEALTH_MIN_SCORE),
+         conf.getDouble(SparrowConf.NODE_HEALTH_WEIGHT, SparrowConf.DEFAULT_NODE_HEALTH_WEIGHT),
+         conf.getLong(SparrowConf.NODE_HEALTH_SLOW_RPC_MS,
+                      SparrowConf.DEFAULT_NODE_HEALTH_SLOW_RPC_MS),
+         conf.getLong(SparrowConf.NODE_HEALTH_EXCLUSION_MS,
+                      SparrowConf.DEFAULT_NODE_HEALTH_EXCLUSION_MS),
+         conf.getLong(SparrowConf.NODE_HEALTH_MAX_EXCLUSION_MS,
+                      SparrowConf.DEFAULT_NODE_HEALTH_MAX_EXCLUSION_MS),
+         conf.getLong(SparrowConf.NODE_HEALTH_PROBATION_MS,
+                      SparrowConf.DEFAULT_NODE_HEALTH_PROBATION_MS));
+  }
+
+  public NodeHealthTracker(double minScore, double weight, long slowRpcMs, long exclusionMs,
+                           long maxExclusionMs, long probationMs) {
+    this(minScore, weight, slowRpcMs, exclusionMs, maxExclusionMs, probationMs, Clock.SYSTEM);
+  }
+
+  NodeHealthTracker(double minScore, double weight, long slowRpcMs, long exclusionMs,
+                    long maxExclusionMs, long probationMs, Clock clock) {
+    this.minScore = minScore;
+    this.weight = weight;
+    this.slowRpcMs = slowRpcMs;
+    this.exclusionMs = exclusionMs;
+    this.maxExclusionMs = maxExclusionMs;
+    this.probationMs = probationMs;
+    this.clock = clock;
+  }
+
+  /** Records that an RPC to {@code node} succeeded after {@code latencyMs} milliseconds. */
+  public void rpcSucceeded(InetSocketAddress node, long latencyMs) {
+    rpcCompleted(node, latencyMs <= slowRpcMs);
+  }
+
+  /** Records that an RPC to {@code node} failed. */
+  public void rpcFailed(InetSocketAddress node) {
+    rpcCompleted(node, false);
+  }
+
+  private synchronized void rpcCompleted(InetSocketAddress node, boolean healthy) {
+    if (minScore <= 0) {
+      return;
+    }
+    NodeHealth health = nodes.get(node);
+    if (health == null) {
+      if (healthy) {
+        return;
+      }
+      health = new NodeHealth();
+      nodes.put(node, health);
+    }
+    long now = clock.currentTimeMillis();
+    if (now < health.excludedUntil) {
+      // Outcomes of RPCs sent before the node was excluded.
+      return;
+    }
+    health.score = weight * (healthy ? 1 : 0) + (1 - weight) * health.score;
+    if (!healthy && (health.score < minScore || now < health.probationUntil)) {
+      long backoffMs = Math.min(maxExclusionMs, exclusionMs << Math.min(health.exclusions, 30));
+      health.exclusions++;
+      health.excludedUntil = now + backoffMs;
+      health.probationUntil = health.excludedUntil + probationMs;
+      health.score = 1;
+      excludedNodes.add(node);
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_node_excluded",
+                                              node.getAddress().getHostAddress(), backoffMs));
+    } else if (healthy && health.probationUntil > 0 && now >= health.probationUntil) {
+      // The node completed probation, so the next exclusion uses the shortest backoff again.
+      nodes.remove(node);
+      excludedNodes.remove(node);
+    }
+  }
+
+  /**
+   * Returns the given nodes other than those currently excluded. Returns all of the nodes if
+   * all of them are excluded, so that jobs can still be placed.
+   */
+  public synchronized Set<InetSocketAddress> getHealthyNodes(
+      Set<InetSocketAddress> candidates) {
+    if (excludedNodes.isEmpty()) {
+      return candidates;
+    }
+    Set<InetSocketAddress> healthyNodes = Sets.newHashSet(candidates);
+    long now = clock.currentTimeMillis();
+    for (InetSocketAddress node : Lists.newArrayList(excludedNodes)) {
+      if (now >= nodes.get(node).excludedUntil) {
+        excludedNodes.remove(node);
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_node_readmitted",
+                                                node.getAddress().getHostAddress()));
+      } else {
+        healthyNodes.remove(node);
+      }
+    }
+    if (healthyNodes.isEmpty()) {
+      return candidates;
+    }
+    return healthyNodes;
+  }
+}
@@ -0,0 +1,105 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+
+/**
+ * An index of node monitor machines shared by all of a scheduler's task placers. It caches the
+ * address of each hostname that appears in a placement preference, so that placing a job
+ * doesn't require name lookups, and it records the machines where the tasks of named jobs were
+ * launched, so that later jobs can avoid them (see {@link #getAvoidedNodes}).
+ */
+public class NodeIndex {
+  private final static Logger LOG = Logger.getLogger(NodeIndex.class);
+
+  /** Resolved addresses, indexed by the hostname (or address string) they were resolved from. */
+  private ConcurrentMap<String, InetAddress> addresses = Maps.newConcurrentMap();
+
+  /** Machines where tasks were launched, for the most recently named jobs. */
+  private LinkedHashMap<String, Set<InetAddress>> jobNodes;
+
+  public NodeIndex(final int maxTrackedJobs) {
+    jobNodes = new LinkedHashMap<String, Set<InetAddress>>() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Set<InetAddress>> eldest) {
+        return size() > maxTrackedJobs;
+      }
+    };
+  }
+
+  /** Returns the address of the given host, or null if it can't be resolved. */
+  public InetAddress resolve(String host) {
+    InetAddress address = addresses.get(host);
+    if (address == null) {
+      try {
+        address = InetAddress.getByName(host);
+      } catch (UnknownHostException e) {
+        LOG.warn("Got unresolvable node " + host);
+        return null;
+      }
+      addresses.put(host, address);
+    }
+    return address;
+  }
+
+  /** Records that a task for the job named {@code jobName} was launched on {@code host}. */
+  public void addJobNode(String jobName, String host) {
+    InetAddress address = resolve(host);
+    if (address == null) {
+      return;
+    }
+    synchronized (jobNodes) {
+      Set<InetAddress> nodes = jobNodes.get(jobName);
+      if (nodes == null) {
+        nodes = new HashSet<InetAddress>();
+        jobNodes.put(jobName, nodes);
+      }
+      nodes.add(address);
+    }
+  }
+
+  /**
+   * Returns the machines a task with the given placement preference must not be placed on:
+   * the preference's avoidNodes, and the machines where tasks of the job named by its avoidJob
+   * were launched.
+   */
+  public Set<InetAddress> getAvoidedNodes(TPlacementPreference preference) {
+    if (preference == null || (!preference.isSetAvoidNodes() && !preference.isSetAvoidJob())) {
+      return Collections.emptySet();
+    }
+    Set<InetAddress> avoided = new HashSet<InetAddress>();
+    if (preference.isSetAvoidNodes()) {
+      for (String host : preference.getAvoidNodes()) {
+        InetAddress address = resolve(host);
+        if (address != null) {
+          avoided.add(address);
+        }
+      }
+    }
+    if (preference.isSetAvoidJob()) {
+      synchronized (jobNodes) {
+        Set<InetAddress> nodes = jobNodes.get(preference.getAvoidJob());
+        if (nodes == null) {
+          LOG.warn("Placement preference avoids unknown job " + preference.getAvoidJob());
+        } else {
+          avoided.addAll(nodes);
+        }
+      }
+    }
+    return avoided;
+  }
+}
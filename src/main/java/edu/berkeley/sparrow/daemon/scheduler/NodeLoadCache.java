@@ -0,0 +1,141 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
+
+/**
+ * The most recent load that each node monitor reported along with an enqueueTaskReservations()
+ * response or a getTask() call. Task placers probe the least loaded node monitors first: those
+ * with free slots, then those with the shortest estimated wait (or queue, for node monitors that
+ * can't estimate waits). Loads older than {@link SparrowConf#NODE_LOAD_MAX_AGE_MS} are ignored,
+ * so information is only used while it is kept fresh by traffic to the node.
+ */
+public class NodeLoadCache {
+  private class NodeLoad {
+    public int queueLength;
+    public int freeSlots;
+
+    /** Estimated wait in milliseconds, or -1 if the node monitor didn't report one. */
+    public long waitMs;
+    public long time;
+
+    public NodeLoad(int queueLength, int freeSlots, long waitMs, long time) {
+      this.queueLength = queueLength;
+      this.freeSlots = freeSlots;
+      this.waitMs = waitMs;
+      this.time = time;
+    }
+  }
+
+  private long maxAgeMs;
+  private ConcurrentMap<InetSocketAddress, NodeLoad> loads = Maps.newConcurrentMap();
+
+  public NodeLoadCache(long maxAgeMs) {
+    this.maxAgeMs = maxAgeMs;
+  }
+
+  /** Records the load reported by {@code node}. */
+  public void update(InetSocketAddress node, TNodeLoad load) {
+    if (maxAgeMs <= 0 || load == null) {
+      return;
+    }
+    long waitMs = load.isSetEstimatedWaitMs() ? load.getEstimatedWaitMs() : -1;
+    loads.put(node, new NodeLoad(load.getQueueLength(), load.getFreeSlots(), waitMs,
+                                 System.currentTimeMillis()));
+  }
+
+  /**
+   * Records that a reservation was just enqueued on {@code node}, so that other jobs placed
+   * before the node reports its load again don't all pick it.
+   */
+  public void reservationEnqueued(InetSocketAddress node) {
+    NodeLoad load = loads.get(node);
+    if (load == null) {
+      return;
+    }
+    synchronized (load) {
+      if (load.freeSlots > 0) {
+        load.freeSlots--;
+      } else {
+        if (load.waitMs > 0 && load.queueLength > 0) {
+          // Assume the new reservation takes as long as the average queued one.
+          load.waitMs += load.waitMs / load.queueLength;
+        }
+        load.queueLength++;
+      }
+    }
+  }
+
+  /**
+   * Returns how loaded {@code node} is, as the time (in milliseconds) that a new reservation
+   * would wait there, or the number of reservations it would wait behind if the node doesn't
+   * estimate waits. The load is negative if the node has free slots, and 0 if it isn't known.
+   */
+  public long getEstimatedLoad(InetSocketAddress node) {
+    NodeLoad load = loads.get(node);
+    if (load == null) {
+      return 0;
+    }
+    if (System.currentTimeMillis() - load.time > maxAgeMs) {
+      loads.remove(node, load);
+      return 0;
+    }
+    synchronized (load) {
+      if (load.freeSlots > 0) {
+        return -load.freeSlots;
+      }
+      return load.waitMs >= 0 ? load.waitMs : load.queueLength;
+    }
+  }
+
+  /**
+   * Returns the mean number of reservations queued on the given node monitors, counting those
+   * whose load isn't known (or is too old to use) as having empty queues.
+   */
+  public double getMeanQueueLength(Collection<InetSocketAddress> nodes) {
+    if (nodes.isEmpty()) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    long queued = 0;
+    for (InetSocketAddress node : nodes) {
+      NodeLoad load = loads.get(node);
+      if (load != null && now - load.time <= maxAgeMs) {
+        synchronized (load) {
+          queued += load.queueLength;
+        }
+      }
+    }
+    return (double) queued / nodes.size();
+  }
+
+  /**
+   * Sorts {@code nodes} from least to most loaded. The sort is stable, so nodes with the same
+   * load stay in their original (for example, random) order.
+   */
+  public void sortByLoad(List<InetSocketAddress> nodes) {
+    if (loads.isEmpty()) {
+      return;
+    }
+    final Map<InetSocketAddress, Long> estimates = Maps.newHashMap();
+    for (InetSocketAddress node : nodes) {
+      estimates.put(node, getEstimatedLoad(node));
+    }
+    Collections.sort(nodes, new Comparator<InetSocketAddress>() {
+      @Override
+      public int compare(InetSocketAddress a, InetSocketAddress b) {
+        return estimates.get(a).compareTo(estimates.get(b));
+      }
+    });
+  }
+}
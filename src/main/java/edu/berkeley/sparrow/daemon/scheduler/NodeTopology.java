@@ -0,0 +1,87 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * The rack that each node monitor's machine is in, used to expand rack placement preferences
+ * into the set of machines in the rack.
+ *
+ * The topology can be given statically in the configuration, with one
+ * {@link SparrowConf#STATIC_RACKS}{@code .<rack name>} entry per rack listing the hostnames of
+ * the machines in the rack, and can also be updated as node monitors register their racks.
+ * Machines are identified by {@link InetAddress}, so that hostnames are resolved once, when a
+ * machine is added to the topology, rather than each time a job is placed.
+ */
+public class NodeTopology {
+  private final static Logger LOG = Logger.getLogger(NodeTopology.class);
+
+  private ConcurrentMap<InetAddress, String> nodeRacks = Maps.newConcurrentMap();
+  private ConcurrentMap<String, Set<InetAddress>> rackNodes = Maps.newConcurrentMap();
+
+  /** Returns a topology containing the racks listed in the given configuration. */
+  public static NodeTopology fromConfiguration(Configuration conf) {
+    NodeTopology topology = new NodeTopology();
+    String prefix = SparrowConf.STATIC_RACKS + ".";
+    Iterator<?> keys = conf.getKeys(SparrowConf.STATIC_RACKS);
+    while (keys.hasNext()) {
+      String key = (String) keys.next();
+      if (!key.startsWith(prefix)) {
+        LOG.warn("Ignoring topology configuration key without a rack name: " + key);
+        continue;
+      }
+      String rack = key.substring(prefix.length());
+      for (String node : conf.getStringArray(key)) {
+        try {
+          topology.addNode(InetAddress.getByName(node.trim()), rack);
+        } catch (UnknownHostException e) {
+          LOG.warn("Got unresolvable node " + node + " for rack " + rack);
+        }
+      }
+    }
+    return topology;
+  }
+
+  /** Records that {@code node} is in {@code rack}, moving it out of any rack it was in. */
+  public synchronized void addNode(InetAddress node, String rack) {
+    String oldRack = nodeRacks.put(node, rack);
+    if (rack.equals(oldRack)) {
+      return;
+    }
+    if (oldRack != null) {
+      LOG.info("Node " + node + " moved from rack " + oldRack + " to rack " + rack);
+      rackNodes.get(oldRack).remove(node);
+    }
+    if (!rackNodes.containsKey(rack)) {
+      rackNodes.put(rack, Sets.newSetFromMap(new ConcurrentHashMap<InetAddress, Boolean>()));
+    }
+    rackNodes.get(rack).add(node);
+  }
+
+  /** Returns the rack that {@code node} is in, or null if its rack is unknown. */
+  public String getRack(InetAddress node) {
+    return nodeRacks.get(node);
+  }
+
+  /** Returns the machines in {@code rack} (empty if the rack is unknown). */
+  public Set<InetAddress> getNodesInRack(String rack) {
+    Set<InetAddress> nodes = rackNodes.get(rack);
+    if (nodes == null) {
+      return Collections.emptySet();
+    }
+    return Collections.unmodifiableSet(nodes);
+  }
+}
@@ -3,15 +3,20 @@ package edu.berkeley.sparrow.daemon.scheduler;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
@@ -29,15 +34,26 @@ import edu.berkeley.sparrow.daemon.util.Serialization;
 import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
 import edu.berkeley.sparrow.thrift.FrontendService;
 import edu.berkeley.sparrow.thrift.FrontendService.AsyncClient.frontendMessage_call;
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
 import edu.berkeley.sparrow.thrift.InternalService;
 import edu.berkeley.sparrow.thrift.InternalService.AsyncClient;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.cancelRequests_call;
 import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.enqueueTaskReservations_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.killTasks_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.launchGangTasks_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.launchTasksOnLease_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.releaseGangSlots_call;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TJobStage;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TSlotLease;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
  * This class implements the Sparrow scheduler functionality.
@@ -46,6 +62,9 @@ public class Scheduler {
   private final static Logger LOG = Logger.getLogger(Scheduler.class);
   private final static Logger AUDIT_LOG = Logging.getAuditLogger(Scheduler.class);
 
+  /** How often (in milliseconds) jobs held by admission control are checked for placement. */
+  private final static long ADMISSION_CHECK_INTERVAL_MS = 50;
+
   /** Used to uniquely identify requests arriving at this scheduler. */
   private AtomicInteger counter = new AtomicInteger(0);
 
@@ -72,16 +91,120 @@ public class Scheduler {
   private double defaultProbeRatioUnconstrained;
   private double defaultProbeRatioConstrained;
 
+  /**
+   * Whether the probe ratio for requests without constraints (that don't set one explicitly) is
+   * tuned for each application.
+   */
+  private boolean adaptiveProbeRatio;
+
+  /** Probe ratio tuning for each application, indexed by app ID. */
+  private ConcurrentMap<String, AdaptiveProbeRatio> appProbeRatios;
+
+  /** Probe ratio tuning for outstanding requests placed using it, indexed by request ID. */
+  private ConcurrentMap<String, AdaptiveProbeRatio> requestProbeRatios;
+
   /**
    * For each request, the task placer that should be used to place the request's tasks. Indexed
    * by the request ID.
    */
   private ConcurrentMap<String, TaskPlacer> requestTaskPlacers;
 
+  /** Slots that node monitors leased to this scheduler, used before probing for new jobs. */
+  private SlotLeaseTable slotLeases;
+
+  /** Deadlines of outstanding requests that have one, indexed by the request ID. */
+  private ConcurrentMap<String, Long> requestDeadlines;
+
+  /**
+   * Number of tasks of outstanding requests that haven't been assigned to a node monitor yet,
+   * indexed by the request ID. Sent along with reservations, so that node monitors can order
+   * reservations enqueued after a job has launched some of its tasks by the work it has left.
+   */
+  private ConcurrentMap<String, AtomicInteger> requestUnlaunchedTasks;
+
+  /** Number of tasks that were assigned to a node monitor after their job's deadline. */
+  private AtomicLong deadlineMisses = new AtomicLong(0);
+
+  /**
+   * Index of node monitor machines shared by all task placers, used to resolve placement
+   * preferences and to find the nodes of the jobs that tasks avoid.
+   */
+  private NodeIndex nodeIndex;
+
+  /** Names of outstanding requests that have one, indexed by the request ID. */
+  private ConcurrentMap<String, String> requestJobNames;
+
+  /**
+   * Used to create extra reservations for constrained tasks once their delay threshold passes,
+   * and hedge reservations for jobs with unlaunched tasks.
+   */
+  private ScheduledExecutorService delayedTaskExecutor;
+
+  /** Settings for hedged probing (see {@link SparrowConf#HEDGE_DELAY_MS}). */
+  private long hedgeDelayMs;
+  private double hedgeResponseFraction;
+  private int hedgeMaxReservations;
+
+  /**
+   * Outstanding requests that will be hedged once enough of their reservations have been
+   * responded to, indexed by request ID.
+   */
+  private ConcurrentMap<String, TSchedulingRequest> unhedgedRequests;
+
+  /** Tracks running tasks to launch speculative copies of stragglers; null if disabled. */
+  private SpeculationTracker speculationTracker;
+
+  /**
+   * Whether reservations for jobs with no tasks left are used to launch tasks of other jobs
+   * (see {@link SparrowConf#RESERVATION_SHARING}).
+   */
+  private boolean reservationSharing;
+
+  /**
+   * Application and user of outstanding requests, indexed by request ID. Only filled in when
+   * reservations are shared across jobs.
+   */
+  private ConcurrentMap<String, String> requestOwners;
+
+  /** Node monitors that recently said they are idle. */
+  private IdleNodeSet idleNodes;
+
+  /** Loads that node monitors reported along with RPCs to and from this scheduler. */
+  private NodeLoadCache nodeLoads;
+
+  /** Classifies jobs and node monitors for hybrid scheduling of short and long jobs. */
+  private HybridPartition hybridPartition;
+
+  /** Slots held for gang jobs that haven't launched yet, indexed by request ID. */
+  private ConcurrentMap<String, GangAssembly> gangs;
+  private long gangTimeoutMs;
+
+  /** Stages of multi-stage jobs, which are submitted once their parent stages finish. */
+  private JobDagTracker dagTracker;
+
+  /** Node monitors used by recent requests, so that their jobs can be cancelled. */
+  private CancellationTracker cancellations;
+
+  /** Recent requests, so that tasks that fail to launch can be placed again. */
+  private LaunchRetryTracker launchRetries;
+
+  /** Health of node monitors, used to stop probing ones whose RPCs fail or are slow. */
+  private NodeHealthTracker nodeHealth;
+
+  /** Rate limits frontends, and holds new jobs while node monitors are overloaded. */
+  private AdmissionController admission;
+
   private Configuration conf;
 
+  /**
+   * When this scheduler started, which it sends along with its reservations so that node
+   * monitors that declared an earlier run of it dead accept them.
+   */
+  private long epoch;
+
   public void initialize(Configuration conf, InetSocketAddress socket) throws IOException {
     address = Network.socketAddressToThrift(socket);
+    epoch = System.currentTimeMillis();
     String mode = conf.getString(SparrowConf.DEPLYOMENT_MODE, "unspecified");
     this.conf = conf;
     if (mode.equals("standalone")) {
@@ -100,8 +223,76 @@ public class Scheduler {
                                                     SparrowConf.DEFAULT_SAMPLE_RATIO);
     defaultProbeRatioConstrained = conf.getDouble(SparrowConf.SAMPLE_RATIO_CONSTRAINED,
                                                   SparrowConf.DEFAULT_SAMPLE_RATIO_CONSTRAINED);
+    adaptiveProbeRatio = conf.getBoolean(SparrowConf.SAMPLE_RATIO_ADAPTIVE,
+                                         SparrowConf.DEFAULT_SAMPLE_RATIO_ADAPTIVE);
+    appProbeRatios = Maps.newConcurrentMap();
+    requestProbeRatios = Maps.newConcurrentMap();
 
     requestTaskPlacers = Maps.newConcurrentMap();
+    slotLeases = new SlotLeaseTable();
+    requestDeadlines = Maps.newConcurrentMap();
+    requestUnlaunchedTasks = Maps.newConcurrentMap();
+    requestJobNames = Maps.newConcurrentMap();
+    nodeIndex = new NodeIndex(conf.getInt(SparrowConf.ANTI_AFFINITY_TRACKED_JOBS,
+                                          SparrowConf.DEFAULT_ANTI_AFFINITY_TRACKED_JOBS));
+    delayedTaskExecutor = Executors.newSingleThreadScheduledExecutor();
+    hedgeDelayMs = conf.getLong(SparrowConf.HEDGE_DELAY_MS, SparrowConf.DEFAULT_HEDGE_DELAY_MS);
+    hedgeResponseFraction = conf.getDouble(SparrowConf.HEDGE_RESPONSE_FRACTION,
+                                           SparrowConf.DEFAULT_HEDGE_RESPONSE_FRACTION);
+    hedgeMaxReservations = conf.getInt(SparrowConf.HEDGE_MAX_RESERVATIONS,
+                                       SparrowConf.DEFAULT_HEDGE_MAX_RESERVATIONS);
+    unhedgedRequests = Maps.newConcurrentMap();
+    reservationSharing = conf.getBoolean(SparrowConf.RESERVATION_SHARING,
+                                         SparrowConf.DEFAULT_RESERVATION_SHARING);
+    requestOwners = Maps.newConcurrentMap();
+    idleNodes = new IdleNodeSet(conf.getLong(SparrowConf.IDLE_NODE_EXPIRY_MS,
+                                             SparrowConf.DEFAULT_IDLE_NODE_EXPIRY_MS));
+    nodeLoads = new NodeLoadCache(conf.getLong(SparrowConf.NODE_LOAD_MAX_AGE_MS,
+                                               SparrowConf.DEFAULT_NODE_LOAD_MAX_AGE_MS));
+    hybridPartition = new HybridPartition(conf);
+    gangs = Maps.newConcurrentMap();
+    gangTimeoutMs = conf.getLong(SparrowConf.GANG_TIMEOUT_MS, SparrowConf.DEFAULT_GANG_TIMEOUT_MS);
+    dagTracker = new JobDagTracker();
+    cancellations = new CancellationTracker(
+        conf.getInt(SparrowConf.CANCEL_TRACKED_REQUESTS,
+                    SparrowConf.DEFAULT_CANCEL_TRACKED_REQUESTS));
+    launchRetries = new LaunchRetryTracker(
+        conf.getInt(SparrowConf.LAUNCH_MAX_RETRIES, SparrowConf.DEFAULT_LAUNCH_MAX_RETRIES),
+        conf.getInt(SparrowConf.LAUNCH_TRACKED_REQUESTS,
+                    SparrowConf.DEFAULT_LAUNCH_TRACKED_REQUESTS),
+        conf.getInt(SparrowConf.LAUNCH_DEAD_NODE_FAILURES,
+                    SparrowConf.DEFAULT_LAUNCH_DEAD_NODE_FAILURES));
+    nodeHealth = new NodeHealthTracker(conf);
+    admission = new AdmissionController(conf);
+    if (admission.holdsJobs()) {
+      delayedTaskExecutor.scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            placeHeldJobs();
+          } catch (Exception e) {
+            // An exception would cancel future runs.
+            LOG.error("Error placing jobs held by admission control", e);
+          }
+        }
+      }, ADMISSION_CHECK_INTERVAL_MS, ADMISSION_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    if (conf.getBoolean(SparrowConf.SPECULATION, SparrowConf.DEFAULT_SPECULATION)) {
+      speculationTracker = new SpeculationTracker(conf, nodeIndex);
+      long interval = conf.getLong(SparrowConf.SPECULATION_INTERVAL_MS,
+                                   SparrowConf.DEFAULT_SPECULATION_INTERVAL_MS);
+      delayedTaskExecutor.scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            launchSpeculativeCopies();
+          } catch (Exception e) {
+            // An exception would cancel future runs.
+            LOG.error("Error launching speculative copies of stragglers", e);
+          }
+        }
+      }, interval, interval, TimeUnit.MILLISECONDS);
+    }
   }
 
   public boolean registerFrontend(String appId, String addr) {
@@ -116,41 +307,91 @@ public class Scheduler {
   }
 
   /**
-   * Callback for enqueueTaskReservations() that does nothing (needed because Thrift can't handle
-   * null callbacks).
+   * Callback for enqueueTaskReservations() that records the load reported by the node monitor,
+   * and places the reservations elsewhere if the node monitor refused them.
    */
   private class EnqueueTaskReservationsCallback
       implements AsyncMethodCallback<enqueueTaskReservations_call> {
+    TSchedulingRequest request;
     String requestId;
     InetSocketAddress nodeMonitorAddress;
+    int numReservations;
+    long startTime;
 
-    public EnqueueTaskReservationsCallback(String requestId, InetSocketAddress nodeMonitorAddress) {
+    /**
+     * {@code request} is null if the reservations aren't counted by the request's task placer
+     * (as for speculative copies), so they aren't replaced if refused.
+     */
+    public EnqueueTaskReservationsCallback(TSchedulingRequest request, String requestId,
+                                           InetSocketAddress nodeMonitorAddress,
+                                           int numReservations) {
+      this.request = request;
       this.requestId = requestId;
       this.nodeMonitorAddress = nodeMonitorAddress;
+      this.numReservations = numReservations;
+      this.startTime = System.currentTimeMillis();
     }
 
     public void onComplete(enqueueTaskReservations_call response) {
       AUDIT_LOG.debug(Logging.auditEventString(
           "scheduler_complete_enqueue_task", requestId,
           nodeMonitorAddress.getAddress().getHostAddress()));
+      nodeHealth.rpcSucceeded(nodeMonitorAddress, System.currentTimeMillis() - startTime);
+      launchRetries.rpcSucceeded(nodeMonitorAddress);
       try {
         nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
       } catch (Exception e) {
         LOG.error("Error returning client to node monitor client pool: " + e);
       }
-      return;
+      TEnqueueTaskReservationsResponse result;
+      try {
+        result = response.getResult();
+      } catch (TException e) {
+        LOG.error("Unable to read result of enqueueTaskReservations RPC: " + e);
+        return;
+      }
+      nodeLoads.update(nodeMonitorAddress, result.getLoad());
+      if (!result.isEnqueued() && request != null) {
+        delayedTaskExecutor.execute(new RefusedReservations(request, requestId,
+                                                            nodeMonitorAddress, numReservations));
+      }
     }
 
     public void onError(Exception exception) {
       // Do not return error client to pool
       LOG.error("Error executing enqueueTaskReservation RPC:" + exception);
+      nodeRpcFailed(nodeMonitorAddress);
     }
   }
 
-  public void submitJob(TSchedulingRequest request) throws TException {
+  /**
+   * Places the tasks of the given request, unless admission control holds it until node
+   * monitors are less loaded, and returns the ID the request was given. Throws if the
+   * frontend exceeded its rate limit, or the scheduler holds as many jobs as it can.
+   */
+  public String submitJob(TSchedulingRequest request)
+      throws IncompleteRequestException, TException {
     LOG.debug(Logging.functionCall(request));
-    long start = System.currentTimeMillis();
+    String requestId;
+    try {
+      admission.takeToken(request.getApp());
+      requestId = newRequest(request);
+      if (!admission.admit(request, requestId, isOverloaded(request.getApp()))) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_admission_held", requestId,
+                                                admission.queuedJobs()));
+        return requestId;
+      }
+    } catch (IncompleteRequestException e) {
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_admission_rejected", request.getApp(),
+                                              e.getRetryAfterMs()));
+      throw e;
+    }
+    placeJob(request, requestId);
+    return requestId;
+  }
 
+  /** Gives a newly arrived request its ID. */
+  private String newRequest(TSchedulingRequest request) {
     String requestId = getRequestId();
 
     // Logging the address here is somewhat redundant, since all of the
@@ -161,95 +402,544 @@ public class Scheduler {
     AUDIT_LOG.info(Logging.auditEventString("arrived", requestId,
                                             request.getTasks().size(),
                                             address.getHost(), address.getPort()));
+    return requestId;
+  }
+
+  /** Returns whether node monitors are too loaded to place the given application's jobs. */
+  private boolean isOverloaded(String app) {
+    return admission.holdsJobs() && admission.isOverloaded(
+        nodeLoads.getMeanQueueLength(state.getBackends(app).keySet()));
+  }
+
+  /** Places jobs held by admission control, in order, until node monitors are overloaded. */
+  private void placeHeldJobs() throws TException {
+    AdmissionController.QueuedJob job = admission.peek();
+    while (job != null && !isOverloaded(job.request.getApp())) {
+      job = admission.poll();
+      if (job == null) {
+        return;
+      }
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_admission_released", job.requestId,
+                                              admission.queuedJobs()));
+      placeJob(job.request, job.requestId);
+      job = admission.peek();
+    }
+  }
+
+  /** Returns the node monitors to place the given application's tasks on. */
+  private Set<InetSocketAddress> getBackends(String app) {
+    return nodeHealth.getHealthyNodes(state.getBackends(app).keySet());
+  }
+
+  /** Places the tasks of a request that has been given an ID. */
+  private void placeJob(TSchedulingRequest request, String requestId) throws TException {
+    long start = System.currentTimeMillis();
+
+    if (!cancellations.requestSubmitted(request, requestId)) {
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_cancelled_resubmission", requestId));
+      return;
+    }
+    launchRetries.requestSubmitted(request, requestId);
+
+    // Completions of a stage's tasks are reported to this scheduler under the stage's request ID,
+    // so its tasks aren't launched in leased slots or other jobs' reservations.
+    boolean dagStage = dagTracker.requestSubmitted(request, requestId);
 
     String app = request.getApp();
     List<TTaskSpec> tasks = request.getTasks();
-    Set<InetSocketAddress> backends = state.getBackends(app).keySet();
+    Set<InetSocketAddress> backends = getBackends(app);
     boolean constrained = false;
     for (TTaskSpec task : tasks) {
-      constrained = constrained || (
-          task.preference != null &&
-          task.preference.nodes != null &&
-          !task.preference.nodes.isEmpty());
+      constrained = constrained || ConstrainedTaskPlacer.hasPlacementPreference(task);
+    }
+    // Long jobs are placed centrally, so they don't use slots leased on reserved nodes.
+    boolean longJob = !constrained && hybridPartition.isLongJob(request);
+    // Gang jobs can't launch any task before slots are held for all of them.
+    boolean gang = request.isSetGang() && request.isGang();
+    if (!constrained && !longJob && !gang && !dagStage) {
+      launchTasksOnLeases(request, requestId);
+      if (request.getTasksSize() == 0) {
+        LOG.debug("All tasks for request " + requestId + " launched on leased slots");
+        return;
+      }
     }
 
     TaskPlacer taskPlacer;
     if (constrained) {
       if (request.isSetProbeRatio()) {
-        taskPlacer = new ConstrainedTaskPlacer(requestId, request.getProbeRatio());
+        taskPlacer = new ConstrainedTaskPlacer(requestId, request.getProbeRatio(),
+                                               state.getTopology(), nodeIndex);
       } else {
-        taskPlacer = new ConstrainedTaskPlacer(requestId, defaultProbeRatioConstrained);
+        taskPlacer = new ConstrainedTaskPlacer(requestId, defaultProbeRatioConstrained,
+                                               state.getTopology(), nodeIndex);
       }
+    } else if (longJob) {
+      // One reservation per task, on the least loaded nodes in the general partition.
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_long_job", requestId));
+      taskPlacer = new UnconstrainedTaskPlacer(requestId, 1, nodeIndex, idleNodes, nodeLoads,
+                                               hybridPartition);
     } else {
       if (request.isSetProbeRatio()) {
-        taskPlacer = new UnconstrainedTaskPlacer(requestId, request.getProbeRatio());
+        taskPlacer = new UnconstrainedTaskPlacer(requestId, request.getProbeRatio(), nodeIndex,
+                                                 idleNodes, nodeLoads, hybridPartition);
+      } else if (adaptiveProbeRatio) {
+        AdaptiveProbeRatio probeRatio = appProbeRatios.get(app);
+        if (probeRatio == null) {
+          appProbeRatios.putIfAbsent(
+              app, new AdaptiveProbeRatio(app, defaultProbeRatioUnconstrained, conf));
+          probeRatio = appProbeRatios.get(app);
+        }
+        taskPlacer = new UnconstrainedTaskPlacer(requestId, probeRatio.getProbeRatio(),
+                                                 nodeIndex, idleNodes, nodeLoads,
+                                                 hybridPartition);
+        requestProbeRatios.put(requestId, probeRatio);
+        probeRatio.jobEnqueued(requestId);
       } else {
-        taskPlacer = new UnconstrainedTaskPlacer(requestId, defaultProbeRatioUnconstrained);
+        taskPlacer = new UnconstrainedTaskPlacer(requestId, defaultProbeRatioUnconstrained,
+                                                 nodeIndex, idleNodes, nodeLoads,
+                                                 hybridPartition);
       }
     }
     requestTaskPlacers.put(requestId, taskPlacer);
+    requestUnlaunchedTasks.put(requestId, new AtomicInteger(request.getTasksSize()));
+    if (request.isSetDeadline()) {
+      requestDeadlines.put(requestId, request.getDeadline());
+    }
+    if (request.isSetJobName()) {
+      requestJobNames.put(requestId, request.getJobName());
+    }
+    if (hedgeResponseFraction > 0) {
+      unhedgedRequests.put(requestId, request);
+    }
+    // Tasks of gang jobs are neither copied nor handed to other jobs' reservations, since they
+    // must all be launched together.
+    if (speculationTracker != null && !gang) {
+      speculationTracker.jobSubmitted(requestId, request);
+    }
+    if (reservationSharing && !gang && !dagStage) {
+      requestOwners.put(requestId, getOwner(app, request.getUser()));
+    }
+    if (gang) {
+      GangAssembly gangAssembly = new GangAssembly(request.getTasksSize());
+      gangs.put(requestId, gangAssembly);
+      delayedTaskExecutor.schedule(new GangTimeout(request, requestId, gangAssembly),
+                                   gangTimeoutMs, TimeUnit.MILLISECONDS);
+    }
 
-    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests;
-
-    if (request.isSetProbeRatio() && request.getProbeRatio() == 3 &&
-        tasks.get(0).preference.nodes != null &&
-        (tasks.get(0).preference.nodes.size() == 1 || tasks.get(0).preference.nodes.size() == 2)) {
-      // This is a hack to force Spark to cache data on multiple machines. If a Spark job runs
-      // on a machine where the input data is not already cached in memory, Spark will
-      // automatically caches the data on those machines. So, we run a few dummy jobs at the
-      // beginning of each experiment to force the data for each job to be cached in three places.
-      // To do this, we need to explicitly avoid the nodes where data is already cached.
-      List<InetSocketAddress> subBackends = Lists.newArrayList(backends);
-      List<InetSocketAddress> toRemove = Lists.newArrayList();
-      for (TTaskSpec task : tasks) {
-        for (String node : task.preference.nodes) {
-          try {
-            InetAddress addr = InetAddress.getByName(node);
-            for (InetSocketAddress backend : subBackends) {
-              if (backend.getAddress().equals(addr)) {
-                toRemove.add(backend);
-                break;
-              }
-            }
-          } catch (UnknownHostException e) {
-            LOG.error("Unknown host exception: " + e);
-          }
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests =
+        taskPlacer.getEnqueueTaskReservationsRequests(request, requestId, backends, address);
+
+    sendEnqueueTaskReservations(request, requestId, enqueueTaskReservationsRequests);
+    if (taskPlacer instanceof ConstrainedTaskPlacer) {
+      scheduleReleasedTaskReservations(request, requestId, (ConstrainedTaskPlacer) taskPlacer);
+    }
+    if (hedgeDelayMs > 0) {
+      delayedTaskExecutor.schedule(new HedgeTask(request, requestId, taskPlacer), hedgeDelayMs,
+                                   TimeUnit.MILLISECONDS);
+    }
+
+    long end = System.currentTimeMillis();
+    LOG.debug("All tasks enqueued for request " + requestId + "; returning. Total time: " +
+              (end - start) + " milliseconds");
+  }
+
+  /**
+   * Launches as many of the request's tasks as possible in slots leased to this scheduler, and
+   * removes them from the request, so that only the remaining tasks are placed by probing.
+   */
+  private void launchTasksOnLeases(TSchedulingRequest request, String requestId) {
+    List<TTaskSpec> tasks = request.getTasks();
+    for (TTaskSpec task : tasks) {
+      if (!nodeIndex.getAvoidedNodes(task.preference).isEmpty()) {
+        // Leased slots may be on nodes that the job avoids.
+        return;
+      }
+    }
+    List<SlotLeaseTable.LeasedSlots> leasedSlots = slotLeases.takeSlots(request.getApp(),
+                                                                        tasks.size());
+    if (leasedSlots.isEmpty()) {
+      return;
+    }
+    List<List<TTaskSpec>> leaseTasks = Lists.newArrayList();
+    int launched = 0;
+    for (SlotLeaseTable.LeasedSlots slots : leasedSlots) {
+      leaseTasks.add(Lists.newArrayList(tasks.subList(launched, launched + slots.slots)));
+      launched += slots.slots;
+    }
+    // The request isn't changed after this, so callbacks can copy it to resubmit tasks.
+    request.setTasks(Lists.newArrayList(tasks.subList(launched, tasks.size())));
+
+    for (int i = 0; i < leasedSlots.size(); i++) {
+      SlotLeaseTable.LeasedSlots slots = leasedSlots.get(i);
+      List<TTaskLaunchSpec> launchSpecs = Lists.newArrayList();
+      for (TTaskSpec task : leaseTasks.get(i)) {
+        launchSpecs.add(new TTaskLaunchSpec(task.getTaskId(), task.bufferForMessage()));
+      }
+      String host = slots.node.getAddress().getHostAddress();
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_launch_on_lease", requestId,
+                                              slots.leaseId, host, launchSpecs.size()));
+      if (request.isSetJobName()) {
+        nodeIndex.addJobNode(request.getJobName(), host);
+      }
+      cancellations.nodesUsed(requestId, Lists.newArrayList(slots.node));
+      try {
+        InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(slots.node);
+        client.launchTasksOnLease(
+            slots.leaseId, requestId, request.getUser(),
+            leaseTasks.get(i).get(0).getEstimatedResources(), launchSpecs,
+            new LaunchTasksOnLeaseCallback(request, requestId, slots.node, leaseTasks.get(i)));
+      } catch (Exception e) {
+        LOG.error("Error launching tasks on lease " + slots.leaseId + ":" + e);
+        resubmitTasks(request, requestId, leaseTasks.get(i));
+      }
+    }
+  }
+
+  /**
+   * Callback for launchTasksOnLease() that resubmits the tasks that the node monitor didn't
+   * launch, so that they are placed by probing.
+   */
+  private class LaunchTasksOnLeaseCallback
+      implements AsyncMethodCallback<launchTasksOnLease_call> {
+    private TSchedulingRequest request;
+    private String requestId;
+    private InetSocketAddress nodeMonitorAddress;
+    private List<TTaskSpec> tasks;
+
+    public LaunchTasksOnLeaseCallback(TSchedulingRequest request, String requestId,
+                                      InetSocketAddress nodeMonitorAddress,
+                                      List<TTaskSpec> tasks) {
+      this.request = request;
+      this.requestId = requestId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.tasks = tasks;
+    }
+
+    public void onComplete(launchTasksOnLease_call response) {
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+      int launched;
+      try {
+        launched = response.getResult();
+      } catch (TException e) {
+        LOG.error("Unable to read result of launchTasksOnLease RPC: " + e);
+        launched = 0;
+      }
+      if (launched < tasks.size()) {
+        AUDIT_LOG.info(Logging.auditEventString(
+            "scheduler_lease_refused", requestId,
+            nodeMonitorAddress.getAddress().getHostAddress(), tasks.size() - launched));
+        resubmitTasks(request, requestId, tasks.subList(launched, tasks.size()));
+      }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.error("Error executing launchTasksOnLease RPC:" + exception);
+      nodeRpcFailed(nodeMonitorAddress);
+      resubmitTasks(request, requestId, tasks);
+    }
+  }
+
+  /** Submits the given tasks of a request again, as a new request. */
+  private void resubmitTasks(TSchedulingRequest request, String requestId,
+                             List<TTaskSpec> tasks) {
+    TSchedulingRequest retry = request.deepCopy();
+    retry.setTasks(Lists.newArrayList(tasks));
+    if (!cancellations.requestResubmitted(requestId, retry)) {
+      return;
+    }
+    dagTracker.requestResubmitted(requestId, retry);
+    launchRetries.requestResubmitted(requestId, retry);
+    submitLater(retry);
+  }
+
+  /** Submits the given request from the delayed task executor, rather than the caller's thread. */
+  private void submitLater(final TSchedulingRequest request) {
+    delayedTaskExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          placeJob(request, newRequest(request));
+        } catch (TException e) {
+          LOG.error("Error submitting request", e);
         }
       }
-     subBackends.removeAll(toRemove);
+    });
+  }
 
-     enqueueTaskReservationsRequests = taskPlacer.getEnqueueTaskReservationsRequests(
-        request, requestId, subBackends, address);
-    } else {
-      enqueueTaskReservationsRequests = taskPlacer.getEnqueueTaskReservationsRequests(
-          request, requestId, backends, address);
+  /**
+   * Submits a job made of stages that depend on each other. Stages without parents are
+   * submitted right away, and the others once their parents' tasks have finished. The job counts
+   * once against its frontend's rate limit, and its stages aren't held by admission control,
+   * since later stages are released by this scheduler rather than the frontend.
+   */
+  public void submitJobDag(List<TJobStage> stages)
+      throws IncompleteRequestException, TException {
+    LOG.debug(Logging.functionCall(stages));
+    if (!stages.isEmpty()) {
+      admission.takeToken(stages.get(0).getRequest().getApp());
+    }
+    List<TSchedulingRequest> ready = dagTracker.dagSubmitted(stages);
+    AUDIT_LOG.info(Logging.auditEventString("dag_arrived", stages.size(), ready.size(),
+                                            address.getHost(), address.getPort()));
+    for (TSchedulingRequest request : ready) {
+      placeJob(request, newRequest(request));
     }
+  }
 
+  /**
+   * Sends each of the given enqueue task reservations requests to its node monitor. Reservations
+   * that node monitors refuse, or that can't be sent, are placed elsewhere (see
+   * {@link RefusedReservations}).
+   */
+  private void sendEnqueueTaskReservations(
+      TSchedulingRequest request, String requestId,
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests) {
+    sendEnqueueTaskReservations(request, requestId, enqueueTaskReservationsRequests, true);
+  }
+
+  /**
+   * Like {@link #sendEnqueueTaskReservations(TSchedulingRequest, String, Map)}, but refused
+   * reservations are only placed elsewhere if {@code replaceRefused} is true.
+   */
+  private void sendEnqueueTaskReservations(
+      TSchedulingRequest request, String requestId,
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests,
+      boolean replaceRefused) {
+    cancellations.nodesUsed(requestId, enqueueTaskReservationsRequests.keySet());
     // Request to enqueue a task at each of the selected nodes.
     for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry :
          enqueueTaskReservationsRequests.entrySet())  {
+      copyJobAttributes(request, entry.getValue());
+      entry.getValue().setSchedulerEpoch(epoch);
+      AtomicInteger unlaunchedTasks = requestUnlaunchedTasks.get(requestId);
+      if (unlaunchedTasks != null) {
+        entry.getValue().setUnlaunchedJobTasks(unlaunchedTasks.get());
+      }
       try {
         InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(entry.getKey());
         LOG.debug("Launching enqueueTask for request " + requestId + "on node: " + entry.getKey());
-        // Pass in null callback because the RPC doesn't return anything.
         AUDIT_LOG.debug(Logging.auditEventString(
             "scheduler_launch_enqueue_task", entry.getValue().requestId,
             entry.getKey().getAddress().getHostAddress()));
         client.enqueueTaskReservations(
-            entry.getValue(), new EnqueueTaskReservationsCallback(requestId, entry.getKey()));
+            entry.getValue(),
+            new EnqueueTaskReservationsCallback(replaceRefused ? request : null, requestId,
+                                                entry.getKey(), entry.getValue().getNumTasks()));
       } catch (Exception e) {
         LOG.error("Error enqueuing task on node " + entry.getKey().toString() + ":" + e);
+        nodeRpcFailed(entry.getKey());
+        if (replaceRefused) {
+          delayedTaskExecutor.execute(new RefusedReservations(
+              request, requestId, entry.getKey(), entry.getValue().getNumTasks()));
+        }
       }
     }
+  }
 
-    long end = System.currentTimeMillis();
-    LOG.debug("All tasks enqueued for request " + requestId + "; returning. Total time: " +
-              (end - start) + " milliseconds");
+  /**
+   * Schedules extra reservations to be enqueued for the job's constrained tasks that haven't
+   * been launched by the time their delay threshold passes (see
+   * {@link ConstrainedTaskPlacer#getReleasedTaskEnqueueRequests}).
+   */
+  private void scheduleReleasedTaskReservations(final TSchedulingRequest request,
+                                                final String requestId,
+                                                final ConstrainedTaskPlacer taskPlacer) {
+    long releaseTime = taskPlacer.getNextReleaseTime();
+    if (releaseTime == -1) {
+      return;
+    }
+    delayedTaskExecutor.schedule(new Runnable() {
+      @Override
+      public void run() {
+        if (!requestTaskPlacers.containsKey(requestId)) {
+          return;
+        }
+        Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+            taskPlacer.getReleasedTaskEnqueueRequests(
+                getBackends(request.getApp()));
+        sendEnqueueTaskReservations(request, requestId, requests);
+        scheduleReleasedTaskReservations(request, requestId, taskPlacer);
+      }
+    }, Math.max(0, releaseTime - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Enqueues hedge reservations for a job that still has unlaunched tasks (see
+   * {@link TaskPlacer#getHedgeEnqueueTaskReservationsRequests}). Late binding ensures that
+   * each task is still only launched once.
+   */
+  private class HedgeTask implements Runnable {
+    private TSchedulingRequest request;
+    private String requestId;
+    private TaskPlacer taskPlacer;
+
+    public HedgeTask(TSchedulingRequest request, String requestId, TaskPlacer taskPlacer) {
+      this.request = request;
+      this.requestId = requestId;
+      this.taskPlacer = taskPlacer;
+    }
+
+    @Override
+    public void run() {
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests;
+      // Synchronize with getTask(), so that the placer isn't removed while reservations are
+      // added to it.
+      synchronized (Scheduler.this) {
+        if (!requestTaskPlacers.containsKey(requestId)) {
+          return;
+        }
+        requests = taskPlacer.getHedgeEnqueueTaskReservationsRequests(
+            getBackends(request.getApp()), hedgeMaxReservations);
+      }
+      if (!requests.isEmpty()) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_hedge", requestId, requests.size()));
+      }
+      sendEnqueueTaskReservations(request, requestId, requests);
+    }
+  }
+
+  /**
+   * Places reservations that a node monitor refused (or that couldn't be sent to it) on other
+   * node monitors (see {@link TaskPlacer#getReplacementEnqueueTaskReservationsRequests}), since
+   * the job would otherwise wait for responses that never come. If the job has no reservations
+   * left to respond afterwards, its tasks that weren't launched are dropped.
+   */
+  private class RefusedReservations implements Runnable {
+    private TSchedulingRequest request;
+    private String requestId;
+    private InetSocketAddress nodeMonitorAddress;
+    private int numReservations;
+
+    public RefusedReservations(TSchedulingRequest request, String requestId,
+                               InetSocketAddress nodeMonitorAddress, int numReservations) {
+      this.request = request;
+      this.requestId = requestId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.numReservations = numReservations;
+    }
+
+    @Override
+    public void run() {
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests;
+      // Synchronize with getTask(), so that the placer isn't removed while its reservations are
+      // replaced.
+      synchronized (Scheduler.this) {
+        TaskPlacer taskPlacer = requestTaskPlacers.get(requestId);
+        if (taskPlacer == null) {
+          return;
+        }
+        requests = taskPlacer.getReplacementEnqueueTaskReservationsRequests(
+            nodeMonitorAddress, numReservations, getBackends(request.getApp()));
+        if (taskPlacer.allResponsesReceived()) {
+          LOG.debug("All responses received for request " + requestId);
+          removeRequest(requestId);
+        }
+      }
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_reservations_refused", requestId,
+                                              nodeMonitorAddress.getAddress().getHostAddress(),
+                                              numReservations, requests.size()));
+      sendEnqueueTaskReservations(request, requestId, requests);
+    }
+  }
+
+  /**
+   * Enqueues one reservation for each straggler found by the speculation tracker, on a node
+   * monitor that isn't running a copy of the straggler.
+   */
+  private void launchSpeculativeCopies() {
+    for (SpeculationTracker.Straggler straggler : speculationTracker.findStragglers()) {
+      List<InetSocketAddress> backends =
+          Lists.newArrayList(getBackends(straggler.request.getApp()));
+      Collections.shuffle(backends);
+      // Copies of long jobs' tasks stay out of the partition reserved for short jobs.
+      boolean longJob = hybridPartition.isLongJob(straggler.request);
+      InetSocketAddress node = null;
+      for (InetSocketAddress backend : backends) {
+        if (!straggler.nodes.contains(backend.getAddress()) &&
+            !(longJob && hybridPartition.isReserved(backend))) {
+          node = backend;
+          break;
+        }
+      }
+      if (node == null) {
+        LOG.warn("Request " + straggler.requestId + ": no node monitor available for a " +
+                 "speculative copy of a straggler");
+        continue;
+      }
+      TSchedulingRequest request = straggler.request;
+      TEnqueueTaskReservationsRequest enqueueRequest = new TEnqueueTaskReservationsRequest(
+          request.getApp(), request.getUser(), straggler.requestId,
+          request.getTasks().get(0).getEstimatedResources(), address, 1);
+      speculationTracker.copyReservationEnqueued(straggler.requestId, node.getAddress());
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_speculate", straggler.requestId,
+                                              node.getAddress().getHostAddress()));
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+      requests.put(node, enqueueRequest);
+      // Copies aren't counted by the job's placer, so they aren't replaced if refused.
+      sendEnqueueTaskReservations(request, straggler.requestId, requests, false);
+    }
+  }
+
+  /**
+   * Copies the job-wide attributes of a scheduling request (which the task placers don't look
+   * at) into an enqueue task reservations request, so that node monitors can use them to
+   * order reservations.
+   */
+  private void copyJobAttributes(TSchedulingRequest schedulingRequest,
+                                 TEnqueueTaskReservationsRequest enqueueRequest) {
+    if (schedulingRequest.isSetPriority()) {
+      enqueueRequest.setPriority(schedulingRequest.getPriority());
+    }
+    if (schedulingRequest.isSetDeadline()) {
+      enqueueRequest.setDeadline(schedulingRequest.getDeadline());
+    }
+    enqueueRequest.setJobTasks(schedulingRequest.getTasksSize());
+    long totalDurationMs = 0;
+    int tasksWithDuration = 0;
+    for (TTaskSpec task : schedulingRequest.getTasks()) {
+      if (task.isSetExpectedDurationMs()) {
+        totalDurationMs += task.getExpectedDurationMs();
+        tasksWithDuration++;
+      }
+    }
+    if (tasksWithDuration > 0) {
+      enqueueRequest.setExpectedTaskDurationMs(totalDurationMs / tasksWithDuration);
+    }
+    if (schedulingRequest.isSetGang() && schedulingRequest.isGang()) {
+      // Node monitors hold slots for longer than the gang can take to assemble, so that holds
+      // don't expire before the gang is launched; the scheduler releases them on timeout.
+      enqueueRequest.setGangHoldMs(2 * gangTimeoutMs);
+    }
   }
 
   public synchronized List<TTaskLaunchSpec> getTask(
-      String requestId, THostPort nodeMonitorAddress) {
-    LOG.debug(Logging.functionCall(requestId, nodeMonitorAddress));
+      String requestId, THostPort nodeMonitorAddress, TNodeLoad load) {
+    LOG.debug(Logging.functionCall(requestId, nodeMonitorAddress, load));
+    InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    if (address != null) {
+      InetSocketAddress node = new InetSocketAddress(address, nodeMonitorAddress.getPort());
+      launchRetries.rpcSucceeded(node);
+      if (load != null) {
+        nodeLoads.update(node, load);
+      }
+    }
+    if (speculationTracker != null) {
+      List<TTaskLaunchSpec> copy = speculationTracker.assignCopy(requestId, nodeMonitorAddress);
+      if (copy != null) {
+        if (copy.size() == 1) {
+          copy.get(0).setReportCompletion(true);
+          AUDIT_LOG.info(Logging.auditEventString("scheduler_assigned_speculative_task",
+                                                  requestId, copy.get(0).taskId,
+                                                  nodeMonitorAddress.getHost()));
+        }
+        return copy;
+      }
+    }
     if (!requestTaskPlacers.containsKey(requestId)) {
       LOG.error("Received getTask() request for request " + requestId + " which had no more " +
                 "pending reservations");
@@ -257,26 +947,542 @@ public class Scheduler {
     }
     TaskPlacer taskPlacer = requestTaskPlacers.get(requestId);
     List<TTaskLaunchSpec> taskLaunchSpecs = taskPlacer.assignTask(nodeMonitorAddress);
+    GangAssembly gang = gangs.get(requestId);
+    boolean assigned = false;
     if (taskLaunchSpecs == null || taskLaunchSpecs.size() > 1) {
       LOG.error("Received invalid task placement for request " + requestId + ": " +
                 taskLaunchSpecs.toString());
       return Lists.newArrayList();
+    } else if (gang != null) {
+      // The node monitor holds the slot until the whole gang can be launched.
+      assigned = gangSlotHeld(requestId, gang, taskLaunchSpecs, nodeMonitorAddress);
+      taskLaunchSpecs = Lists.newArrayList();
     } else if (taskLaunchSpecs.size() == 1) {
-      AUDIT_LOG.info(Logging.auditEventString("scheduler_assigned_task", requestId,
-                                              taskLaunchSpecs.get(0).taskId,
-                                              nodeMonitorAddress.getHost()));
+      assigned = true;
+      taskAssigned(requestId, taskLaunchSpecs.get(0), nodeMonitorAddress, true);
     } else {
-      AUDIT_LOG.info(Logging.auditEventString("scheduler_get_task_no_task", requestId));
+      if (reservationSharing) {
+        taskLaunchSpecs = getTaskFromOtherRequest(requestId, nodeMonitorAddress);
+      }
+      if (taskLaunchSpecs.isEmpty()) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_get_task_no_task", requestId));
+      }
+    }
+    AdaptiveProbeRatio probeRatio = requestProbeRatios.get(requestId);
+    if (probeRatio != null) {
+      probeRatio.taskRequested(requestId, assigned);
+    }
+    if (hedgeResponseFraction > 0 && !taskPlacer.allResponsesReceived() &&
+        taskPlacer.getFractionResponded() >= hedgeResponseFraction) {
+      TSchedulingRequest request = unhedgedRequests.remove(requestId);
+      if (request != null) {
+        delayedTaskExecutor.execute(new HedgeTask(request, requestId, taskPlacer));
+      }
     }
     if (taskPlacer.allResponsesReceived()) {
       LOG.debug("All responses received for request " + requestId);
       // Remove the entry in requestTaskPlacers once all tasks have been placed, so that
       // requestTaskPlacers doesn't grow to be unbounded.
-      requestTaskPlacers.remove(requestId);
+      removeRequest(requestId);
     }
     return taskLaunchSpecs;
   }
 
+  /**
+   * Drops the state kept for an outstanding request, once all of its reservations have been
+   * responded to or it was cancelled. Must be called while holding the scheduler's lock.
+   */
+  private void removeRequest(String requestId) {
+    requestTaskPlacers.remove(requestId);
+    requestDeadlines.remove(requestId);
+    requestUnlaunchedTasks.remove(requestId);
+    requestJobNames.remove(requestId);
+    unhedgedRequests.remove(requestId);
+    requestOwners.remove(requestId);
+    gangs.remove(requestId);
+    AdaptiveProbeRatio probeRatio = requestProbeRatios.remove(requestId);
+    if (probeRatio != null) {
+      probeRatio.jobFinished(requestId);
+    }
+  }
+
+  /**
+   * Cancels the job of the given request: drops its unlaunched tasks (including those of
+   * requests its tasks were resubmitted under), and asks the node monitors it was sent to to
+   * remove its queued reservations and kill its running tasks.
+   */
+  public void cancelJob(String requestId) {
+    LOG.debug(Logging.functionCall(requestId));
+    if (admission.remove(requestId)) {
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_cancel_held", requestId));
+      return;
+    }
+    CancellationTracker.Job job = cancellations.jobCancelled(requestId);
+    if (job == null) {
+      LOG.warn("Unable to cancel request " + requestId + ", which is unknown or was already " +
+               "cancelled");
+      return;
+    }
+    AUDIT_LOG.info(Logging.auditEventString("scheduler_cancel", requestId,
+                                            job.requestIds.size(), job.nodes.size()));
+    synchronized (this) {
+      for (String jobRequestId : job.requestIds) {
+        // The node monitors release any slots they hold for the gang.
+        GangAssembly gang = gangs.get(jobRequestId);
+        if (gang != null) {
+          gang.abort();
+        }
+        removeRequest(jobRequestId);
+        dagTracker.requestCancelled(jobRequestId);
+        if (speculationTracker != null) {
+          speculationTracker.jobCancelled(jobRequestId);
+        }
+      }
+    }
+    for (InetSocketAddress node : job.nodes) {
+      try {
+        InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(node);
+        client.cancelRequests(job.requestIds, new CancelRequestsCallback(node));
+      } catch (Exception e) {
+        LOG.error("Error cancelling request " + requestId + " on node " + node + ":" + e);
+      }
+    }
+  }
+
+  private class CancelRequestsCallback implements AsyncMethodCallback<cancelRequests_call> {
+    InetSocketAddress nodeMonitorAddress;
+
+    public CancelRequestsCallback(InetSocketAddress nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+    }
+
+    public void onComplete(cancelRequests_call response) {
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.error("Error executing cancelRequests RPC:" + exception);
+    }
+  }
+
+  /**
+   * Handles a getTask() call for a gang job, whose node monitor holds the reservation's slot.
+   * The task assigned by the job's placer (if any) is recorded for the slot, and once slots are
+   * held for all of the job's tasks, they are all launched. Slots that aren't needed (because
+   * the gang has no task left for them, or was already launched or aborted) are released.
+   * Returns whether the slot was kept for the gang.
+   */
+  private boolean gangSlotHeld(String requestId, GangAssembly gang,
+                               List<TTaskLaunchSpec> taskLaunchSpecs,
+                               THostPort nodeMonitorAddress) {
+    if (taskLaunchSpecs.size() == 1 && gang.slotHeld(nodeMonitorAddress, taskLaunchSpecs.get(0))) {
+      Map<THostPort, List<TTaskLaunchSpec>> launches = gang.launchIfComplete();
+      if (launches != null) {
+        launchGang(requestId, launches);
+      }
+      return true;
+    }
+    releaseGangSlots(requestId, nodeMonitorAddress, 1);
+    return false;
+  }
+
+  /** Launches all tasks of a gang job, in the slots held for it on each node monitor. */
+  private void launchGang(String requestId, Map<THostPort, List<TTaskLaunchSpec>> launches) {
+    AUDIT_LOG.info(Logging.auditEventString("scheduler_gang_launch", requestId,
+                                            launches.size()));
+    for (Entry<THostPort, List<TTaskLaunchSpec>> entry : launches.entrySet()) {
+      for (TTaskLaunchSpec task : entry.getValue()) {
+        taskAssigned(requestId, task, entry.getKey(), false);
+      }
+      InetSocketAddress node = new InetSocketAddress(entry.getKey().getHost(),
+                                                     entry.getKey().getPort());
+      try {
+        InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(node);
+        client.launchGangTasks(requestId, entry.getValue(),
+                               new LaunchGangTasksCallback(requestId, node,
+                                                           entry.getValue().size()));
+      } catch (Exception e) {
+        LOG.error("Error launching tasks of gang request " + requestId + " on node " + node +
+                  ":" + e);
+      }
+    }
+  }
+
+  /**
+   * Callback for launchGangTasks(). A node monitor launches fewer tasks than it was given only if
+   * its holds expired, in which case the gang has been partly launched.
+   */
+  private class LaunchGangTasksCallback implements AsyncMethodCallback<launchGangTasks_call> {
+    private String requestId;
+    private InetSocketAddress nodeMonitorAddress;
+    private int numTasks;
+
+    public LaunchGangTasksCallback(String requestId, InetSocketAddress nodeMonitorAddress,
+                                   int numTasks) {
+      this.requestId = requestId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.numTasks = numTasks;
+    }
+
+    public void onComplete(launchGangTasks_call response) {
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+      try {
+        int launched = response.getResult();
+        if (launched < numTasks) {
+          LOG.error("Node monitor " + nodeMonitorAddress + " only launched " + launched + " of " +
+                    numTasks + " tasks of gang request " + requestId);
+        }
+      } catch (TException e) {
+        LOG.error("Unable to read result of launchGangTasks RPC: " + e);
+      }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.error("Error executing launchGangTasks RPC:" + exception);
+    }
+  }
+
+  /** Asks a node monitor to give back slots it holds for a gang job. */
+  private void releaseGangSlots(String requestId, THostPort nodeMonitorAddress, int slots) {
+    InetSocketAddress node = new InetSocketAddress(nodeMonitorAddress.getHost(),
+                                                   nodeMonitorAddress.getPort());
+    try {
+      InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(node);
+      client.releaseGangSlots(requestId, slots, new ReleaseGangSlotsCallback(node));
+    } catch (Exception e) {
+      // The node monitor releases the slots when the hold expires.
+      LOG.error("Error releasing slots of gang request " + requestId + " on node " + node +
+                ":" + e);
+    }
+  }
+
+  private class ReleaseGangSlotsCallback implements AsyncMethodCallback<releaseGangSlots_call> {
+    InetSocketAddress nodeMonitorAddress;
+
+    public ReleaseGangSlotsCallback(InetSocketAddress nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+    }
+
+    public void onComplete(releaseGangSlots_call response) {
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.error("Error executing releaseGangSlots RPC:" + exception);
+    }
+  }
+
+  /**
+   * Aborts a gang job whose slots weren't all held within {@link SparrowConf#GANG_TIMEOUT_MS}:
+   * releases the slots held for it, and submits the job again.
+   */
+  private class GangTimeout implements Runnable {
+    private TSchedulingRequest request;
+    private String requestId;
+    private GangAssembly gang;
+
+    public GangTimeout(TSchedulingRequest request, String requestId, GangAssembly gang) {
+      this.request = request;
+      this.requestId = requestId;
+      this.gang = gang;
+    }
+
+    @Override
+    public void run() {
+      Map<THostPort, Integer> heldSlots = gang.abort();
+      if (heldSlots == null) {
+        return;
+      }
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_gang_timeout", requestId,
+                                              heldSlots.size()));
+      for (Entry<THostPort, Integer> entry : heldSlots.entrySet()) {
+        releaseGangSlots(requestId, entry.getKey(), entry.getValue());
+      }
+      resubmitTasks(request, requestId, request.getTasks());
+    }
+  }
+
+  /**
+   * Records that a task of the given request was assigned to a node monitor. Tasks of gang jobs,
+   * which must run together, aren't tracked for speculation or relaunch.
+   */
+  private void taskAssigned(String requestId, TTaskLaunchSpec taskLaunchSpec,
+                            THostPort nodeMonitorAddress, boolean trackCompletion) {
+    AUDIT_LOG.info(Logging.auditEventString("scheduler_assigned_task", requestId,
+                                            taskLaunchSpec.taskId,
+                                            nodeMonitorAddress.getHost()));
+    AtomicInteger unlaunchedTasks = requestUnlaunchedTasks.get(requestId);
+    if (unlaunchedTasks != null) {
+      unlaunchedTasks.decrementAndGet();
+    }
+    Long deadline = requestDeadlines.get(requestId);
+    if (deadline != null && System.currentTimeMillis() > deadline) {
+      long misses = deadlineMisses.incrementAndGet();
+      AUDIT_LOG.info(Logging.auditEventString("scheduler_deadline_miss", requestId,
+                                              taskLaunchSpec.taskId, deadline, misses));
+    }
+    String jobName = requestJobNames.get(requestId);
+    if (jobName != null) {
+      nodeIndex.addJobNode(jobName, nodeMonitorAddress.getHost());
+    }
+    if (dagTracker.isStage(requestId)) {
+      // The next stages are released when this stage's tasks have finished.
+      taskLaunchSpec.setReportCompletion(true);
+    }
+    if (speculationTracker != null) {
+      if (trackCompletion) {
+        taskLaunchSpec.setReportCompletion(true);
+        speculationTracker.taskLaunched(requestId, taskLaunchSpec, nodeMonitorAddress);
+      } else {
+        speculationTracker.taskUntracked(requestId);
+      }
+    }
+    if (trackCompletion && launchRetries.tracksRunningTasks()) {
+      InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+      if (address != null) {
+        // The task is placed again if the node monitor dies before it finishes.
+        taskLaunchSpec.setReportCompletion(true);
+        launchRetries.taskLaunched(requestId, taskLaunchSpec.taskId,
+                                   new InetSocketAddress(address, nodeMonitorAddress.getPort()));
+      }
+    }
+  }
+
+  /**
+   * Returns a task from another outstanding request with the same application and user as the
+   * given request, for a node monitor whose reservation for the given request found no task to
+   * launch. The other request's placer donates the task without counting the call as a
+   * response to one of its own reservations, which are all still outstanding.
+   */
+  private List<TTaskLaunchSpec> getTaskFromOtherRequest(String requestId,
+                                                        THostPort nodeMonitorAddress) {
+    String owner = requestOwners.get(requestId);
+    if (owner != null) {
+      for (Entry<String, String> entry : requestOwners.entrySet()) {
+        TaskPlacer donor = requestTaskPlacers.get(entry.getKey());
+        if (entry.getKey().equals(requestId) || !entry.getValue().equals(owner) ||
+            donor == null) {
+          continue;
+        }
+        List<TTaskLaunchSpec> taskLaunchSpecs = donor.donateTask(nodeMonitorAddress);
+        if (taskLaunchSpecs.size() == 1) {
+          AUDIT_LOG.info(Logging.auditEventString("scheduler_shared_reservation", requestId,
+                                                  entry.getKey(),
+                                                  taskLaunchSpecs.get(0).taskId,
+                                                  nodeMonitorAddress.getHost()));
+          InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+          if (address != null) {
+            // The node monitor runs the task under the donor's request, so cancelling the
+            // donor's job must reach it.
+            cancellations.nodesUsed(entry.getKey(), Lists.newArrayList(
+                new InetSocketAddress(address, nodeMonitorAddress.getPort())));
+          }
+          taskAssigned(entry.getKey(), taskLaunchSpecs.get(0), nodeMonitorAddress, true);
+          return taskLaunchSpecs;
+        }
+      }
+    }
+    return Lists.newArrayList();
+  }
+
+  private static String getOwner(String app, TUserGroupInfo user) {
+    return app + "/" + user.getUser() + "/" + user.getGroup();
+  }
+
+  /**
+   * Callback for killTasks() that returns the client to the pool (needed because Thrift can't
+   * handle null callbacks).
+   */
+  private class KillTasksCallback implements AsyncMethodCallback<killTasks_call> {
+    InetSocketAddress nodeMonitorAddress;
+
+    public KillTasksCallback(InetSocketAddress nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+    }
+
+    public void onComplete(killTasks_call response) {
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.error("Error executing killTasks RPC:" + exception);
+    }
+  }
+
+  /** Records that a node monitor has free slots and no queued reservations. */
+  public void nodeIdle(THostPort nodeMonitorAddress, int freeSlots) {
+    LOG.debug(Logging.functionCall(nodeMonitorAddress, freeSlots));
+    InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    if (address != null) {
+      idleNodes.nodeIdle(new InetSocketAddress(address, nodeMonitorAddress.getPort()), freeSlots);
+    }
+  }
+
+  /** Records slots that a node monitor leased to this scheduler. */
+  public void leaseGranted(TSlotLease lease) {
+    LOG.debug(Logging.functionCall(lease));
+    THostPort nodeMonitorAddress = lease.getNodeMonitorAddress();
+    InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    if (address != null) {
+      slotLeases.leaseGranted(lease,
+                              new InetSocketAddress(address, nodeMonitorAddress.getPort()));
+    }
+  }
+
+  /**
+   * Handles completions reported by a node monitor. Submits the stages of multi-stage jobs whose
+   * parents have finished, and when speculative copies of a finished task are still running
+   * elsewhere, asks their node monitors to kill them.
+   */
+  public void tasksFinished(List<TFullTaskId> tasks, THostPort nodeMonitorAddress) {
+    LOG.debug(Logging.functionCall(tasks, nodeMonitorAddress));
+    InetAddress nodeAddress = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    InetSocketAddress node = null;
+    if (nodeAddress != null) {
+      node = new InetSocketAddress(nodeAddress, nodeMonitorAddress.getPort());
+      launchRetries.rpcSucceeded(node);
+    }
+    for (TFullTaskId task : tasks) {
+      if (node != null) {
+        launchRetries.taskStopped(task.getRequestId(), task.getTaskId(), node);
+      }
+      for (TSchedulingRequest stage : dagTracker.taskFinished(task.getRequestId(),
+                                                              task.getTaskId())) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_stage_released",
+                                                task.getRequestId(), stage.getTasksSize()));
+        submitLater(stage);
+      }
+      if (speculationTracker == null) {
+        continue;
+      }
+      List<THostPort> losers = speculationTracker.taskFinished(
+          task.getRequestId(), task.getTaskId(), nodeMonitorAddress);
+      for (THostPort loser : losers) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_kill_task", task.getRequestId(),
+                                                task.getTaskId(), loser.getHost()));
+        TFullTaskId loserId = new TFullTaskId(task.getTaskId(), task.getRequestId(),
+                                              task.getAppId(), address);
+        InetSocketAddress loserAddress = new InetSocketAddress(loser.getHost(), loser.getPort());
+        try {
+          InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(loserAddress);
+          client.killTasks(Lists.newArrayList(loserId), new KillTasksCallback(loserAddress));
+        } catch (Exception e) {
+          LOG.error("Error killing task " + task.getTaskId() + " on node " + loser + ":" + e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Handles a task that a node monitor couldn't launch on its backend, by placing it again as a
+   * new request, unless it has already failed to launch {@link SparrowConf#LAUNCH_MAX_RETRIES}
+   * times. The failure counts against the node monitor's health.
+   */
+  public void taskLaunchFailed(TFullTaskId taskId, THostPort nodeMonitorAddress) {
+    LOG.debug(Logging.functionCall(taskId, nodeMonitorAddress));
+    InetAddress address = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    InetSocketAddress node = null;
+    if (address != null) {
+      node = new InetSocketAddress(address, nodeMonitorAddress.getPort());
+      nodeHealth.rpcFailed(node);
+      launchRetries.taskStopped(taskId.getRequestId(), taskId.getTaskId(), node);
+    }
+    placeFailedTasks(taskId.getRequestId(), Lists.newArrayList(taskId.getTaskId()), node,
+                     nodeMonitorAddress.getHost());
+  }
+
+  /**
+   * Records that an RPC to a node monitor failed. Once
+   * {@link SparrowConf#LAUNCH_DEAD_NODE_FAILURES} RPCs in a row to it have failed, the node
+   * monitor is considered dead, and the tasks that were running on it are placed again.
+   */
+  private void nodeRpcFailed(InetSocketAddress nodeMonitorAddress) {
+    nodeHealth.rpcFailed(nodeMonitorAddress);
+    Map<String, Set<String>> lostTasks = launchRetries.rpcFailed(nodeMonitorAddress);
+    if (lostTasks.isEmpty()) {
+      return;
+    }
+    String host = nodeMonitorAddress.getAddress().getHostAddress();
+    AUDIT_LOG.info(Logging.auditEventString("scheduler_node_dead", host, lostTasks.size()));
+    for (Entry<String, Set<String>> entry : lostTasks.entrySet()) {
+      placeFailedTasks(entry.getKey(), entry.getValue(), nodeMonitorAddress, host);
+    }
+  }
+
+  /**
+   * Places tasks of the given request that failed on {@code host} again, as a new request,
+   * except for those that have already failed {@link SparrowConf#LAUNCH_MAX_RETRIES} times.
+   * Tasks that failed on a node running a speculative copy (or the original, while a copy is
+   * still running elsewhere) aren't placed again: the other copy carries on. {@code node} is
+   * null if the host can't be resolved.
+   */
+  private void placeFailedTasks(String requestId, Collection<String> taskIds,
+                                InetSocketAddress node, String host) {
+    TSchedulingRequest request = launchRetries.getRequest(requestId);
+    List<TTaskSpec> retries = Lists.newArrayList();
+    for (String taskId : taskIds) {
+      if (speculationTracker != null && node != null &&
+          speculationTracker.copyFailed(requestId, taskId, node)) {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_speculative_copy_failed", requestId,
+                                                taskId, host));
+        continue;
+      }
+      TTaskSpec task = request == null ? null : launchRetries.taskFailed(requestId, taskId);
+      if (task == null) {
+        LOG.warn("Not placing task " + taskId + " of request " + requestId + " again after " +
+                 "it failed on " + host);
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_launch_failed", requestId, taskId,
+                                                host));
+      } else {
+        AUDIT_LOG.info(Logging.auditEventString("scheduler_launch_retry", requestId, taskId,
+                                                host));
+        retries.add(task);
+      }
+    }
+    if (!retries.isEmpty()) {
+      resubmitTasks(request, requestId, retries);
+    }
+  }
+
+  /**
+   * Returns the probe ratio currently used for the given application's requests that don't
+   * have constraints or an explicit probe ratio.
+   */
+  public double getProbeRatio(String appId) {
+    AdaptiveProbeRatio probeRatio = appProbeRatios.get(appId);
+    if (probeRatio == null) {
+      return defaultProbeRatioUnconstrained;
+    }
+    return probeRatio.getProbeRatio();
+  }
+
+  /**
+   * Returns the number of tasks that were assigned to node monitors after their job's deadline.
+   */
+  public long getDeadlineMisses() {
+    return deadlineMisses.get();
+  }
+
   /**
    * Returns an ID that identifies a request uniquely (across all Sparrow schedulers).
    *
@@ -34,4 +34,9 @@ public interface SchedulerState {
    * to include more detailed information per-node.
    */
   public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(String appId);
+
+  /**
+   * Get the racks that backends are in, used to expand rack placement preferences.
+   */
+  public NodeTopology getTopology();
 }
@@ -11,10 +11,14 @@ import org.apache.thrift.TException;
 import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TServers;
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TJobStage;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TSlotLease;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 
 /**
@@ -53,9 +57,20 @@ public class SchedulerThrift implements SchedulerService.Iface {
   }
 
   @Override
-  public void submitJob(TSchedulingRequest req)
-      throws TException {
-    scheduler.submitJob(req);
+  public String submitJob(TSchedulingRequest req)
+      throws IncompleteRequestException, TException {
+    return scheduler.submitJob(req);
+  }
+
+  @Override
+  public void cancelJob(String requestId) throws TException {
+    scheduler.cancelJob(requestId);
+  }
+
+  @Override
+  public void submitJobDag(List<TJobStage> stages)
+      throws IncompleteRequestException, TException {
+    scheduler.submitJobDag(stages);
   }
 
   @Override
@@ -65,8 +80,31 @@ public class SchedulerThrift implements SchedulerService.Iface {
   }
 
   @Override
-  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress)
+  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress,
+                                       TNodeLoad load)
+      throws TException {
+    return scheduler.getTask(requestId, nodeMonitorAddress, load);
+  }
+
+  @Override
+  public void tasksFinished(List<TFullTaskId> tasks, THostPort nodeMonitorAddress)
       throws TException {
-    return scheduler.getTask(requestId, nodeMonitorAddress);
+    scheduler.tasksFinished(tasks, nodeMonitorAddress);
+  }
+
+  @Override
+  public void taskLaunchFailed(TFullTaskId taskId, THostPort nodeMonitorAddress)
+      throws TException {
+    scheduler.taskLaunchFailed(taskId, nodeMonitorAddress);
+  }
+
+  @Override
+  public void nodeIdle(THostPort nodeMonitorAddress, int freeSlots) throws TException {
+    scheduler.nodeIdle(nodeMonitorAddress, freeSlots);
+  }
+
+  @Override
+  public void leaseGranted(TSlotLease lease) throws TException {
+    scheduler.leaseGranted(lease);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TSlotLease;
+
+/**
+ * Slots that node monitors have leased to this scheduler, indexed by application. The scheduler
+ * launches tasks in leased slots directly, without probing. Node monitors can revoke leases at
+ * any time, so launching in a slot taken from this table can still be refused.
+ */
+public class SlotLeaseTable {
+  private class Lease {
+    public String leaseId;
+    public InetSocketAddress node;
+    public int freeSlots;
+    public long expiryTime;
+
+    public Lease(String leaseId, InetSocketAddress node, int freeSlots, long expiryTime) {
+      this.leaseId = leaseId;
+      this.node = node;
+      this.freeSlots = freeSlots;
+      this.expiryTime = expiryTime;
+    }
+  }
+
+  /** Slots taken from one lease. */
+  public class LeasedSlots {
+    public String leaseId;
+    public InetSocketAddress node;
+    public int slots;
+
+    public LeasedSlots(String leaseId, InetSocketAddress node, int slots) {
+      this.leaseId = leaseId;
+      this.node = node;
+      this.slots = slots;
+    }
+  }
+
+  private Map<String, LinkedList<Lease>> appLeases = Maps.newHashMap();
+
+  /** Records a lease granted by the node monitor at {@code node}. */
+  public synchronized void leaseGranted(TSlotLease lease, InetSocketAddress node) {
+    if (lease.getSlots() <= 0) {
+      return;
+    }
+    LinkedList<Lease> leases = appLeases.get(lease.getAppId());
+    if (leases == null) {
+      leases = new LinkedList<Lease>();
+      appLeases.put(lease.getAppId(), leases);
+    }
+    leases.add(new Lease(lease.getLeaseId(), node, lease.getSlots(),
+                         System.currentTimeMillis() + lease.getDurationMs()));
+  }
+
+  /**
+   * Takes up to {@code maxSlots} slots leased for the given application, using the oldest
+   * leases first.
+   */
+  public synchronized List<LeasedSlots> takeSlots(String appId, int maxSlots) {
+    List<LeasedSlots> taken = Lists.newArrayList();
+    LinkedList<Lease> leases = appLeases.get(appId);
+    if (leases == null) {
+      return taken;
+    }
+    long now = System.currentTimeMillis();
+    int remaining = maxSlots;
+    Iterator<Lease> iterator = leases.iterator();
+    while (iterator.hasNext() && remaining > 0) {
+      Lease lease = iterator.next();
+      if (lease.expiryTime < now) {
+        iterator.remove();
+        continue;
+      }
+      int slots = Math.min(remaining, lease.freeSlots);
+      taken.add(new LeasedSlots(lease.leaseId, lease.node, slots));
+      remaining -= slots;
+      lease.freeSlots -= slots;
+      if (lease.freeSlots == 0) {
+        iterator.remove();
+      }
+    }
+    if (leases.isEmpty()) {
+      appLeases.remove(appId);
+    }
+    return taken;
+  }
+}
@@ -0,0 +1,300 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Clock;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+
+/**
+ * Tracks when the tasks of a scheduler's jobs are launched and finish, to find stragglers:
+ * tasks that have been running for more than {@link SparrowConf#SPECULATION_MULTIPLIER} times
+ * the median duration of the job's finished tasks.
+ *
+ * The scheduler enqueues one extra reservation for each straggler, on a node monitor that isn't
+ * running the task. The reservation uses the job's request ID, and the first getTask() call for
+ * the job from that node monitor is answered with a copy of a straggler (see
+ * {@link #assignCopy}). The first copy of a task to finish wins, and the others are returned
+ * by {@link #taskFinished} so that they can be killed. A copy that fails is dropped, as long as
+ * another copy of the task is still running (see {@link #copyFailed}).
+ */
+public class SpeculationTracker {
+  private final static Logger LOG = Logger.getLogger(SpeculationTracker.class);
+
+  /** A launched task that hasn't finished. */
+  private class RunningTask {
+    public TTaskLaunchSpec spec;
+    public long launchTime;
+
+    /** Node monitors running a copy of the task. */
+    public List<THostPort> nodes = Lists.newArrayList();
+
+    /** Whether a speculative copy has been requested for the task. */
+    public boolean speculated = false;
+
+    public RunningTask(TTaskLaunchSpec spec, long launchTime) {
+      this.spec = spec;
+      this.launchTime = launchTime;
+    }
+  }
+
+  /** A job with tasks that haven't finished. */
+  private class Job {
+    public TSchedulingRequest request;
+
+    /** Number of the job's tasks that haven't finished (or stopped being tracked). */
+    public int remainingTasks;
+
+    public Map<String, RunningTask> runningTasks = Maps.newHashMap();
+    public List<Long> finishedDurations = Lists.newArrayList();
+
+    /** Stragglers waiting for a node monitor to launch their copy. */
+    public List<RunningTask> pendingCopies = Lists.newLinkedList();
+
+    /** Number of speculative reservations enqueued on each machine that haven't been used. */
+    public Map<InetAddress, Integer> copyReservations = Maps.newHashMap();
+
+    public Job(TSchedulingRequest request) {
+      this.request = request;
+      remainingTasks = request.getTasksSize();
+    }
+  }
+
+  /** A straggler for which a speculative copy should be launched. */
+  public class Straggler {
+    public String requestId;
+    public TSchedulingRequest request;
+
+    /** Machines already running a copy of the task. */
+    public Set<InetAddress> nodes;
+
+    public Straggler(String requestId, TSchedulingRequest request, Set<InetAddress> nodes) {
+      this.requestId = requestId;
+      this.request = request;
+      this.nodes = nodes;
+    }
+  }
+
+  private double multiplier;
+  private double minFinishedFraction;
+  private NodeIndex nodeIndex;
+  private Clock clock;
+
+  /** Jobs with unfinished tasks, indexed by request ID. */
+  private Map<String, Job> jobs = Maps.newHashMap();
+
+  public SpeculationTracker(Configuration conf, NodeIndex nodeIndex) {
+    this(conf, nodeIndex, Clock.SYSTEM);
+  }
+
+  SpeculationTracker(Configuration conf, NodeIndex nodeIndex, Clock clock) {
+    multiplier = conf.getDouble(SparrowConf.SPECULATION_MULTIPLIER,
+                                SparrowConf.DEFAULT_SPECULATION_MULTIPLIER);
+    minFinishedFraction = conf.getDouble(SparrowConf.SPECULATION_MIN_FINISHED_FRACTION,
+                                         SparrowConf.DEFAULT_SPECULATION_MIN_FINISHED_FRACTION);
+    this.nodeIndex = nodeIndex;
+    this.clock = clock;
+  }
+
+  /** Starts tracking the tasks of the given request. */
+  public synchronized void jobSubmitted(String requestId, TSchedulingRequest request) {
+    jobs.put(requestId, new Job(request));
+  }
+
+  /** Records that a task of the given request was launched on {@code node}. */
+  public synchronized void taskLaunched(String requestId, TTaskLaunchSpec spec, THostPort node) {
+    Job job = jobs.get(requestId);
+    if (job == null) {
+      return;
+    }
+    RunningTask task = new RunningTask(spec, clock.currentTimeMillis());
+    task.nodes.add(node);
+    job.runningTasks.put(spec.getTaskId(), task);
+  }
+
+  /**
+   * Records that one of the request's tasks was launched without its completion being reported
+   * to this scheduler, so the task won't be tracked.
+   */
+  public synchronized void taskUntracked(String requestId) {
+    Job job = jobs.get(requestId);
+    if (job == null) {
+      return;
+    }
+    job.remainingTasks--;
+    if (job.remainingTasks <= 0) {
+      jobs.remove(requestId);
+    }
+  }
+
+  /** Stops tracking the tasks of the given request, whose job was cancelled. */
+  public synchronized void jobCancelled(String requestId) {
+    jobs.remove(requestId);
+  }
+
+  /**
+   * Records that a copy of a task finished on {@code node}, and returns the node monitors
+   * running other copies of the task, which should be killed. Completions of copies that lost
+   * are ignored.
+   */
+  public synchronized List<THostPort> taskFinished(String requestId, String taskId,
+                                                   THostPort node) {
+    Job job = jobs.get(requestId);
+    if (job == null) {
+      return Collections.emptyList();
+    }
+    RunningTask task = job.runningTasks.remove(taskId);
+    if (task == null) {
+      return Collections.emptyList();
+    }
+    job.finishedDurations.add(clock.currentTimeMillis() - task.launchTime);
+    job.pendingCopies.remove(task);
+    job.remainingTasks--;
+    if (job.remainingTasks <= 0) {
+      jobs.remove(requestId);
+    }
+
+    List<THostPort> losers = Lists.newArrayList();
+    for (THostPort copyNode : task.nodes) {
+      if (!copyNode.equals(node)) {
+        losers.add(copyNode);
+      }
+    }
+    if (task.nodes.size() > 1) {
+      LOG.debug("Request " + requestId + ": task " + taskId + " finished first on " + node +
+                "; killing " + losers.size() + " other copies");
+    }
+    return losers;
+  }
+
+  /**
+   * Records that the copy of a task running on {@code node} failed (to launch, or because the
+   * node died). Returns true if another copy of the task is still running, in which case the
+   * task shouldn't be placed again; otherwise the task is left tracked as it was.
+   */
+  public synchronized boolean copyFailed(String requestId, String taskId,
+                                         InetSocketAddress node) {
+    Job job = jobs.get(requestId);
+    if (job == null) {
+      return false;
+    }
+    RunningTask task = job.runningTasks.get(taskId);
+    if (task == null || task.nodes.size() < 2) {
+      return false;
+    }
+    Iterator<THostPort> iterator = task.nodes.iterator();
+    while (iterator.hasNext()) {
+      THostPort copyNode = iterator.next();
+      if (copyNode.getPort() == node.getPort() &&
+          node.getAddress().equals(nodeIndex.resolve(copyNode.getHost()))) {
+        iterator.remove();
+        LOG.debug("Request " + requestId + ": copy of task " + taskId + " failed on " +
+                  copyNode + "; " + task.nodes.size() + " other copies are still running");
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the running tasks that have become stragglers, and marks them as speculated (each
+   * task gets at most one copy).
+   */
+  public synchronized List<Straggler> findStragglers() {
+    List<Straggler> stragglers = Lists.newArrayList();
+    long now = clock.currentTimeMillis();
+    for (Map.Entry<String, Job> entry : jobs.entrySet()) {
+      Job job = entry.getValue();
+      int finished = job.finishedDurations.size();
+      if (finished == 0 || finished < minFinishedFraction * job.request.getTasksSize()) {
+        continue;
+      }
+      List<Long> durations = Lists.newArrayList(job.finishedDurations);
+      Collections.sort(durations);
+      long median = durations.get(durations.size() / 2);
+      for (RunningTask task : job.runningTasks.values()) {
+        if (!task.speculated && now - task.launchTime > multiplier * median) {
+          task.speculated = true;
+          job.pendingCopies.add(task);
+          Set<InetAddress> nodes = new HashSet<InetAddress>();
+          for (THostPort node : task.nodes) {
+            InetAddress address = nodeIndex.resolve(node.getHost());
+            if (address != null) {
+              nodes.add(address);
+            }
+          }
+          LOG.debug("Request " + entry.getKey() + ": task " + task.spec.getTaskId() +
+                    " has run for " + (now - task.launchTime) + "ms (median task duration " +
+                    median + "ms); launching a speculative copy");
+          stragglers.add(new Straggler(entry.getKey(), job.request, nodes));
+        }
+      }
+    }
+    return stragglers;
+  }
+
+  /** Records that a speculative reservation for the given request was enqueued on {@code node}. */
+  public synchronized void copyReservationEnqueued(String requestId, InetAddress node) {
+    Job job = jobs.get(requestId);
+    if (job == null) {
+      return;
+    }
+    Integer reservations = job.copyReservations.get(node);
+    job.copyReservations.put(node, reservations == null ? 1 : reservations + 1);
+  }
+
+  /**
+   * Handles a getTask() call for one of the speculative reservations of the given request.
+   * Returns the copy of a straggler that {@code node} should launch (or no task, if every
+   * straggler has finished or is already running on the node), or null if the request has no
+   * unused speculative reservations on the node, in which case the call is for a regular
+   * reservation.
+   */
+  public synchronized List<TTaskLaunchSpec> assignCopy(String requestId, THostPort node) {
+    Job job = jobs.get(requestId);
+    if (job == null || job.copyReservations.isEmpty()) {
+      return null;
+    }
+    InetAddress address = nodeIndex.resolve(node.getHost());
+    Integer reservations = job.copyReservations.get(address);
+    if (reservations == null) {
+      return null;
+    }
+    if (reservations == 1) {
+      job.copyReservations.remove(address);
+    } else {
+      job.copyReservations.put(address, reservations - 1);
+    }
+
+    Iterator<RunningTask> iterator = job.pendingCopies.iterator();
+    while (iterator.hasNext()) {
+      RunningTask task = iterator.next();
+      if (!task.nodes.contains(node)) {
+        iterator.remove();
+        task.nodes.add(node);
+        return Lists.newArrayList(task.spec);
+      }
+    }
+    return Lists.newArrayList();
+  }
+
+  /** Returns the number of jobs with tasks that haven't finished (for testing). */
+  synchronized int trackedJobs() {
+    return jobs.size();
+  }
+}
@@ -14,8 +14,11 @@ import edu.berkeley.sparrow.thrift.TResourceVector;
  */
 public class StandaloneSchedulerState implements SchedulerState {
   private StandaloneStateStore state = StandaloneStateStore.getInstance();
+  private NodeTopology topology;
+
   @Override
   public void initialize(Configuration conf) {
+    topology = NodeTopology.fromConfiguration(conf);
   }
  
   @Override
@@ -27,4 +30,9 @@ public class StandaloneSchedulerState implements SchedulerState {
   public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(String appId) {
     return state.getBackends(appId);
   }
+
+  @Override
+  public NodeTopology getTopology() {
+    return topology;
+  }
 }
@@ -37,9 +37,11 @@ public class StateStoreSchedulerState implements SchedulerState,
   private final static Logger LOG = Logger.getLogger(StateStoreSchedulerState.class);
   private ConcurrentMap<InetSocketAddress, TResourceVector> nodeMonitors = 
       new ConcurrentHashMap<InetSocketAddress, TResourceVector>();
+  private NodeTopology topology;
   
   @Override
   public void initialize(Configuration conf) throws IOException {
+    topology = NodeTopology.fromConfiguration(conf);
     String stateStoreHost = conf.getString(SparrowConf.STATE_STORE_HOST, 
         SparrowConf.DEFAULT_STATE_STORE_HOST);
     int stateStorePort = conf.getInt(SparrowConf.STATE_STORE_PORT,
@@ -78,6 +80,11 @@ public class StateStoreSchedulerState implements SchedulerState,
     return nodeMonitors;
   }
 
+  @Override
+  public NodeTopology getTopology() {
+    return topology;
+  }
+
   @Override
   public void updateNodeState(Map<String, TNodeState> snapshot)
       throws TException {
@@ -93,6 +100,9 @@ public class StateStoreSchedulerState implements SchedulerState,
       TResourceVector total = TResources.add(entry.getValue().getExternalUsage(), 
           entry.getValue().getSparrowUsage());
       nodeMonitors.put(address.get(), total);
+      if (entry.getValue().isSetRack() && !entry.getValue().getRack().isEmpty()) {
+        topology.addNode(address.get().getAddress(), entry.getValue().getRack());
+      }
     }
   }
 
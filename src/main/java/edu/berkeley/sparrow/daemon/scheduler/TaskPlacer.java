@@ -43,6 +43,38 @@ public interface TaskPlacer {
    */
   public List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress);
 
+  /**
+   * Like {@link #assignTask}, but for a node monitor that is responding to a reservation for a
+   * different job, so the call doesn't count as a response to one of this job's reservations.
+   * Only tasks that may run on any node monitor are donated. A donated task's launch spec
+   * carries this job's request ID and estimated resources, so that the node monitor runs the
+   * task as part of this job rather than the job whose reservation it uses.
+   */
+  public List<TTaskLaunchSpec> donateTask(THostPort nodeMonitorAddress);
+
+  /**
+   * Returns requests to enqueue extra ("hedge") reservations for the job's unlaunched tasks on
+   * node monitors that don't have a reservation for the job yet: at most one per unlaunched task
+   * that may run on any node monitor, and at most {@code maxReservations} in total. Hedge
+   * reservations are only created once per job; later calls return no requests.
+   */
+  public Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getHedgeEnqueueTaskReservationsRequests(
+          Collection<InetSocketAddress> nodes, int maxReservations);
+
+  /**
+   * Handles {@code numReservations} reservations that {@code refusedNode} refused to enqueue,
+   * which will never be responded to, so no longer count as outstanding. Returns requests to
+   * enqueue as many reservations as the job's unlaunched tasks still need on node monitors that
+   * don't have a reservation for the job yet (none if no such node monitor can run them).
+   */
+  public Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getReplacementEnqueueTaskReservationsRequests(
+          InetSocketAddress refusedNode, int numReservations, Collection<InetSocketAddress> nodes);
+
+  /** Returns the fraction of the job's reservations whose node monitors have replied. */
+  public double getFractionResponded();
+
   /** Returns true if all node monitors where task reservations were enqueued have replied. */
   public boolean allResponsesReceived();
 }
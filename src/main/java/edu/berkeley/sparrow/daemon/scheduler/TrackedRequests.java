@@ -0,0 +1,56 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Jobs of recently submitted requests, indexed by request ID. A job's tasks may be submitted
+ * again under new request IDs (for example, when a lease is refused or a task fails to launch),
+ * so a job is linked to the new request when its tasks are resubmitted, and to the new request's
+ * ID once it is submitted. Only the {@code maxTrackedRequests} most recently submitted requests
+ * are remembered. Not thread safe.
+ */
+class TrackedRequests<J> {
+  private LinkedHashMap<String, J> requestJobs;
+
+  /** Jobs of requests that will be submitted again, indexed by the new request. */
+  private Map<TSchedulingRequest, J> resubmittedRequests =
+      new IdentityHashMap<TSchedulingRequest, J>();
+
+  public TrackedRequests(final int maxTrackedRequests) {
+    requestJobs = new LinkedHashMap<String, J>() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, J> eldest) {
+        return size() > maxTrackedRequests;
+      }
+    };
+  }
+
+  /**
+   * Returns the job whose tasks the given request resubmits, and stops linking the request to
+   * it. Returns null if the request doesn't resubmit tasks of a tracked job.
+   */
+  public J takeResubmittedJob(TSchedulingRequest request) {
+    return resubmittedRequests.remove(request);
+  }
+
+  /** Records that the given request ID was given to a request of {@code job}. */
+  public void requestSubmitted(String requestId, J job) {
+    requestJobs.put(requestId, job);
+  }
+
+  /** Records that tasks of {@code job} will be submitted again, in {@code retry}. */
+  public void requestResubmitted(TSchedulingRequest retry, J job) {
+    resubmittedRequests.put(retry, job);
+  }
+
+  /** Returns the job of the given request, or null if the request isn't tracked. */
+  public J getJob(String requestId) {
+    return requestJobs.get(requestId);
+  }
+}
@@ -1,12 +1,16 @@
 package edu.berkeley.sparrow.daemon.scheduler;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
@@ -21,6 +25,7 @@ import edu.berkeley.sparrow.thrift.TResourceVector;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
  * A task placer for jobs whose tasks have no placement constraints.
@@ -37,6 +42,9 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
    */
   AtomicInteger numOutstandingReservations;
 
+  /** Total number of reservations enqueued, including hedge reservations. */
+  AtomicInteger numReservations;
+
   /**
    * Id of the request associated with this task placer.
    */
@@ -44,11 +52,63 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
 
   private double probeRatio;
 
+  /** Used to find the nodes that tasks must avoid. */
+  private NodeIndex nodeIndex;
+
+  /** Node monitors that recently said they are idle, which are probed first. */
+  private IdleNodeSet idleNodes;
+
+  /** Loads recently reported by node monitors, used to probe less loaded nodes first. */
+  private NodeLoadCache nodeLoads;
+
+  /** Used to keep long jobs off the nodes reserved for short jobs, in hybrid scheduling. */
+  private HybridPartition partition;
+
+  /** Whether the job is long, so that it is only placed in the general partition. */
+  private boolean longJob = false;
+
+  /** Machines that any of the job's tasks avoid. */
+  private Set<InetAddress> avoidedNodes;
+
+  /** Node monitors where reservations have been enqueued for this job. */
+  private Set<InetSocketAddress> probedNodes;
+
+  /** Whether hedge reservations have already been created for this job. */
+  private boolean hedged = false;
+
+  /** Information about the job, used to create hedge reservations. */
+  private String appId;
+  private TUserGroupInfo user;
+  private TResourceVector estimatedResources;
+  private THostPort schedulerAddress;
+
   UnconstrainedTaskPlacer(String requestId, double probeRatio) {
+    this(requestId, probeRatio, new NodeIndex(0));
+  }
+
+  UnconstrainedTaskPlacer(String requestId, double probeRatio, NodeIndex nodeIndex) {
+    this(requestId, probeRatio, nodeIndex, new IdleNodeSet(0), new NodeLoadCache(0));
+  }
+
+  UnconstrainedTaskPlacer(String requestId, double probeRatio, NodeIndex nodeIndex,
+                          IdleNodeSet idleNodes, NodeLoadCache nodeLoads) {
+    this(requestId, probeRatio, nodeIndex, idleNodes, nodeLoads,
+         new HybridPartition(false, 0, 0, 0));
+  }
+
+  UnconstrainedTaskPlacer(String requestId, double probeRatio, NodeIndex nodeIndex,
+                          IdleNodeSet idleNodes, NodeLoadCache nodeLoads,
+                          HybridPartition partition) {
     this.requestId = requestId;
     this.probeRatio = probeRatio;
+    this.nodeIndex = nodeIndex;
+    this.idleNodes = idleNodes;
+    this.nodeLoads = nodeLoads;
+    this.partition = partition;
     unlaunchedTasks = Collections.synchronizedList(new LinkedList<TTaskLaunchSpec>());
     this.numOutstandingReservations = new AtomicInteger(0);
+    this.numReservations = new AtomicInteger(0);
+    probedNodes = new HashSet<InetSocketAddress>();
   }
 
   @Override
@@ -58,20 +118,55 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
           Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
     LOG.debug(Logging.functionCall(schedulingRequest, requestId, nodes, schedulerAddress));
 
+    // Any task may be launched from any reservation, so reservations are only placed on nodes
+    // that none of the tasks avoid.
+    avoidedNodes = new HashSet<InetAddress>();
+    for (TTaskSpec task : schedulingRequest.getTasks()) {
+      avoidedNodes.addAll(nodeIndex.getAvoidedNodes(task.preference));
+    }
+
+    // Long jobs are only placed in the general partition, on the least loaded nodes.
+    longJob = partition.isLongJob(schedulingRequest);
+    List<InetSocketAddress> nodeList;
+    if (longJob) {
+      LOG.debug("Request " + requestId + ": placing long job in the general partition");
+      nodeList = partition.getGeneralNodes(nodes);
+    } else {
+      nodeList = Lists.newArrayList(nodes);
+    }
+
+    // Get a random subset of nodes by shuffling list, preferring nodes known to be less loaded
+    // (and, for short jobs, nodes reserved for short jobs).
+    Collections.shuffle(nodeList);
+    if (!avoidedNodes.isEmpty()) {
+      Iterator<InetSocketAddress> iterator = nodeList.iterator();
+      while (iterator.hasNext()) {
+        if (avoidedNodes.contains(iterator.next().getAddress())) {
+          iterator.remove();
+        }
+      }
+    }
+    nodeLoads.sortByLoad(nodeList);
+    partition.preferReserved(nodeList);
+
     int numTasks = schedulingRequest.getTasks().size();
     int reservationsToLaunch = (int) Math.ceil(probeRatio * numTasks);
-    reservationsToLaunch = Math.min(reservationsToLaunch, nodes.size());
+    reservationsToLaunch = Math.min(reservationsToLaunch, nodeList.size());
     LOG.debug("Request " + requestId + ": Creating " + reservationsToLaunch +
               " task reservations");
-
-    // Get a random subset of nodes by shuffling list.
-    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
-    Collections.shuffle(nodeList);
     if (nodeList.size() < reservationsToLaunch) {
       LOG.fatal("Request " + requestId + ": Cannot launch " + reservationsToLaunch +
                 " reservations, because there are not enough nodes. This use case is not " +
                 "currently supported.");
     }
+
+    // Probe node monitors that recently said they are idle first.
+    List<InetSocketAddress> idle = idleNodes.takeIdleNodes(nodeList, reservationsToLaunch);
+    if (!idle.isEmpty()) {
+      LOG.debug("Request " + requestId + ": probing " + idle.size() + " idle node monitors");
+      nodeList.removeAll(new HashSet<InetSocketAddress>(idle));
+      nodeList.addAll(0, idle);
+    }
     nodeList = nodeList.subList(0, reservationsToLaunch);
 
     StringBuilder debugString = new StringBuilder();
@@ -101,8 +196,17 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
           schedulingRequest.getApp(), schedulingRequest.getUser(), requestId, estimatedResources,
           schedulerAddress, 1);
       requests.put(node, request);
+      nodeLoads.reservationEnqueued(node);
     }
 
+    this.appId = schedulingRequest.getApp();
+    this.user = schedulingRequest.getUser();
+    this.estimatedResources = estimatedResources;
+    this.schedulerAddress = schedulerAddress;
+    synchronized (this) {
+      probedNodes.addAll(requests.keySet());
+    }
+    numReservations.set(requests.size());
     numOutstandingReservations.set(requests.size());
 
     return requests;
@@ -111,6 +215,30 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
   @Override
   public List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress) {
     numOutstandingReservations.decrementAndGet();
+    return takeTask(nodeMonitorAddress);
+  }
+
+  @Override
+  public List<TTaskLaunchSpec> donateTask(THostPort nodeMonitorAddress) {
+    // Reservations are only placed on nodes that none of the tasks avoid (and, for long jobs,
+    // outside the reserved partition), but donated tasks can end up anywhere.
+    InetAddress node = nodeIndex.resolve(nodeMonitorAddress.getHost());
+    if (avoidedNodes != null && !avoidedNodes.isEmpty() && avoidedNodes.contains(node)) {
+      return Lists.newArrayList();
+    }
+    if (longJob && (node == null || partition.isReserved(
+        new InetSocketAddress(node, nodeMonitorAddress.getPort())))) {
+      return Lists.newArrayList();
+    }
+    List<TTaskLaunchSpec> tasks = takeTask(nodeMonitorAddress);
+    for (TTaskLaunchSpec task : tasks) {
+      task.setRequestId(requestId);
+      task.setEstimatedResources(estimatedResources);
+    }
+    return tasks;
+  }
+
+  private List<TTaskLaunchSpec> takeTask(THostPort nodeMonitorAddress) {
     synchronized(unlaunchedTasks) {
       if (unlaunchedTasks.isEmpty()) {
         LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
@@ -130,4 +258,82 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
   public boolean allResponsesReceived() {
     return numOutstandingReservations.get() == 0;
   }
+
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getHedgeEnqueueTaskReservationsRequests(
+          Collection<InetSocketAddress> nodes, int maxReservations) {
+    if (hedged) {
+      return Maps.newHashMap();
+    }
+    hedged = true;
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        getUnusedNodeRequests(nodes, Math.min(unlaunchedTasks.size(), maxReservations));
+    numReservations.addAndGet(requests.size());
+    numOutstandingReservations.addAndGet(requests.size());
+    LOG.debug("Request " + requestId + ": created " + requests.size() + " hedge enqueue task " +
+              "reservation requests for " + unlaunchedTasks.size() + " unlaunched tasks.");
+    return requests;
+  }
+
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getReplacementEnqueueTaskReservationsRequests(
+          InetSocketAddress refusedNode, int refusedReservations,
+          Collection<InetSocketAddress> nodes) {
+    // Any task may be launched from any reservation, so the refused ones are only replaced while
+    // there are unlaunched tasks to launch from them.
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = getUnusedNodeRequests(
+        nodes, Math.min(unlaunchedTasks.size(), refusedReservations));
+    numReservations.addAndGet(requests.size() - refusedReservations);
+    numOutstandingReservations.addAndGet(requests.size() - refusedReservations);
+    if (requests.isEmpty() && !unlaunchedTasks.isEmpty()) {
+      LOG.warn("Request " + requestId + ": no node monitor left to replace " +
+               refusedReservations + " reservations refused by " + refusedNode + ", with " +
+               unlaunchedTasks.size() + " unlaunched tasks");
+    }
+    return requests;
+  }
+
+  /**
+   * Returns requests to enqueue one reservation on each of up to {@code maxReservations} node
+   * monitors that don't have a reservation for the job yet, and that the job may use. Must be
+   * called while holding the placer's lock, after the job's initial reservations were created.
+   */
+  private HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> getUnusedNodeRequests(
+      Collection<InetSocketAddress> nodes, int maxReservations) {
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    if (maxReservations <= 0) {
+      return requests;
+    }
+    List<InetSocketAddress> unusedNodes = Lists.newArrayList();
+    for (InetSocketAddress node : nodes) {
+      if (!probedNodes.contains(node) && !avoidedNodes.contains(node.getAddress()) &&
+          !(longJob && partition.isReserved(node))) {
+        unusedNodes.add(node);
+      }
+    }
+    Collections.shuffle(unusedNodes);
+    nodeLoads.sortByLoad(unusedNodes);
+    partition.preferReserved(unusedNodes);
+    for (InetSocketAddress node : unusedNodes) {
+      if (requests.size() >= maxReservations) {
+        break;
+      }
+      requests.put(node, new TEnqueueTaskReservationsRequest(
+          appId, user, requestId, estimatedResources, schedulerAddress, 1));
+      probedNodes.add(node);
+      nodeLoads.reservationEnqueued(node);
+    }
+    return requests;
+  }
+
+  @Override
+  public double getFractionResponded() {
+    int reservations = numReservations.get();
+    if (reservations == 0) {
+      return 0;
+    }
+    return 1 - ((double) numOutstandingReservations.get()) / reservations;
+  }
 }
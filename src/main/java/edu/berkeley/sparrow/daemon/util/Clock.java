@@ -0,0 +1,18 @@
+package edu.berkeley.sparrow.daemon.util;
+
+/**
+ * Source of the current time. Classes that act on elapsed time read it through a Clock, so that
+ * tests can replace the system clock and control the delays they observe.
+ */
+public abstract class Clock {
+  /** Clock that reads the system time. */
+  public final static Clock SYSTEM = new Clock() {
+    @Override
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+  };
+
+  /** Returns the current time, in milliseconds since the epoch. */
+  public abstract long currentTimeMillis();
+}
@@ -21,6 +21,15 @@ public class TResources {
     out.setCores(cores);
     return out;
   }
+
+  /** Constructor for resources that include disk and network bandwidth. */
+  public static TResourceVector createResourceVector(long memory, int cores, long disk,
+                                                     long network) {
+    TResourceVector out = createResourceVector(memory, cores);
+    out.setDisk(disk);
+    out.setNetwork(network);
+    return out;
+  }
   
   /** Constructor for resource usage. */
   public static TResourceUsage createResourceUsage(TResourceVector res, int queueLength) {
@@ -32,7 +41,14 @@ public class TResources {
   
   /** Return a copy of a resource */
   public static TResourceVector clone(TResourceVector in) {
-    return createResourceVector(in.getMemory(), in.getCores()); 
+    TResourceVector out = createResourceVector(in.getMemory(), in.getCores());
+    if (in.isSetDisk()) {
+      out.setDisk(in.getDisk());
+    }
+    if (in.isSetNetwork()) {
+      out.setNetwork(in.getNetwork());
+    }
+    return out;
   }
   
   /** Return a new empty resource object. */
@@ -44,6 +60,12 @@ public class TResources {
   public static TResourceVector addTo(TResourceVector a, TResourceVector b) {
     a.setMemory(a.getMemory() + b.getMemory());
     a.setCores(a.getCores() + b.getCores());
+    if (a.isSetDisk() || b.isSetDisk()) {
+      a.setDisk(a.getDisk() + b.getDisk());
+    }
+    if (a.isSetNetwork() || b.isSetNetwork()) {
+      a.setNetwork(a.getNetwork() + b.getNetwork());
+    }
     return a;
   }
   
@@ -51,6 +73,12 @@ public class TResources {
   public static TResourceVector subtractFrom(TResourceVector a, TResourceVector b) {
     a.setMemory(a.getMemory() - b.getMemory());
     a.setCores(a.getCores() - b.getCores());
+    if (a.isSetDisk() || b.isSetDisk()) {
+      a.setDisk(a.getDisk() - b.getDisk());
+    }
+    if (a.isSetNetwork() || b.isSetNetwork()) {
+      a.setNetwork(a.getNetwork() - b.getNetwork());
+    }
     return a;
   }
   
@@ -66,20 +94,35 @@ public class TResources {
   
   /** Return whether this resource is valid. */
   public static boolean isValid(TResourceVector r) {
-    return (r.memory >= 0 && r.cores >= 0);
+    return (r.memory >= 0 && r.cores >= 0 && r.disk >= 0 && r.network >= 0);
   }
   
   /** Return whether two resources are equal. */
   public static boolean equal(TResourceVector a, TResourceVector b) {
-    return ((a.getMemory() == b.getMemory()) && (a.getCores() == b.getCores()));
+    return ((a.getMemory() == b.getMemory()) && (a.getCores() == b.getCores()) &&
+            (a.getDisk() == b.getDisk()) && (a.getNetwork() == b.getNetwork()));
   }
   
   /** Return whether resource {@code a} is less than or equal resource {@code b}, 
-   *  meaning all pairwise comparisons fulfill {@code a <= b}. 
+   *  meaning all pairwise comparisons fulfill {@code a <= b}. Only memory and cores are
+   *  compared; see {@link #fits} for the optional dimensions.
    */
   public static boolean isLessThanOrEqualTo(TResourceVector a, TResourceVector b) {
     return (a.getMemory() <= b.getMemory()) && (a.getCores() <= b.getCores());
   }
+
+  /**
+   * Return whether resource {@code a} fits in what is left of {@code capacity} once
+   * {@code used} has been allocated. Optional dimensions that {@code capacity} does not set
+   * are not limited.
+   */
+  public static boolean fits(TResourceVector a, TResourceVector capacity, TResourceVector used) {
+    return (a.getMemory() <= capacity.getMemory() - used.getMemory()) &&
+        (a.getCores() <= capacity.getCores() - used.getCores()) &&
+        (!capacity.isSetDisk() || a.getDisk() <= capacity.getDisk() - used.getDisk()) &&
+        (!capacity.isSetNetwork() ||
+         a.getNetwork() <= capacity.getNetwork() - used.getNetwork());
+  }
   
   /**
    * First compares nodes based on free CPU's. If two nodes both have the same number of
@@ -113,6 +113,9 @@ public class ThriftClientPool<T extends TAsyncClient> {
           socket.getAddress().getHostAddress(), socket.getPort());
       TProtocolFactory factory = new TBinaryProtocol.Factory();
       T client = maker.create(nbTr, clientManager, factory);
+      if (timeoutMs > 0) {
+        client.setTimeout(timeoutMs);
+      }
       transports.put(client, nbTr);
       return client;
     }
@@ -139,6 +142,9 @@ public class ThriftClientPool<T extends TAsyncClient> {
 
   /** Underlying object pool. */
   private GenericKeyedObjectPool<InetSocketAddress, T> pool;
+
+  /** Timeout of each call made with clients created by this pool, or 0 for none. */
+  private volatile long timeoutMs = 0;
   
   public ThriftClientPool(MakerFactory<T> maker) {
     pool = new GenericKeyedObjectPool<InetSocketAddress, T>(new PoolFactory(maker), 
@@ -156,6 +162,14 @@ public class ThriftClientPool<T extends TAsyncClient> {
     pool.setConfig(conf);
   }
     
+  /**
+   * Sets how long (in milliseconds) calls made with clients created from now on may take before
+   * their callback's onError() is called with a timeout (0 = no timeout).
+   */
+  public void setTimeoutMs(long timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+
   /** Borrows a client from the pool. */
   public T borrowClient(InetSocketAddress socket) 
       throws Exception {
@@ -4,8 +4,10 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import joptsimple.OptionParser;
@@ -21,6 +23,7 @@ import org.apache.thrift.TException;
 import org.apache.thrift.transport.TTransportException;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import edu.berkeley.sparrow.daemon.nodemonitor.NodeMonitorThrift;
 import edu.berkeley.sparrow.daemon.util.TClients;
@@ -83,6 +86,9 @@ public class ProtoBackend implements BackendService.Iface {
   private static final ExecutorService executor =
       Executors.newFixedThreadPool(TASK_WORKER_THREADS);
 
+  /** Tasks that have been submitted to the executor and haven't started. */
+  private final ConcurrentMap<TFullTaskId, TaskRunnable> queuedTasks = Maps.newConcurrentMap();
+
   /**
    * Thread spawned for each task. It runs for a given amount of time (and adds
    * its resources to the total resources for that time) then stops. It updates
@@ -93,6 +99,7 @@ public class ProtoBackend implements BackendService.Iface {
     private int benchmarkIterations;
     private TResourceVector taskResources;
     private TFullTaskId taskId;
+    private volatile Future<?> future;
 
     public TaskRunnable(String requestId, TFullTaskId taskId, ByteBuffer message,
         TResourceVector taskResources) {
@@ -104,6 +111,7 @@ public class ProtoBackend implements BackendService.Iface {
 
     @Override
     public void run() {
+      queuedTasks.remove(taskId);
       if (startTime == -1) {
         startTime = System.currentTimeMillis();
       }
@@ -233,13 +241,46 @@ public class ProtoBackend implements BackendService.Iface {
     }
 
     // Note we ignore user here
-    executor.submit(new TaskRunnable(
-        taskId.requestId, taskId, message, estimatedResources));
+    TaskRunnable task = new TaskRunnable(taskId.requestId, taskId, message, estimatedResources);
+    queuedTasks.put(taskId, task);
+    task.future = executor.submit(task);
     synchronized (client) {
       client.sendFrontendMessage(APP_ID, taskId, 1, ByteBuffer.wrap("Started".getBytes()));
     }
   }
 
+  /**
+   * Benchmark tasks can't be interrupted, so only tasks that are still waiting for a worker
+   * thread are killed; tasks that have started run to completion.
+   */
+  @Override
+  public void killTask(TFullTaskId taskId) throws TException {
+    stopTask(taskId);
+  }
+
+  /** Like {@link #killTask}, only tasks that haven't started can be preempted. */
+  @Override
+  public boolean preemptTask(TFullTaskId taskId) throws TException {
+    return stopTask(taskId);
+  }
+
+  /** Stops the given task if it hasn't started yet, and returns whether it did. */
+  private boolean stopTask(TFullTaskId taskId) throws TException {
+    TaskRunnable task = queuedTasks.remove(taskId);
+    if (task == null || task.future == null || !task.future.cancel(false)) {
+      LOG.debug("Not killing task " + taskId.getTaskId() + ", which has already started");
+      return false;
+    }
+    LOG.info("Killed task " + taskId.getTaskId() + " before it started");
+    synchronized(resourceUsage) {
+      TResources.subtractFrom(resourceUsage, task.taskResources);
+    }
+    synchronized (client) {
+      client.tasksFinished(Lists.newArrayList(taskId));
+    }
+    return true;
+  }
+
   public static void main(String[] args) throws IOException, TException {
     OptionParser parser = new OptionParser();
     parser.accepts("c", "configuration file").
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.PriorityBlockingQueue;
 
 import joptsimple.OptionParser;
@@ -101,6 +103,9 @@ public class StateStore implements StateStoreService.Iface {
       }
       state.externalUsage = TResources.none(); // TODO: set this based on
                                                //       external scheduler
+      if (nodeMonitorRacks.containsKey(node)) {
+        state.setRack(nodeMonitorRacks.get(node));
+      }
       currentUsage.put(node.toString(), state);
       
       LOG.debug("Polled node monitor " + node);
@@ -151,6 +156,10 @@ public class StateStore implements StateStoreService.Iface {
   // For each node monitor (represented by String description of NM socket), the quantity
   // of resource usage at last check-in. This is what we broadcast to all schedulers.
   private HashMap<String, TNodeState> currentUsage = new HashMap<String, TNodeState>();
+
+  // Rack of each node monitor that reported one when it registered.
+  private ConcurrentMap<InetSocketAddress, String> nodeMonitorRacks =
+      new ConcurrentHashMap<InetSocketAddress, String>();
   
   // Event queue driving actions for the state store
   private PriorityBlockingQueue<Event> events = 
@@ -338,11 +347,14 @@ public class StateStore implements StateStoreService.Iface {
   }
 
   @Override
-  public void registerNodeMonitor(String nodeMonitorAddress) throws TException {
+  public void registerNodeMonitor(String nodeMonitorAddress, String rack) throws TException {
     synchronized (state) {
       Optional<InetSocketAddress> addr = Serialization.strToSocket(nodeMonitorAddress);
       if (addr.isPresent()) {
         state.signalActiveNodeMonitor(addr.get());
+        if (rack != null && !rack.isEmpty()) {
+          nodeMonitorRacks.put(addr.get(), rack);
+        }
         Event e = new Event(System.currentTimeMillis() + 3000, addr.get(), 
             EventType.QUERY);
         events.add(e);
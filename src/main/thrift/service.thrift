@@ -8,8 +8,21 @@ service SchedulerService {
   # Register a frontend for the given application.
   bool registerFrontend(1: string app, 2: string socketAddress);
 
-  # Submit a job composed of a list of individual tasks. 
-  void submitJob(1: types.TSchedulingRequest req) throws (1: types.IncompleteRequestException e);
+  # Submit a job composed of a list of individual tasks. Returns the ID the job was given,
+  # which can be passed to cancelJob().
+  string submitJob(1: types.TSchedulingRequest req) throws (1: types.IncompleteRequestException e);
+
+  # Cancel a job submitted with submitJob(): its unlaunched tasks are dropped, the node monitors
+  # it was placed on remove its queued reservations, and its running tasks are killed (see
+  # BackendService.killTask).
+  void cancelJob(1: string requestId);
+
+  # Submit a job made of stages that depend on each other. Stages without parents are placed
+  # right away, and each other stage is placed as soon as all of its parents' tasks have
+  # finished, without another call from the frontend. Throws if a parent is missing or the
+  # stages have a cycle.
+  void submitJobDag(1: list<types.TJobStage> stages)
+      throws (1: types.IncompleteRequestException e);
 
   # Send a message to be delivered to the frontend for {app} pertaining
   # to the task {taskId}. The {status} field allows for application-specific
@@ -22,10 +35,32 @@ service SchedulerService {
   # response to an enqueueTask() request from this scheduler, requestId specifies the ID given
   # in that enqueueTask() request. Currently, we only support returning 0 or 1 task
   # specs, where 0 signals that the given request has no more tasks that can be launched on the
-  # node.
+  # node. For gang jobs (see TEnqueueTaskReservationsRequest.gangHoldMs), the node monitor
+  # holds the slot instead, and the scheduler either launches a task in it or releases it later.
+  # The node monitor's current load is passed along, so that the scheduler can use it to
+  # pick the nodes it probes.
   # TODO: Add a numTasks parameter to signal how many slots are free, and support
   #       returning more than 1 tasks.
-  list<types.TTaskLaunchSpec> getTask(1: string requestId, 2: types.THostPort nodeMonitorAddress);
+  list<types.TTaskLaunchSpec> getTask(1: string requestId, 2: types.THostPort nodeMonitorAddress,
+                                      3: types.TNodeLoad load);
+
+  # Called by a node monitor when tasks that this scheduler asked to hear about (see
+  # TTaskLaunchSpec.reportCompletion) finish on it. nodeMonitorAddress is the address the node
+  # monitor gives in getTask().
+  void tasksFinished(1: list<types.TFullTaskId> tasks, 2: types.THostPort nodeMonitorAddress);
+
+  # Called by a node monitor when it couldn't launch a task that this scheduler assigned to it
+  # on the application backend. The scheduler places the task again with new reservations,
+  # unless it has already failed to launch too many times.
+  void taskLaunchFailed(1: types.TFullTaskId taskId, 2: types.THostPort nodeMonitorAddress);
+
+  # Called by a node monitor that has freeSlots free slots and no queued reservations, so that
+  # the scheduler can prefer it when placing reservations.
+  void nodeIdle(1: types.THostPort nodeMonitorAddress, 2: i32 freeSlots);
+
+  # Called by a node monitor that has set aside slots for this scheduler. The node monitor may
+  # revoke the lease at any time, so launches against it can be refused.
+  void leaseGranted(1: types.TSlotLease lease);
 }
 
 # A service used by application backends to coordinate with Sparrow.
@@ -47,6 +82,18 @@ service BackendService {
   void launchTask(1: binary message, 2: types.TFullTaskId taskId,
                   3: types.TUserGroupInfo user,
                   4: types.TResourceVector estimatedResources);
+
+  # Stops the given task, if it is still running (for example, because a copy of it finished
+  # elsewhere). The backend should still call NodeMonitorService.tasksFinished for the task
+  # once it has stopped, so that its resources are released.
+  void killTask(1: types.TFullTaskId taskId);
+
+  # Stops the given task so that its slot can go to a more urgent task, and returns whether it
+  # was stopped. If so, the task runs again from the start later, and the backend should still
+  # call NodeMonitorService.tasksFinished for it once it has stopped. Otherwise (for example,
+  # because the task already finished or can't be interrupted) the task keeps running and is
+  # reported as usual.
+  bool preemptTask(1: types.TFullTaskId taskId);
 }
 
 # A service that frontends are expected to extend. Handles communication from
@@ -63,11 +110,37 @@ service FrontendService {
 service InternalService {
   # Enqueues a reservation to launch the given number of tasks. The NodeMonitor sends
   # a GetTask() RPC to the given schedulerAddress when it is ready to launch a task, for each
-  # enqueued task reservation. Returns whether or not the task was successfully enqueued.
-  bool enqueueTaskReservations(1: types.TEnqueueTaskReservationsRequest request);
+  # enqueued task reservation. Returns whether or not the task was successfully enqueued, and
+  # the node monitor's load after enqueueing it.
+  types.TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      1: types.TEnqueueTaskReservationsRequest request);
   
   # Used by the state store.
   map<string, types.TResourceUsage> getLoad(1: string app, 2: string requestId);
+
+  # Asks the backends running the given tasks to stop them (see BackendService.killTask).
+  void killTasks(1: list<types.TFullTaskId> tasks);
+
+  # Launches the given tasks of a request in slots of a lease granted to the calling scheduler
+  # (see SchedulerService.leaseGranted), without enqueueing reservations. Tasks are launched in
+  # order until the lease has no slots left; returns the number of tasks launched, which is 0
+  # if the lease expired or was revoked. The tasks run under the given request, with its user
+  # and estimated resources.
+  i32 launchTasksOnLease(1: string leaseId, 2: string requestId, 3: types.TUserGroupInfo user,
+                         4: types.TResourceVector estimatedResources,
+                         5: list<types.TTaskLaunchSpec> tasks);
+
+  # Launches the given tasks of a gang job in slots that the node monitor holds for the job's
+  # reservations. Returns the number of tasks launched, which is less than the number of tasks
+  # given if fewer slots are held (for example, because the holds expired).
+  i32 launchGangTasks(1: string requestId, 2: list<types.TTaskLaunchSpec> tasks);
+
+  # Gives back up to the given number of slots held for a gang job's reservations.
+  void releaseGangSlots(1: string requestId, 2: i32 slots);
+
+  # Removes the queued reservations of the given (cancelled) requests, releases the slots held
+  # for them, and asks the backends running their tasks to stop them.
+  void cancelRequests(1: list<string> requestIds);
 }
 
 service SchedulerStateStoreService {
@@ -79,6 +152,7 @@ service StateStoreService {
   # Register a scheduler with the given socket address (IP: Port)
   void registerScheduler(1: string schedulerAddress);
 
-  # Register a node monitor with the given socket address (IP: Port)
-  void registerNodeMonitor(1: string nodeMonitorAddress);
+  # Register a node monitor with the given socket address (IP: Port). The rack the node
+  # monitor is in is passed on to schedulers, and may be empty if unknown.
+  void registerNodeMonitor(1: string nodeMonitorAddress, 2: string rack);
 }
@@ -2,6 +2,9 @@ namespace java edu.berkeley.sparrow.thrift
 
 exception IncompleteRequestException {
   1: string message;
+  # Set when the scheduler is overloaded or the frontend exceeded its rate limit: how long (in
+  # milliseconds) the frontend should wait before submitting the job again.
+  2: optional i64 retryAfterMs;
 }
 
 struct THostPort {
@@ -12,13 +15,21 @@ struct THostPort {
 
 struct TPlacementPreference {
   1: list<string> nodes; // List of preferred nodes, described by their hostname.
-  2: list<string> racks; // Not currently supported.
-  3: i32 delayThreshold; // Threshold for delay scheduling (not currently supported).
+  2: list<string> racks; // List of preferred racks, used after the preferred nodes.
+  3: i32 delayThreshold; // Milliseconds to wait for a preferred node before using any node.
+  # Anti-affinity: the task is never placed on these nodes (described by their hostname), or on
+  # the nodes where tasks of the job with the given jobName were launched.
+  4: optional list<string> avoidNodes;
+  5: optional string avoidJob;
 }
 
 struct TResourceVector {
   1: i64 memory;      // Memory, in Mb
   2: i32 cores;       // # Cores
+  # Optional dimensions; an unset dimension is treated as zero in a demand and as unlimited in
+  # a node's capacity.
+  3: optional i64 disk;     // Disk bandwidth, in MB/s
+  4: optional i64 network;  // Network bandwidth, in Mb/s
 }
 
 // Conveys both a quantity of resources in use and a task queue length
@@ -35,6 +46,9 @@ struct TFullTaskId {
   2: string requestId; // Scheduling request ID as assigned by the FE
   3: string appId;     // ID of the application
   4: THostPort schedulerAddress; // Address of the scheduler that scheduled the task.
+  # Whether the node monitor reports the task's completion back to the scheduler (see
+  # SchedulerService.tasksFinished). Backends should pass the task ID back unchanged.
+  5: optional bool reportCompletion;
 }
 
 struct TUserGroupInfo {
@@ -47,6 +61,9 @@ struct TTaskSpec {
   2: TPlacementPreference preference;
   3: TResourceVector estimatedResources;
   4: binary message;
+  # How long the frontend expects the task to run, in milliseconds. Node monitors use it to
+  # estimate queueing delay; they learn durations for tasks that don't set it.
+  5: optional i64 expectedDurationMs;
 }
 
 struct TSchedulingRequest {
@@ -55,6 +72,25 @@ struct TSchedulingRequest {
   3: TUserGroupInfo user;
   # Hack to allow us to specify the probe ratio for certain types of requests.
   4: optional double probeRatio;
+  # Priority of the job. Node monitors running a priority queue serve reservations for jobs with
+  # higher values first; jobs that don't set a priority are treated as priority 0.
+  5: optional i32 priority;
+  # Absolute deadline for the job, in milliseconds since the epoch. Node monitors running an
+  # earliest-deadline-first queue serve reservations for jobs with earlier deadlines first.
+  6: optional i64 deadline;
+  # Name for the job, which later jobs can give as the avoidJob of their placement preferences.
+  7: optional string jobName;
+  # Whether the job is a gang: none of its tasks are launched until slots are held for all of
+  # them, and then all of them are launched at once.
+  8: optional bool gang;
+}
+
+# A stage of a multi-stage job (see SchedulerService.submitJobDag). The stage's tasks are placed
+# once all tasks of its parent stages have finished.
+struct TJobStage {
+  1: string stageId;
+  2: TSchedulingRequest request;
+  3: list<string> parentStageIds;
 }
 
 struct TEnqueueTaskReservationsRequest {
@@ -64,6 +100,46 @@ struct TEnqueueTaskReservationsRequest {
   4: TResourceVector estimatedResources;
   5: THostPort schedulerAddress;
   6: i32 numTasks;
+  7: optional i32 priority; // Priority of the job, copied from the TSchedulingRequest.
+  8: optional i64 deadline; // Deadline of the job, copied from the TSchedulingRequest.
+  # Total number of tasks in the job (numTasks only counts the reservations in this request).
+  9: optional i32 jobTasks;
+  # Number of the job's tasks that hadn't been launched when the scheduler sent this request.
+  # Used in place of jobTasks, if set.
+  10: optional i32 unlaunchedJobTasks;
+  # Mean expected duration of the job's tasks (in milliseconds), for jobs whose tasks set one.
+  11: optional i64 expectedTaskDurationMs;
+  # Set for gang jobs: the node monitor holds the slot of each runnable reservation (for at
+  # most this many milliseconds) until the scheduler launches the gang's tasks in it (see
+  # InternalService.launchGangTasks) or releases it.
+  12: optional i64 gangHoldMs;
+  # When the scheduler that sent this request started (in milliseconds). Node monitors refuse
+  # reservations from schedulers they declared dead, unless the scheduler was restarted since.
+  13: optional i64 schedulerEpoch;
+}
+
+# Load on a node monitor, which it reports to schedulers along with the RPCs it answers or makes.
+struct TNodeLoad {
+  1: i32 queueLength; // Number of queued reservations (for the application of the RPC).
+  2: i32 freeSlots;   // See TaskScheduler.getFreeSlots().
+  # Estimated time (in milliseconds) that a new reservation would wait before launching, based
+  # on the expected durations of queued reservations.
+  3: optional i64 estimatedWaitMs;
+}
+
+struct TEnqueueTaskReservationsResponse {
+  1: bool enqueued;
+  2: TNodeLoad load;
+}
+
+# Slots that a node monitor holds for a scheduler, which can launch tasks of the given
+# application in them directly (see InternalService.launchTasksOnLease) until the lease expires.
+struct TSlotLease {
+  1: string leaseId;
+  2: THostPort nodeMonitorAddress;
+  3: string appId;
+  4: i32 slots;
+  5: i64 durationMs; # How long after it was granted the lease expires.
 }
 
 # Information needed to launch a task.  The application and user information are not needed
@@ -75,6 +151,17 @@ struct TTaskLaunchSpec {
 
   # Description of the task passed on to the application backend (opaque to Sparrow).
   2: binary message;
+
+  # Set by schedulers that want to hear when the task finishes (see TFullTaskId).
+  3: optional bool reportCompletion;
+
+  # Request the task was submitted under, set when the task is launched in a reservation or lease
+  # of another request. The node monitor launches and reports the task under this request.
+  4: optional string requestId;
+
+  # Resources the task's job estimated for it, set along with requestId when they may differ
+  # from those of the reservation or lease the task is launched in.
+  5: optional TResourceVector estimatedResources;
 }
 
 struct LoadSpec {
@@ -86,4 +173,5 @@ struct LoadSpec {
 struct TNodeState {
   1: TResourceVector sparrowUsage;   # Resources used by Sparrow
   2: TResourceVector externalUsage;  # Resources used by other schedulers
+  3: optional string rack;           # Rack the node is in, if the node monitor reported one
 }
@@ -0,0 +1,88 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.util.ManualClock;
+
+public class TestSchedulerLiveness {
+  private static final InetSocketAddress SCHEDULER_A = new InetSocketAddress("10.0.0.1", 1);
+  private static final InetSocketAddress SCHEDULER_B = new InetSocketAddress("10.0.0.2", 2);
+
+  private class RecordingListener implements SchedulerLiveness.Listener {
+    public List<InetSocketAddress> deadSchedulers = Lists.newArrayList();
+
+    @Override
+    public void schedulerDead(InetSocketAddress schedulerAddress) {
+      deadSchedulers.add(schedulerAddress);
+    }
+  }
+
+  /**
+   * Ensures that a scheduler is declared dead only after enough RPCs to it fail in a row, and
+   * that it stays dead until its tombstone expires.
+   */
+  @Test
+  public void testSchedulerDead() {
+    ManualClock clock = new ManualClock();
+    RecordingListener listener = new RecordingListener();
+    SchedulerLiveness liveness = new SchedulerLiveness(2, 100, listener, clock);
+    liveness.rpcFailed(SCHEDULER_A);
+    liveness.rpcSucceeded(SCHEDULER_A);
+    liveness.rpcFailed(SCHEDULER_A);
+    liveness.rpcFailed(SCHEDULER_B);
+    assertFalse(liveness.isDead(SCHEDULER_A));
+    assertEquals(0, listener.deadSchedulers.size());
+
+    liveness.rpcFailed(SCHEDULER_A);
+    assertTrue(liveness.isDead(SCHEDULER_A));
+    assertFalse(liveness.isDead(SCHEDULER_B));
+    assertEquals(Lists.newArrayList(SCHEDULER_A), listener.deadSchedulers);
+    // Failures of RPCs to a dead scheduler don't declare it dead again.
+    liveness.rpcFailed(SCHEDULER_A);
+    liveness.rpcFailed(SCHEDULER_A);
+    assertEquals(1, listener.deadSchedulers.size());
+
+    clock.advance(99);
+    assertTrue(liveness.isDead(SCHEDULER_A));
+    clock.advance(1);
+    assertFalse(liveness.isDead(SCHEDULER_A));
+  }
+
+  /**
+   * Ensures that reservations from a dead scheduler are refused while it is tombstoned, unless
+   * they come from a later run of the scheduler, and that it can then be declared dead again.
+   */
+  @Test
+  public void testSchedulerRestarted() {
+    ManualClock clock = new ManualClock();
+    RecordingListener listener = new RecordingListener();
+    SchedulerLiveness liveness = new SchedulerLiveness(1, 60000, listener, clock);
+    assertTrue(liveness.acceptReservations(SCHEDULER_A, 1000));
+    liveness.rpcFailed(SCHEDULER_A);
+    assertTrue(liveness.isDead(SCHEDULER_A));
+
+    // Late reservations from the dead run, and successful RPCs, don't revive the scheduler.
+    assertFalse(liveness.acceptReservations(SCHEDULER_A, 1000));
+    assertFalse(liveness.acceptReservations(SCHEDULER_A, 0));
+    liveness.rpcSucceeded(SCHEDULER_A);
+    assertTrue(liveness.isDead(SCHEDULER_A));
+
+    // The scheduler was restarted.
+    assertTrue(liveness.acceptReservations(SCHEDULER_A, 2000));
+    assertFalse(liveness.isDead(SCHEDULER_A));
+    assertTrue(liveness.acceptReservations(SCHEDULER_A, 1000));
+    liveness.rpcFailed(SCHEDULER_A);
+    assertTrue(liveness.isDead(SCHEDULER_A));
+    assertFalse(liveness.acceptReservations(SCHEDULER_A, 2000));
+    assertEquals(Lists.newArrayList(SCHEDULER_A, SCHEDULER_A), listener.deadSchedulers);
+  }
+}
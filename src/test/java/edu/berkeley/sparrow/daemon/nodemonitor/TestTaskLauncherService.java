@@ -0,0 +1,125 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.thrift.SchedulerService;
+import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.getTask_call;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestTaskLauncherService {
+  private static final InetSocketAddress BACKEND_ADDRESS = new InetSocketAddress("123.4.5.6", 2);
+  private static final long WAIT_MS = 5000;
+
+  private FifoTaskScheduler scheduler;
+  private ThriftClientPool<SchedulerService.AsyncClient> schedulerClientPool;
+  private SchedulerService.AsyncClient schedulerClient;
+  private TaskLauncherService taskLauncherService;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+    scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+    schedulerClientPool = mock(ThriftClientPool.class);
+    schedulerClient = mock(SchedulerService.AsyncClient.class);
+    when(schedulerClientPool.borrowClient(any(InetSocketAddress.class)))
+        .thenReturn(schedulerClient);
+    taskLauncherService = new TaskLauncherService();
+    taskLauncherService.initialize(
+        new PropertiesConfiguration(), scheduler, schedulerClientPool, 20502, null,
+        new SlotLeaseManager(scheduler), new SchedulerLiveness(0, 0, null));
+  }
+
+  private TEnqueueTaskReservationsRequest createTaskReservationRequest(int numTasks) {
+    return new TEnqueueTaskReservationsRequest(
+        "test app", new TUserGroupInfo("user", "group"), "1", new TResourceVector(0, 1),
+        new THostPort("1.2.3.4", 52), numTasks);
+  }
+
+  /** Waits until the task scheduler has the given number of free slots, or fails. */
+  private void waitForFreeSlots(int freeSlots) throws InterruptedException {
+    long end = System.currentTimeMillis() + WAIT_MS;
+    while (scheduler.getFreeSlots() != freeSlots && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+    assertEquals(freeSlots, scheduler.getFreeSlots());
+  }
+
+  /**
+   * Ensures that the slots of reservations whose getTask() calls time out go back to the task
+   * scheduler, so that queued reservations are launched.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testGetTaskTimeout() throws Exception {
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        AsyncMethodCallback<getTask_call> callback =
+            (AsyncMethodCallback<getTask_call>) invocation.getArguments()[3];
+        callback.onError(new TimeoutException("Operation timed out"));
+        return null;
+      }
+    }).when(schedulerClient).getTask(anyString(), any(THostPort.class), any(TNodeLoad.class),
+                                     any(AsyncMethodCallback.class));
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(2), BACKEND_ADDRESS);
+    waitForFreeSlots(1);
+    assertEquals(2, taskLauncherService.getGetTaskFailures());
+  }
+
+  /**
+   * Ensures that the response of a getTask() call is used even if its client can't be returned
+   * to the pool.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testReturnClientFailure() throws Exception {
+    final getTask_call response = mock(getTask_call.class);
+    when(response.getClient()).thenReturn(schedulerClient);
+    when(response.getResult()).thenReturn(Lists.<TTaskLaunchSpec>newArrayList());
+    doThrow(new RuntimeException("Pool closed")).when(schedulerClientPool).returnClient(
+        any(InetSocketAddress.class), any(SchedulerService.AsyncClient.class));
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ((AsyncMethodCallback<getTask_call>) invocation.getArguments()[3]).onComplete(response);
+        return null;
+      }
+    }).when(schedulerClient).getTask(anyString(), any(THostPort.class), any(TNodeLoad.class),
+                                     any(AsyncMethodCallback.class));
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(1), BACKEND_ADDRESS);
+    waitForFreeSlots(1);
+    assertEquals(0, taskLauncherService.getGetTaskFailures());
+  }
+}
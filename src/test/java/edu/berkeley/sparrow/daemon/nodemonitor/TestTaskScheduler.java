@@ -1,7 +1,11 @@
 package edu.berkeley.sparrow.daemon.nodemonitor;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.apache.commons.configuration.PropertiesConfiguration;
@@ -10,13 +14,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
+import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskReservation;
+import edu.berkeley.sparrow.daemon.util.ManualClock;
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSlotLease;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 public class TestTaskScheduler {
@@ -36,6 +46,10 @@ public class TestTaskScheduler {
         appId, user, idStr, estimatedResources, schedulerAddress, numTasks);
   }
 
+  private TTaskLaunchSpec createTaskLaunchSpec(String taskId) {
+    return new TTaskLaunchSpec(taskId, ByteBuffer.allocate(1));
+  }
+
   /**
    * Tests the fifo task scheduler.
    */
@@ -217,4 +231,672 @@ public class TestTaskScheduler {
     assertEquals("9", task.requestId);
     assertEquals(0, scheduler.runnableTasks());
   }
+
+  /**
+   * Tests that the round robin task scheduler ignores disk and network estimates, since node
+   * capacity doesn't set them.
+   */
+  @Test
+  public void testRoundRobinIgnoresDiskAndNetwork() {
+    TaskScheduler scheduler = new RoundRobinTaskScheduler();
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+    final InetSocketAddress backendAddress = new InetSocketAddress("localhost", 1);
+
+    TEnqueueTaskReservationsRequest request =
+        createTaskReservationRequest(1, 1, scheduler, "app1");
+    request.setEstimatedResources(TResources.createResourceVector(0, 1, 100, 100));
+    scheduler.submitTaskReservations(request, backendAddress);
+    assertEquals(1, scheduler.runnableTasks());
+  }
+
+  /**
+   * Tests that the priority task scheduler launches queued reservations for higher priority jobs
+   * first, and that waiting reservations age so that they are eventually launched.
+   */
+  @Test
+  public void testPriority() throws InterruptedException {
+    PriorityTaskScheduler scheduler = new PriorityTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.PRIORITY_AGING_INTERVAL_MS, 10);
+    scheduler.initialize(TResources.createResourceVector(0, 1), conf);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    // Fill the only slot.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    assertEquals("1", scheduler.getNextTask().requestId);
+
+    // Queue a low priority job, then wait long enough for it to age past priority 2.
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setPriority(0);
+    scheduler.submitTaskReservations(request, backendAddress);
+    Thread.sleep(100);
+
+    // Job 3 has the same (aged) priority as job 2, but job 4 has a much higher priority.
+    request = createTaskReservationRequest(1, 3, scheduler, testApp);
+    request.setPriority(2);
+    scheduler.submitTaskReservations(request, backendAddress);
+    request = createTaskReservationRequest(1, 4, scheduler, testApp);
+    request.setPriority(1000);
+    scheduler.submitTaskReservations(request, backendAddress);
+    assertEquals(0, scheduler.runnableTasks());
+
+    TFullTaskId fullTaskId = new TFullTaskId();
+    fullTaskId.taskId = "";
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
+    completedTasks.add(fullTaskId);
+
+    String[] expectedOrder = {"4", "2", "3"};
+    String lastRequestId = "1";
+    for (String expectedRequestId : expectedOrder) {
+      fullTaskId.requestId = lastRequestId;
+      scheduler.tasksFinished(completedTasks);
+      assertEquals(1, scheduler.runnableTasks());
+      TaskReservation task = scheduler.getNextTask();
+      assertEquals(expectedRequestId, task.requestId);
+      lastRequestId = task.requestId;
+    }
+    assertEquals(0, scheduler.runnableTasks());
+  }
+
+  /**
+   * Tests that the earliest deadline first task scheduler launches reservations in deadline
+   * order, and launches reservations that already missed their deadline last.
+   */
+  @Test
+  public void testEarliestDeadlineFirst() {
+    EarliestDeadlineFirstTaskScheduler scheduler = new EarliestDeadlineFirstTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+    long now = System.currentTimeMillis();
+
+    // Fill the only slot.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    assertEquals("1", scheduler.getNextTask().requestId);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setDeadline(now + 100000);
+    scheduler.submitTaskReservations(request, backendAddress);
+    request = createTaskReservationRequest(1, 3, scheduler, testApp);
+    request.setDeadline(now + 50000);
+    scheduler.submitTaskReservations(request, backendAddress);
+    // No deadline.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 4, scheduler, testApp),
+                                     backendAddress);
+    request = createTaskReservationRequest(1, 5, scheduler, testApp);
+    request.setDeadline(now - 1);
+    scheduler.submitTaskReservations(request, backendAddress);
+    assertEquals(0, scheduler.runnableTasks());
+
+    TFullTaskId fullTaskId = new TFullTaskId();
+    fullTaskId.taskId = "";
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
+    completedTasks.add(fullTaskId);
+
+    String[] expectedOrder = {"3", "2", "4", "5"};
+    String lastRequestId = "1";
+    for (String expectedRequestId : expectedOrder) {
+      fullTaskId.requestId = lastRequestId;
+      scheduler.tasksFinished(completedTasks);
+      assertEquals(1, scheduler.runnableTasks());
+      TaskReservation task = scheduler.getNextTask();
+      assertEquals(expectedRequestId, task.requestId);
+      lastRequestId = task.requestId;
+    }
+    assertEquals(0, scheduler.runnableTasks());
+    assertEquals(1, scheduler.getDeadlineMisses());
+  }
+
+  /**
+   * Tests that the shortest remaining job first task scheduler launches reservations for small
+   * jobs first, unless a reservation has been waiting for longer than the starvation bound.
+   */
+  @Test
+  public void testShortestRemainingJobFirst() throws InterruptedException {
+    ShortestRemainingJobFirstTaskScheduler scheduler =
+        new ShortestRemainingJobFirstTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.SRJF_MAX_WAIT_MS, 50);
+    scheduler.initialize(TResources.createResourceVector(0, 1), conf);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    // Fill the only slot.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    assertEquals("1", scheduler.getNextTask().requestId);
+
+    // Job 2 has waited longer than the starvation bound by the time the queue is served.
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setJobTasks(2000);
+    scheduler.submitTaskReservations(request, backendAddress);
+    Thread.sleep(100);
+
+    request = createTaskReservationRequest(1, 3, scheduler, testApp);
+    request.setJobTasks(100);
+    scheduler.submitTaskReservations(request, backendAddress);
+    request = createTaskReservationRequest(1, 4, scheduler, testApp);
+    request.setJobTasks(100);
+    request.setUnlaunchedJobTasks(1);
+    scheduler.submitTaskReservations(request, backendAddress);
+    request = createTaskReservationRequest(1, 5, scheduler, testApp);
+    request.setJobTasks(10);
+    scheduler.submitTaskReservations(request, backendAddress);
+    assertEquals(0, scheduler.runnableTasks());
+
+    TFullTaskId fullTaskId = new TFullTaskId();
+    fullTaskId.taskId = "";
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
+    completedTasks.add(fullTaskId);
+
+    String[] expectedOrder = {"2", "4", "5", "3"};
+    String lastRequestId = "1";
+    for (String expectedRequestId : expectedOrder) {
+      fullTaskId.requestId = lastRequestId;
+      scheduler.tasksFinished(completedTasks);
+      assertEquals(1, scheduler.runnableTasks());
+      TaskReservation task = scheduler.getNextTask();
+      assertEquals(expectedRequestId, task.requestId);
+      lastRequestId = task.requestId;
+    }
+    assertEquals(0, scheduler.runnableTasks());
+  }
+
+  /**
+   * Tests that the resource-aware task scheduler launches reservations only when they fit on
+   * the node, and that smaller reservations aren't blocked behind larger ones.
+   */
+  @Test
+  public void testResourceAware() {
+    TaskScheduler scheduler = new ResourceAwareTaskScheduler();
+    TResourceVector capacity = TResources.createResourceVector(4096, 4);
+    capacity.setDisk(100);
+    scheduler.initialize(capacity, new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 1, scheduler, testApp);
+    request.setEstimatedResources(TResources.createResourceVector(3072, 1));
+    scheduler.submitTaskReservations(request, backendAddress);
+    // Doesn't fit in the remaining memory.
+    request = createTaskReservationRequest(1, 2, scheduler, testApp);
+    request.setEstimatedResources(TResources.createResourceVector(2048, 1));
+    scheduler.submitTaskReservations(request, backendAddress);
+    // Fits, so it shouldn't wait behind request 2.
+    request = createTaskReservationRequest(1, 3, scheduler, testApp);
+    request.setEstimatedResources(TResources.createResourceVector(512, 1));
+    scheduler.submitTaskReservations(request, backendAddress);
+    request = createTaskReservationRequest(1, 4, scheduler, testApp);
+    request.setEstimatedResources(TResources.createResourceVector(256, 0, 80, 0));
+    scheduler.submitTaskReservations(request, backendAddress);
+    // Fits in memory and cores, but not in the remaining disk bandwidth.
+    request = createTaskReservationRequest(1, 5, scheduler, testApp);
+    request.setEstimatedResources(TResources.createResourceVector(256, 0, 40, 0));
+    scheduler.submitTaskReservations(request, backendAddress);
+
+    assertEquals(3, scheduler.runnableTasks());
+    assertEquals("1", scheduler.getNextTask().requestId);
+    assertEquals("3", scheduler.getNextTask().requestId);
+    assertEquals("4", scheduler.getNextTask().requestId);
+    assertEquals(2, scheduler.getResourceUsage(testApp).queueLength);
+
+    TFullTaskId fullTaskId = new TFullTaskId();
+    fullTaskId.taskId = "";
+    List<TFullTaskId> completedTasks = Lists.newArrayList();
+    completedTasks.add(fullTaskId);
+
+    // Frees memory, but neither queued reservation fits yet.
+    fullTaskId.requestId = "3";
+    scheduler.tasksFinished(completedTasks);
+    assertEquals(0, scheduler.runnableTasks());
+
+    fullTaskId.requestId = "4";
+    scheduler.tasksFinished(completedTasks);
+    assertEquals(1, scheduler.runnableTasks());
+    assertEquals("5", scheduler.getNextTask().requestId);
+
+    fullTaskId.requestId = "1";
+    scheduler.tasksFinished(completedTasks);
+    assertEquals(1, scheduler.runnableTasks());
+    assertEquals("2", scheduler.getNextTask().requestId);
+
+    TResourceVector expectedUsage = TResources.createResourceVector(2304, 1, 40, 0);
+    assertEquals(true, TResources.equal(expectedUsage,
+                                        scheduler.getResourceUsage(testApp).resources));
+    assertEquals(0, scheduler.getResourceUsage(testApp).queueLength);
+  }
+
+  /**
+   * Tests that a task launched in another request's reservation runs under its own request and
+   * resources, and that its slot goes back to the reservation's request once it finishes.
+   */
+  @Test
+  public void testTaskOfOtherRequest() {
+    FifoTaskScheduler scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(1024, 1), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(2, 1, scheduler, testApp),
+                                     backendAddress);
+    TTaskLaunchSpec spec = createTaskLaunchSpec("donated");
+    spec.setRequestId("2");
+    spec.setEstimatedResources(TResources.createResourceVector(512, 1));
+    TFullTaskId taskId = new TFullTaskId("donated", "2", testApp, new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), spec, taskId);
+    assertEquals(512, scheduler.inUse.getMemory());
+
+    // Cancelling the task's own request kills it.
+    assertEquals(Lists.newArrayList(taskId), scheduler.requestCancelled("2"));
+
+    scheduler.tasksFinished(Lists.newArrayList(taskId));
+    assertEquals(0, scheduler.inUse.getMemory());
+    assertEquals("1", scheduler.getNextTask().requestId);
+  }
+
+  /**
+   * Tests that leased slots are held until tasks are launched in them, and that slots of
+   * expired leases are given back to the task scheduler.
+   */
+  @Test
+  public void testSlotLeases() {
+    ManualClock clock = new ManualClock();
+    FifoTaskScheduler scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(4);
+    scheduler.initialize(TResources.createResourceVector(0, 4), new PropertiesConfiguration());
+    SlotLeaseManager leaseManager = new SlotLeaseManager(scheduler, clock);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+    final InetSocketAddress schedulerAddress = new InetSocketAddress("1.2.3.4", 52);
+    final THostPort nodeMonitorAddress = new THostPort("5.6.7.8", 20502);
+
+    TSlotLease lease = leaseManager.grantLease(testApp, backendAddress, schedulerAddress,
+                                               nodeMonitorAddress, 2, 10000);
+    assertEquals(2, scheduler.getFreeSlots());
+    assertTrue(leaseManager.hasLease(schedulerAddress));
+    assertTrue(leaseManager.holdSlot(scheduler.getNextTask()));
+    assertTrue(leaseManager.holdSlot(scheduler.getNextTask()));
+
+    // Regular reservations aren't held.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    assertFalse(leaseManager.holdSlot(scheduler.getNextTask()));
+
+    List<TaskReservation> slots = leaseManager.useSlots(lease.getLeaseId(), 3);
+    assertEquals(2, slots.size());
+    assertEquals(lease.getLeaseId(), slots.get(0).requestId);
+    assertEquals(0, leaseManager.useSlots(lease.getLeaseId(), 1).size());
+    assertEquals(1, scheduler.getFreeSlots());
+
+    // A task launched in a leased slot runs under its job's request.
+    TTaskLaunchSpec spec = createTaskLaunchSpec("leased");
+    spec.setRequestId("2");
+    spec.setEstimatedResources(TResources.createResourceVector(0, 1));
+    TFullTaskId leasedTask = new TFullTaskId("leased", "2", testApp,
+                                             new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(slots.get(0), spec, leasedTask);
+    assertEquals(Lists.newArrayList(leasedTask), scheduler.requestCancelled("2"));
+    scheduler.tasksFinished(Lists.newArrayList(leasedTask));
+    scheduler.noTaskForRequest(slots.get(1));
+    assertEquals(3, scheduler.getFreeSlots());
+
+    // The slot of an expired lease is given back.
+    TSlotLease expiring = leaseManager.grantLease(testApp, backendAddress, schedulerAddress,
+                                                  nodeMonitorAddress, 1, 50);
+    assertTrue(leaseManager.holdSlot(scheduler.getNextTask()));
+    assertEquals(2, scheduler.getFreeSlots());
+    clock.advance(100);
+    assertFalse(leaseManager.hasLease(schedulerAddress));
+    leaseManager.expireLeases();
+    assertEquals(3, scheduler.getFreeSlots());
+    assertEquals(0, leaseManager.useSlots(expiring.getLeaseId(), 1).size());
+  }
+
+  /**
+   * Tests that the estimated wait reported to schedulers uses the expected durations of queued
+   * reservations, and durations learned from finished tasks when none is given.
+   */
+  @Test
+  public void testEstimatedWait() {
+    ManualClock clock = new ManualClock();
+    FifoTaskScheduler scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(2);
+    scheduler.setClock(clock);
+    scheduler.initialize(TResources.createResourceVector(0, 2), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        4, 1, scheduler, testApp);
+    request.setExpectedTaskDurationMs(100);
+    scheduler.submitTaskReservations(request, backendAddress);
+    // Two reservations are queued, spread over two cores.
+    assertEquals(2, scheduler.runnableTasks());
+    assertEquals(100, scheduler.getNodeLoad(testApp).getEstimatedWaitMs());
+
+    // Durations aren't known for reservations without an expected duration.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 2, scheduler, testApp),
+                                     backendAddress);
+    assertEquals(100, scheduler.getEstimatedWaitMs());
+
+    TFullTaskId taskId = new TFullTaskId("task", "1", testApp, new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), createTaskLaunchSpec("task"), taskId);
+    clock.advance(100);
+    scheduler.tasksFinished(Lists.newArrayList(taskId));
+    assertEquals(50, scheduler.getEstimatedWaitMs());
+
+    // The learned duration is used for new reservations of the application.
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 3, scheduler, testApp),
+                                     backendAddress);
+    assertEquals(100, scheduler.getEstimatedWaitMs());
+
+    // No wait is reported while the duration of no queued reservation is known.
+    FifoTaskScheduler unknownScheduler = new FifoTaskScheduler();
+    unknownScheduler.setMaxActiveTasks(1);
+    unknownScheduler.initialize(TResources.createResourceVector(0, 1),
+                                new PropertiesConfiguration());
+    unknownScheduler.submitTaskReservations(
+        createTaskReservationRequest(2, 1, unknownScheduler, testApp), backendAddress);
+    TNodeLoad load = unknownScheduler.getNodeLoad(testApp);
+    assertEquals(1, load.getQueueLength());
+    assertFalse(load.isSetEstimatedWaitMs());
+  }
+
+  /**
+   * Tests that cancelling a request removes its queued reservations, and returns its running
+   * tasks so that they can be killed.
+   */
+  @Test
+  public void testRequestCancelled() {
+    ShortestRemainingJobFirstTaskScheduler scheduler =
+        new ShortestRemainingJobFirstTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    TaskReservation reservation = scheduler.getNextTask();
+    assertEquals("1", reservation.requestId);
+    TFullTaskId runningTask = new TFullTaskId("task", "1", testApp, new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(reservation, createTaskLaunchSpec("task"), runningTask);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        2, 2, scheduler, testApp);
+    request.setExpectedTaskDurationMs(100);
+    scheduler.submitTaskReservations(request, backendAddress);
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 3, scheduler, testApp),
+                                     backendAddress);
+    assertEquals(3, scheduler.getResourceUsage(testApp).queueLength);
+    assertEquals(200, scheduler.getEstimatedWaitMs());
+
+    assertEquals(0, scheduler.requestCancelled("2").size());
+    assertEquals(1, scheduler.getResourceUsage(testApp).queueLength);
+    assertEquals(0, scheduler.getEstimatedWaitMs());
+
+    List<TFullTaskId> runningTasks = scheduler.requestCancelled("1");
+    assertEquals(1, runningTasks.size());
+    assertEquals("task", runningTasks.get(0).getTaskId());
+
+    // Once the killed task finishes, its slot goes to the remaining reservation.
+    scheduler.tasksFinished(Lists.newArrayList(runningTask));
+    assertEquals("3", scheduler.getNextTask().requestId);
+    assertEquals(0, scheduler.requestCancelled("1").size());
+  }
+
+  /**
+   * Tests that a low priority task is preempted for a high priority reservation that has waited
+   * too long, and that it is launched again once a slot frees up.
+   */
+  @Test
+  public void testPreemption() {
+    ManualClock clock = new ManualClock();
+    PriorityTaskScheduler scheduler = createPreemptingScheduler(clock, 1);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    TFullTaskId lowPriorityTask = new TFullTaskId("low", "1", testApp,
+                                                  new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), createTaskLaunchSpec("low"),
+                           lowPriorityTask);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setPriority(5);
+    scheduler.submitTaskReservations(request, backendAddress);
+    // The high priority reservation hasn't waited long enough yet.
+    assertNull(scheduler.preemptTask());
+
+    clock.advance(100);
+    assertEquals(lowPriorityTask, scheduler.preemptTask());
+    // Only one task is preempted at a time.
+    assertNull(scheduler.preemptTask());
+    assertEquals(0, scheduler.preemptionConfirmed(lowPriorityTask, true).size());
+    assertNull(scheduler.preemptTask());
+
+    // The killed task isn't reported as completed, and its slot goes to the high priority job.
+    assertEquals(0, scheduler.tasksFinished(Lists.newArrayList(lowPriorityTask)).size());
+    TaskReservation reservation = scheduler.getNextTask();
+    assertEquals("2", reservation.requestId);
+    assertNull(reservation.preemptedTask);
+    TFullTaskId highPriorityTask = new TFullTaskId("high", "2", testApp,
+                                                   new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(reservation, createTaskLaunchSpec("high"), highPriorityTask);
+
+    // Tasks aren't preempted for reservations of the same or lower priority.
+    clock.advance(100);
+    assertNull(scheduler.preemptTask());
+
+    // The preempted task runs again once the high priority task completes.
+    assertEquals(1, scheduler.tasksFinished(Lists.newArrayList(highPriorityTask)).size());
+    reservation = scheduler.getNextTask();
+    assertEquals("1", reservation.requestId);
+    assertEquals("low", reservation.preemptedTask.getTaskId());
+  }
+
+  /**
+   * Tests that a task is only treated as preempted once the backend confirms it stopped the
+   * task, whether the backend reports the task finished before or after answering.
+   */
+  @Test
+  public void testPreemptionConfirmed() {
+    ManualClock clock = new ManualClock();
+    PriorityTaskScheduler scheduler = createPreemptingScheduler(clock, 1);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    TFullTaskId lowPriorityTask = new TFullTaskId("low", "1", testApp,
+                                                  new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), createTaskLaunchSpec("low"),
+                           lowPriorityTask);
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setPriority(5);
+    scheduler.submitTaskReservations(request, backendAddress);
+    clock.advance(100);
+
+    // The backend refuses, so the task keeps running and its completion is reported.
+    assertEquals(lowPriorityTask, scheduler.preemptTask());
+    assertEquals(0, scheduler.preemptionConfirmed(lowPriorityTask, false).size());
+    assertEquals(1, scheduler.tasksFinished(Lists.newArrayList(lowPriorityTask)).size());
+    TaskReservation reservation = scheduler.getNextTask();
+    assertEquals("2", reservation.requestId);
+    TFullTaskId highPriorityTask = new TFullTaskId("high", "2", testApp,
+                                                   new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(reservation, createTaskLaunchSpec("high"), highPriorityTask);
+
+    // The task finishes while the backend is being asked, and the backend refuses: the task
+    // completed, so its completion is reported once the backend answers.
+    request = createTaskReservationRequest(1, 3, scheduler, testApp);
+    request.setPriority(10);
+    scheduler.submitTaskReservations(request, backendAddress);
+    clock.advance(100);
+    assertEquals(highPriorityTask, scheduler.preemptTask());
+    assertEquals(0, scheduler.tasksFinished(Lists.newArrayList(highPriorityTask)).size());
+    assertEquals(Lists.newArrayList(highPriorityTask),
+                 scheduler.preemptionConfirmed(highPriorityTask, false));
+    reservation = scheduler.getNextTask();
+    assertEquals("3", reservation.requestId);
+    TFullTaskId highestPriorityTask = new TFullTaskId("highest", "3", testApp,
+                                                      new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(reservation, createTaskLaunchSpec("highest"), highestPriorityTask);
+
+    // The task finishes while the backend is being asked, and the backend confirms: the task
+    // runs again once a slot frees up.
+    request = createTaskReservationRequest(1, 4, scheduler, testApp);
+    request.setPriority(20);
+    scheduler.submitTaskReservations(request, backendAddress);
+    clock.advance(100);
+    assertEquals(highestPriorityTask, scheduler.preemptTask());
+    assertEquals(0, scheduler.tasksFinished(Lists.newArrayList(highestPriorityTask)).size());
+    assertEquals(0, scheduler.preemptionConfirmed(highestPriorityTask, true).size());
+    reservation = scheduler.getNextTask();
+    assertEquals("4", reservation.requestId);
+    TFullTaskId topPriorityTask = new TFullTaskId("top", "4", testApp,
+                                                  new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(reservation, createTaskLaunchSpec("top"), topPriorityTask);
+    assertEquals(1, scheduler.tasksFinished(Lists.newArrayList(topPriorityTask)).size());
+    reservation = scheduler.getNextTask();
+    assertEquals("3", reservation.requestId);
+    assertEquals("highest", reservation.preemptedTask.getTaskId());
+  }
+
+  /**
+   * Tests that no task is preempted while a slot is held for a lease without running a task.
+   */
+  @Test
+  public void testNoPreemptionWithHeldSlot() {
+    ManualClock clock = new ManualClock();
+    PriorityTaskScheduler scheduler = createPreemptingScheduler(clock, 2);
+    SlotLeaseManager leaseManager = new SlotLeaseManager(scheduler, clock);
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+    final InetSocketAddress schedulerAddress = new InetSocketAddress("1.2.3.4", 52);
+    final THostPort nodeMonitorAddress = new THostPort("5.6.7.8", 20502);
+
+    TSlotLease lease = leaseManager.grantLease(testApp, backendAddress, schedulerAddress,
+                                               nodeMonitorAddress, 1, 10000);
+    assertTrue(leaseManager.holdSlot(scheduler.getNextTask()));
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    TFullTaskId lowPriorityTask = new TFullTaskId("low", "1", testApp,
+                                                  new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), createTaskLaunchSpec("low"),
+                           lowPriorityTask);
+
+    TEnqueueTaskReservationsRequest request = createTaskReservationRequest(
+        1, 2, scheduler, testApp);
+    request.setPriority(5);
+    scheduler.submitTaskReservations(request, backendAddress);
+    clock.advance(100);
+    assertNull(scheduler.preemptTask());
+
+    // Once a task runs in the leased slot, every slot runs a task that may be preempted.
+    TaskReservation slot = leaseManager.useSlots(lease.getLeaseId(), 1).get(0);
+    TFullTaskId leasedTask = new TFullTaskId("leased", lease.getLeaseId(), testApp,
+                                             new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(slot, createTaskLaunchSpec("leased"), leasedTask);
+    assertEquals(leasedTask, scheduler.preemptTask());
+  }
+
+  private PriorityTaskScheduler createPreemptingScheduler(ManualClock clock, int slots) {
+    PriorityTaskScheduler scheduler = new PriorityTaskScheduler();
+    scheduler.setMaxActiveTasks(slots);
+    scheduler.setClock(clock);
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.PREEMPTION_DELAY_MS, 50);
+    scheduler.initialize(TResources.createResourceVector(0, slots), conf);
+    return scheduler;
+  }
+
+  /**
+   * Tests that the slot of a task that failed to launch goes to the next reservation.
+   */
+  @Test
+  public void testTaskLaunchFailed() {
+    FifoTaskScheduler scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(2, 1, scheduler, testApp),
+                                     backendAddress);
+    TFullTaskId taskId = new TFullTaskId("task", "1", testApp, new THostPort("1.2.3.4", 52));
+    scheduler.taskLaunched(scheduler.getNextTask(), createTaskLaunchSpec("task"), taskId);
+    assertEquals(0, scheduler.getFreeSlots());
+
+    scheduler.taskLaunchFailed(taskId);
+    assertEquals(1, scheduler.runnableTasks());
+    assertEquals("1", scheduler.getNextTask().requestId);
+    // The task is no longer running, so it isn't killed if the request is cancelled.
+    assertEquals(0, scheduler.requestCancelled("1").size());
+  }
+
+  /**
+   * Tests that the queued reservations of a dead scheduler's requests are removed in one sweep,
+   * leaving the others queued.
+   */
+  @Test
+  public void testSchedulerDead() {
+    FifoTaskScheduler scheduler = new FifoTaskScheduler();
+    scheduler.setMaxActiveTasks(1);
+    scheduler.initialize(TResources.createResourceVector(0, 1), new PropertiesConfiguration());
+
+    final String testApp = "test app";
+    final InetSocketAddress backendAddress = new InetSocketAddress("123.4.5.6", 2);
+
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 1, scheduler, testApp),
+                                     backendAddress);
+    scheduler.submitTaskReservations(createTaskReservationRequest(2, 2, scheduler, testApp),
+                                     backendAddress);
+    scheduler.submitTaskReservations(createTaskReservationRequest(1, 3, scheduler, testApp),
+                                     backendAddress);
+    // Request 4 comes from another scheduler, which is still alive.
+    TEnqueueTaskReservationsRequest otherSchedulerRequest =
+        createTaskReservationRequest(1, 4, scheduler, testApp);
+    otherSchedulerRequest.setSchedulerAddress(new THostPort("1.2.3.5", 52));
+    scheduler.submitTaskReservations(otherSchedulerRequest, backendAddress);
+    TaskReservation reservation = scheduler.getNextTask();
+    assertEquals("1", reservation.requestId);
+    assertEquals(4, scheduler.getResourceUsage(testApp).queueLength);
+
+    InetSocketAddress deadScheduler = new InetSocketAddress("1.2.3.4", 52);
+    assertEquals(Sets.newHashSet("1", "2", "3"),
+                 Sets.newHashSet(scheduler.schedulerDead(deadScheduler)));
+    assertEquals(1, scheduler.getResourceUsage(testApp).queueLength);
+    // Request 1's running task is still tracked; the others are gone.
+    assertEquals(Lists.newArrayList("1"), scheduler.schedulerDead(deadScheduler));
+    scheduler.noTaskForRequest(reservation);
+    assertEquals(0, scheduler.schedulerDead(deadScheduler).size());
+    assertEquals("4", scheduler.getNextTask().requestId);
+  }
 }
@@ -0,0 +1,59 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ManualClock;
+
+public class TestAdaptiveProbeRatio {
+  private static final String APP_ID = "test app";
+  private static final double DELTA = 0.0001;
+
+  @Before
+  public void setUp() {
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+  }
+
+  private ManualClock clock = new ManualClock();
+
+  /** Runs one window of two jobs, each of which gets its first getTask() after the delay. */
+  private void runWindow(AdaptiveProbeRatio probeRatio, long delayMs, boolean assigned) {
+    probeRatio.jobEnqueued("1");
+    probeRatio.jobEnqueued("2");
+    clock.advance(delayMs);
+    probeRatio.taskRequested("1", assigned);
+    probeRatio.taskRequested("2", assigned);
+  }
+
+  @Test
+  public void testAdjustment() {
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.SAMPLE_RATIO_WINDOW, 2);
+    conf.setProperty(SparrowConf.SAMPLE_RATIO_TARGET_DELAY_MS, 100);
+    conf.setProperty(SparrowConf.SAMPLE_RATIO_MIN, 1.0);
+    conf.setProperty(SparrowConf.SAMPLE_RATIO_MAX, 1.1);
+    // The initial ratio is clamped to the bounds.
+    AdaptiveProbeRatio probeRatio = new AdaptiveProbeRatio(APP_ID, 2.0, conf, clock);
+    assertEquals(1.1, probeRatio.getProbeRatio(), DELTA);
+
+    // Jobs get their first response quickly, so fewer probes are needed.
+    runWindow(probeRatio, 0, true);
+    assertEquals(1.1 - AdaptiveProbeRatio.ADJUSTMENT_STEP, probeRatio.getProbeRatio(), DELTA);
+
+    // Jobs wait longer than the target, so more probes are used, up to the maximum.
+    runWindow(probeRatio, 200, true);
+    assertEquals(1.1, probeRatio.getProbeRatio(), DELTA);
+    runWindow(probeRatio, 200, true);
+    assertEquals(1.1, probeRatio.getProbeRatio(), DELTA);
+
+    // Jobs wait, but most probes find no task, so fewer probes are used.
+    runWindow(probeRatio, 200, false);
+    assertEquals(1.1 - AdaptiveProbeRatio.ADJUSTMENT_STEP, probeRatio.getProbeRatio(), DELTA);
+  }
+}
@@ -0,0 +1,97 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestAdmissionController {
+  private static final String APP_ID = "test app";
+
+  private static TSchedulingRequest createRequest(String user, int priority) {
+    List<TTaskSpec> tasks = Lists.newArrayList(
+        new TTaskSpec("task", new TPlacementPreference(), new TResourceVector(10, 1),
+                      ByteBuffer.allocate(1)));
+    TSchedulingRequest request =
+        new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(user, "group"));
+    request.setPriority(priority);
+    return request;
+  }
+
+  /** Ensures that a frontend that used up its burst is rejected with a hint of when to retry. */
+  @Test
+  public void testRateLimit() throws Exception {
+    AdmissionController admission = new AdmissionController(0, 10, 1000, 0.001, 2);
+    admission.takeToken(APP_ID);
+    admission.takeToken(APP_ID);
+    try {
+      admission.takeToken(APP_ID);
+      fail("Expected the frontend to exceed its rate limit");
+    } catch (IncompleteRequestException e) {
+      assertTrue(e.getRetryAfterMs() > 0);
+    }
+    // Other frontends have their own tokens.
+    admission.takeToken("other app");
+  }
+
+  /**
+   * Ensures that jobs are held while the cluster is overloaded or other jobs are held, and are
+   * released highest priority first, taking turns between tenants at the same priority.
+   */
+  @Test
+  public void testHoldJobs() throws Exception {
+    AdmissionController admission = new AdmissionController(2, 10, 1000, 0, 1);
+    assertFalse(admission.isOverloaded(2));
+    assertTrue(admission.isOverloaded(2.5));
+    assertTrue(admission.admit(createRequest("a", 0), "a0", false));
+
+    assertFalse(admission.admit(createRequest("a", 0), "a1", true));
+    assertFalse(admission.admit(createRequest("a", 0), "a2", false));
+    assertFalse(admission.admit(createRequest("a", 0), "a3", false));
+    assertFalse(admission.admit(createRequest("b", 0), "b1", false));
+    assertFalse(admission.admit(createRequest("b", 1), "b2", false));
+    assertEquals(5, admission.queuedJobs());
+
+    assertEquals("b2", admission.poll().requestId);
+    assertEquals("a1", admission.poll().requestId);
+    assertEquals("b1", admission.poll().requestId);
+    assertEquals("a2", admission.poll().requestId);
+    assertEquals("a3", admission.poll().requestId);
+    assertNull(admission.poll());
+    assertTrue(admission.admit(createRequest("a", 0), "a4", false));
+  }
+
+  /** Ensures that jobs are rejected once the queue is full, and that held jobs can be removed. */
+  @Test
+  public void testQueueFull() throws Exception {
+    AdmissionController admission = new AdmissionController(2, 2, 500, 0, 1);
+    assertFalse(admission.admit(createRequest("a", 0), "a1", true));
+    assertFalse(admission.admit(createRequest("a", 0), "a2", true));
+    try {
+      admission.admit(createRequest("a", 0), "a3", true);
+      fail("Expected the job to be rejected");
+    } catch (IncompleteRequestException e) {
+      assertEquals(500, e.getRetryAfterMs());
+    }
+
+    assertTrue(admission.remove("a1"));
+    assertFalse(admission.remove("a1"));
+    assertFalse(admission.admit(createRequest("a", 0), "a3", true));
+    assertEquals("a2", admission.peek().requestId);
+  }
+}
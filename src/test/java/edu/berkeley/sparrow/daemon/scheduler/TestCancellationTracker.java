@@ -0,0 +1,65 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestCancellationTracker {
+  private static final InetSocketAddress NODE_A = new InetSocketAddress("10.0.0.1", 1);
+  private static final InetSocketAddress NODE_B = new InetSocketAddress("10.0.0.2", 2);
+
+  private static TSchedulingRequest createRequest() {
+    List<TTaskSpec> tasks = Lists.newArrayList(
+        new TTaskSpec("1", new TPlacementPreference(), new TResourceVector(10, 1),
+                      ByteBuffer.allocate(1)));
+    return new TSchedulingRequest("test app", tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  /**
+   * Ensures that cancelling a job covers the requests its tasks were resubmitted under, and that
+   * its tasks aren't resubmitted once it is cancelled.
+   */
+  @Test
+  public void testCancelResubmittedJob() {
+    CancellationTracker tracker = new CancellationTracker(10);
+    assertTrue(tracker.requestSubmitted(createRequest(), "request 1"));
+    tracker.nodesUsed("request 1", Lists.newArrayList(NODE_A));
+    TSchedulingRequest retry = createRequest();
+    assertTrue(tracker.requestResubmitted("request 1", retry));
+    assertTrue(tracker.requestSubmitted(retry, "request 2"));
+    tracker.nodesUsed("request 2", Lists.newArrayList(NODE_A, NODE_B));
+
+    CancellationTracker.Job job = tracker.jobCancelled("request 2");
+    assertEquals(Lists.newArrayList("request 1", "request 2"), job.requestIds);
+    assertEquals(2, job.nodes.size());
+    assertNull(tracker.jobCancelled("request 1"));
+    assertFalse(tracker.requestResubmitted("request 1", createRequest()));
+    assertNull(tracker.jobCancelled("unknown request"));
+  }
+
+  /** Ensures that a retry registered before its job was cancelled isn't placed. */
+  @Test
+  public void testCancelBeforeResubmission() {
+    CancellationTracker tracker = new CancellationTracker(10);
+    tracker.requestSubmitted(createRequest(), "request 1");
+    TSchedulingRequest retry = createRequest();
+    tracker.requestResubmitted("request 1", retry);
+    tracker.jobCancelled("request 1");
+    assertFalse(tracker.requestSubmitted(retry, "request 2"));
+  }
+}
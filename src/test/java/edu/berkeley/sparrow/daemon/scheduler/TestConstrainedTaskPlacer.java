@@ -11,10 +11,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.configuration.PropertiesConfiguration;
 import org.apache.log4j.BasicConfigurator;
 import org.junit.Before;
 import org.junit.Test;
 
+import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.THostPort;
@@ -103,6 +105,51 @@ public class TestConstrainedTaskPlacer {
     }
   }
 
+  /**
+   * Ensures that when a node monitor refuses a constrained task's reservation, the task gets a
+   * reservation on another node it prefers, from which it is launched.
+   */
+  @Test
+  public void testRefusedReservations() {
+    List<InetSocketAddress> preferredNodes = new ArrayList<InetSocketAddress>();
+    preferredNodes.add(new InetSocketAddress("10.0.0.1", 1));
+    preferredNodes.add(new InetSocketAddress("10.0.0.2", 2));
+    List<InetSocketAddress> backendNodes = new ArrayList<InetSocketAddress>(preferredNodes);
+    backendNodes.add(new InetSocketAddress("10.0.0.3", 3));
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TPlacementPreference placementPreference = new TPlacementPreference();
+    for (InetSocketAddress address : preferredNodes) {
+      placementPreference.addToNodes(address.getAddress().getHostAddress());
+    }
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = new ArrayList<TTaskSpec>();
+    tasks.add(new TTaskSpec("test task", placementPreference, estimatedResources, message));
+    TSchedulingRequest schedulingRequest =
+        new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(USER, GROUP));
+
+    ConstrainedTaskPlacer taskPlacer = new ConstrainedTaskPlacer(REQUEST_ID, 1);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(1, requests.size());
+    InetSocketAddress refusedNode = requests.keySet().iterator().next();
+
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> replacements =
+        taskPlacer.getReplacementEnqueueTaskReservationsRequests(refusedNode, 1, backendNodes);
+    assertEquals(1, replacements.size());
+    InetSocketAddress replacementNode = replacements.keySet().iterator().next();
+    assertTrue(preferredNodes.contains(replacementNode));
+    assertTrue(!replacementNode.equals(refusedNode));
+    assertTrue(!taskPlacer.allResponsesReceived());
+
+    List<TTaskLaunchSpec> specs = taskPlacer.assignTask(Network.socketAddressToThrift(
+        replacementNode));
+    assertEquals(1, specs.size());
+    assertEquals("test task", specs.get(0).getTaskId());
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
   /**
    * Creates a scheduling request with 3 tasks, and sanity checks the result of
    * getEnqueueTaskReservationsRequests(). Then verifies the result of assignTask().
@@ -318,4 +365,139 @@ public class TestConstrainedTaskPlacer {
 
   }
 
+  /**
+   * Creates a topology with two racks, and ensures that tasks that prefer a node are probed on
+   * that node first and then on other nodes in its rack, and that tasks that prefer a rack are
+   * only probed on nodes in that rack.
+   */
+  @Test
+  public void testRackPreferences() {
+    List<InetSocketAddress> rack1 = new ArrayList<InetSocketAddress>();
+    rack1.add(new InetSocketAddress("10.0.1.1", 1));
+    rack1.add(new InetSocketAddress("10.0.1.2", 2));
+    rack1.add(new InetSocketAddress("10.0.1.3", 3));
+    List<InetSocketAddress> rack2 = new ArrayList<InetSocketAddress>();
+    rack2.add(new InetSocketAddress("10.0.2.1", 4));
+    rack2.add(new InetSocketAddress("10.0.2.2", 5));
+
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.STATIC_RACKS + ".rack1", hostAddresses(rack1));
+    conf.setProperty(SparrowConf.STATIC_RACKS + ".rack2", hostAddresses(rack2));
+    NodeTopology topology = NodeTopology.fromConfiguration(conf);
+    assertEquals("rack1", topology.getRack(rack1.get(1).getAddress()));
+    assertEquals(2, topology.getNodesInRack("rack2").size());
+
+    List<InetSocketAddress> backendNodes = new ArrayList<InetSocketAddress>();
+    backendNodes.addAll(rack1);
+    backendNodes.addAll(rack2);
+    backendNodes.add(new InetSocketAddress("10.0.3.1", 6));
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+
+    final int NUM_ITERATIONS = 100;
+    for (int i = 0; i < NUM_ITERATIONS; ++i) {
+      // With a probe ratio of 2, the task should be probed on its preferred node and on one
+      // other node in the same rack.
+      TPlacementPreference nodePreference = new TPlacementPreference();
+      nodePreference.addToNodes(rack1.get(0).getAddress().getHostAddress());
+      List<TTaskSpec> tasks = new ArrayList<TTaskSpec>();
+      tasks.add(new TTaskSpec("node task", nodePreference, estimatedResources, message));
+      ConstrainedTaskPlacer taskPlacer =
+          new ConstrainedTaskPlacer(REQUEST_ID, 2, topology, new NodeIndex(0));
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+          taskPlacer.getEnqueueTaskReservationsRequests(
+              new TSchedulingRequest(APP_ID, tasks, user), REQUEST_ID, backendNodes,
+              SCHEDULER_ADDRESS);
+      assertEquals(2, requests.size());
+      assertTrue(requests.containsKey(rack1.get(0)));
+      for (InetSocketAddress node : requests.keySet()) {
+        assertTrue("Expect " + node + " to be in rack1", rack1.contains(node));
+      }
+
+      TPlacementPreference rackPreference = new TPlacementPreference();
+      rackPreference.addToRacks("rack2");
+      tasks = new ArrayList<TTaskSpec>();
+      tasks.add(new TTaskSpec("rack task", rackPreference, estimatedResources, message));
+      taskPlacer = new ConstrainedTaskPlacer(REQUEST_ID, 2, topology, new NodeIndex(0));
+      requests = taskPlacer.getEnqueueTaskReservationsRequests(
+          new TSchedulingRequest(APP_ID, tasks, user), REQUEST_ID, backendNodes,
+          SCHEDULER_ADDRESS);
+      assertEquals(new HashSet<InetSocketAddress>(rack2), requests.keySet());
+    }
+  }
+
+  /**
+   * Creates a job with two constrained tasks that have a delay threshold, and ensures that the
+   * tasks are only launched on other nodes, and that extra reservations are only created for
+   * them, once the threshold has passed.
+   */
+  @Test
+  public void testDelayScheduling() throws InterruptedException {
+    InetSocketAddress preferredNode = new InetSocketAddress("10.0.0.1", 1);
+    List<InetSocketAddress> backendNodes = new ArrayList<InetSocketAddress>();
+    backendNodes.add(preferredNode);
+    backendNodes.add(new InetSocketAddress("10.0.0.2", 2));
+    backendNodes.add(new InetSocketAddress("10.0.0.3", 3));
+    backendNodes.add(new InetSocketAddress("10.0.0.4", 4));
+
+    final int DELAY_THRESHOLD = 50;
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = new ArrayList<TTaskSpec>();
+    for (int i = 0; i < 2; ++i) {
+      TPlacementPreference placementPreference = new TPlacementPreference();
+      placementPreference.addToNodes(preferredNode.getAddress().getHostAddress());
+      placementPreference.setDelayThreshold(DELAY_THRESHOLD);
+      tasks.add(new TTaskSpec("test task " + i, placementPreference, estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    ConstrainedTaskPlacer taskPlacer = new ConstrainedTaskPlacer(REQUEST_ID, 1);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID,
+                                                      backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(1, requests.size());
+    assertEquals(2, requests.get(preferredNode).getNumTasks());
+
+    // Before the threshold, the tasks can't run elsewhere and no extra reservations are needed.
+    THostPort otherNode = new THostPort("10.0.0.2", 2);
+    assertEquals(0, taskPlacer.assignTask(otherNode).size());
+    assertEquals(0, taskPlacer.getReleasedTaskEnqueueRequests(backendNodes).size());
+    assertTrue(taskPlacer.getNextReleaseTime() > 0);
+
+    Thread.sleep(DELAY_THRESHOLD * 2);
+
+    // One extra reservation should be created for each released task, on nodes other than the
+    // preferred node, and only once.
+    requests = taskPlacer.getReleasedTaskEnqueueRequests(backendNodes);
+    assertEquals(2, requests.size());
+    assertTrue(!requests.containsKey(preferredNode));
+    assertEquals(-1, taskPlacer.getNextReleaseTime());
+    assertEquals(0, taskPlacer.getReleasedTaskEnqueueRequests(backendNodes).size());
+
+    // Both tasks can now be launched on any node.
+    Set<String> launchedTasks = new HashSet<String>();
+    for (InetSocketAddress node : requests.keySet()) {
+      THostPort hostPort = new THostPort(node.getAddress().getHostAddress(), node.getPort());
+      List<TTaskLaunchSpec> specs = taskPlacer.assignTask(hostPort);
+      assertEquals(1, specs.size());
+      launchedTasks.add(specs.get(0).getTaskId());
+    }
+    assertEquals(2, launchedTasks.size());
+    THostPort preferredHostPort = new THostPort(
+        preferredNode.getAddress().getHostAddress(), preferredNode.getPort());
+    assertEquals(0, taskPlacer.assignTask(preferredHostPort).size());
+  }
+
+  private static List<String> hostAddresses(List<InetSocketAddress> nodes) {
+    List<String> addresses = new ArrayList<String>();
+    for (InetSocketAddress node : nodes) {
+      addresses.add(node.getAddress().getHostAddress());
+    }
+    return addresses;
+  }
 }
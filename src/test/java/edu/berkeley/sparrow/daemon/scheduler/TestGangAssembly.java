@@ -0,0 +1,61 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+
+public class TestGangAssembly {
+  private static final THostPort NODE_A = new THostPort("10.0.0.1", 1);
+  private static final THostPort NODE_B = new THostPort("10.0.0.2", 2);
+
+  private static TTaskLaunchSpec task(String taskId) {
+    return new TTaskLaunchSpec(taskId, ByteBuffer.allocate(1));
+  }
+
+  /**
+   * Ensures that a gang is only launched once slots are held for all of its tasks, and that
+   * slots held after that are refused.
+   */
+  @Test
+  public void testLaunchWhenComplete() {
+    GangAssembly gang = new GangAssembly(3);
+    assertTrue(gang.slotHeld(NODE_A, task("1")));
+    assertTrue(gang.slotHeld(NODE_B, task("2")));
+    assertNull(gang.launchIfComplete());
+
+    assertTrue(gang.slotHeld(NODE_A, task("3")));
+    Map<THostPort, List<TTaskLaunchSpec>> launches = gang.launchIfComplete();
+    assertEquals(2, launches.size());
+    assertEquals(2, launches.get(NODE_A).size());
+    assertEquals(1, launches.get(NODE_B).size());
+
+    // The gang can't be launched twice or aborted once launched.
+    assertNull(gang.launchIfComplete());
+    assertNull(gang.abort());
+    assertFalse(gang.slotHeld(NODE_B, task("4")));
+  }
+
+  /** Ensures that aborting a partial gang returns the slots to release on each node. */
+  @Test
+  public void testAbort() {
+    GangAssembly gang = new GangAssembly(3);
+    gang.slotHeld(NODE_A, task("1"));
+    gang.slotHeld(NODE_A, task("2"));
+    Map<THostPort, Integer> heldSlots = gang.abort();
+    assertEquals(1, heldSlots.size());
+    assertEquals(2, (int) heldSlots.get(NODE_A));
+
+    assertFalse(gang.slotHeld(NODE_B, task("3")));
+    assertNull(gang.launchIfComplete());
+  }
+}
@@ -0,0 +1,95 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TJobStage;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestJobDagTracker {
+  private static final String APP_ID = "test app";
+
+  private static TSchedulingRequest createRequest(String... taskIds) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (String taskId : taskIds) {
+      tasks.add(new TTaskSpec(taskId, new TPlacementPreference(), new TResourceVector(10, 1),
+                              ByteBuffer.allocate(1)));
+    }
+    return new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  /**
+   * Submits a diamond of stages (a -> b, a -> c, b and c -> d), and ensures that each stage is
+   * released only once all tasks of its parents have finished.
+   */
+  @Test
+  public void testDiamond() throws Exception {
+    TSchedulingRequest a = createRequest("a1", "a2");
+    TSchedulingRequest b = createRequest("b1");
+    TSchedulingRequest c = createRequest("c1");
+    TSchedulingRequest d = createRequest("d1");
+    List<TJobStage> stages = Lists.newArrayList(
+        new TJobStage("d", d, Lists.newArrayList("b", "c")),
+        new TJobStage("b", b, Lists.newArrayList("a")),
+        new TJobStage("c", c, Lists.newArrayList("a")),
+        new TJobStage("a", a, Lists.<String>newArrayList()));
+
+    JobDagTracker tracker = new JobDagTracker();
+    List<TSchedulingRequest> ready = tracker.dagSubmitted(stages);
+    assertEquals(1, ready.size());
+    assertSame(a, ready.get(0));
+    assertTrue(tracker.requestSubmitted(a, "request a"));
+    assertTrue(tracker.isStage("request a"));
+    assertFalse(tracker.requestSubmitted(createRequest("x"), "request x"));
+
+    assertEquals(0, tracker.taskFinished("request a", "a1").size());
+    // A second completion of the same task (for example, from a speculative copy) is ignored.
+    assertEquals(0, tracker.taskFinished("request a", "a1").size());
+    ready = tracker.taskFinished("request a", "a2");
+    assertEquals(2, ready.size());
+    assertFalse(tracker.isStage("request a"));
+    tracker.requestSubmitted(b, "request b");
+    tracker.requestSubmitted(c, "request c");
+
+    assertEquals(0, tracker.taskFinished("request b", "b1").size());
+    ready = tracker.taskFinished("request c", "c1");
+    assertEquals(1, ready.size());
+    assertSame(d, ready.get(0));
+  }
+
+  /** Ensures that stages with unknown parents or cycles are rejected. */
+  @Test
+  public void testInvalidDags() {
+    JobDagTracker tracker = new JobDagTracker();
+    try {
+      tracker.dagSubmitted(Lists.newArrayList(
+          new TJobStage("a", createRequest("a1"), Lists.newArrayList("missing"))));
+      fail("Expected an unknown parent to be rejected");
+    } catch (IncompleteRequestException e) {
+      // Expected.
+    }
+    try {
+      tracker.dagSubmitted(Lists.newArrayList(
+          new TJobStage("a", createRequest("a1"), Lists.newArrayList("b")),
+          new TJobStage("b", createRequest("b1"), Lists.newArrayList("a"))));
+      fail("Expected a cycle to be rejected");
+    } catch (IncompleteRequestException e) {
+      // Expected.
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestLaunchRetryTracker {
+  private static TSchedulingRequest createRequest(String... taskIds) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (String taskId : taskIds) {
+      tasks.add(new TTaskSpec(taskId, new TPlacementPreference(), new TResourceVector(10, 1),
+                              ByteBuffer.allocate(1)));
+    }
+    return new TSchedulingRequest("test app", tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  /**
+   * Ensures that a task is placed again until it has failed to launch too many times, counting
+   * the failures under all of the requests it was submitted under.
+   */
+  @Test
+  public void testRetryLimit() {
+    LaunchRetryTracker tracker = new LaunchRetryTracker(2, 10, 0);
+    TSchedulingRequest request = createRequest("1", "2");
+    tracker.requestSubmitted(request, "request 1");
+    assertSame(request.getTasks().get(0), tracker.taskFailed("request 1", "1"));
+
+    TSchedulingRequest retry = createRequest("1");
+    tracker.requestResubmitted("request 1", retry);
+    tracker.requestSubmitted(retry, "request 2");
+    assertSame(request, tracker.getRequest("request 2"));
+    assertEquals("1", tracker.taskFailed("request 2", "1").getTaskId());
+    assertNull(tracker.taskFailed("request 2", "1"));
+
+    // Other tasks of the job have their own count.
+    assertSame(request.getTasks().get(1), tracker.taskFailed("request 1", "2"));
+    assertNull(tracker.taskFailed("unknown request", "1"));
+  }
+
+  /**
+   * Ensures that tasks removed from a request after it was submitted (as tasks launched in
+   * leased slots are) can still be placed again.
+   */
+  @Test
+  public void testRemovedTasks() {
+    LaunchRetryTracker tracker = new LaunchRetryTracker(2, 10, 0);
+    TSchedulingRequest request = createRequest("1", "2");
+    TTaskSpec leasedTask = request.getTasks().get(0);
+    tracker.requestSubmitted(request, "request 1");
+    request.setTasks(Lists.newArrayList(request.getTasks().get(1)));
+    assertSame(leasedTask, tracker.taskFailed("request 1", "1"));
+  }
+
+  /** Ensures that only the most recently submitted requests are remembered. */
+  @Test
+  public void testTrackedRequests() {
+    LaunchRetryTracker tracker = new LaunchRetryTracker(2, 1, 0);
+    tracker.requestSubmitted(createRequest("1"), "request 1");
+    tracker.requestSubmitted(createRequest("1"), "request 2");
+    assertNull(tracker.getRequest("request 1"));
+    assertNull(tracker.taskFailed("request 1", "1"));
+  }
+
+  /**
+   * Ensures that the tasks running on a node monitor are returned once enough RPCs in a row to
+   * it have failed, other than those that finished.
+   */
+  @Test
+  public void testDeadNode() {
+    InetSocketAddress node = new InetSocketAddress("1.2.3.4", 20502);
+    InetSocketAddress otherNode = new InetSocketAddress("1.2.3.5", 20502);
+    LaunchRetryTracker tracker = new LaunchRetryTracker(2, 10, 2);
+    tracker.requestSubmitted(createRequest("1", "2", "3"), "request 1");
+    tracker.taskLaunched("request 1", "1", node);
+    tracker.taskLaunched("request 1", "2", node);
+    tracker.taskLaunched("request 1", "3", otherNode);
+    tracker.taskStopped("request 1", "2", node);
+
+    assertTrue(tracker.rpcFailed(node).isEmpty());
+    tracker.rpcSucceeded(node);
+    assertTrue(tracker.rpcFailed(node).isEmpty());
+    Map<String, Set<String>> lostTasks = tracker.rpcFailed(node);
+    assertEquals(1, lostTasks.size());
+    assertEquals(Sets.newHashSet("1"), lostTasks.get("request 1"));
+
+    // The dead node's tasks are no longer tracked.
+    assertTrue(tracker.rpcFailed(node).isEmpty());
+    assertTrue(tracker.rpcFailed(node).isEmpty());
+
+    // Running tasks aren't tracked unless dead nodes are detected.
+    tracker = new LaunchRetryTracker(2, 10, 0);
+    tracker.requestSubmitted(createRequest("1"), "request 1");
+    tracker.taskLaunched("request 1", "1", node);
+    assertTrue(tracker.rpcFailed(node).isEmpty());
+  }
+}
@@ -0,0 +1,56 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.util.ManualClock;
+
+public class TestNodeHealthTracker {
+  private static final InetSocketAddress NODE_A = new InetSocketAddress("10.0.0.1", 1);
+  private static final InetSocketAddress NODE_B = new InetSocketAddress("10.0.0.2", 2);
+  private static final Set<InetSocketAddress> NODES = Sets.newHashSet(NODE_A, NODE_B);
+
+  /**
+   * Ensures that a node whose RPCs fail or are slow is excluded, readmitted once its backoff
+   * passes, and excluded for twice as long if an RPC fails during probation.
+   */
+  @Test
+  public void testExclusionAndProbation() {
+    ManualClock clock = new ManualClock();
+    NodeHealthTracker tracker = new NodeHealthTracker(0.5, 0.3, 100, 100, 1000, 10000, clock);
+    tracker.rpcFailed(NODE_A);
+    assertEquals(2, tracker.getHealthyNodes(NODES).size());
+    tracker.rpcSucceeded(NODE_A, 500);
+    assertFalse(tracker.getHealthyNodes(NODES).contains(NODE_A));
+    assertTrue(tracker.getHealthyNodes(NODES).contains(NODE_B));
+
+    clock.advance(150);
+    assertEquals(2, tracker.getHealthyNodes(NODES).size());
+    tracker.rpcSucceeded(NODE_A, 10);
+    tracker.rpcFailed(NODE_A);
+    assertFalse(tracker.getHealthyNodes(NODES).contains(NODE_A));
+    // The second exclusion lasts 200 milliseconds.
+    clock.advance(150);
+    assertFalse(tracker.getHealthyNodes(NODES).contains(NODE_A));
+    clock.advance(100);
+    assertTrue(tracker.getHealthyNodes(NODES).contains(NODE_A));
+  }
+
+  /** Ensures that nodes are still returned when all of them are excluded. */
+  @Test
+  public void testAllExcluded() {
+    NodeHealthTracker tracker = new NodeHealthTracker(0.5, 0.6, 100, 1000, 1000, 1000);
+    tracker.rpcFailed(NODE_A);
+    tracker.rpcFailed(NODE_B);
+    assertEquals(2, tracker.getHealthyNodes(NODES).size());
+    assertEquals(1, tracker.getHealthyNodes(Sets.newHashSet(NODE_A)).size());
+  }
+}
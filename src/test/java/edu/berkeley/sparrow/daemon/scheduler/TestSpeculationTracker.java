@@ -0,0 +1,148 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ManualClock;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestSpeculationTracker {
+  private static final String APP_ID = "test app";
+  private static final String REQUEST_ID = "request id";
+
+  @Before
+  public void setUp() {
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+  }
+
+  /**
+   * Launches three tasks, finishes two of them, and ensures that the third gets one speculative
+   * copy, that the first copy to finish wins, and that the job is forgotten once all of its
+   * tasks have finished.
+   */
+  @Test
+  public void testStraggler() throws Exception {
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.SPECULATION_MULTIPLIER, 2);
+    conf.setProperty(SparrowConf.SPECULATION_MIN_FINISHED_FRACTION, 0.5);
+    ManualClock clock = new ManualClock();
+    SpeculationTracker tracker = new SpeculationTracker(conf, new NodeIndex(0), clock);
+
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    List<TTaskLaunchSpec> launchSpecs = Lists.newArrayList();
+    for (int i = 0; i < 3; ++i) {
+      ByteBuffer message = ByteBuffer.allocate(1);
+      tasks.add(new TTaskSpec("task " + i, new TPlacementPreference(),
+                              new TResourceVector(10, 1), message));
+      launchSpecs.add(new TTaskLaunchSpec("task " + i, message));
+    }
+    TSchedulingRequest request = new TSchedulingRequest(
+        APP_ID, tasks, new TUserGroupInfo("user", "group"));
+    tracker.jobSubmitted(REQUEST_ID, request);
+
+    List<THostPort> nodes = Lists.newArrayList();
+    for (int i = 0; i < 4; ++i) {
+      nodes.add(new THostPort("10.0.0." + (i + 1), 1));
+    }
+    for (int i = 0; i < 3; ++i) {
+      tracker.taskLaunched(REQUEST_ID, launchSpecs.get(i), nodes.get(i));
+    }
+
+    // No tasks have finished, so there is no median to compare to.
+    clock.advance(20);
+    assertEquals(0, tracker.findStragglers().size());
+    assertEquals(0, tracker.taskFinished(REQUEST_ID, "task 0", nodes.get(0)).size());
+    assertEquals(0, tracker.taskFinished(REQUEST_ID, "task 1", nodes.get(1)).size());
+
+    // Task 2 has run for longer than twice the median.
+    clock.advance(100);
+    List<SpeculationTracker.Straggler> stragglers = tracker.findStragglers();
+    assertEquals(1, stragglers.size());
+    assertTrue(stragglers.get(0).nodes.contains(InetAddress.getByName("10.0.0.3")));
+    assertEquals(0, tracker.findStragglers().size());
+
+    // Calls from nodes without a speculative reservation are for regular reservations.
+    assertNull(tracker.assignCopy(REQUEST_ID, nodes.get(3)));
+    tracker.copyReservationEnqueued(REQUEST_ID, InetAddress.getByName("10.0.0.4"));
+    List<TTaskLaunchSpec> copy = tracker.assignCopy(REQUEST_ID, nodes.get(3));
+    assertEquals(1, copy.size());
+    assertEquals("task 2", copy.get(0).getTaskId());
+    assertNull(tracker.assignCopy(REQUEST_ID, nodes.get(3)));
+
+    // The copy finishes first, so the original is killed; its completion is ignored.
+    List<THostPort> losers = tracker.taskFinished(REQUEST_ID, "task 2", nodes.get(3));
+    assertEquals(1, losers.size());
+    assertEquals(nodes.get(2), losers.get(0));
+    assertEquals(0, tracker.taskFinished(REQUEST_ID, "task 2", nodes.get(2)).size());
+    assertEquals(0, tracker.trackedJobs());
+  }
+
+  /**
+   * Ensures that a task isn't placed again when its speculative copy fails, as long as the
+   * original is still running, and that the original still wins once it finishes.
+   */
+  @Test
+  public void testCopyFailed() throws Exception {
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.SPECULATION_MULTIPLIER, 2);
+    conf.setProperty(SparrowConf.SPECULATION_MIN_FINISHED_FRACTION, 0.5);
+    ManualClock clock = new ManualClock();
+    SpeculationTracker tracker = new SpeculationTracker(conf, new NodeIndex(0), clock);
+
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    List<TTaskLaunchSpec> launchSpecs = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      ByteBuffer message = ByteBuffer.allocate(1);
+      tasks.add(new TTaskSpec("task " + i, new TPlacementPreference(),
+                              new TResourceVector(10, 1), message));
+      launchSpecs.add(new TTaskLaunchSpec("task " + i, message));
+    }
+    TSchedulingRequest request = new TSchedulingRequest(
+        APP_ID, tasks, new TUserGroupInfo("user", "group"));
+    tracker.jobSubmitted(REQUEST_ID, request);
+    THostPort original = new THostPort("10.0.0.1", 1);
+    THostPort copyNode = new THostPort("10.0.0.2", 1);
+    tracker.taskLaunched(REQUEST_ID, launchSpecs.get(0), new THostPort("10.0.0.3", 1));
+    tracker.taskLaunched(REQUEST_ID, launchSpecs.get(1), original);
+
+    // Failures of a task's only copy are handled as usual.
+    assertFalse(tracker.copyFailed(REQUEST_ID, "task 1", new InetSocketAddress("10.0.0.1", 1)));
+
+    clock.advance(20);
+    assertEquals(0, tracker.taskFinished(REQUEST_ID, "task 0", new THostPort("10.0.0.3", 1))
+                           .size());
+    clock.advance(100);
+    assertEquals(1, tracker.findStragglers().size());
+    tracker.copyReservationEnqueued(REQUEST_ID, InetAddress.getByName("10.0.0.2"));
+    assertEquals(1, tracker.assignCopy(REQUEST_ID, copyNode).size());
+
+    // The copy fails, so only the original is left.
+    assertFalse(tracker.copyFailed(REQUEST_ID, "task 1", new InetSocketAddress("10.0.0.4", 1)));
+    assertTrue(tracker.copyFailed(REQUEST_ID, "task 1", new InetSocketAddress("10.0.0.2", 1)));
+    assertFalse(tracker.copyFailed(REQUEST_ID, "task 1", new InetSocketAddress("10.0.0.1", 1)));
+    assertEquals(0, tracker.taskFinished(REQUEST_ID, "task 1", original).size());
+    assertEquals(0, tracker.trackedJobs());
+  }
+}
@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TPlacementPreference;
 import edu.berkeley.sparrow.thrift.TResourceVector;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
@@ -230,4 +231,392 @@ public class TestUnconstrainedTaskPlacer {
       assertTrue(taskPlacer.allResponsesReceived());
     } 
   }
+
+  /**
+   * Ensures that reservations are never placed on nodes that a task avoids, either because the
+   * nodes are listed in its avoidNodes or because tasks of the job named by its avoidJob were
+   * launched there.
+   */
+  @Test
+  public void testAntiAffinity() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    backendNodes.add(new InetSocketAddress("10.0.0.1", 1));
+    backendNodes.add(new InetSocketAddress("10.0.0.2", 2));
+    backendNodes.add(new InetSocketAddress("10.0.0.3", 3));
+    backendNodes.add(new InetSocketAddress("10.0.0.4", 4));
+    backendNodes.add(new InetSocketAddress("10.0.0.5", 5));
+
+    NodeIndex nodeIndex = new NodeIndex(10);
+    nodeIndex.addJobNode("cached job", "10.0.0.2");
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    TPlacementPreference avoidNodes = new TPlacementPreference();
+    avoidNodes.addToAvoidNodes("10.0.0.1");
+    tasks.add(new TTaskSpec("test task 0", avoidNodes, estimatedResources, message));
+    TPlacementPreference avoidJob = new TPlacementPreference();
+    avoidJob.setAvoidJob("cached job");
+    tasks.add(new TTaskSpec("test task 1", avoidJob, estimatedResources, message));
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    Set<InetSocketAddress> allowedNodes = Sets.newHashSet(backendNodes.subList(2, 5));
+    final int NUM_ITERATIONS = 100;
+    for (int i = 0; i < NUM_ITERATIONS; ++i) {
+      UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 2, nodeIndex);
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+          taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                        SCHEDULER_ADDRESS);
+      // Only 3 nodes are allowed, so only 3 of the 4 reservations can be placed.
+      assertEquals(allowedNodes, requests.keySet());
+    }
+  }
+
+  /**
+   * Ensures that hedge reservations are only placed on fresh nodes, are limited by the number of
+   * unlaunched tasks, and are only created once per job.
+   */
+  @Test
+  public void testHedging() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 6; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 1);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(2, requests.size());
+    assertEquals(0, taskPlacer.getFractionResponded(), 0.0001);
+
+    // One task is launched, so only one hedge reservation is needed.
+    InetSocketAddress first = requests.keySet().iterator().next();
+    assertEquals(1, taskPlacer.assignTask(
+        new THostPort(first.getAddress().getHostAddress(), first.getPort())).size());
+    assertEquals(0.5, taskPlacer.getFractionResponded(), 0.0001);
+
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> hedgeRequests =
+        taskPlacer.getHedgeEnqueueTaskReservationsRequests(backendNodes, 5);
+    assertEquals(1, hedgeRequests.size());
+    InetSocketAddress hedgeNode = hedgeRequests.keySet().iterator().next();
+    assertTrue(!requests.containsKey(hedgeNode));
+    assertEquals(1.0 / 3, taskPlacer.getFractionResponded(), 0.0001);
+    assertEquals(0, taskPlacer.getHedgeEnqueueTaskReservationsRequests(backendNodes, 5).size());
+
+    // The hedge reservation launches the last task, and must be responded to.
+    assertEquals(1, taskPlacer.assignTask(
+        new THostPort(hedgeNode.getAddress().getHostAddress(), hedgeNode.getPort())).size());
+    assertTrue(!taskPlacer.allResponsesReceived());
+    for (InetSocketAddress node : requests.keySet()) {
+      if (!node.equals(first)) {
+        assertEquals(0, taskPlacer.assignTask(
+            new THostPort(node.getAddress().getHostAddress(), node.getPort())).size());
+      }
+    }
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * Ensures that reservations refused by a node monitor (for example, one whose scheduler was
+   * declared dead) are replaced on fresh nodes, so that all of the job's tasks are still
+   * launched and all responses are received.
+   */
+  @Test
+  public void testRefusedReservations() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 3; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 1);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(2, requests.size());
+    List<InetSocketAddress> probedNodes = Lists.newArrayList(requests.keySet());
+
+    // The first node refuses its reservation, which is replaced on the only fresh node.
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> replacements =
+        taskPlacer.getReplacementEnqueueTaskReservationsRequests(probedNodes.get(0), 1,
+                                                                 backendNodes);
+    assertEquals(1, replacements.size());
+    InetSocketAddress replacementNode = replacements.keySet().iterator().next();
+    assertTrue(!requests.containsKey(replacementNode));
+    assertEquals(1, replacements.get(replacementNode).getNumTasks());
+
+    // The replacement node refuses too, and there is no fresh node left.
+    assertEquals(0, taskPlacer.getReplacementEnqueueTaskReservationsRequests(
+        replacementNode, 1, backendNodes).size());
+    assertTrue(!taskPlacer.allResponsesReceived());
+    InetSocketAddress last = probedNodes.get(1);
+    assertEquals(1, taskPlacer.assignTask(
+        new THostPort(last.getAddress().getHostAddress(), last.getPort())).size());
+    // The job doesn't wait for the node monitors that refused its reservations.
+    assertTrue(taskPlacer.allResponsesReceived());
+    assertEquals(1.0, taskPlacer.getFractionResponded(), 0.0001);
+  }
+
+  /**
+   * Ensures that a refused reservation is replaced, and the job still launches all of its
+   * tasks, while other reservations are outstanding; once no task is left, refused
+   * reservations aren't replaced.
+   */
+  @Test
+  public void testRefusedReservationReplaced() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 6; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 2);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(4, requests.size());
+    List<InetSocketAddress> probedNodes = Lists.newArrayList(requests.keySet());
+
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> replacements =
+        taskPlacer.getReplacementEnqueueTaskReservationsRequests(probedNodes.get(0), 1,
+                                                                 backendNodes);
+    assertEquals(1, replacements.size());
+    InetSocketAddress replacementNode = replacements.keySet().iterator().next();
+    assertTrue(!requests.containsKey(replacementNode));
+
+    Set<String> launchedTasks = Sets.newHashSet();
+    for (InetSocketAddress node : Lists.newArrayList(probedNodes.get(1), replacementNode)) {
+      List<TTaskLaunchSpec> specs = taskPlacer.assignTask(
+          new THostPort(node.getAddress().getHostAddress(), node.getPort()));
+      assertEquals(1, specs.size());
+      launchedTasks.add(specs.get(0).getTaskId());
+    }
+    assertEquals(2, launchedTasks.size());
+
+    // All tasks were launched, so the next refusal isn't replaced.
+    assertEquals(0, taskPlacer.getReplacementEnqueueTaskReservationsRequests(
+        probedNodes.get(2), 1, backendNodes).size());
+    assertTrue(!taskPlacer.allResponsesReceived());
+    InetSocketAddress last = probedNodes.get(3);
+    assertEquals(0, taskPlacer.assignTask(
+        new THostPort(last.getAddress().getHostAddress(), last.getPort())).size());
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * Ensures that tasks donated to another job's reservations aren't counted as responses to
+   * this job's reservations, and aren't donated to nodes the tasks avoid.
+   */
+  @Test
+  public void testDonateTask() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 4; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    TPlacementPreference avoidNodes = new TPlacementPreference();
+    avoidNodes.addToAvoidNodes("10.0.0.4");
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, avoidNodes, estimatedResources, message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 1);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(2, requests.size());
+
+    assertEquals(0, taskPlacer.donateTask(new THostPort("10.0.0.4", 4)).size());
+    assertEquals(1, taskPlacer.donateTask(new THostPort("10.0.0.3", 3)).size());
+    assertTrue(!taskPlacer.allResponsesReceived());
+
+    // Both reservations still get a response: one launches the remaining task.
+    int launched = 0;
+    for (InetSocketAddress node : requests.keySet()) {
+      launched += taskPlacer.assignTask(
+          new THostPort(node.getAddress().getHostAddress(), node.getPort())).size();
+    }
+    assertEquals(1, launched);
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * Ensures that node monitors that said they are idle are probed first, and only for as many
+   * reservations as they advertised free slots.
+   */
+  @Test
+  public void testIdleNodesProbedFirst() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 6; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+    IdleNodeSet idleNodes = new IdleNodeSet(10000);
+    idleNodes.nodeIdle(backendNodes.get(4), 1);
+    idleNodes.nodeIdle(backendNodes.get(5), 1);
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer =
+        new UnconstrainedTaskPlacer(REQUEST_ID, 1, new NodeIndex(0), idleNodes,
+                                    new NodeLoadCache(0));
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(backendNodes.subList(4, 6)), requests.keySet());
+
+    // The advertised slots have been used up.
+    assertEquals(0, idleNodes.takeIdleNodes(backendNodes, 2).size());
+  }
+
+  /**
+   * Ensures that node monitors that reported lower loads are probed first, and that the
+   * reservations placed on them are counted towards their load.
+   */
+  @Test
+  public void testLeastLoadedNodesProbedFirst() {
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 1; i <= 6; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, i));
+    }
+    NodeLoadCache nodeLoads = new NodeLoadCache(10000);
+    for (int i = 0; i < 4; ++i) {
+      nodeLoads.update(backendNodes.get(i), new TNodeLoad(3, 0));
+    }
+    nodeLoads.update(backendNodes.get(4), new TNodeLoad(0, 0));
+    nodeLoads.update(backendNodes.get(5), new TNodeLoad(0, 2));
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(
+        REQUEST_ID, 1, new NodeIndex(0), new IdleNodeSet(0), nodeLoads);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(backendNodes.subList(4, 6)), requests.keySet());
+    assertEquals(1, nodeLoads.getEstimatedLoad(backendNodes.get(4)));
+    assertEquals(-1, nodeLoads.getEstimatedLoad(backendNodes.get(5)));
+
+    // Only the node with a free slot left is probed for the next job.
+    schedulingRequest.setTasks(tasks.subList(0, 1));
+    taskPlacer = new UnconstrainedTaskPlacer(
+        REQUEST_ID, 1, new NodeIndex(0), new IdleNodeSet(0), nodeLoads);
+    requests = taskPlacer.getEnqueueTaskReservationsRequests(
+        schedulingRequest, REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(backendNodes.get(5)), requests.keySet());
+  }
+
+  /**
+   * Ensures that, in hybrid scheduling, long jobs are only placed outside the partition reserved
+   * for short jobs, and short jobs probe the reserved partition first.
+   */
+  @Test
+  public void testHybridPartition() {
+    HybridPartition partition = new HybridPartition(true, 0.5, 1000, 0);
+    List<InetSocketAddress> reservedNodes = Lists.newArrayList();
+    List<InetSocketAddress> generalNodes = Lists.newArrayList();
+    for (int i = 1; reservedNodes.size() < 2 || generalNodes.size() < 2; ++i) {
+      InetSocketAddress node = new InetSocketAddress("10.0.0." + i, i);
+      if (partition.isReserved(node)) {
+        reservedNodes.add(node);
+      } else {
+        generalNodes.add(node);
+      }
+    }
+    reservedNodes = reservedNodes.subList(0, 2);
+    generalNodes = generalNodes.subList(0, 2);
+    List<InetSocketAddress> backendNodes = Lists.newArrayList(reservedNodes);
+    backendNodes.addAll(generalNodes);
+
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      TTaskSpec task = new TTaskSpec("test task " + i, new TPlacementPreference(),
+                                     estimatedResources, message);
+      task.setExpectedDurationMs(100);
+      tasks.add(task);
+    }
+    TUserGroupInfo user = new TUserGroupInfo(USER, GROUP);
+    TSchedulingRequest schedulingRequest = new TSchedulingRequest(APP_ID, tasks, user);
+    assertTrue(!partition.isLongJob(schedulingRequest));
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(
+        REQUEST_ID, 1, new NodeIndex(0), new IdleNodeSet(0), new NodeLoadCache(0), partition);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID, backendNodes,
+                                                      SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(reservedNodes), requests.keySet());
+
+    for (TTaskSpec task : tasks) {
+      task.setExpectedDurationMs(5000);
+    }
+    assertTrue(partition.isLongJob(schedulingRequest));
+    taskPlacer = new UnconstrainedTaskPlacer(
+        REQUEST_ID, 1, new NodeIndex(0), new IdleNodeSet(0), new NodeLoadCache(0), partition);
+    requests = taskPlacer.getEnqueueTaskReservationsRequests(
+        schedulingRequest, REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(generalNodes), requests.keySet());
+
+    // Hedge reservations for long jobs aren't placed on reserved nodes either.
+    assertEquals(0, taskPlacer.getHedgeEnqueueTaskReservationsRequests(backendNodes, 2).size());
+
+    // Nor are long jobs' tasks donated to reservations on reserved nodes.
+    InetSocketAddress reservedNode = reservedNodes.get(0);
+    InetSocketAddress generalNode = generalNodes.get(0);
+    assertEquals(0, taskPlacer.donateTask(new THostPort(
+        reservedNode.getAddress().getHostAddress(), reservedNode.getPort())).size());
+    assertEquals(1, taskPlacer.donateTask(new THostPort(
+        generalNode.getAddress().getHostAddress(), generalNode.getPort())).size());
+  }
 }
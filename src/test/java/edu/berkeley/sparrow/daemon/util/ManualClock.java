@@ -0,0 +1,16 @@
+package edu.berkeley.sparrow.daemon.util;
+
+/** Clock that only moves when a test advances it. */
+public class ManualClock extends Clock {
+  private long now = 0;
+
+  @Override
+  public synchronized long currentTimeMillis() {
+    return now;
+  }
+
+  /** Moves the clock forward by {@code ms} milliseconds. */
+  public synchronized void advance(long ms) {
+    now += ms;
+  }
+}
@@ -51,6 +51,17 @@ public class TestThriftClientPool {
     
     assertEquals(client1, client2);
   }
+
+  /** Ensures that clients created by the pool time out calls after the configured timeout. */
+  @Test
+  public void testTimeout() throws Exception {
+    InetSocketAddress sock = new InetSocketAddress(12345);
+    ThriftClientPool<TAsyncClient> pool = new ThriftClientPool<TAsyncClient>(
+        new MockedMakerFactory());
+    pool.setTimeoutMs(100);
+    TAsyncClient client = pool.borrowClient(sock);
+    verify(client).setTimeout(100);
+  }
   
   @Test
   public void testPoolExpiration() throws Exception {